@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.cache;
+
+import java.util.Arrays;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.DerbyPlatform;
+import org.eclipse.persistence.platform.database.HSQLPlatform;
+import org.eclipse.persistence.platform.database.MySQLPlatform;
+import org.eclipse.persistence.platform.database.events.ChangeLogTableListener;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ChangeLogTableListenerTest {
+
+    private static final String POLL = "SELECT CHANGE_ID, TABLE_NAME, KEY1 FROM EL_CHANGE_LOG WHERE CHANGE_ID > ? ORDER BY CHANGE_ID";
+
+    public static class Customer {
+        private long id;
+        private String name;
+    }
+
+    public static class OrderLine {
+        private long orderId;
+        private long line;
+    }
+
+    private DatabaseSession session;
+    private ChangeLogTableListener listener;
+
+    @Before
+    public void prepare() {
+        DatabaseLogin login = EmulatedLogin.build();
+        login.setPlatform(new HSQLPlatform());
+        Project project = new Project(login);
+
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        project.addDescriptor(customer);
+
+        // More primary key columns than key columns in the log.
+        RelationalDescriptor orderLine = new RelationalDescriptor();
+        orderLine.setJavaClass(OrderLine.class);
+        orderLine.addTableName("ORDER_LINE");
+        orderLine.addPrimaryKeyFieldName("ORDER_LINE.ORDER_ID");
+        orderLine.addPrimaryKeyFieldName("ORDER_LINE.LINE");
+        orderLine.addDirectMapping("orderId", "ORDER_LINE.ORDER_ID");
+        orderLine.addDirectMapping("line", "ORDER_LINE.LINE");
+        project.addDescriptor(orderLine);
+
+        listener = new ChangeLogTableListener();
+        listener.setKeyColumnCount(1);
+        listener.setPollInterval(60000);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        ((DatabaseSessionImpl)session).setDatabaseEventListener(listener);
+        session.login();
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private static DatabaseRecord change(long id, String table, String key) {
+        DatabaseRecord row = new DatabaseRecord();
+        row.put(new DatabaseField("CHANGE_ID"), id);
+        row.put(new DatabaseField("TABLE_NAME"), table);
+        row.put(new DatabaseField("KEY1"), key);
+        return row;
+    }
+
+    private boolean isValid(Class<?> type, Object id) {
+        return session.getIdentityMapAccessor().isValid(id, type);
+    }
+
+    @Test
+    public void pollTest() {
+        assertEquals(2, listener.getDescriptorsByTable().size());
+        session.getIdentityMapAccessor().putInIdentityMap(new Customer(), 1L);
+        session.getIdentityMapAccessor().putInIdentityMap(new Customer(), 2L);
+        session.getIdentityMapAccessor().putInIdentityMap(new OrderLine(), Arrays.asList(1L, 1L));
+
+        // The key values cast to CHAR are padded with spaces.
+        ((EmulatedConnection)((AbstractSession)session).getAccessor().getConnection()).putRows(POLL, new Vector<>(Arrays.asList(
+                change(1, "CUSTOMER", "1    "), change(2, "ORDER_LINE", null), change(3, "UNKNOWN", "2"), change(4, "CUSTOMER", "3"))));
+        listener.pollChanges((AbstractSession)session);
+        assertFalse(isValid(Customer.class, 1L));
+        assertTrue(isValid(Customer.class, 2L));
+        assertFalse(session.getIdentityMapAccessor().isValid(Arrays.asList(1L, 1L), OrderLine.class));
+    }
+
+    @Test
+    public void lateCommitTest() {
+        EmulatedConnection connection = (EmulatedConnection)((AbstractSession)session).getAccessor().getConnection();
+        session.getIdentityMapAccessor().putInIdentityMap(new Customer(), 1L);
+        session.getIdentityMapAccessor().putInIdentityMap(new Customer(), 2L);
+        // The transaction of the entry 2 is not committed yet.
+        connection.putRows(POLL, new Vector<>(Arrays.asList(change(1, "CUSTOMER", "1"), change(3, "CUSTOMER", "3"))));
+        listener.pollChanges((AbstractSession)session);
+        assertFalse(isValid(Customer.class, 1L));
+        assertTrue(isValid(Customer.class, 2L));
+
+        // The entry 2 is read once committed, the entries already read are not processed again.
+        session.getIdentityMapAccessor().putInIdentityMap(new Customer(), 3L);
+        connection.putRows(POLL, new Vector<>(Arrays.asList(
+                change(1, "CUSTOMER", "1"), change(2, "CUSTOMER", "2"), change(3, "CUSTOMER", "3"))));
+        listener.pollChanges((AbstractSession)session);
+        assertFalse(isValid(Customer.class, 2L));
+        assertTrue(isValid(Customer.class, 3L));
+
+        // After the grace period the missing entries are considered rolled back.
+        listener.setGracePeriod(0);
+        session.getIdentityMapAccessor().putInIdentityMap(new Customer(), 4L);
+        connection.putRows(POLL, new Vector<>(Arrays.asList(change(5, "CUSTOMER", "5"))));
+        listener.pollChanges((AbstractSession)session);
+        connection.putRows(POLL, new Vector<>(Arrays.asList(change(4, "CUSTOMER", "4"), change(5, "CUSTOMER", "5"))));
+        listener.pollChanges((AbstractSession)session);
+        assertTrue(isValid(Customer.class, 4L));
+    }
+
+    @Test
+    public void removeTest() {
+        session.getIdentityMapAccessor().putInIdentityMap(new Customer(), 5L);
+        ((EmulatedConnection)((AbstractSession)session).getAccessor().getConnection()).putRows(POLL, new Vector<>(Arrays.asList(
+                change(5, "CUSTOMER", "5"))));
+        // Removed listeners do not poll, registering again polls.
+        listener.remove(session);
+        listener.remove(session);
+        listener.pollChanges((AbstractSession)session);
+        assertTrue(isValid(Customer.class, 5L));
+        listener.register(session);
+        listener.pollChanges((AbstractSession)session);
+        assertFalse(isValid(Customer.class, 5L));
+    }
+
+    @Test
+    public void triggerStatementTest() {
+        ChangeLogTableListener changeLog = new ChangeLogTableListener();
+        DatabasePlatform derby = new DerbyPlatform();
+        String statement = changeLog.buildLogStatement("CUSTOMER", session.getDescriptor(Customer.class), derby);
+        assertEquals("INSERT INTO EL_CHANGE_LOG (TABLE_NAME, KEY1) VALUES ('CUSTOMER', CAST(OLD_ROW.ID AS CHAR(255)))", statement);
+        assertEquals("CREATE TRIGGER EL_CUSTOMER_U AFTER UPDATE ON CUSTOMER REFERENCING OLD ROW AS OLD_ROW FOR EACH ROW " + statement,
+                derby.buildCreateTrigger("EL_CUSTOMER_U", "CUSTOMER", "UPDATE", statement));
+
+        DatabasePlatform mySQL = new MySQLPlatform();
+        statement = changeLog.buildLogStatement("ORDER_LINE", session.getDescriptor(OrderLine.class), mySQL);
+        assertEquals("INSERT INTO EL_CHANGE_LOG (TABLE_NAME, KEY1, KEY2) VALUES ('ORDER_LINE', CAST(OLD.ORDER_ID AS CHAR(255)), CAST(OLD.LINE AS CHAR(255)))", statement);
+        assertEquals("CREATE TRIGGER EL_ORDER_LINE_D AFTER DELETE ON ORDER_LINE FOR EACH ROW " + statement,
+                mySQL.buildCreateTrigger("EL_ORDER_LINE_D", "ORDER_LINE", "DELETE", statement));
+
+        changeLog.setKeyColumnCount(1);
+        assertEquals("INSERT INTO EL_CHANGE_LOG (TABLE_NAME) VALUES ('ORDER_LINE')",
+                changeLog.buildLogStatement("ORDER_LINE", session.getDescriptor(OrderLine.class), mySQL));
+    }
+}
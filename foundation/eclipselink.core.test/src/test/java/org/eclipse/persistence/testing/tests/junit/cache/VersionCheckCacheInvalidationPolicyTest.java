@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.cache;
+
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.NoExpiryCacheInvalidationPolicy;
+import org.eclipse.persistence.descriptors.invalidation.VersionCheckCacheInvalidationPolicy;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class VersionCheckCacheInvalidationPolicyTest {
+
+    private static final String VERSIONS = "SELECT ID, VERSION FROM CUSTOMER WHERE (ID IN (?,?,?))";
+    private static final String VERSION = "SELECT ID, VERSION FROM CUSTOMER WHERE (ID IN (?))";
+
+    public static class Customer {
+        private long id;
+        private long version;
+    }
+
+    public static class Product {
+        private long id;
+        private long version;
+    }
+
+    private DatabaseSession session;
+    private VersionCheckCacheInvalidationPolicy policy;
+
+    @Before
+    public void prepare() {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("version", "CUSTOMER.VERSION");
+        customer.useVersionLocking("CUSTOMER.VERSION", false);
+        policy = new VersionCheckCacheInvalidationPolicy(60000);
+        customer.setCacheInvalidationPolicy(policy);
+        project.addDescriptor(customer);
+
+        // Invalid objects read together are checked even without a lease.
+        RelationalDescriptor product = new RelationalDescriptor();
+        product.setJavaClass(Product.class);
+        product.addTableName("PRODUCT");
+        product.addPrimaryKeyFieldName("PRODUCT.ID");
+        product.addDirectMapping("id", "PRODUCT.ID");
+        product.addDirectMapping("version", "PRODUCT.VERSION");
+        product.useVersionLocking("PRODUCT.VERSION", false);
+        NoExpiryCacheInvalidationPolicy noExpiry = new NoExpiryCacheInvalidationPolicy();
+        noExpiry.setShouldRevalidateInvalidObjects(true);
+        noExpiry.setRevalidationBatchSize(2);
+        product.setCacheInvalidationPolicy(noExpiry);
+        project.addDescriptor(product);
+
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private void putVersions(String sql, long... idsAndVersions) {
+        Vector<DatabaseRecord> rows = new Vector<>();
+        for (int index = 0; index < idsAndVersions.length; index += 2) {
+            DatabaseRecord row = new DatabaseRecord();
+            row.put(new DatabaseField("ID"), idsAndVersions[index]);
+            row.put(new DatabaseField("VERSION"), idsAndVersions[index + 1]);
+            rows.add(row);
+        }
+        ((EmulatedConnection)((AbstractSession)session).getAccessor().getConnection()).putRows(sql, rows);
+    }
+
+    private void cache(long id, long version, long readTime) {
+        Customer customer = new Customer();
+        customer.id = id;
+        customer.version = version;
+        session.getIdentityMapAccessor().putInIdentityMap(customer, id, version, readTime);
+    }
+
+    private Customer read(long id) {
+        ReadObjectQuery query = new ReadObjectQuery(Customer.class);
+        query.setSelectionId(id);
+        return (Customer)session.executeQuery(query);
+    }
+
+    @Test
+    public void leaseTest() {
+        cache(1L, 1L, System.currentTimeMillis());
+        // No query while the lease is valid.
+        assertTrue(session.getIdentityMapAccessor().isValid(1L, Customer.class));
+
+        long expired = System.currentTimeMillis() - 120000;
+        cache(2L, 1L, expired);
+        cache(3L, 1L, expired);
+        Object cached = session.getIdentityMapAccessor().getFromIdentityMap(2L, Customer.class);
+        putVersions(VERSION, 2L, 1L);
+        assertSame(cached, read(2L));
+        // The lease is renewed.
+        assertTrue(session.getIdentityMapAccessor().isValid(2L, Customer.class));
+        assertTrue(policy.getRemainingValidTime(((AbstractSession)session).getIdentityMapAccessorInstance().getCacheKeyForObject(
+                2L, Customer.class, session.getDescriptor(Customer.class), false)) > 0);
+        // The version changed, the object is read from the database.
+        putVersions(VERSION, 3L, 2L);
+        putVersions("SELECT ID, VERSION FROM CUSTOMER WHERE (ID = ?)", 3L, 2L);
+        assertEquals(2L, read(3L).version);
+    }
+
+    @Test
+    public void cacheLookupTest() {
+        cache(1L, 1L, System.currentTimeMillis() - 120000);
+        putVersions(VERSION, 1L, 1L);
+        // The cache lookups do not check the version, the expired object is invalid.
+        assertFalse(session.getIdentityMapAccessor().isValid(1L, Customer.class));
+        assertNull(((AbstractSession)session).getIdentityMapAccessorInstance().getFromIdentityMap(1L, Customer.class, false));
+        assertNotNull(read(1L));
+        assertTrue(session.getIdentityMapAccessor().isValid(1L, Customer.class));
+    }
+
+    @Test
+    public void batchTest() {
+        long expired = System.currentTimeMillis() - 120000;
+        cache(1L, 1L, expired);
+        cache(2L, 4L, expired);
+        cache(3L, 1L, expired);
+        cache(4L, 1L, System.currentTimeMillis());
+        // The version changed for 2, 3 was deleted.
+        putVersions(VERSIONS, 1L, 1L, 2L, 5L);
+        assertEquals(2, ((AbstractSession)session).getIdentityMapAccessorInstance().getAllFromIdentityMapWithEntityPK(
+                new Object[] { 1L, 2L, 3L, 4L }, session.getDescriptor(Customer.class)).size());
+        assertTrue(session.getIdentityMapAccessor().isValid(1L, Customer.class));
+        assertFalse(session.getIdentityMapAccessor().isValid(2L, Customer.class));
+        assertFalse(session.getIdentityMapAccessor().isValid(3L, Customer.class));
+        assertNotNull(((AbstractSession)session).getIdentityMapAccessorInstance().getFromIdentityMap(4L, Customer.class, false));
+    }
+
+    @Test
+    public void invalidateClassTest() {
+        for (long id = 1; id <= 3; id++) {
+            Product product = new Product();
+            product.id = id;
+            product.version = 1L;
+            session.getIdentityMapAccessor().putInIdentityMap(product, id, 1L, System.currentTimeMillis());
+        }
+        session.getIdentityMapAccessor().invalidateClass(Product.class);
+        // Two batches, the version of 3 changed.
+        putVersions("SELECT ID, VERSION FROM PRODUCT WHERE (ID IN (?,?))", 1L, 1L, 2L, 1L);
+        putVersions("SELECT ID, VERSION FROM PRODUCT WHERE (ID IN (?))", 3L, 2L);
+        assertEquals(2, ((AbstractSession)session).getIdentityMapAccessorInstance().getAllFromIdentityMapWithEntityPK(
+                new Object[] { 1L, 2L, 3L }, session.getDescriptor(Product.class)).size());
+        assertNotNull(((AbstractSession)session).getIdentityMapAccessorInstance().getFromIdentityMap(2L, Product.class, false));
+        assertNull(((AbstractSession)session).getIdentityMapAccessorInstance().getFromIdentityMap(3L, Product.class, false));
+    }
+}
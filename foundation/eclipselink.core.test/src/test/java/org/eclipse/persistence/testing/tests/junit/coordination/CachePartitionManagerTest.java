@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.PartitionedIdentityMap;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.CachePartitionManager;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class CachePartitionManagerTest {
+
+    public static class Customer {
+        private long id;
+        private String name;
+    }
+
+    /** A connection delivering the commands to the command manager of another session of this JVM. */
+    public static class LocalConnection extends RemoteConnection {
+        final RemoteCommandManager target;
+
+        LocalConnection(RemoteCommandManager target) {
+            this.target = target;
+            this.serviceId = target.getServiceId();
+        }
+
+        @Override
+        public Object executeCommand(Command command) {
+            target.processCommandFromRemoteConnection(command);
+            return null;
+        }
+
+        @Override
+        public Object executeCommand(byte[] command) {
+            target.processCommandFromRemoteConnection(command);
+            return null;
+        }
+    }
+
+    private DatabaseSession sessionA;
+    private DatabaseSession sessionB;
+    private CachePartitionManager managerA;
+    private CachePartitionManager managerB;
+
+    private DatabaseSession createSession(String serviceId) {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        customer.usePartitionedIdentityMap();
+        customer.setIdentityMapSize(2);
+        project.addDescriptor(customer);
+        DatabaseSession session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+        RemoteCommandManager rcm = new RemoteCommandManager((CommandProcessor)session);
+        rcm.getServiceId().setId(serviceId);
+        rcm.setShouldPropagateAsynchronously(false);
+        return session;
+    }
+
+    @Before
+    public void prepare() {
+        sessionA = createSession("A");
+        sessionB = createSession("B");
+        RemoteCommandManager rcmA = (RemoteCommandManager)sessionA.getCommandManager();
+        RemoteCommandManager rcmB = (RemoteCommandManager)sessionB.getCommandManager();
+        managerA = new CachePartitionManager(rcmA);
+        managerB = new CachePartitionManager(rcmB);
+    }
+
+    private void connect() {
+        RemoteCommandManager rcmA = (RemoteCommandManager)sessionA.getCommandManager();
+        RemoteCommandManager rcmB = (RemoteCommandManager)sessionB.getCommandManager();
+        rcmA.getTransportManager().getConnectionsToExternalServices().put("B", new LocalConnection(rcmB));
+        rcmB.getTransportManager().getConnectionsToExternalServices().put("A", new LocalConnection(rcmA));
+    }
+
+    @After
+    public void reset() {
+        for (DatabaseSession session : new DatabaseSession[] {sessionA, sessionB}) {
+            if (session != null && session.isConnected()) {
+                // The command manager was never initialized, it has no connection to shut down.
+                ((CommandProcessor)session).setCommandManager(null);
+                session.logout();
+            }
+        }
+    }
+
+    /** Return a primary key owned by the service. */
+    private long keyOwnedBy(String serviceId, long from) {
+        ClassDescriptor descriptor = sessionA.getDescriptor(Customer.class);
+        long id = from;
+        while (!serviceId.equals(managerA.getOwner(descriptor, id))) {
+            id++;
+        }
+        return id;
+    }
+
+    private void putRow(long id, String name) {
+        Vector<DatabaseRecord> rows = new Vector<>();
+        DatabaseRecord row = new DatabaseRecord();
+        row.put(new DatabaseField("ID"), id);
+        row.put(new DatabaseField("NAME"), name);
+        rows.add(row);
+        ((EmulatedConnection)((AbstractSession)sessionA).getAccessor().getConnection()).putRows("SELECT ID, NAME FROM CUSTOMER WHERE (ID = ?)", rows);
+    }
+
+    @Test
+    public void ownershipTest() {
+        ClassDescriptor descriptor = sessionA.getDescriptor(Customer.class);
+        // Alone on the ring the service owns everything.
+        for (long id = 0; id < 100; id++) {
+            assertTrue(managerA.isOwner(descriptor, id));
+        }
+
+        connect();
+        Map<String, Integer> counts = new HashMap<>();
+        Map<Long, String> owners = new HashMap<>();
+        for (long id = 0; id < 3000; id++) {
+            String owner = managerA.getOwner(descriptor, id);
+            // Each service computes the same owner.
+            assertEquals(owner, managerB.getOwner(sessionB.getDescriptor(Customer.class), id));
+            owners.put(id, owner);
+            counts.merge(owner, 1, Integer::sum);
+        }
+        assertTrue(counts.toString(), counts.get("A") > 1000);
+        assertTrue(counts.toString(), counts.get("B") > 1000);
+
+        // A joining service only takes objects, it does not move them between the other services.
+        RemoteCommandManager rcmA = (RemoteCommandManager)sessionA.getCommandManager();
+        rcmA.getTransportManager().getConnectionsToExternalServices().put("C", new LocalConnection(new RemoteCommandManager((CommandProcessor)sessionB)));
+        int moved = 0;
+        for (long id = 0; id < 3000; id++) {
+            String owner = managerA.getOwner(descriptor, id);
+            if (!owner.equals(owners.get(id))) {
+                assertEquals("C", owner);
+                moved++;
+            }
+        }
+        assertTrue(String.valueOf(moved), (moved > 500) && (moved < 1500));
+    }
+
+    @Test
+    public void nearCacheTest() {
+        connect();
+        for (long id = 0; id < 20; id++) {
+            sessionA.getIdentityMapAccessor().putInIdentityMap(new Customer(), id);
+        }
+        AbstractSession session = (AbstractSession)sessionA;
+        PartitionedIdentityMap map = (PartitionedIdentityMap)session.getIdentityMapAccessorInstance().getIdentityMap(Customer.class);
+        ClassDescriptor descriptor = sessionA.getDescriptor(Customer.class);
+        int owned = 0;
+        for (long id = 0; id < 20; id++) {
+            boolean isCached = sessionA.getIdentityMapAccessor().containsObjectInIdentityMap(id, Customer.class);
+            if (managerA.isOwner(descriptor, id)) {
+                owned++;
+                assertTrue(isCached);
+            }
+        }
+        // Only the two most recently used objects owned by the other service are kept.
+        assertEquals(2, map.getNearCacheSize());
+        assertEquals(owned + 2, map.getSize());
+        long last = keyOwnedBy("B", 20);
+        sessionA.getIdentityMapAccessor().putInIdentityMap(new Customer(), last);
+        assertTrue(sessionA.getIdentityMapAccessor().containsObjectInIdentityMap(last, Customer.class));
+        assertEquals(2, map.getNearCacheSize());
+
+        sessionA.getIdentityMapAccessor().removeFromIdentityMap(last, Customer.class);
+        assertEquals(1, map.getNearCacheSize());
+    }
+
+    @Test
+    public void membershipChangeTest() {
+        for (long id = 0; id < 20; id++) {
+            sessionA.getIdentityMapAccessor().putInIdentityMap(new Customer(), id);
+        }
+        AbstractSession session = (AbstractSession)sessionA;
+        PartitionedIdentityMap map = (PartitionedIdentityMap)session.getIdentityMapAccessorInstance().getIdentityMap(Customer.class);
+        assertEquals(0, map.getNearCacheSize());
+        assertEquals(20, map.getSize());
+
+        // The objects owned by the joining service move to the near cache.
+        connect();
+        ClassDescriptor descriptor = sessionA.getDescriptor(Customer.class);
+        long first = keyOwnedBy("A", 0);
+        assertTrue(sessionA.getIdentityMapAccessor().containsObjectInIdentityMap(first, Customer.class));
+        int owned = 0;
+        for (long id = 0; id < 20; id++) {
+            if (managerA.isOwner(descriptor, id)) {
+                owned++;
+                assertTrue(sessionA.getIdentityMapAccessor().containsObjectInIdentityMap(id, Customer.class));
+            }
+        }
+        assertEquals(2, map.getNearCacheSize());
+        assertEquals(owned + 2, map.getSize());
+
+        // The objects of the near cache are owned again when the service leaves.
+        ((RemoteCommandManager)sessionA.getCommandManager()).getTransportManager().getConnectionsToExternalServices().remove("B");
+        assertTrue(managerA.isOwner(descriptor, keyOwnedBy("A", 0)));
+        assertTrue(sessionA.getIdentityMapAccessor().containsObjectInIdentityMap(first, Customer.class));
+        assertEquals(0, map.getNearCacheSize());
+        assertEquals(owned + 2, map.getSize());
+    }
+
+    @Test
+    public void hashTest() {
+        ClassDescriptor descriptor = sessionA.getDescriptor(Customer.class);
+        // The hash depends on the values of the primary key, not on the identity of the objects holding them.
+        assertEquals(managerA.hash(descriptor, new CacheId(new Object[] {1L, new byte[] {1, 2}})),
+                managerA.hash(descriptor, new CacheId(new Object[] {1L, new byte[] {1, 2}})));
+        assertEquals(managerA.hash(descriptor, 1L), managerA.hash(descriptor, 1));
+        assertEquals(managerA.hash(descriptor, Thread.State.NEW), managerA.hash(descriptor, "NEW"));
+        assertFalse(managerA.hash(descriptor, 1L) == managerA.hash(descriptor, 2L));
+    }
+
+    @Test
+    public void fetchTest() {
+        connect();
+        long id = keyOwnedBy("B", 0);
+        Customer cached = new Customer();
+        cached.id = id;
+        cached.name = "Owned by B";
+        sessionB.getIdentityMapAccessor().putInIdentityMap(cached, id);
+
+        // Queries do not fetch from the owner by default.
+        putRow(id, "From database");
+        ReadObjectQuery query = new ReadObjectQuery(Customer.class);
+        query.setSelectionId(id);
+        assertEquals("From database", ((Customer)sessionA.executeQuery(query)).name);
+        assertEquals(0, managerA.getFetchCount());
+        sessionA.getIdentityMapAccessor().removeFromIdentityMap(id, Customer.class);
+
+        // The row is fetched from the cache of the owner instead of the database.
+        query = new ReadObjectQuery(Customer.class);
+        query.setSelectionId(id);
+        query.setShouldFetchFromCachePartition(true);
+        Customer customer = (Customer)sessionA.executeQuery(query);
+        assertNotNull(customer);
+        assertEquals("Owned by B", customer.name);
+        assertEquals(1, managerA.getFetchCount());
+        assertEquals(1, managerA.getFetchHitCount());
+        assertTrue(sessionA.getIdentityMapAccessor().containsObjectInIdentityMap(id, Customer.class));
+
+        // Objects missing from the cache of the owner are read from the database.
+        long missing = keyOwnedBy("B", id + 1);
+        putRow(missing, "From database");
+        query = new ReadObjectQuery(Customer.class);
+        query.setSelectionId(missing);
+        query.setShouldFetchFromCachePartition(true);
+        assertEquals("From database", ((Customer)sessionA.executeQuery(query)).name);
+        assertEquals(2, managerA.getFetchCount());
+        assertEquals(1, managerA.getFetchHitCount());
+
+        // Owned objects are read from the database.
+        long owned = keyOwnedBy("A", 0);
+        putRow(owned, "Owned by A");
+        query = new ReadObjectQuery(Customer.class);
+        query.setSelectionId(owned);
+        query.setShouldFetchFromCachePartition(true);
+        assertEquals("Owned by A", ((Customer)sessionA.executeQuery(query)).name);
+        assertEquals(2, managerA.getFetchCount());
+        assertFalse(managerA.isOwner(sessionA.getDescriptor(Customer.class), id));
+    }
+}
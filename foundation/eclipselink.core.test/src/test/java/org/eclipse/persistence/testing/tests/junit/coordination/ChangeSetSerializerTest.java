@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.helper.BinaryReader;
+import org.eclipse.persistence.internal.helper.BinaryWriter;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.ChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ChangeSetSerializerTest {
+
+    public static class Customer {
+        private long id;
+        private String name;
+    }
+
+    public static class PurchaseOrder {
+        private long id;
+        private BigDecimal total;
+        private Customer customer;
+    }
+
+    public static class CustomCommand extends MergeChangeSetCommand {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private DatabaseSession session;
+
+    @Before
+    public void prepare() {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        customer.useVersionLocking("CUSTOMER.VERSION");
+        project.addDescriptor(customer);
+
+        RelationalDescriptor order = new RelationalDescriptor();
+        order.setJavaClass(PurchaseOrder.class);
+        order.addTableName("PURCHASE_ORDER");
+        order.addPrimaryKeyFieldName("PURCHASE_ORDER.ID");
+        order.addDirectMapping("id", "PURCHASE_ORDER.ID");
+        order.addDirectMapping("total", "PURCHASE_ORDER.TOTAL");
+        OneToOneMapping customerMapping = new OneToOneMapping();
+        customerMapping.setAttributeName("customer");
+        customerMapping.setReferenceClass(Customer.class);
+        customerMapping.addForeignKeyFieldName("PURCHASE_ORDER.CUSTOMER_ID", "CUSTOMER.ID");
+        customerMapping.dontUseIndirection();
+        order.addMapping(customerMapping);
+        project.addDescriptor(order);
+
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private MergeChangeSetCommand command(MergeChangeSetCommand command) {
+        ClassDescriptor customerDescriptor = session.getDescriptor(Customer.class);
+        ClassDescriptor orderDescriptor = session.getDescriptor(PurchaseOrder.class);
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = new IdentityHashMap<>();
+
+        ObjectChangeSet customerChanges = new ObjectChangeSet(7L, customerDescriptor, null, changeSet, false);
+        customerChanges.setWriteLockValue(3);
+        customerChanges.setInitialWriteLockValue(2);
+        DirectToFieldChangeRecord nameRecord = new DirectToFieldChangeRecord(customerChanges);
+        nameRecord.setAttribute("name");
+        nameRecord.setMapping(customerDescriptor.getMappingForAttributeName("name"));
+        nameRecord.setNewValue("ACME é");
+        customerChanges.addChange(nameRecord);
+        allChangeSets.put(customerChanges, customerChanges);
+
+        ObjectChangeSet orderChanges = new ObjectChangeSet(new CacheId(new Object[] {-5L, "A"}), orderDescriptor, null, changeSet, false);
+        DirectToFieldChangeRecord totalRecord = new DirectToFieldChangeRecord(orderChanges);
+        totalRecord.setAttribute("total");
+        totalRecord.setMapping(orderDescriptor.getMappingForAttributeName("total"));
+        totalRecord.setNewValue(new BigDecimal("1234.50"));
+        orderChanges.addChange(totalRecord);
+        ObjectReferenceChangeRecord customerRecord = new ObjectReferenceChangeRecord(orderChanges);
+        customerRecord.setAttribute("customer");
+        customerRecord.setMapping(orderDescriptor.getMappingForAttributeName("customer"));
+        customerRecord.setNewValue(customerChanges);
+        orderChanges.addChange(customerRecord);
+        allChangeSets.put(orderChanges, orderChanges);
+        changeSet.setAllChangeSets(allChangeSets);
+
+        ObjectChangeSet deleted = new ObjectChangeSet(9L, customerDescriptor, null, changeSet, false);
+        deleted.setShouldBeDeleted(true);
+        Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = new IdentityHashMap<>();
+        deletedObjects.put(deleted, deleted);
+        changeSet.setDeletedObjects(deletedObjects);
+
+        command.setChangeSet(changeSet);
+        command.setServiceId(new ServiceId("channel", "node1", "url"));
+        return command;
+    }
+
+    private MergeChangeSetCommand roundTrip(ChangeSetSerializer serializer, MergeChangeSetCommand command) {
+        byte[] bytes = (byte[])serializer.serialize(command, session);
+        return (MergeChangeSetCommand)serializer.deserialize(bytes, session);
+    }
+
+    @Test
+    public void roundTripTest() {
+        ChangeSetSerializer serializer = new ChangeSetSerializer();
+        serializer.initialize(UnitOfWorkChangeSet.class, null, session);
+        MergeChangeSetCommand command = command(new MergeChangeSetCommand());
+        byte[] bytes = (byte[])serializer.serialize(command, session);
+        byte[] javaBytes = (byte[])JavaSerializer.instance.serialize(command, session);
+        assertTrue(bytes.length * 4 < javaBytes.length);
+
+        MergeChangeSetCommand result = (MergeChangeSetCommand)serializer.deserialize(bytes, session);
+        assertEquals("node1", result.getServiceId().getId());
+        assertEquals("channel", result.getServiceId().getChannel());
+        UnitOfWorkChangeSet changeSet = result.getChangeSet((AbstractSession)session);
+        assertEquals(2, changeSet.getAllChangeSets().size());
+        assertEquals(1, changeSet.getDeletedObjects().size());
+        ObjectChangeSet deleted = changeSet.getDeletedObjects().keySet().iterator().next();
+        assertTrue(deleted.shouldBeDeleted());
+        assertEquals(9L, deleted.getId());
+
+        ObjectChangeSet customerChanges = null;
+        ObjectChangeSet orderChanges = null;
+        for (ObjectChangeSet objectChanges : changeSet.getAllChangeSets().keySet()) {
+            if (objectChanges.getClassType() == Customer.class) {
+                customerChanges = objectChanges;
+            } else {
+                orderChanges = objectChanges;
+            }
+        }
+        assertEquals(Customer.class.getName(), customerChanges.getClassName());
+        assertSame(session.getDescriptor(Customer.class), customerChanges.getDescriptor());
+        assertEquals(7L, customerChanges.getId());
+        assertEquals(3, customerChanges.getWriteLockValue());
+        assertEquals(2, customerChanges.getInitialWriteLockValue());
+        assertFalse(customerChanges.isNew());
+        assertEquals(session.getDescriptor(Customer.class).getCachePolicy().getCacheSynchronizationType(), customerChanges.getCacheSynchronizationType());
+        DirectToFieldChangeRecord nameRecord = (DirectToFieldChangeRecord)customerChanges.getChanges().get(0);
+        assertEquals("name", nameRecord.getAttribute());
+        assertSame(session.getDescriptor(Customer.class).getMappingForAttributeName("name"), nameRecord.getMapping());
+        assertEquals("ACME é", nameRecord.getNewValue());
+
+        assertEquals(new CacheId(new Object[] {-5L, "A"}), orderChanges.getId());
+        DirectToFieldChangeRecord totalRecord = (DirectToFieldChangeRecord)orderChanges.getChanges().get(0);
+        assertEquals(new BigDecimal("1234.50"), totalRecord.getNewValue());
+        ObjectReferenceChangeRecord customerRecord = (ObjectReferenceChangeRecord)orderChanges.getChanges().get(1);
+        assertSame(customerChanges, customerRecord.getNewValue());
+        assertSame(orderChanges, customerRecord.getOwner());
+    }
+
+    @Test
+    public void compressionTest() {
+        ChangeSetSerializer serializer = new ChangeSetSerializer(true);
+        serializer.setCompressionThreshold(0);
+        MergeChangeSetCommand command = command(new MergeChangeSetCommand());
+        // Compression is only used when it reduces the size, so use a repetitive value.
+        ObjectChangeSet customerChanges = command.getChangeSet(null).getAllChangeSets().keySet().stream()
+                .filter(changes -> changes.getClassType() == Customer.class).findFirst().get();
+        ((DirectToFieldChangeRecord)customerChanges.getChanges().get(0)).setNewValue("ACME ".repeat(500));
+        byte[] bytes = (byte[])serializer.serialize(command, session);
+        assertTrue(bytes.length < 500);
+        MergeChangeSetCommand result = (MergeChangeSetCommand)serializer.deserialize(bytes, session);
+        for (ObjectChangeSet objectChanges : result.getChangeSet(null).getAllChangeSets().keySet()) {
+            if (objectChanges.getClassType() == Customer.class) {
+                assertEquals("ACME ".repeat(500), ((DirectToFieldChangeRecord)objectChanges.getChanges().get(0)).getNewValue());
+            }
+        }
+    }
+
+    @Test
+    public void decompressedSizeTest() {
+        ChangeSetSerializer serializer = new ChangeSetSerializer(true);
+        serializer.setCompressionThreshold(0);
+        MergeChangeSetCommand command = command(new MergeChangeSetCommand());
+        ObjectChangeSet customerChanges = command.getChangeSet(null).getAllChangeSets().keySet().stream()
+                .filter(changes -> changes.getClassType() == Customer.class).findFirst().get();
+        ((DirectToFieldChangeRecord)customerChanges.getChanges().get(0)).setNewValue("ACME ".repeat(500));
+        byte[] bytes = (byte[])serializer.serialize(command, session);
+        serializer.setMaxDecompressedSize(1000);
+        try {
+            serializer.deserialize(bytes, session);
+            fail("payload bigger than the maximum decompressed size read");
+        } catch (RemoteCommandManagerException expected) {
+        }
+
+        // The declared size is checked before the buffer is allocated.
+        BinaryWriter writer = new BinaryWriter(16);
+        writer.writeBytes(bytes, 0, 3);
+        writer.writeVarInt(Integer.MAX_VALUE);
+        writer.writeByte(0);
+        try {
+            serializer.deserialize(writer.toByteArray(), session);
+            fail("payload declaring a size bigger than the maximum decompressed size read");
+        } catch (RemoteCommandManagerException expected) {
+        }
+    }
+
+    @Test
+    public void fallbackTest() {
+        ChangeSetSerializer serializer = new ChangeSetSerializer();
+        // Commands other than MergeChangeSetCommand are written through Java serialization.
+        MergeChangeSetCommand result = roundTrip(serializer, command(new CustomCommand()));
+        assertSame(CustomCommand.class, result.getClass());
+        assertEquals(2, result.getChangeSet(null).getAllChangeSets().size());
+
+        // Payloads of the Java serializer are still read, e.g. while the nodes of a cluster are upgraded.
+        byte[] javaBytes = (byte[])JavaSerializer.instance.serialize(command(new MergeChangeSetCommand()), session);
+        result = (MergeChangeSetCommand)serializer.deserialize(javaBytes, session);
+        assertEquals(1, result.getChangeSet(null).getDeletedObjects().size());
+    }
+
+    @Test
+    public void valueTest() throws Exception {
+        Timestamp timestamp = new Timestamp(1234567890123L);
+        timestamp.setNanos(123456789);
+        Object[] values = new Object[] {null, Boolean.TRUE, Integer.MIN_VALUE, Long.MAX_VALUE, -1L, (short)-3, (byte)7, 'x',
+                1.5f, -2.25d, "text", new BigDecimal("-0.001"), new java.math.BigInteger("123456789012345678901234567890"),
+                timestamp, new java.sql.Date(86400000L), new java.sql.Time(3600000L), new java.util.Date(5L), DatabaseMapping.WriteType.UPDATE};
+        BinaryWriter writer = new BinaryWriter(16);
+        for (Object value : values) {
+            writer.writeValue(value);
+        }
+        writer.writeValue(new byte[] {1, 2, 3});
+        BinaryReader reader = new BinaryReader(writer.toByteArray());
+        for (Object value : values) {
+            assertEquals(value, reader.readValue(session));
+        }
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[])reader.readValue(session));
+        assertEquals(0, reader.remaining());
+        assertNull(new BinaryReader(new byte[] {BinaryWriter.NULL}).readValue(null));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.BatchCommand;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatcher;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.ChangeSetSerializer;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CommandBatcherTest {
+
+    public static class Customer {
+        private long id;
+        private String name;
+    }
+
+    /** Records the commands sent instead of sending them. */
+    public static class RecordingCommandManager extends RemoteCommandManager {
+        final List<Command> sent = new ArrayList<>();
+
+        RecordingCommandManager(CommandProcessor processor) {
+            super(processor);
+        }
+
+        @Override
+        public void sendCommand(Command command) {
+            synchronized (this.sent) {
+                this.sent.add(command);
+                this.sent.notifyAll();
+            }
+        }
+    }
+
+    private DatabaseSession session;
+    private RecordingCommandManager rcm;
+
+    @Before
+    public void prepare() {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        customer.getCachePolicy().setCacheSynchronizationType(ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+        project.addDescriptor(customer);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+        rcm = new RecordingCommandManager((CommandProcessor)session);
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            // The command manager was never initialized, it has no connection to shut down.
+            ((CommandProcessor)session).setCommandManager(null);
+            session.logout();
+        }
+    }
+
+    private MergeChangeSetCommand invalidation(Object... ids) {
+        ClassDescriptor descriptor = session.getDescriptor(Customer.class);
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = new IdentityHashMap<>();
+        for (Object id : ids) {
+            ObjectChangeSet objectChanges = new ObjectChangeSet(id, descriptor, null, changeSet, false);
+            objectChanges.setSynchronizationType(ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+            allChangeSets.put(objectChanges, objectChanges);
+        }
+        changeSet.setAllChangeSets(allChangeSets);
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        command.setServiceId(rcm.getServiceId());
+        return command;
+    }
+
+    @Test
+    public void coalesceTest() {
+        CommandBatcher batcher = new CommandBatcher(rcm, 10, 3);
+        MergeChangeSetCommand first = invalidation(1L);
+        MergeChangeSetCommand second = invalidation(1L, 2L);
+        MergeChangeSetCommand third = invalidation(2L, 3L);
+        batcher.add(first);
+        batcher.add(second);
+        assertEquals(2, batcher.getPendingCommandCount());
+        // The batch is full, it is sent by the committing thread.
+        batcher.add(third);
+        assertEquals(0, batcher.getPendingCommandCount());
+        assertEquals(1, rcm.sent.size());
+        BatchCommand batch = (BatchCommand)rcm.sent.get(0);
+        // The first command only invalidated an object invalidated again, it is dropped.
+        assertEquals(2, batch.getCommands().size());
+        // The second command is sent as a copy without its invalidation of 2, invalidated again by the third.
+        MergeChangeSetCommand copy = (MergeChangeSetCommand)batch.getCommands().get(0);
+        assertNotSame(second, copy);
+        assertEquals(second.getServiceId(), copy.getServiceId());
+        assertEquals(1, copy.getChangeSet(null).getAllChangeSets().size());
+        assertEquals(1L, copy.getChangeSet(null).getAllChangeSets().keySet().iterator().next().getId());
+        assertSame(third, batch.getCommands().get(1));
+        // The change sets of the commands are not changed.
+        assertEquals(1, first.getChangeSet(null).getAllChangeSets().size());
+        assertEquals(2, second.getChangeSet(null).getAllChangeSets().size());
+        assertEquals(2, third.getChangeSet(null).getAllChangeSets().size());
+    }
+
+    @Test
+    public void delayTest() throws Exception {
+        CommandBatcher batcher = new CommandBatcher(rcm, 10, 100);
+        MergeChangeSetCommand command = invalidation(1L);
+        batcher.add(command);
+        synchronized (rcm.sent) {
+            long end = System.currentTimeMillis() + 10000;
+            while (rcm.sent.isEmpty() && (System.currentTimeMillis() < end)) {
+                rcm.sent.wait(100);
+            }
+        }
+        // A single command is sent as is.
+        assertEquals(1, rcm.sent.size());
+        assertSame(command, rcm.sent.get(0));
+        assertEquals(0, batcher.getPendingCommandCount());
+    }
+
+    @Test
+    public void serializeTest() {
+        ChangeSetSerializer serializer = new ChangeSetSerializer();
+        List<Command> commands = new ArrayList<>();
+        commands.add(invalidation(1L, 2L));
+        commands.add(invalidation(3L));
+        BatchCommand batch = new BatchCommand(commands);
+        batch.setServiceId(rcm.getServiceId());
+        byte[] bytes = (byte[])serializer.serialize(batch, session);
+        BatchCommand result = (BatchCommand)serializer.deserialize(bytes, session);
+        assertEquals(rcm.getServiceId().getId(), result.getServiceId().getId());
+        assertEquals(2, result.getCommands().size());
+        assertEquals(2, ((MergeChangeSetCommand)result.getCommands().get(0)).getChangeSet(null).getAllChangeSets().size());
+        ObjectChangeSet objectChanges = ((MergeChangeSetCommand)result.getCommands().get(1)).getChangeSet(null).getAllChangeSets().keySet().iterator().next();
+        assertEquals(3L, objectChanges.getId());
+        assertEquals(ClassDescriptor.INVALIDATE_CHANGED_OBJECTS, objectChanges.getSynchronizationType());
+
+        // Batches holding other commands are written through Java serialization.
+        commands.add(new BatchCommand(new ArrayList<>()));
+        result = (BatchCommand)serializer.deserialize(serializer.serialize(batch, session), session);
+        assertEquals(3, result.getCommands().size());
+        assertTrue(result.getCommands().get(2) instanceof BatchCommand);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.CommunicationException;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.services.mbean.MBeanRuntimeServices;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.CommandMetrics;
+import org.eclipse.persistence.sessions.coordination.CommandMetricsListener;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.ChangeSetSerializer;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CommandMetricsTest {
+
+    public static class Customer {
+        private long id;
+        private String name;
+    }
+
+    /** Records the notifications of the metrics SPI. */
+    public static class RecordingListener implements CommandMetricsListener {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void messageSent(Command command, int size, long serializationTime) {
+            events.add("sent " + size);
+        }
+
+        @Override
+        public void messageReceived(Command command, int size, long deserializationTime) {
+            events.add("received " + size);
+        }
+
+        @Override
+        public void commandProcessed(Command command, long propagationLag) {
+            events.add("processed");
+        }
+
+        @Override
+        public void connectionFailed(ServiceId serviceId, Throwable exception) {
+            events.add("failed " + serviceId.getId());
+        }
+    }
+
+    /** A connection to a service that is not reachable. */
+    public static class FailingConnection extends RemoteConnection {
+        FailingConnection(ServiceId serviceId) {
+            this.serviceId = serviceId;
+        }
+
+        @Override
+        public Object executeCommand(Command command) {
+            throw CommunicationException.errorSendingMessage("failing", new RuntimeException("unreachable"));
+        }
+
+        @Override
+        public Object executeCommand(byte[] command) {
+            throw CommunicationException.errorSendingMessage("failing", new RuntimeException("unreachable"));
+        }
+    }
+
+    private DatabaseSession session;
+    private RemoteCommandManager rcm;
+    private RecordingListener listener;
+    private PerformanceMonitor profiler;
+
+    @Before
+    public void prepare() {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        project.addDescriptor(customer);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        profiler = new PerformanceMonitor();
+        profiler.setDumpTime(Long.MAX_VALUE);
+        session.setProfiler(profiler);
+        session.login();
+        rcm = new RemoteCommandManager((CommandProcessor)session);
+        rcm.setSerializer(new ChangeSetSerializer());
+        rcm.setShouldPropagateAsynchronously(false);
+        listener = new RecordingListener();
+        rcm.setMetricsListener(listener);
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            // The command manager was never initialized, it has no connection to shut down.
+            ((CommandProcessor)session).setCommandManager(null);
+            session.logout();
+        }
+    }
+
+    private MergeChangeSetCommand invalidation(Object... ids) {
+        ClassDescriptor descriptor = session.getDescriptor(Customer.class);
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = new IdentityHashMap<>();
+        for (Object id : ids) {
+            ObjectChangeSet objectChanges = new ObjectChangeSet(id, descriptor, null, changeSet, false);
+            objectChanges.setSynchronizationType(ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+            allChangeSets.put(objectChanges, objectChanges);
+        }
+        changeSet.setAllChangeSets(allChangeSets);
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        return command;
+    }
+
+    @Test
+    public void sentTest() {
+        MergeChangeSetCommand command = invalidation(1L);
+        long start = System.currentTimeMillis();
+        rcm.propagateCommand(command);
+        assertTrue(command.getTimeStamp() >= start);
+        CommandMetrics metrics = rcm.getMetrics();
+        assertEquals(1, metrics.getMessagesSent());
+        assertTrue(metrics.getBytesSent() > 0);
+        assertEquals(metrics.getBytesSent(), metrics.getAverageMessageSizeSent());
+        assertEquals(1, listener.events.size());
+        assertEquals("sent " + metrics.getBytesSent(), listener.events.get(0));
+        assertEquals(metrics.getBytesSent(), profiler.getOperationTime(SessionProfiler.RcmBytesSent));
+
+        MBeanRuntimeServices services = new MBeanRuntimeServices(session);
+        assertEquals(Long.valueOf(1), services.getCacheCoordinationMessagesSent());
+        assertEquals(Integer.valueOf(0), services.getCacheCoordinationQueueDepth());
+        services.resetCacheCoordinationMetrics();
+        assertEquals(Long.valueOf(0), services.getCacheCoordinationMessagesSent());
+    }
+
+    @Test
+    public void receivedTest() {
+        session.getIdentityMapAccessor().putInIdentityMap(new Customer(), 1L);
+        MergeChangeSetCommand command = invalidation(1L);
+        command.setServiceId(new ServiceId("remote", "1", null));
+        // The command was propagated by the remote service a second ago.
+        command.setTimeStamp(System.currentTimeMillis() - 1000);
+        byte[] bytes = (byte[])rcm.getSerializer().serialize(command, session);
+        rcm.processCommandFromRemoteConnection(bytes);
+
+        assertFalse(session.getIdentityMapAccessor().isValid(1L, Customer.class));
+        CommandMetrics metrics = rcm.getMetrics();
+        assertEquals(1, metrics.getMessagesReceived());
+        assertEquals(bytes.length, metrics.getBytesReceived());
+        assertEquals(1, metrics.getCommandsProcessed());
+        assertTrue(metrics.getLastPropagationLag() >= 1000);
+        assertEquals(metrics.getLastPropagationLag(), metrics.getMaxPropagationLag());
+        assertEquals(List.of("received " + bytes.length, "processed"), listener.events);
+        assertEquals(metrics.getLastPropagationLag(), profiler.getOperationTime(SessionProfiler.RcmPropagationLag));
+
+        // Commands not timestamped have no lag.
+        rcm.processCommandFromRemoteConnection(invalidation(2L));
+        assertEquals(2, metrics.getCommandsProcessed());
+        assertEquals(metrics.getLastPropagationLag(), metrics.getAveragePropagationLag());
+        assertEquals("received -1", listener.events.get(2));
+    }
+
+    @Test
+    public void connectionFailedTest() {
+        rcm.getTransportManager().setShouldRemoveConnectionOnError(true);
+        MergeChangeSetCommand command = invalidation(1L);
+        new CommandPropagator(rcm, command, null).propagateCommand(new FailingConnection(new ServiceId("remote", "2", null)));
+        assertEquals(1, rcm.getMetrics().getFailedConnections());
+        assertEquals(List.of("failed 2"), listener.events);
+        assertEquals(1L, profiler.getOperationTime(SessionProfiler.RcmConnectionFailed));
+
+        // Sessions without cache coordination have no metrics.
+        ((CommandProcessor)session).setCommandManager(null);
+        assertNull(new MBeanRuntimeServices(session).getCacheCoordinationMessagesSent());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.annotations.CacheCoordinationType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.InvalidateStaleObjectsCommand;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.serializers.ChangeSetSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class InvalidateStaleObjectsCommandTest {
+
+    public static class Customer {
+        private long id;
+        private String name;
+    }
+
+    public static class Address {
+        private long id;
+        private String city;
+    }
+
+    private DatabaseSession session;
+
+    @Before
+    public void prepare() {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        customer.useVersionLocking("CUSTOMER.VERSION");
+        customer.getCachePolicy().setCacheCoordinationType(CacheCoordinationType.INVALIDATE_STALE_OBJECTS);
+        project.addDescriptor(customer);
+
+        // Without version locking objects are always invalidated.
+        RelationalDescriptor address = new RelationalDescriptor();
+        address.setJavaClass(Address.class);
+        address.addTableName("ADDRESS");
+        address.addPrimaryKeyFieldName("ADDRESS.ID");
+        address.addDirectMapping("id", "ADDRESS.ID");
+        address.addDirectMapping("city", "ADDRESS.CITY");
+        address.getCachePolicy().setCacheCoordinationType(CacheCoordinationType.INVALIDATE_STALE_OBJECTS);
+        project.addDescriptor(address);
+
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private void cache(Object object, long id, Object version) {
+        session.getIdentityMapAccessor().putInIdentityMap(object, id, version, System.currentTimeMillis());
+    }
+
+    private boolean isValid(Class<?> type, long id) {
+        return session.getIdentityMapAccessor().isValid(id, type);
+    }
+
+    @Test
+    public void versionTest() {
+        cache(new Customer(), 1L, 3L);
+        cache(new Customer(), 2L, 1L);
+        cache(new Address(), 3L, null);
+        InvalidateStaleObjectsCommand command = new InvalidateStaleObjectsCommand();
+        // Already refreshed to the new version.
+        command.addInvalidation(Customer.class.getName(), 1L, 3L);
+        // Older than the new version.
+        command.addInvalidation(Customer.class.getName(), 2L, 2L);
+        command.addInvalidation(Address.class.getName(), 3L, null);
+        // Not cached.
+        command.addInvalidation(Customer.class.getName(), 4L, 1L);
+        assertEquals(2, command.getClassNames().size());
+
+        command.executeWithSession((AbstractSession)session);
+        assertTrue(isValid(Customer.class, 1L));
+        assertFalse(isValid(Customer.class, 2L));
+        assertFalse(isValid(Address.class, 3L));
+    }
+
+    @Test
+    public void changeSetTest() {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = new IdentityHashMap<>();
+        ObjectChangeSet changed = new ObjectChangeSet(1L, session.getDescriptor(Customer.class), null, changeSet, false);
+        changed.setWriteLockValue(4L);
+        allChangeSets.put(changed, changed);
+        ObjectChangeSet created = new ObjectChangeSet(2L, session.getDescriptor(Customer.class), null, changeSet, true);
+        allChangeSets.put(created, created);
+        changeSet.setAllChangeSets(allChangeSets);
+
+        // New objects are not cached on other nodes.
+        InvalidateStaleObjectsCommand command = changeSet.buildStaleObjectsInvalidationCommand();
+        assertEquals(1, command.getSize());
+        assertEquals(Customer.class.getName(), command.getClassName(0));
+        assertEquals(1L, command.getPrimaryKey(0));
+        assertEquals(4L, command.getWriteLockValue(0));
+
+        // Stale invalidations are not sent as change sets.
+        allChangeSets.remove(created);
+        assertNull(changeSet.buildCacheCoordinationMergeChangeSet((AbstractSession)session));
+    }
+
+    @Test
+    public void serializeTest() {
+        InvalidateStaleObjectsCommand command = new InvalidateStaleObjectsCommand();
+        MergeChangeSetCommand changeSetCommand = new MergeChangeSetCommand();
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = new IdentityHashMap<>();
+        for (long id = 0; id < 20; id++) {
+            command.addInvalidation(Customer.class.getName(), id, id + 1);
+            ObjectChangeSet objectChanges = new ObjectChangeSet(id, session.getDescriptor(Customer.class), null, changeSet, false);
+            objectChanges.setSynchronizationType(ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+            objectChanges.setWriteLockValue(id + 1);
+            allChangeSets.put(objectChanges, objectChanges);
+        }
+        changeSet.setAllChangeSets(allChangeSets);
+        changeSetCommand.setChangeSet(changeSet);
+
+        byte[] javaBytes = (byte[])JavaSerializer.instance.serialize(command, session);
+        assertTrue(javaBytes.length < ((byte[])JavaSerializer.instance.serialize(changeSetCommand, session)).length);
+        InvalidateStaleObjectsCommand result = (InvalidateStaleObjectsCommand)JavaSerializer.instance.deserialize(javaBytes, session);
+        assertEquals(20, result.getSize());
+        assertEquals(Customer.class.getName(), result.getClassName(19));
+        assertEquals(20L, result.getWriteLockValue(19));
+
+        ChangeSetSerializer serializer = new ChangeSetSerializer();
+        byte[] bytes = (byte[])serializer.serialize(command, session);
+        assertTrue(bytes.length * 4 < javaBytes.length);
+        result = (InvalidateStaleObjectsCommand)serializer.deserialize(bytes, session);
+        assertEquals(20, result.getSize());
+        assertEquals(Customer.class.getName(), result.getClassName(7));
+        assertEquals(7L, result.getPrimaryKey(7));
+        assertEquals(8L, result.getWriteLockValue(7));
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.CommandProcessor;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.tcp.TCPTransportManager;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class TCPTransportManagerTest {
+
+    private static final String RECEIVED = "received";
+
+    /** Records its payload in the queue of the receiving session. */
+    public static class RecordingCommand extends Command {
+        private static final long serialVersionUID = 1L;
+        private final byte[] payload;
+
+        public RecordingCommand(byte[] payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void executeWithSession(AbstractSession session) {
+            ((BlockingQueue<byte[]>)session.getProperty(RECEIVED)).add(this.payload);
+        }
+    }
+
+    /** Blocks the command worker of the receiving session until released. */
+    public static class BlockingCommand extends Command {
+        private static final long serialVersionUID = 1L;
+        static CountDownLatch started;
+        static CountDownLatch release;
+
+        @Override
+        public void executeWithSession(AbstractSession session) {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private final List<DatabaseSession> sessions = new ArrayList<>();
+
+    @After
+    public void reset() {
+        for (DatabaseSession session : sessions) {
+            if (session.isConnected()) {
+                session.logout();
+            }
+        }
+    }
+
+    private TCPTransportManager login(String peers, String peersFile, int bufferSize) {
+        DatabaseLogin login = EmulatedLogin.build();
+        DatabaseSession session = new Project(login).createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.setProperty(RECEIVED, new LinkedBlockingQueue<byte[]>());
+        RemoteCommandManager rcm = new RemoteCommandManager((CommandProcessor)session);
+        rcm.setShouldPropagateAsynchronously(false);
+        TCPTransportManager transport = new TCPTransportManager(rcm);
+        transport.setAddress("127.0.0.1:0");
+        transport.setPeers(peers);
+        transport.setPeersFile(peersFile);
+        transport.setPeerRefreshInterval(100);
+        transport.setBufferSize(bufferSize);
+        sessions.add(session);
+        // The command manager is initialized on login and shut down on logout.
+        session.login();
+        return transport;
+    }
+
+    private static String address(TCPTransportManager transport) {
+        return transport.getRemoteCommandManager().getUrl().substring(TCPTransportManager.URL_PREFIX.length());
+    }
+
+    private static void awaitConnections(TCPTransportManager transport, int count) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000;
+        while ((transport.getConnectionsToExternalServices().size() != count) && (System.currentTimeMillis() < end)) {
+            Thread.sleep(20);
+        }
+        assertEquals(count, transport.getConnectionsToExternalServices().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static byte[] receive(TCPTransportManager transport) throws InterruptedException {
+        AbstractSession session = (AbstractSession)transport.getRemoteCommandManager().getCommandProcessor();
+        return ((BlockingQueue<byte[]>)session.getProperty(RECEIVED)).poll(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void propagateTest() throws Exception {
+        TCPTransportManager first = login(null, null, TCPTransportManager.DEFAULT_BUFFER_SIZE);
+        assertTrue(first.getRemoteCommandManager().getUrl().startsWith("tcp://127.0.0.1:"));
+        // Only the second service knows the first one, the first connects back.
+        TCPTransportManager second = login(address(first), null, TCPTransportManager.DEFAULT_BUFFER_SIZE);
+        awaitConnections(first, 1);
+        awaitConnections(second, 1);
+
+        first.getRemoteCommandManager().propagateCommand(new RecordingCommand(new byte[] { 1 }));
+        assertArrayEquals(new byte[] { 1 }, receive(second));
+        second.getRemoteCommandManager().propagateCommand(new RecordingCommand(new byte[] { 2 }));
+        second.getRemoteCommandManager().propagateCommand(new RecordingCommand(new byte[] { 3 }));
+        assertArrayEquals(new byte[] { 2 }, receive(first));
+        assertArrayEquals(new byte[] { 3 }, receive(first));
+    }
+
+    @Test
+    public void largeCommandTest() throws Exception {
+        // Commands much bigger than the socket buffers are queued and read in several parts.
+        TCPTransportManager first = login(null, null, 1024);
+        TCPTransportManager second = login(address(first), null, 1024);
+        awaitConnections(first, 1);
+        awaitConnections(second, 1);
+
+        byte[] payload = new byte[1024 * 1024];
+        Arrays.fill(payload, (byte)7);
+        for (int index = 0; index < 5; index++) {
+            payload[index] = (byte)index;
+            first.getRemoteCommandManager().propagateCommand(new RecordingCommand(payload.clone()));
+        }
+        for (int index = 0; index < 5; index++) {
+            byte[] received = receive(second);
+            assertNotNull(received);
+            assertEquals(payload.length, received.length);
+            assertEquals((byte)index, received[index]);
+            assertEquals((byte)7, received[received.length - 1]);
+        }
+    }
+
+    @Test
+    public void peersFileTest() throws Exception {
+        File peersFile = File.createTempFile("peers", ".txt");
+        peersFile.deleteOnExit();
+        TCPTransportManager first = login(null, peersFile.getPath(), TCPTransportManager.DEFAULT_BUFFER_SIZE);
+        TCPTransportManager second = login(null, peersFile.getPath(), TCPTransportManager.DEFAULT_BUFFER_SIZE);
+        assertEquals(0, first.getConnectionsToExternalServices().size());
+
+        // Both services read their own address, it is ignored.
+        Files.write(peersFile.toPath(), Arrays.asList("# services", address(first), address(second)), StandardCharsets.UTF_8);
+        awaitConnections(first, 1);
+        awaitConnections(second, 1);
+        first.getRemoteCommandManager().propagateCommand(new RecordingCommand(new byte[] { 4 }));
+        assertArrayEquals(new byte[] { 4 }, receive(second));
+
+        // A stopped service is removed from the connections of the others.
+        sessions.get(1).logout();
+        awaitConnections(first, 0);
+    }
+
+    @Test
+    public void slowCommandTest() throws Exception {
+        TCPTransportManager first = login(null, null, TCPTransportManager.DEFAULT_BUFFER_SIZE);
+        TCPTransportManager second = login(address(first), null, TCPTransportManager.DEFAULT_BUFFER_SIZE);
+        awaitConnections(first, 1);
+        awaitConnections(second, 1);
+        // The connections of the second service are not read while more than 8K of commands wait for its worker.
+        second.setMaxPendingBytes(8 * 1024);
+
+        BlockingCommand.started = new CountDownLatch(1);
+        BlockingCommand.release = new CountDownLatch(1);
+        try {
+            first.getRemoteCommandManager().propagateCommand(new BlockingCommand());
+            assertTrue(BlockingCommand.started.await(10, TimeUnit.SECONDS));
+
+            // The selector thread still accepts and greets new services while a command is processed.
+            login(address(second), null, TCPTransportManager.DEFAULT_BUFFER_SIZE);
+            awaitConnections(second, 2);
+
+            for (int index = 0; index < 10; index++) {
+                byte[] payload = new byte[4 * 1024];
+                payload[0] = (byte)index;
+                first.getRemoteCommandManager().propagateCommand(new RecordingCommand(payload));
+            }
+        } finally {
+            BlockingCommand.release.countDown();
+        }
+        for (int index = 0; index < 10; index++) {
+            byte[] received = receive(second);
+            assertNotNull(received);
+            assertEquals((byte)index, received[0]);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.descriptors;
+
+import org.eclipse.persistence.internal.descriptors.AttributeAccessorGenerator;
+import org.eclipse.persistence.internal.descriptors.InstanceVariableAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AttributeAccessorGeneratorTest {
+
+    public static class Base {
+        private long id;
+    }
+
+    public static class Employee extends Base {
+        private String name;
+        private int age;
+        private final String code = "E";
+        private double salary;
+
+        private double getSalary() {
+            return salary;
+        }
+
+        private void setSalary(double salary) {
+            this.salary = salary;
+        }
+    }
+
+    private static InstanceVariableAttributeAccessor fieldAccessor(String attributeName) throws Throwable {
+        InstanceVariableAttributeAccessor accessor = new InstanceVariableAttributeAccessor();
+        accessor.setAttributeName(attributeName);
+        accessor.initializeAttributes(Employee.class);
+        AttributeAccessorGenerator.generateAccessor(accessor);
+        return accessor;
+    }
+
+    @Test
+    public void privateFieldTest() throws Throwable {
+        InstanceVariableAttributeAccessor accessor = fieldAccessor("name");
+        assertTrue(accessor.usesGeneratedAccessors());
+        Employee employee = new Employee();
+        accessor.setAttributeValueInObject(employee, "Bob");
+        assertEquals("Bob", employee.name);
+        assertEquals("Bob", accessor.getAttributeValueFromObject(employee));
+    }
+
+    @Test
+    public void inheritedFieldTest() throws Throwable {
+        InstanceVariableAttributeAccessor accessor = fieldAccessor("id");
+        assertTrue(accessor.usesGeneratedAccessors());
+        Employee employee = new Employee();
+        accessor.setAttributeValueInObject(employee, 7L);
+        assertEquals(7L, ((Base)employee).id);
+        assertEquals(7L, accessor.getAttributeValueFromObject(employee));
+    }
+
+    @Test
+    public void primitiveFieldTest() throws Throwable {
+        InstanceVariableAttributeAccessor accessor = fieldAccessor("age");
+        Employee employee = new Employee();
+        accessor.setAttributeValueInObject(employee, 42);
+        assertEquals(42, employee.age);
+        assertEquals(42, accessor.getAttributeValueFromObject(employee));
+        // Values of other types fall back to reflection.
+        accessor.setAttributeValueInObject(employee, "12");
+        assertEquals(12, employee.age);
+    }
+
+    @Test
+    public void finalFieldTest() throws Throwable {
+        InstanceVariableAttributeAccessor accessor = fieldAccessor("code");
+        assertTrue(accessor.usesGeneratedAccessors());
+        assertEquals("E", accessor.getAttributeValueFromObject(new Employee()));
+    }
+
+    @Test
+    public void methodTest() throws Throwable {
+        MethodAttributeAccessor accessor = new MethodAttributeAccessor();
+        accessor.setAttributeName("salary");
+        accessor.setGetMethodName("getSalary");
+        accessor.setSetMethodName("setSalary");
+        accessor.initializeAttributes(Employee.class);
+        assertFalse(accessor.usesGeneratedAccessors());
+        AttributeAccessorGenerator.generateAccessor(accessor);
+        assertTrue(accessor.usesGeneratedAccessors());
+        Employee employee = new Employee();
+        accessor.setAttributeValueInObject(employee, 10.5d);
+        assertEquals(10.5d, employee.salary, 0d);
+        assertEquals(10.5d, accessor.getAttributeValueFromObject(employee));
+    }
+
+    @Test
+    public void uninitializedTest() {
+        InstanceVariableAttributeAccessor accessor = new InstanceVariableAttributeAccessor();
+        assertFalse(accessor.usesGeneratedAccessors());
+        assertNull(accessor.getAttributeField());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.descriptors;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ObjectClonerGeneratorTest {
+
+    public static class Base {
+        String code;
+    }
+
+    public static class Item extends Base {
+        private long id;
+        private String name;
+        private byte[] data;
+
+        private Item() {
+        }
+    }
+
+    private DatabaseSession session;
+
+    @Before
+    public void prepare() {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+        project.setShouldGenerateObjectCloners(true);
+        project.addDescriptor(descriptor());
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private static ClassDescriptor descriptor() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.addTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        descriptor.addDirectMapping("code", "ITEM.CODE");
+        DirectToFieldMapping dataMapping = (DirectToFieldMapping)descriptor.addDirectMapping("data", "ITEM.DATA");
+        dataMapping.setIsMutable(true);
+        return descriptor;
+    }
+
+    private static Item item() {
+        Item item = new Item();
+        item.id = 1L;
+        item.name = "widget";
+        item.code = "W";
+        item.data = new byte[] {1, 2, 3};
+        return item;
+    }
+
+    @Test
+    public void generatedTest() {
+        ClassDescriptor descriptor = session.getDescriptor(Item.class);
+        assertTrue(descriptor.getObjectBuilder().usesGeneratedCloner());
+        assertTrue(descriptor.getInstantiationPolicy().usesGeneratedInstantiator());
+        assertSame(Item.class, descriptor.getObjectBuilder().buildNewInstance().getClass());
+    }
+
+    @Test
+    public void workingCopyTest() {
+        Item original = item();
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl)session.acquireUnitOfWork();
+        Item clone = (Item)unitOfWork.registerExistingObject(original);
+        assertNotSame(original, clone);
+        assertEquals(1L, clone.id);
+        assertEquals("widget", clone.name);
+        assertEquals("W", clone.code);
+        // Mutable attributes are still cloned by their mapping.
+        assertNotSame(original.data, clone.data);
+        assertArrayEquals(original.data, clone.data);
+
+        ObjectBuilder objectBuilder = session.getDescriptor(Item.class).getObjectBuilder();
+        Item backup = (Item)objectBuilder.buildBackupClone(clone, unitOfWork);
+        assertEquals("widget", backup.name);
+        assertNotSame(clone.data, backup.data);
+        unitOfWork.release();
+    }
+
+    @Test
+    public void copyIntoTest() {
+        Item source = item();
+        Item target = new Item();
+        session.getDescriptor(Item.class).getObjectBuilder().copyInto(source, target);
+        assertEquals(1L, target.id);
+        assertEquals("widget", target.name);
+        assertEquals("W", target.code);
+        assertSame(source.data, target.data);
+    }
+}
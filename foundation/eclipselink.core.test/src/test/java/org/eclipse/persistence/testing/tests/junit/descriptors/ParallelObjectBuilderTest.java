@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.descriptors;
+
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.indirection.ValueHolderInterface;
+import org.eclipse.persistence.internal.descriptors.ParallelObjectBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.ParallelExecutor;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelObjectBuilderTest {
+
+    private static final int SIZE = ParallelObjectBuilder.MINIMUM_ROWS * 3 + 17;
+
+    public static class Row {
+        private long id;
+        private String name;
+    }
+
+    public static class Owner {
+        private long id;
+        private Row row;
+    }
+
+    public static class LazyOwner {
+        private long id;
+        private ValueHolderInterface<Row> row;
+    }
+
+    private DatabaseSession session;
+
+    @Before
+    public void prepare() {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Row.class);
+        descriptor.addTableName("PARALLEL_ROW");
+        descriptor.addPrimaryKeyFieldName("PARALLEL_ROW.ID");
+        descriptor.addDirectMapping("id", "PARALLEL_ROW.ID");
+        descriptor.addDirectMapping("name", "PARALLEL_ROW.NAME");
+        project.addDescriptor(descriptor);
+        project.addDescriptor(ownerDescriptor(Owner.class, false));
+        project.addDescriptor(ownerDescriptor(LazyOwner.class, true));
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+
+        ClassDescriptor initialized = session.getDescriptor(Row.class);
+        Vector<DatabaseField> fields = initialized.getAllFields();
+        DatabaseField[] fieldsArray = fields.toArray(new DatabaseField[0]);
+        Vector<ArrayRecord> rows = new Vector<>(SIZE);
+        // Descending ids, so the result order differs from any hash or pk order.
+        for (int index = 0; index < SIZE; index++) {
+            rows.add(new ArrayRecord(fields, fieldsArray, new Object[] {(long)(SIZE - index), "row" + index}));
+        }
+        EmulatedConnection connection = (EmulatedConnection)((DatabaseSessionImpl)session).getAccessor().getConnection();
+        connection.putRows("SELECT ID, NAME FROM PARALLEL_ROW", rows);
+    }
+
+    private RelationalDescriptor ownerDescriptor(Class<?> ownerClass, boolean usesIndirection) {
+        RelationalDescriptor owner = new RelationalDescriptor();
+        owner.setJavaClass(ownerClass);
+        owner.addTableName("PARALLEL_OWNER");
+        owner.addPrimaryKeyFieldName("PARALLEL_OWNER.ID");
+        owner.addDirectMapping("id", "PARALLEL_OWNER.ID");
+        OneToOneMapping row = new OneToOneMapping();
+        row.setAttributeName("row");
+        row.setReferenceClass(Row.class);
+        row.addForeignKeyFieldName("PARALLEL_OWNER.ROW_ID", "PARALLEL_ROW.ID");
+        if (usesIndirection) {
+            row.useBasicIndirection();
+        } else {
+            row.dontUseIndirection();
+        }
+        owner.addMapping(row);
+        return owner;
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private List<Row> readAll(boolean parallel) {
+        ReadAllQuery query = new ReadAllQuery(Row.class);
+        query.setShouldBuildObjectsInParallel(parallel);
+        return (List<Row>)session.executeQuery(query);
+    }
+
+    @Test
+    public void orderTest() {
+        ReadAllQuery query = new ReadAllQuery(Row.class);
+        query.setShouldBuildObjectsInParallel(true);
+        assertTrue(ParallelObjectBuilder.shouldBuildObjectsInParallel(query, (DatabaseSessionImpl)session, SIZE)
+                || Runtime.getRuntime().availableProcessors() == 1);
+        List<Row> result = readAll(true);
+        assertEquals(SIZE, result.size());
+        for (int index = 0; index < SIZE; index++) {
+            Row row = result.get(index);
+            assertEquals(SIZE - index, row.id);
+            assertEquals("row" + index, row.name);
+        }
+    }
+
+    @Test
+    public void identityTest() {
+        List<Row> parallel = readAll(true);
+        List<Row> sequential = readAll(false);
+        for (int index = 0; index < SIZE; index++) {
+            assertSame(sequential.get(index), parallel.get(index));
+        }
+    }
+
+    @Test
+    public void pipelinedFetchTest() {
+        ReadAllQuery query = new ReadAllQuery(Row.class);
+        query.setShouldPipelineFetch(true);
+        query.setFetchSize(10);
+        List<Row> result = (List<Row>)session.executeQuery(query);
+        assertEquals(SIZE, result.size());
+        for (int index = 0; index < SIZE; index++) {
+            assertEquals(SIZE - index, result.get(index).id);
+        }
+        query.setSession((DatabaseSessionImpl)session);
+        assertTrue(query.usesPipelinedFetch());
+    }
+
+    @Test
+    public void pipelinedFetchNestedQueryTest() {
+        // Building an owner reads its row without indirection on the connection the owners are fetched from.
+        assertFalse(pipelinedQuery(Owner.class).usesPipelinedFetch());
+        assertTrue(pipelinedQuery(LazyOwner.class).usesPipelinedFetch());
+    }
+
+    private ReadAllQuery pipelinedQuery(Class<?> referenceClass) {
+        ReadAllQuery query = new ReadAllQuery(referenceClass);
+        query.setShouldPipelineFetch(true);
+        query.checkPrepare((DatabaseSessionImpl)session, new DatabaseRecord());
+        query.setSession((DatabaseSessionImpl)session);
+        return query;
+    }
+
+    @Test
+    public void pipelinedFetchSaturatedTest() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try {
+            int started = 0;
+            while (started < ParallelExecutor.getMaximumThreads()) {
+                if (ParallelExecutor.execute(blocking)) {
+                    started++;
+                } else {
+                    Thread.sleep(10);
+                }
+            }
+            // No thread can fetch the rows, they are fetched by the calling thread.
+            ReadAllQuery query = new ReadAllQuery(Row.class);
+            query.setShouldPipelineFetch(true);
+            List<Row> result = (List<Row>)session.executeQuery(query);
+            assertEquals(SIZE, result.size());
+            for (int index = 0; index < SIZE; index++) {
+                assertEquals(SIZE - index, result.get(index).id);
+            }
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void smallResultTest() {
+        ReadAllQuery query = new ReadAllQuery(Row.class);
+        query.setShouldBuildObjectsInParallel(true);
+        assertFalse(ParallelObjectBuilder.shouldBuildObjectsInParallel(query, (DatabaseSessionImpl)session, ParallelObjectBuilder.MINIMUM_ROWS - 1));
+        query.setShouldBuildObjectsInParallel(false);
+        assertFalse(ParallelObjectBuilder.shouldBuildObjectsInParallel(query, (DatabaseSessionImpl)session, SIZE));
+    }
+
+    @Test
+    public void resultSetAccessOptimizationTest() {
+        // The rows may still read the result set, they are built by the calling thread.
+        ReadAllQuery query = new ReadAllQuery(Row.class);
+        query.setShouldBuildObjectsInParallel(true);
+        query.setIsResultSetAccessOptimizedQuery(true);
+        List<Row> result = (List<Row>)session.executeQuery(query);
+        assertTrue(query.usesResultSetAccessOptimization());
+        assertFalse(ParallelObjectBuilder.shouldBuildObjectsInParallel(query, (DatabaseSessionImpl)session, SIZE));
+        assertEquals(SIZE, result.size());
+        for (int index = 0; index < SIZE; index++) {
+            assertEquals(SIZE - index, result.get(index).id);
+        }
+    }
+}
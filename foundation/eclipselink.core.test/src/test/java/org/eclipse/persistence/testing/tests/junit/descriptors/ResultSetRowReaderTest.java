@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.descriptors;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.descriptors.ResultSetRowReader;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedResultSet;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedResultSetMetaData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ResultSetRowReaderTest {
+
+    public static class Item {
+        private long id;
+        private String name;
+        private Integer quantity;
+    }
+
+    /** Reports the JDBC types of the ID, NAME and QUANTITY columns. */
+    public static class TypedMetaData extends EmulatedResultSetMetaData {
+        public TypedMetaData(EmulatedResultSet resultSet) {
+            super(resultSet);
+        }
+
+        @Override
+        public int getColumnType(int column) {
+            return switch (column) {
+                case 1 -> Types.BIGINT;
+                case 2 -> Types.VARCHAR;
+                default -> Types.INTEGER;
+            };
+        }
+    }
+
+    /** Exposes the compiled readers of the descriptor. */
+    public static class ReaderObjectBuilder extends ObjectBuilder {
+        public ReaderObjectBuilder(ClassDescriptor descriptor) {
+            super(descriptor);
+        }
+
+        public ResultSetRowReader reader(DatabaseField[] fieldsArray, EmulatedResultSet resultSet, DatabasePlatform platform) throws SQLException {
+            return getResultSetRowReader(fieldsArray, new TypedMetaData(resultSet), platform);
+        }
+
+        public Object cached(DatabaseField[] fieldsArray) {
+            return this.resultSetRowReaders.get(fieldsArray);
+        }
+    }
+
+    private DatabaseSession session;
+    private ClassDescriptor descriptor;
+    private Vector<DatabaseField> fields;
+    private DatabaseField[] fieldsArray;
+
+    @Before
+    public void prepare() {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+        RelationalDescriptor item = new RelationalDescriptor();
+        item.setJavaClass(Item.class);
+        item.addTableName("ITEM");
+        item.addPrimaryKeyFieldName("ITEM.ID");
+        item.addDirectMapping("id", "ITEM.ID");
+        item.addDirectMapping("name", "ITEM.NAME");
+        item.addDirectMapping("quantity", "ITEM.QUANTITY");
+        project.addDescriptor(item);
+        session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+        descriptor = session.getDescriptor(Item.class);
+        fields = descriptor.getAllFields();
+        fieldsArray = fields.toArray(new DatabaseField[0]);
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private EmulatedResultSet buildResultSet(Object... values) {
+        Vector<ArrayRecord> rows = new Vector<>();
+        rows.add(new ArrayRecord(fields, fieldsArray, values));
+        return new EmulatedResultSet(rows);
+    }
+
+    @Test
+    public void readTest() throws SQLException {
+        EmulatedResultSet resultSet = buildResultSet(7L, "bolt", 12);
+        AbstractSession executionSession = (AbstractSession)session;
+        DatabasePlatform platform = executionSession.getPlatform();
+        ResultSetRowReader reader = ResultSetRowReader.compile(descriptor, fieldsArray, new TypedMetaData(resultSet), platform);
+        assertNotNull(reader);
+
+        resultSet.next();
+        DatabaseAccessor accessor = (DatabaseAccessor)((DatabaseSessionImpl)session).getAccessor();
+        Object[] keyValues = reader.readPrimaryKeyValues(resultSet, executionSession, accessor, new TypedMetaData(resultSet), platform);
+        assertEquals(7L, reader.buildPrimaryKey(keyValues, executionSession, Item.class));
+        Item item = new Item();
+        reader.readInto(item, keyValues, resultSet, executionSession, accessor, new TypedMetaData(resultSet), platform);
+        assertEquals(7L, item.id);
+        assertEquals("bolt", item.name);
+        assertEquals(Integer.valueOf(12), item.quantity);
+    }
+
+    @Test
+    public void unsupportedShapeTest() throws SQLException {
+        // The quantity column is not selected.
+        DatabaseField[] partial = {fieldsArray[0], fieldsArray[1]};
+        EmulatedResultSet resultSet = buildResultSet(7L, "bolt", 12);
+        assertNull(ResultSetRowReader.compile(descriptor, partial, new TypedMetaData(resultSet), ((AbstractSession)session).getPlatform()));
+    }
+
+    @Test
+    public void readerCacheTest() throws SQLException {
+        ReaderObjectBuilder builder = new ReaderObjectBuilder(descriptor);
+        DatabasePlatform platform = ((AbstractSession)session).getPlatform();
+        EmulatedResultSet resultSet = buildResultSet(7L, "bolt", 12);
+        DatabaseField[] otherFieldsArray = fieldsArray.clone();
+        DatabaseField[] partial = {fieldsArray[0], fieldsArray[1]};
+
+        ResultSetRowReader reader = builder.reader(fieldsArray, resultSet, platform);
+        ResultSetRowReader otherReader = builder.reader(otherFieldsArray, resultSet, platform);
+        assertNotNull(reader);
+        assertNotNull(otherReader);
+        assertNull(builder.reader(partial, resultSet, platform));
+
+        // Alternating query shapes keep their compiled readers.
+        assertSame(reader, builder.reader(fieldsArray, resultSet, platform));
+        assertSame(otherReader, builder.reader(otherFieldsArray, resultSet, platform));
+
+        // An unsupported shape is cached, it is not compiled again.
+        Object unsupported = builder.cached(partial);
+        assertNotNull(unsupported);
+        assertNull(builder.reader(partial, resultSet, platform));
+        assertSame(unsupported, builder.cached(partial));
+
+        assertNull(builder.reader(null, resultSet, platform));
+    }
+}
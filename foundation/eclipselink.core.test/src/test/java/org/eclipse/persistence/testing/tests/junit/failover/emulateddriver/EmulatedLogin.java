@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.failover.emulateddriver;
+
+import org.eclipse.persistence.sessions.DatabaseLogin;
+
+/**
+ * Login of the tests connecting to the {@link EmulatedDriver} instead of a database.
+ */
+public final class EmulatedLogin {
+
+    public static final String URL = "jdbc:emulateddriver";
+
+    private EmulatedLogin() {
+    }
+
+    /**
+     * Return a new login connecting directly through the emulated driver.
+     */
+    public static DatabaseLogin build() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString(URL);
+        return login;
+    }
+}
@@ -37,6 +37,7 @@
 public class EmulatedResultSet implements ResultSet {
     protected Vector rows;
     protected int index;
+    protected boolean wasNull;
 
     public EmulatedResultSet(Vector rows) {
         this.rows = rows;
@@ -59,7 +60,7 @@ public void close() {
 
     @Override
     public boolean wasNull() {
-        return false;
+        return this.wasNull;
     }
 
     @Override
@@ -84,7 +85,12 @@ public short getShort(int columnIndex) {
 
     @Override
     public int getInt(int columnIndex) {
-        return ((Number) getObject(columnIndex)).intValue();
+        Number value = (Number) getObject(columnIndex);
+        if (value == null) {
+            return 0;
+        } else {
+            return value.intValue();
+        }
     }
 
     @Override
@@ -262,12 +268,16 @@ public ResultSetMetaData getMetaData() {
 
     @Override
     public Object getObject(int columnIndex) {
-        return ((DatabaseRecord) this.rows.get(this.index - 1)).getValues().get(columnIndex - 1);
+        Object value = ((DatabaseRecord) this.rows.get(this.index - 1)).getValues().get(columnIndex - 1);
+        this.wasNull = value == null;
+        return value;
     }
 
     @Override
     public Object getObject(String columnName) {
-        return ((DatabaseRecord) this.rows.get(this.index - 1)).get(columnName);
+        Object value = ((DatabaseRecord) this.rows.get(this.index - 1)).get(columnName);
+        this.wasNull = value == null;
+        return value;
     }
 
     // ----------------------------------------------------------------
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.internal.helper.BoundedRingBuffer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BoundedRingBufferTest {
+
+    @Test
+    public void capacityTest() {
+        assertEquals(2, new BoundedRingBuffer<>(1).getCapacity());
+        assertEquals(8, new BoundedRingBuffer<>(8).getCapacity());
+        assertEquals(16, new BoundedRingBuffer<>(9).getCapacity());
+    }
+
+    @Test
+    public void orderTest() throws InterruptedException {
+        final int size = 100000;
+        final BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(16);
+        Thread producer = new Thread(() -> {
+            for (int index = 0; index < size; index++) {
+                buffer.put(index);
+            }
+            buffer.complete();
+        });
+        producer.start();
+        int expected = 0;
+        Integer element = buffer.take();
+        while (element != null) {
+            assertEquals(expected++, element.intValue());
+            element = buffer.take();
+        }
+        producer.join();
+        assertEquals(size, expected);
+        assertNull(buffer.take());
+    }
+
+    @Test
+    public void backPressureTest() throws InterruptedException {
+        final BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+        final AtomicInteger produced = new AtomicInteger();
+        Thread producer = new Thread(() -> {
+            for (int index = 0; index < 10; index++) {
+                if (!buffer.put(index)) {
+                    break;
+                }
+                produced.incrementAndGet();
+            }
+            buffer.complete();
+        });
+        producer.start();
+        Thread.sleep(100);
+        // The producer waits until the consumer frees a slot.
+        assertEquals(4, produced.get());
+        assertFalse(buffer.isComplete());
+        assertEquals(0, buffer.take().intValue());
+        buffer.cancel();
+        buffer.awaitCompletion();
+        producer.join();
+        assertTrue(buffer.isComplete());
+        assertTrue(produced.get() <= 5);
+    }
+
+    @Test
+    public void failureTest() {
+        BoundedRingBuffer<String> buffer = new BoundedRingBuffer<>(4);
+        RuntimeException exception = new RuntimeException("fetch failed");
+        buffer.put("row");
+        buffer.fail(exception);
+        // Elements put before the failure are still taken.
+        assertEquals("row", buffer.take());
+        try {
+            buffer.take();
+            fail("Exception expected");
+        } catch (RuntimeException thrown) {
+            assertSame(exception, thrown);
+        }
+    }
+
+    @Test
+    public void timeoutTest() throws TimeoutException {
+        BoundedRingBuffer<String> buffer = new BoundedRingBuffer<>(4);
+        buffer.put("row");
+        assertEquals("row", buffer.take(10, TimeUnit.MILLISECONDS));
+        long start = System.nanoTime();
+        try {
+            buffer.take(50, TimeUnit.MILLISECONDS);
+            fail("TimeoutException expected");
+        } catch (TimeoutException expected) {
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        buffer.complete();
+        assertNull(buffer.take(10, TimeUnit.MILLISECONDS));
+    }
+}
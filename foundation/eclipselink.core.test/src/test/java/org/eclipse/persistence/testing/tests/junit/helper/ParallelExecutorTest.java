@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.persistence.internal.helper.ParallelExecutor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelExecutorTest {
+
+    @Test
+    public void runTest() {
+        final int size = 1000;
+        final AtomicIntegerArray runs = new AtomicIntegerArray(size);
+        ParallelExecutor.run(size, 8, runs::incrementAndGet);
+        for (int index = 0; index < size; index++) {
+            assertEquals("Index " + index, 1, runs.get(index));
+        }
+    }
+
+    @Test
+    public void failureTest() {
+        final RuntimeException exception = new RuntimeException("task failed");
+        try {
+            ParallelExecutor.run(100, 4, index -> {
+                if (index == 10) {
+                    throw exception;
+                }
+            });
+            fail("Exception expected");
+        } catch (RuntimeException thrown) {
+            assertSame(exception, thrown);
+        }
+    }
+
+    @Test
+    public void saturatedTest() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(ParallelExecutor.getMaximumThreads());
+        final Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                finished.countDown();
+            }
+        };
+        try {
+            // Threads ending the tasks of other tests may not take a task yet.
+            int started = 0;
+            while (started < ParallelExecutor.getMaximumThreads()) {
+                if (ParallelExecutor.execute(blocking)) {
+                    started++;
+                } else {
+                    Thread.sleep(10);
+                }
+            }
+            assertFalse(ParallelExecutor.execute(() -> {}));
+            // All the threads are busy, the calling thread runs all the tasks.
+            final Thread caller = Thread.currentThread();
+            final AtomicIntegerArray runs = new AtomicIntegerArray(10);
+            ParallelExecutor.run(10, 8, index -> {
+                assertSame(caller, Thread.currentThread());
+                runs.incrementAndGet(index);
+            });
+            for (int index = 0; index < 10; index++) {
+                assertEquals(1, runs.get(index));
+            }
+        } finally {
+            release.countDown();
+        }
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void scheduleTest() throws InterruptedException {
+        final CountDownLatch ran = new CountDownLatch(1);
+        final ClassLoader loader = new ClassLoader(getClass().getClassLoader()) {};
+        final AtomicReference<ClassLoader> taskLoader = new AtomicReference<>();
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(loader);
+        try {
+            ParallelExecutor.schedule(() -> {
+                taskLoader.set(Thread.currentThread().getContextClassLoader());
+                ran.countDown();
+            }, 10);
+            // A cancelled task is not run.
+            ParallelExecutor.schedule(() -> fail("cancelled task run"), 10).cancel(false);
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+        assertTrue(ran.await(10, TimeUnit.SECONDS));
+        assertSame(loader, taskLoader.get());
+    }
+
+    @Test
+    public void nestedRunTest() {
+        final AtomicIntegerArray runs = new AtomicIntegerArray(100);
+        ParallelExecutor.run(10, 8, outer -> ParallelExecutor.run(10, 8, inner -> runs.incrementAndGet(outer * 10 + inner)));
+        for (int index = 0; index < 100; index++) {
+            assertEquals(1, runs.get(index));
+        }
+    }
+}
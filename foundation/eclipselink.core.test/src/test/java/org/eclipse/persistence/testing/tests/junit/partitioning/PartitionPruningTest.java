@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.partitioning;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.partitioning.FieldPartitioningPolicy;
+import org.eclipse.persistence.descriptors.partitioning.HashPartitioningPolicy;
+import org.eclipse.persistence.descriptors.partitioning.RangePartitioningPolicy;
+import org.eclipse.persistence.descriptors.partitioning.ValuePartitioningPolicy;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PartitionPruningTest {
+
+    public static class Customer {
+        private long id;
+        private String name;
+        private Customer referrer;
+    }
+
+    private ServerSession session;
+
+    @Before
+    public void prepare() {
+        Project project = new Project(EmulatedLogin.build());
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        OneToOneMapping referrer = new OneToOneMapping();
+        referrer.setAttributeName("referrer");
+        referrer.setReferenceClass(Customer.class);
+        referrer.addForeignKeyFieldName("CUSTOMER.REFERRER_ID", "CUSTOMER.ID");
+        referrer.dontUseIndirection();
+        customer.addMapping(referrer);
+        project.addDescriptor(customer);
+        session = (ServerSession)project.createServerSession();
+        session.addConnectionPool("node1", EmulatedLogin.build(), 1, 1);
+        session.addConnectionPool("node2", EmulatedLogin.build(), 1, 1);
+        session.addConnectionPool("node3", EmulatedLogin.build(), 1, 1);
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    /**
+     * Return the pools the policy selects for a read of the customers matching the criteria.
+     */
+    private List<String> pools(FieldPartitioningPolicy policy, Function<ExpressionBuilder, Expression> criteria, DatabaseRecord arguments) {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        ReadAllQuery query = new ReadAllQuery(Customer.class, builder);
+        query.setSelectionCriteria(criteria.apply(builder));
+        query.checkPrepare((AbstractSession)session, arguments);
+        List<Accessor> accessors = policy.getConnectionsForQuery((AbstractSession)session, query, arguments);
+        if (accessors == null) {
+            return null;
+        }
+        List<String> pools = new ArrayList<>();
+        for (Accessor accessor : accessors) {
+            pools.add(accessor.getPool().getName());
+            accessor.getPool().releaseConnection(accessor);
+        }
+        return pools;
+    }
+
+    private List<String> pools(FieldPartitioningPolicy policy, Function<ExpressionBuilder, Expression> criteria) {
+        return pools(policy, criteria, new DatabaseRecord());
+    }
+
+    @Test
+    public void valueTest() {
+        ValuePartitioningPolicy policy = new ValuePartitioningPolicy("ID");
+        policy.addPartition(1L, "node1");
+        policy.addPartition(2L, "node2");
+        policy.addPartition(3L, "node3");
+        assertEquals(List.of("node2"), pools(policy, builder -> builder.get("id").equal(2L)));
+        assertEquals(List.of("node1", "node3"), pools(policy, builder -> builder.get("id").in(List.of(1L, 3L))));
+        assertEquals(List.of("node2", "node3"), pools(policy, builder -> builder.get("id").equal(2L).or(builder.get("id").equal(3L))));
+        // The intersection of the IN list and the range.
+        assertEquals(List.of("node3"), pools(policy, builder -> builder.get("id").in(List.of(1L, 3L)).and(builder.get("id").greaterThan(2L))));
+        assertEquals(List.of("node1", "node2"), pools(policy, builder -> builder.get("id").lessThanEqual(2L)));
+        // A value that is not mapped, without a default pool.
+        assertNull(pools(policy, builder -> builder.get("id").in(List.of(1L, 4L))));
+        // A condition on another field in an OR selects any value.
+        assertNull(pools(policy, builder -> builder.get("id").equal(1L).or(builder.get("name").equal("a"))));
+
+        policy.setUnionUnpartitionableQueries(true);
+        assertEquals(List.of("node1"), pools(policy, builder -> builder.get("id").equal(1L).and(builder.get("name").equal("a"))));
+        policy.setShouldPruneUsingSelectionCriteria(false);
+        assertEquals(3, pools(policy, builder -> builder.get("id").equal(1L)).size());
+    }
+
+    @Test
+    public void rangeTest() {
+        RangePartitioningPolicy policy = new RangePartitioningPolicy("ID");
+        policy.addPartition("node1", 1L, 10L);
+        policy.addPartition("node2", 11L, 20L);
+        policy.addPartition("node3", 21L, null);
+        assertEquals(List.of("node2"), pools(policy, builder -> builder.get("id").between(12L, 15L)));
+        assertEquals(List.of("node1", "node2"), pools(policy, builder -> builder.get("id").between(5L, 15L)));
+        assertEquals(List.of("node2", "node3"), pools(policy, builder -> builder.get("id").greaterThanEqual(20L)));
+        // An exclusive bound does not select the partition starting at it.
+        assertEquals(List.of("node1"), pools(policy, builder -> builder.get("id").lessThan(11L)));
+        assertEquals(List.of("node1", "node3"), pools(policy, builder -> builder.get("id").in(List.of(2L, 30L))));
+        // The value is compared with the field written second.
+        assertEquals(List.of("node3"), pools(policy, builder -> builder.value(20L).lessThan(builder.get("id"))));
+        // The parameter values are used.
+        DatabaseRecord arguments = new DatabaseRecord();
+        arguments.put("low", 12L);
+        assertEquals(List.of("node2", "node3"), pools(policy, builder -> builder.get("id").greaterThanEqual(builder.getParameter("low")), arguments));
+        // No value selected.
+        assertNull(pools(policy, builder -> builder.get("id").lessThan(5L).and(builder.get("id").greaterThan(8L))));
+    }
+
+    @Test
+    public void relatedObjectTest() {
+        ValuePartitioningPolicy policy = new ValuePartitioningPolicy("ID");
+        policy.addPartition(1L, "node1");
+        policy.addPartition(2L, "node2");
+        policy.addPartition(3L, "node3");
+        // The customers referred by customer 2 can be on any partition.
+        assertNull(pools(policy, builder -> builder.get("referrer").get("id").equal(2L)));
+        assertEquals(List.of("node1"), pools(policy, builder -> builder.get("id").equal(1L).and(builder.get("referrer").get("id").equal(2L))));
+        // A self-join through another expression builder.
+        assertNull(pools(policy, builder -> {
+            ExpressionBuilder referred = new ExpressionBuilder(Customer.class);
+            return referred.get("referrer").equal(builder).and(referred.get("id").equal(2L));
+        }));
+        // The unqualified partition field is not the field of the same name of another table.
+        assertNull(pools(policy, builder -> builder.getTable("ORDERS").getField("ID").equal(2L)));
+    }
+
+    @Test
+    public void hashTest() {
+        HashPartitioningPolicy policy = new HashPartitioningPolicy("ID");
+        policy.addConnectionPool("node1");
+        policy.addConnectionPool("node2");
+        policy.addConnectionPool("node3");
+        // The hash of a Long is its value, modulo the 3 pools.
+        assertEquals(List.of("node2", "node1"), pools(policy, builder -> builder.get("id").in(List.of(1L, 4L, 3L))));
+        // Ranges can't be hashed.
+        assertNull(pools(policy, builder -> builder.get("id").between(1L, 3L)));
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.partitioning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.partitioning.UnionPartitioningPolicy;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.helper.ParallelExecutor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.queries.ReportQueryResult;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PartitionedCallExecutorTest {
+
+    public static class Customer {
+        private long id;
+        private String name;
+        private Integer rank;
+    }
+
+    /** A platform sorting nulls higher than any other value. */
+    public static class NullsSortedHighPlatform extends DatabasePlatform {
+        @Override
+        public Boolean areNullsSortedHigh() {
+            return Boolean.TRUE;
+        }
+    }
+
+    private ServerSession session;
+    private UnionPartitioningPolicy policy;
+
+    @Before
+    public void prepare() {
+        login(EmulatedLogin.build());
+    }
+
+    private void login(DatabaseLogin login) {
+        Project project = new Project(login);
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        customer.addDirectMapping("rank", "CUSTOMER.RANK");
+        policy = new UnionPartitioningPolicy("node1", "node2");
+        policy.setShouldExecuteInParallel(true);
+        customer.setPartitioningPolicy(policy);
+        project.addDescriptor(customer);
+        session = (ServerSession)project.createServerSession();
+        // Each pool has its own driver, so its own rows.
+        session.addConnectionPool("node1", EmulatedLogin.build(), 1, 1);
+        session.addConnectionPool("node2", EmulatedLogin.build(), 1, 1);
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private void putRows(String poolName, String sql, Object[]... values) {
+        Vector<DatabaseRecord> rows = new Vector<>();
+        for (Object[] rowValues : values) {
+            DatabaseRecord row = new DatabaseRecord();
+            for (int index = 0; index < rowValues.length; index = index + 2) {
+                row.put((String)rowValues[index], rowValues[index + 1]);
+            }
+            rows.add(row);
+        }
+        ConnectionPool pool = session.getConnectionPool(poolName);
+        Accessor accessor = pool.acquireConnection();
+        try {
+            ((EmulatedConnection)accessor.getConnection()).putRows(sql, rows);
+        } finally {
+            pool.releaseConnection(accessor);
+        }
+    }
+
+    private List<String> names(List<Customer> customers) {
+        List<String> names = new ArrayList<>();
+        for (Customer customer : customers) {
+            names.add(customer.name);
+        }
+        return names;
+    }
+
+    private List<Integer> ranks(List<Customer> customers) {
+        List<Integer> ranks = new ArrayList<>();
+        for (Customer customer : customers) {
+            ranks.add(customer.rank);
+        }
+        return ranks;
+    }
+
+    @Test
+    public void orderedTest() {
+        String sql = "SELECT ID, NAME, RANK FROM CUSTOMER ORDER BY ID";
+        putRows("node1", sql, new Object[] {"ID", 1L, "NAME", "a", "RANK", null}, new Object[] {"ID", 3L, "NAME", "c", "RANK", null}, new Object[] {"ID", 5L, "NAME", "e", "RANK", null});
+        putRows("node2", sql, new Object[] {"ID", 2L, "NAME", "b", "RANK", null}, new Object[] {"ID", 4L, "NAME", "d", "RANK", null});
+        ReadAllQuery query = new ReadAllQuery(Customer.class);
+        query.addOrdering(query.getExpressionBuilder().get("id"));
+        List<Customer> customers = (List<Customer>)session.executeQuery(query);
+        assertEquals(List.of("a", "b", "c", "d", "e"), names(customers));
+
+        // Only the first rows of the union are kept.
+        query = new ReadAllQuery(Customer.class);
+        query.addOrdering(query.getExpressionBuilder().get("id"));
+        query.setMaxRows(2);
+        customers = (List<Customer>)session.executeQuery(query);
+        assertEquals(List.of("a", "b"), names(customers));
+    }
+
+    @Test
+    public void stringOrderTest() {
+        // Ordered by a case insensitive collation, which String.compareTo does not reproduce.
+        String sql = "SELECT ID, NAME, RANK FROM CUSTOMER ORDER BY NAME";
+        putRows("node1", sql, new Object[] {"ID", 1L, "NAME", "a", "RANK", null}, new Object[] {"ID", 3L, "NAME", "C", "RANK", null});
+        putRows("node2", sql, new Object[] {"ID", 2L, "NAME", "B", "RANK", null}, new Object[] {"ID", 4L, "NAME", "d", "RANK", null});
+        ReadAllQuery query = new ReadAllQuery(Customer.class);
+        query.addOrdering(query.getExpressionBuilder().get("name"));
+        List<Customer> customers = (List<Customer>)session.executeQuery(query);
+        // The rows are not merged, but returned in the order of the connections.
+        assertEquals(List.of("a", "C", "B", "d"), names(customers));
+    }
+
+    @Test
+    public void nullsOrderTest() {
+        String sql = "SELECT ID, NAME, RANK FROM CUSTOMER ORDER BY RANK";
+        putRows("node1", sql, new Object[] {"ID", 1L, "NAME", "n", "RANK", 1}, new Object[] {"ID", 3L, "NAME", "n", "RANK", null});
+        putRows("node2", sql, new Object[] {"ID", 2L, "NAME", "n", "RANK", 2}, new Object[] {"ID", 4L, "NAME", "n", "RANK", null});
+        ReadAllQuery query = new ReadAllQuery(Customer.class);
+        query.addOrdering(query.getExpressionBuilder().get("rank"));
+        List<Customer> customers = (List<Customer>)session.executeQuery(query);
+        // The platform does not know the ordering of nulls, the rows are not merged.
+        assertEquals(Arrays.asList(1, null, 2, null), ranks(customers));
+
+        String nullsFirstSql = "SELECT ID, NAME, RANK FROM CUSTOMER ORDER BY RANK DESC NULLS FIRST";
+        putRows("node1", nullsFirstSql, new Object[] {"ID", 3L, "NAME", "n", "RANK", null}, new Object[] {"ID", 1L, "NAME", "n", "RANK", 1});
+        putRows("node2", nullsFirstSql, new Object[] {"ID", 4L, "NAME", "n", "RANK", null}, new Object[] {"ID", 2L, "NAME", "n", "RANK", 2});
+        query = new ReadAllQuery(Customer.class);
+        query.addOrdering(query.getExpressionBuilder().get("rank").descending().nullsFirst());
+        customers = (List<Customer>)session.executeQuery(query);
+        assertEquals(Arrays.asList(null, null, 2, 1), ranks(customers));
+
+        // The platform sorts nulls last ascending.
+        reset();
+        DatabaseLogin login = EmulatedLogin.build();
+        login.setPlatform(new NullsSortedHighPlatform());
+        login(login);
+        putRows("node1", sql, new Object[] {"ID", 1L, "NAME", "n", "RANK", 1}, new Object[] {"ID", 3L, "NAME", "n", "RANK", null});
+        putRows("node2", sql, new Object[] {"ID", 2L, "NAME", "n", "RANK", 2}, new Object[] {"ID", 4L, "NAME", "n", "RANK", null});
+        query = new ReadAllQuery(Customer.class);
+        query.addOrdering(query.getExpressionBuilder().get("rank"));
+        customers = (List<Customer>)session.executeQuery(query);
+        assertEquals(Arrays.asList(1, 2, null, null), ranks(customers));
+    }
+
+    @Test
+    public void saturatedTest() throws InterruptedException {
+        String sql = "SELECT ID, NAME, RANK FROM CUSTOMER";
+        putRows("node1", sql, new Object[] {"ID", 21L, "NAME", "x", "RANK", null});
+        putRows("node2", sql, new Object[] {"ID", 22L, "NAME", "y", "RANK", null});
+        final CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try {
+            int started = 0;
+            while (started < ParallelExecutor.getMaximumThreads()) {
+                if (ParallelExecutor.execute(blocking)) {
+                    started++;
+                } else {
+                    Thread.sleep(10);
+                }
+            }
+            // No thread is available, the calls are executed in turn by the calling thread.
+            List<Customer> customers = session.readAllObjects(Customer.class);
+            assertEquals(List.of("x", "y"), names(customers));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void unorderedTest() {
+        String sql = "SELECT ID, NAME, RANK FROM CUSTOMER";
+        putRows("node1", sql, new Object[] {"ID", 11L, "NAME", "k", "RANK", null});
+        putRows("node2", sql, new Object[] {"ID", 12L, "NAME", "j", "RANK", null});
+        List<Customer> customers = session.readAllObjects(Customer.class);
+        // The rows are in the order of the connections.
+        assertEquals(List.of("k", "j"), names(customers));
+    }
+
+    @Test
+    public void aggregateTest() {
+        String sql = "SELECT NAME, COUNT(ID), MAX(ID) FROM CUSTOMER GROUP BY NAME";
+        putRows("node1", sql, new Object[] {"NAME", "a", "COUNT(ID)", 1L, "MAX(ID)", 10L}, new Object[] {"NAME", "b", "COUNT(ID)", 2L, "MAX(ID)", 20L});
+        putRows("node2", sql, new Object[] {"NAME", "b", "COUNT(ID)", 3L, "MAX(ID)", 15L}, new Object[] {"NAME", "c", "COUNT(ID)", 1L, "MAX(ID)", 30L});
+        ReportQuery query = new ReportQuery(Customer.class, new ExpressionBuilder());
+        query.addAttribute("name");
+        query.addCount("count", query.getExpressionBuilder().get("id"));
+        query.addMaximum("max", query.getExpressionBuilder().get("id"));
+        query.addGrouping("name");
+        List<ReportQueryResult> results = (List<ReportQueryResult>)session.executeQuery(query);
+        assertEquals(3, results.size());
+        assertEquals(List.of("a", 1L, 10L), results.get(0).getResults());
+        assertEquals(List.of("b", 5L, 20L), results.get(1).getResults());
+        assertEquals(List.of("c", 1L, 30L), results.get(2).getResults());
+
+        // Executed in turn, the rows of each connection are returned.
+        policy.setShouldExecuteInParallel(false);
+        results = (List<ReportQueryResult>)session.executeQuery(query);
+        assertEquals(4, results.size());
+    }
+}
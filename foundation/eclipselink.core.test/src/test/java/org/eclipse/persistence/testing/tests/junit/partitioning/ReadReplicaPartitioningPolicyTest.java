@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.partitioning;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.partitioning.ReadReplicaPartitioningPolicy;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.DataModifyQuery;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ReadReplicaPartitioningPolicyTest {
+
+    public static class Customer {
+        private long id;
+        private String name;
+    }
+
+    private static final String LAG_SQL = "SELECT LAG FROM REPLICATION_STATUS";
+
+    private ServerSession session;
+    private ReadReplicaPartitioningPolicy policy;
+
+    @Before
+    public void prepare() {
+        Project project = new Project(EmulatedLogin.build());
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        project.addDescriptor(customer);
+        session = (ServerSession)project.createServerSession();
+        // Each replica has its own driver, so its own rows.
+        session.addConnectionPool("replica1", EmulatedLogin.build(), 1, 1);
+        session.addConnectionPool("replica2", EmulatedLogin.build(), 1, 1);
+        session.setLogLevel(SessionLog.OFF);
+        session.login();
+        policy = new ReadReplicaPartitioningPolicy(ServerSession.DEFAULT_POOL, "replica1", "replica2");
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private void putLag(String poolName, long lag) {
+        Vector<DatabaseRecord> rows = new Vector<>();
+        DatabaseRecord row = new DatabaseRecord();
+        row.put("LAG", lag);
+        rows.add(row);
+        ConnectionPool pool = session.getConnectionPool(poolName);
+        Accessor accessor = pool.acquireConnection();
+        try {
+            ((EmulatedConnection)accessor.getConnection()).putRows(LAG_SQL, rows);
+        } finally {
+            pool.releaseConnection(accessor);
+        }
+    }
+
+    /**
+     * Return the pool the policy selects for the query executed by the session.
+     */
+    private String pool(AbstractSession executionSession, DatabaseQuery query) {
+        query.setSession(executionSession);
+        AbstractSession routingSession = executionSession.isInTransaction() ? executionSession : (AbstractSession)session;
+        List<Accessor> accessors = policy.getConnectionsForQuery(routingSession, query, new DatabaseRecord());
+        assertEquals(1, accessors.size());
+        Accessor accessor = accessors.get(0);
+        accessor.getPool().releaseConnection(accessor);
+        return accessor.getPool().getName();
+    }
+
+    private String read(AbstractSession executionSession) {
+        return pool(executionSession, new ReadAllQuery(Customer.class));
+    }
+
+    private String write(AbstractSession executionSession) {
+        return pool(executionSession, new DataModifyQuery("UPDATE CUSTOMER SET NAME = 'a'"));
+    }
+
+    @Test
+    public void roundRobinTest() {
+        List<String> pools = new ArrayList<>();
+        for (int index = 0; index < 4; index++) {
+            pools.add(read(session));
+        }
+        assertEquals(List.of("replica2", "replica1", "replica2", "replica1"), pools);
+        assertEquals(ServerSession.DEFAULT_POOL, write(session));
+
+        // Locking reads use the primary.
+        ReadAllQuery query = new ReadAllQuery(Customer.class);
+        query.acquireLocks();
+        assertEquals(ServerSession.DEFAULT_POOL, pool(session, query));
+    }
+
+    @Test
+    public void pinningTest() throws Exception {
+        policy.setPrimaryPinningTime(200);
+        ClientSession client = session.acquireClientSession();
+        ClientSession otherClient = session.acquireClientSession();
+        try {
+            client.beginTransaction();
+            assertEquals(ServerSession.DEFAULT_POOL, read(client));
+            assertEquals(ServerSession.DEFAULT_POOL, write(client));
+            client.commitTransaction();
+            // The reads of the session that wrote use the primary, other sessions use the replicas.
+            assertEquals(ServerSession.DEFAULT_POOL, read(client));
+            assertEquals(ServerSession.DEFAULT_POOL, read(client.acquireUnitOfWork()));
+            assertEquals("replica2", read(otherClient));
+            Thread.sleep(300);
+            assertEquals("replica1", read(client));
+        } finally {
+            client.release();
+            otherClient.release();
+        }
+    }
+
+    @Test
+    public void lagTest() {
+        policy.setReplicationLagSQL(LAG_SQL);
+        policy.setMaxReplicationLag(100);
+        policy.setReplicationLagCheckInterval(0);
+        putLag("replica1", 5000L);
+        putLag("replica2", 10L);
+        assertEquals("replica2", read(session));
+        assertEquals("replica2", read(session));
+        assertEquals(5000L, policy.getLastReplicationLag("replica1"));
+        assertEquals(10L, policy.getLastReplicationLag("replica2"));
+
+        // No replica is close enough, use the primary.
+        putLag("replica2", 500L);
+        assertEquals(ServerSession.DEFAULT_POOL, read(session));
+    }
+}
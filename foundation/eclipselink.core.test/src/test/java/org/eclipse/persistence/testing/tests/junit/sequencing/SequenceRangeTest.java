@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sequencing;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sequencing.Sequencing;
+import org.eclipse.persistence.internal.sequencing.SequenceRange;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.DefaultSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.logging.SessionLogEntry;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.queries.ValueReadQuery;
+import org.eclipse.persistence.sequencing.NativeSequence;
+import org.eclipse.persistence.sequencing.StandardSequence;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SequenceRangeTest {
+
+    public static class Customer {
+        private long id;
+    }
+
+    /** A sequence object held in memory, recording the threads allocating values. */
+    public static class MemorySequence extends StandardSequence {
+        long value;
+        final List<String> allocatingThreads = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+
+        public MemorySequence(String name, int size) {
+            super(name, size);
+        }
+
+        @Override
+        protected synchronized Number updateAndSelectSequence(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+            allocatingThreads.add(Thread.currentThread().getName());
+            sizes.add(size);
+            value = value + size;
+            return value;
+        }
+
+        @Override
+        public boolean shouldAcquireValueAfterInsert() {
+            return false;
+        }
+
+        @Override
+        public boolean shouldUseTransaction() {
+            return false;
+        }
+    }
+
+    /** A sequence building its own values, which are not consecutive numbers. */
+    public static class EvenSequence extends MemorySequence {
+        public EvenSequence(String name, int size) {
+            super(name, size);
+        }
+
+        @Override
+        protected Vector<Number> createVector(Number sequence, String seqName, int size) {
+            Vector<Number> values = super.createVector(sequence, seqName, size);
+            values.replaceAll(value -> value.longValue() * 2);
+            return values;
+        }
+    }
+
+    /** A platform with sequence objects that can be altered. */
+    public static class SequenceObjectPlatform extends DatabasePlatform {
+        @Override
+        public boolean supportsSequenceObjects() {
+            return true;
+        }
+
+        @Override
+        public boolean isAlterSequenceObjectSupported() {
+            return true;
+        }
+
+        @Override
+        public ValueReadQuery buildSelectQueryForSequenceObject(String qualifiedSeqName, Integer size) {
+            return new ValueReadQuery("SELECT " + qualifiedSeqName + ".NEXTVAL FROM DUAL");
+        }
+    }
+
+    /** A sequence object shared by several sessions, as by applications on several nodes. */
+    public static class SharedSequenceObject {
+        long value;
+        int increment;
+        final List<Integer> alteredIncrements = Collections.synchronizedList(new ArrayList<>());
+
+        SharedSequenceObject(int increment) {
+            this.increment = increment;
+        }
+
+        synchronized long nextValue() {
+            value = value + increment;
+            return value;
+        }
+
+        synchronized int getIncrement() {
+            return increment;
+        }
+
+        synchronized void alterIncrement(int increment) {
+            this.increment = increment;
+            alteredIncrements.add(increment);
+        }
+    }
+
+    /** A platform reading and altering the increment of a shared sequence object. */
+    public static class SharedSequenceObjectPlatform extends SequenceObjectPlatform {
+        final SharedSequenceObject sequenceObject;
+
+        public SharedSequenceObjectPlatform(SharedSequenceObject sequenceObject) {
+            this.sequenceObject = sequenceObject;
+        }
+
+        @Override
+        public ValueReadQuery buildSelectQueryForSequenceObject(String qualifiedSeqName, Integer size) {
+            return new ValueReadQuery("SELECT " + qualifiedSeqName + ".NEXTVAL FROM DUAL") {
+                @Override
+                public Object executeDatabaseQuery() {
+                    return sequenceObject.nextValue();
+                }
+            };
+        }
+
+        @Override
+        public ValueReadQuery buildSelectQueryForSequenceObjectIncrement(String qualifiedSeqName) {
+            return new ValueReadQuery("SELECT INCREMENT_BY FROM USER_SEQUENCES") {
+                @Override
+                public Object executeDatabaseQuery() {
+                    return sequenceObject.getIncrement();
+                }
+            };
+        }
+
+        @Override
+        public Writer buildSequenceObjectAlterIncrementWriter(Writer writer, String fullSeqName, int increment) throws IOException {
+            sequenceObject.alterIncrement(increment);
+            return super.buildSequenceObjectAlterIncrementWriter(writer, fullSeqName, increment);
+        }
+    }
+
+    private ServerSession session;
+    private MemorySequence sequence;
+
+    private void login(MemorySequence sequence) {
+        this.sequence = sequence;
+        login(sequence, EmulatedLogin.build());
+    }
+
+    private void login(StandardSequence sequence, DatabaseLogin login) {
+        session = buildSession(sequence, login);
+    }
+
+    private ServerSession buildSession(StandardSequence sequence, DatabaseLogin login) {
+        return buildSession(sequence, login, false);
+    }
+
+    private ServerSession buildSession(StandardSequence sequence, DatabaseLogin login, boolean shouldUseSeparateConnection) {
+        login.addSequence(sequence);
+        Project project = new Project(login);
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.setSequenceNumberName(sequence.getName());
+        customer.setSequenceNumberFieldName("CUSTOMER.ID");
+        project.addDescriptor(customer);
+        ServerSession session = (ServerSession)project.createServerSession();
+        session.setLogLevel(SessionLog.WARNING);
+        session.getSequencingControl().setShouldUseSeparateConnection(shouldUseSeparateConnection);
+        session.login();
+        return session;
+    }
+
+    @After
+    public void reset() {
+        if (session != null && session.isConnected()) {
+            session.logout();
+        }
+    }
+
+    private long nextValue() {
+        Sequencing sequencing = session.getSequencing();
+        return ((Number)sequencing.getNextValue(Customer.class)).longValue();
+    }
+
+    @Test
+    public void rangeTest() {
+        SequenceRange range = new SequenceRange(11, 14);
+        assertEquals(4, range.getSize());
+        assertEquals(13, range.getPrefetchValue());
+        for (long value = 11; value <= 14; value++) {
+            assertEquals(Long.valueOf(value), range.next());
+        }
+        assertEquals(0, range.getRemaining());
+        assertNull(range.next());
+        assertNull(range.next());
+        assertEquals(0, range.getRemaining());
+    }
+
+    @Test
+    public void prefetchTest() throws Exception {
+        login(new MemorySequence("MEMORY_SEQ", 10));
+        assertTrue(sequence.shouldUseRangeAllocation());
+        String thread = Thread.currentThread().getName();
+        for (long value = 1; value <= 6; value++) {
+            assertEquals(value, nextValue());
+        }
+        // The value half way through the range was handed out, the next range is allocated by another thread.
+        long timeout = System.currentTimeMillis() + 10000;
+        while (sequence.allocatingThreads.size() < 2 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, sequence.allocatingThreads.size());
+        assertEquals(thread, sequence.allocatingThreads.get(0));
+        assertFalse(thread.equals(sequence.allocatingThreads.get(1)));
+        for (long value = 7; value <= 15; value++) {
+            assertEquals(value, nextValue());
+        }
+        assertTrue(sequence.allocatingThreads.size() <= 3);
+    }
+
+    @Test
+    public void concurrentTest() throws Exception {
+        login(new MemorySequence("MEMORY_SEQ", 50));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int index = 0; index < 8; index++) {
+                futures.add(executor.submit(() -> {
+                    List<Long> values = new ArrayList<>();
+                    for (int count = 0; count < 1000; count++) {
+                        values.add(nextValue());
+                    }
+                    return values;
+                }));
+            }
+            Set<Long> values = new HashSet<>();
+            for (Future<List<Long>> future : futures) {
+                values.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            // No value is handed out twice.
+            assertEquals(8000, values.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void noPrefetchTest() {
+        login(new MemorySequence("MEMORY_SEQ", 4));
+        session.getSequencingControl().setShouldPrefetchPreallocation(false);
+        for (long value = 1; value <= 9; value++) {
+            assertEquals(value, nextValue());
+        }
+        assertEquals(3, sequence.allocatingThreads.size());
+        assertEquals(Collections.nCopies(3, Thread.currentThread().getName()), sequence.allocatingThreads);
+    }
+
+    @Test
+    public void customValuesTest() {
+        login(new EvenSequence("EVEN_SEQ", 5));
+        // Sequences building their own values keep the preallocated values.
+        assertFalse(sequence.shouldUseRangeAllocation());
+        assertEquals(2, nextValue());
+        assertEquals(4, nextValue());
+    }
+
+    @Test
+    public void adaptiveSizeTest() throws Exception {
+        MemorySequence memorySequence = new MemorySequence("MEMORY_SEQ", 2);
+        memorySequence.useAdaptivePreallocationSize(2, 16);
+        memorySequence.setTargetAllocationInterval(200);
+        login(memorySequence);
+        session.getSequencingControl().setShouldPrefetchPreallocation(false);
+        // Values allocated quickly, the size grows up to the maximum.
+        for (long value = 1; value <= 46; value++) {
+            assertEquals(value, nextValue());
+        }
+        assertEquals(List.of(2, 4, 8, 16, 16), sequence.sizes);
+        assertEquals(16, sequence.getCurrentPreallocationSize("MEMORY_SEQ"));
+        // Values allocated slowly, the size shrinks.
+        for (long value = 47; value <= 62; value++) {
+            assertEquals(value, nextValue());
+        }
+        Thread.sleep(500);
+        assertEquals(63, nextValue());
+        assertEquals(List.of(2, 4, 8, 16, 16, 16, 8), sequence.sizes);
+    }
+
+    @Test
+    public void adaptiveNativeSizeTest() {
+        SharedSequenceObject sequenceObject = new SharedSequenceObject(2);
+        NativeSequence nativeSequence = new NativeSequence("NATIVE_SEQ", 2, false);
+        nativeSequence.useAdaptivePreallocationSize(2, 8);
+        nativeSequence.setTargetAllocationInterval(60000);
+        nativeSequence.setShouldAlterIncrement(true);
+        DatabaseLogin login = EmulatedLogin.build();
+        login.setPlatform(new SharedSequenceObjectPlatform(sequenceObject));
+        session = buildSession(nativeSequence, login, true);
+        session.getSequencingControl().setShouldPrefetchPreallocation(false);
+        List<Long> values = new ArrayList<>();
+        for (int count = 0; count < 10; count++) {
+            values.add(nextValue());
+        }
+        // The increment only grows, and the values used are those of the increment read after the ALTER.
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), values);
+        assertEquals(List.of(4, 8), sequenceObject.alteredIncrements);
+        assertEquals(8, sequenceObject.getIncrement());
+    }
+
+    @Test
+    public void nativeSizeNotAlteredTest() {
+        for (boolean shouldAlterIncrement : new boolean[] {false, true}) {
+            SharedSequenceObject sequenceObject = new SharedSequenceObject(2);
+            NativeSequence nativeSequence = new NativeSequence("NATIVE_SEQ", 2, false);
+            nativeSequence.useAdaptivePreallocationSize(2, 8);
+            nativeSequence.setTargetAllocationInterval(60000);
+            nativeSequence.setShouldAlterIncrement(shouldAlterIncrement);
+            DatabaseLogin login = EmulatedLogin.build();
+            login.setPlatform(new SharedSequenceObjectPlatform(sequenceObject));
+            // Without a sequencing connection the ALTER would commit the transaction of the write connection.
+            session = buildSession(nativeSequence, login, !shouldAlterIncrement);
+            session.getSequencingControl().setShouldPrefetchPreallocation(false);
+            List<Long> values = new ArrayList<>();
+            for (int count = 0; count < 6; count++) {
+                values.add(nextValue());
+            }
+            // Only the values of the increment read are used.
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), values);
+            assertTrue(sequenceObject.alteredIncrements.isEmpty());
+            assertEquals(2, sequenceObject.getIncrement());
+            session.logout();
+        }
+    }
+
+    @Test
+    public void sharedNativeSequenceTest() {
+        SharedSequenceObject sequenceObject = new SharedSequenceObject(2);
+        List<ServerSession> sessions = new ArrayList<>();
+        try {
+            for (int index = 0; index < 2; index++) {
+                NativeSequence nativeSequence = new NativeSequence("NATIVE_SEQ", 2, false);
+                nativeSequence.useAdaptivePreallocationSize(2, 64);
+                nativeSequence.setTargetAllocationInterval(60000);
+                // Only a single writer alters the increment.
+                nativeSequence.setShouldAlterIncrement(index == 0);
+                DatabaseLogin login = EmulatedLogin.build();
+                login.setPlatform(new SharedSequenceObjectPlatform(sequenceObject));
+                ServerSession shared = buildSession(nativeSequence, login, true);
+                shared.getSequencingControl().setShouldPrefetchPreallocation(false);
+                sessions.add(shared);
+            }
+            // The first session grows the increment quickly, the second one allocates with a smaller size.
+            Set<Object> values = new HashSet<>();
+            int count = 0;
+            for (int round = 0; round < 6; round++) {
+                for (int index = 0; index < 20; index++) {
+                    values.add(sessions.get(0).getSequencing().getNextValue(Customer.class));
+                    count++;
+                }
+                for (int index = 0; index < 3; index++) {
+                    values.add(sessions.get(1).getSequencing().getNextValue(Customer.class));
+                    count++;
+                }
+            }
+            // No value is handed out twice, the increment was never lowered.
+            assertEquals(count, values.size());
+            List<Integer> increments = new ArrayList<>(sequenceObject.alteredIncrements);
+            assertFalse(increments.isEmpty());
+            List<Integer> sorted = new ArrayList<>(increments);
+            Collections.sort(sorted);
+            assertEquals(sorted, increments);
+        } finally {
+            for (ServerSession shared : sessions) {
+                shared.logout();
+            }
+        }
+    }
+
+    @Test
+    public void fixedNativeSizeTest() {
+        NativeSequence nativeSequence = new NativeSequence("NATIVE_SEQ", 2, false);
+        nativeSequence.useAdaptivePreallocationSize(2, 8);
+        nativeSequence.setTargetAllocationInterval(60000);
+        DatabaseLogin login = EmulatedLogin.build();
+        login.setPlatform(new SequenceObjectPlatform());
+        login(nativeSequence, login);
+        session.getSequencingControl().setShouldPrefetchPreallocation(false);
+        List<String> statements = Collections.synchronizedList(new ArrayList<>());
+        SessionLog log = new DefaultSessionLog() {
+            @Override
+            public void log(SessionLogEntry entry) {
+                if (SessionLog.SQL.equals(entry.getNameSpace())) {
+                    statements.add(entry.getMessage());
+                }
+            }
+        };
+        log.setLevel(SessionLog.FINE);
+        session.setSessionLog(log);
+        DatabaseRecord row = new DatabaseRecord();
+        row.put("NEXTVAL", 100);
+        Vector<DatabaseRecord> rows = new Vector<>();
+        rows.add(row);
+        EmulatedConnection connection = (EmulatedConnection)session.getAccessor().getConnection();
+        connection.putRows("SELECT NATIVE_SEQ.NEXTVAL FROM DUAL", rows);
+        for (int count = 0; count < 4; count++) {
+            session.getSequencing().getNextValue(Customer.class);
+        }
+        // The increment cannot be read from the database, so it is never altered.
+        assertEquals(List.of("SELECT NATIVE_SEQ.NEXTVAL FROM DUAL", "SELECT NATIVE_SEQ.NEXTVAL FROM DUAL"), statements);
+        assertEquals(2, nativeSequence.getCurrentPreallocationSize("NATIVE_SEQ"));
+    }
+}
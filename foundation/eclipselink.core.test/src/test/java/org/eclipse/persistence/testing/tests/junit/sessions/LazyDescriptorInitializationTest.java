@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LazyDescriptorInitializationTest {
+
+    public static class Vehicle {
+        private long id;
+        private String name;
+    }
+
+    public static class Car extends Vehicle {
+        private int doors;
+    }
+
+    public static class Account {
+        private long id;
+    }
+
+    public static class Owner {
+        private long id;
+        private Vehicle vehicle;
+        private Account account;
+    }
+
+    public static class Customer {
+        private long id;
+        private String name;
+    }
+
+    private final List<DatabaseSession> sessions = new ArrayList<>();
+
+    @After
+    public void reset() {
+        for (DatabaseSession session : sessions) {
+            if (session.isConnected()) {
+                session.logout();
+            }
+        }
+    }
+
+    private DatabaseSession login(boolean lazily) {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+        project.setShouldInitializeDescriptorsLazily(lazily);
+
+        RelationalDescriptor vehicle = new RelationalDescriptor();
+        vehicle.setJavaClass(Vehicle.class);
+        vehicle.addTableName("VEHICLE");
+        vehicle.addPrimaryKeyFieldName("VEHICLE.ID");
+        vehicle.addDirectMapping("id", "VEHICLE.ID");
+        vehicle.addDirectMapping("name", "VEHICLE.NAME");
+        vehicle.getInheritancePolicy().setClassIndicatorFieldName("VEHICLE.TYPE");
+        vehicle.getInheritancePolicy().addClassIndicator(Car.class, "C");
+        project.addDescriptor(vehicle);
+
+        RelationalDescriptor car = new RelationalDescriptor();
+        car.setJavaClass(Car.class);
+        car.getInheritancePolicy().setParentClass(Vehicle.class);
+        car.addDirectMapping("doors", "VEHICLE.DOORS");
+        project.addDescriptor(car);
+
+        RelationalDescriptor account = new RelationalDescriptor();
+        account.setJavaClass(Account.class);
+        account.addTableName("ACCOUNT");
+        account.addPrimaryKeyFieldName("ACCOUNT.ID");
+        account.addDirectMapping("id", "ACCOUNT.ID");
+        account.getCachePolicy().setCacheIsolation(CacheIsolationType.ISOLATED);
+        project.addDescriptor(account);
+
+        RelationalDescriptor owner = new RelationalDescriptor();
+        owner.setJavaClass(Owner.class);
+        owner.addTableName("OWNER");
+        owner.addPrimaryKeyFieldName("OWNER.ID");
+        owner.addDirectMapping("id", "OWNER.ID");
+        OneToOneMapping ownerVehicle = new OneToOneMapping();
+        ownerVehicle.setAttributeName("vehicle");
+        ownerVehicle.setReferenceClass(Vehicle.class);
+        ownerVehicle.addForeignKeyFieldName("OWNER.VEHICLE_ID", "VEHICLE.ID");
+        ownerVehicle.dontUseIndirection();
+        owner.addMapping(ownerVehicle);
+        OneToOneMapping ownerAccount = new OneToOneMapping();
+        ownerAccount.setAttributeName("account");
+        ownerAccount.setReferenceClass(Account.class);
+        ownerAccount.addForeignKeyFieldName("OWNER.ACCOUNT_ID", "ACCOUNT.ID");
+        ownerAccount.dontUseIndirection();
+        owner.addMapping(ownerAccount);
+        project.addDescriptor(owner);
+
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        project.addDescriptor(customer);
+
+        DatabaseSession session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        sessions.add(session);
+        session.login();
+        return session;
+    }
+
+    private boolean isInitialized(DatabaseSession session, Class<?> javaClass) {
+        // The project descriptors are not initialized when accessed.
+        return session.getProject().getDescriptors().get(javaClass).isFullyInitialized();
+    }
+
+    @Test
+    public void firstUseTest() {
+        DatabaseSession session = login(true);
+        for (ClassDescriptor descriptor : session.getProject().getDescriptors().values()) {
+            assertFalse(descriptor.isFullyInitialized());
+        }
+        assertTrue(session.getDescriptor(Customer.class).isFullyInitialized());
+        assertFalse(isInitialized(session, Vehicle.class));
+
+        // The inheritance hierarchy is initialized together.
+        assertTrue(session.getDescriptor(Car.class).isFullyInitialized());
+        assertTrue(isInitialized(session, Vehicle.class));
+        assertFalse(isInitialized(session, Owner.class));
+
+        // The referenced descriptors are initialized together.
+        ClassDescriptor owner = session.getDescriptor(Owner.class);
+        assertTrue(owner.isFullyInitialized());
+        assertTrue(isInitialized(session, Account.class));
+        OneToOneMapping vehicle = (OneToOneMapping)owner.getMappingForAttributeName("vehicle");
+        assertSame(session.getDescriptor(Vehicle.class), vehicle.getReferenceDescriptor());
+    }
+
+    @Test
+    public void isolationAndCommitOrderTest() {
+        DatabaseSession session = login(true);
+        // The isolated descriptor is initialized before the descriptor referencing it.
+        ClassDescriptor account = session.getDescriptor(Account.class);
+        assertFalse(isInitialized(session, Owner.class));
+        ClassDescriptor owner = session.getDescriptor(Owner.class);
+        assertEquals(CacheIsolationType.PROTECTED, owner.getCachePolicy().getCacheIsolation());
+        assertTrue(account.getReferencingClasses().contains(owner));
+
+        List<Class<?>> commitOrder = ((AbstractSession)session).getCommitManager().getCommitOrder();
+        assertEquals(session.getProject().getDescriptors().size(), commitOrder.size());
+        assertTrue(commitOrder.indexOf(Account.class) < commitOrder.indexOf(Owner.class));
+        assertTrue(commitOrder.indexOf(Vehicle.class) < commitOrder.indexOf(Owner.class));
+    }
+
+    @Test
+    public void concurrentFirstUseTest() throws Exception {
+        DatabaseSession session = login(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<ClassDescriptor>> lookups = new ArrayList<>();
+            for (int index = 0; index < 8; index++) {
+                lookups.add(() -> ((AbstractSession)session).acquireUnitOfWork().getDescriptor(Owner.class));
+            }
+            for (Future<ClassDescriptor> descriptor : executor.invokeAll(lookups)) {
+                assertSame(session.getProject().getDescriptors().get(Owner.class), descriptor.get());
+                assertTrue(descriptor.get().isFullyInitialized());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(isInitialized(session, Account.class));
+    }
+
+    @Test
+    public void sameAsLoginTest() {
+        DatabaseSession eager = login(false);
+        DatabaseSession lazy = login(true);
+        for (Class<?> javaClass : eager.getDescriptors().keySet()) {
+            assertTrue(lazy.getDescriptor(javaClass).isFullyInitialized());
+        }
+        // The descriptors referencing a descriptor can be initialized after it.
+        for (ClassDescriptor expected : eager.getDescriptors().values()) {
+            ClassDescriptor descriptor = lazy.getDescriptor(expected.getJavaClass());
+            assertEquals(expected.getFields().size(), descriptor.getFields().size());
+            assertEquals(expected.getMappings().size(), descriptor.getMappings().size());
+            assertEquals(expected.getCachePolicy().getCacheIsolation(), descriptor.getCachePolicy().getCacheIsolation());
+            assertEquals(expected.getReferencingClasses().size(), descriptor.getReferencingClasses().size());
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.OneToManyMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedLogin;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelDescriptorInitializationTest {
+
+    public static class Vehicle {
+        private long id;
+        private String name;
+    }
+
+    public static class Car extends Vehicle {
+        private int doors;
+    }
+
+    public static class Truck extends Vehicle {
+        private int load;
+    }
+
+    public static class Account {
+        private long id;
+    }
+
+    public static class Owner {
+        private long id;
+        private Vehicle vehicle;
+        private Account account;
+    }
+
+    public static class Order {
+        private long id;
+        private long version;
+        private Collection lines;
+    }
+
+    public static class OrderLine {
+        private long id;
+    }
+
+    public static class Customer {
+        private long id;
+        private String name;
+    }
+
+    private final List<DatabaseSession> sessions = new ArrayList<>();
+
+    @After
+    public void reset() {
+        for (DatabaseSession session : sessions) {
+            if (session.isConnected()) {
+                session.logout();
+            }
+        }
+    }
+
+    private DatabaseSession login(boolean inParallel) {
+        DatabaseLogin login = EmulatedLogin.build();
+        Project project = new Project(login);
+        project.setShouldInitializeDescriptorsInParallel(inParallel);
+
+        RelationalDescriptor vehicle = new RelationalDescriptor();
+        vehicle.setJavaClass(Vehicle.class);
+        vehicle.addTableName("VEHICLE");
+        vehicle.addPrimaryKeyFieldName("VEHICLE.ID");
+        vehicle.addDirectMapping("id", "VEHICLE.ID");
+        vehicle.addDirectMapping("name", "VEHICLE.NAME");
+        vehicle.getInheritancePolicy().setClassIndicatorFieldName("VEHICLE.TYPE");
+        vehicle.getInheritancePolicy().addClassIndicator(Car.class, "C");
+        vehicle.getInheritancePolicy().addClassIndicator(Truck.class, "T");
+        project.addDescriptor(vehicle);
+
+        RelationalDescriptor car = new RelationalDescriptor();
+        car.setJavaClass(Car.class);
+        car.getInheritancePolicy().setParentClass(Vehicle.class);
+        car.addDirectMapping("doors", "VEHICLE.DOORS");
+        project.addDescriptor(car);
+
+        RelationalDescriptor truck = new RelationalDescriptor();
+        truck.setJavaClass(Truck.class);
+        truck.getInheritancePolicy().setParentClass(Vehicle.class);
+        truck.addDirectMapping("load", "VEHICLE.LOAD");
+        project.addDescriptor(truck);
+
+        RelationalDescriptor account = new RelationalDescriptor();
+        account.setJavaClass(Account.class);
+        account.addTableName("ACCOUNT");
+        account.addPrimaryKeyFieldName("ACCOUNT.ID");
+        account.addDirectMapping("id", "ACCOUNT.ID");
+        account.getCachePolicy().setCacheIsolation(CacheIsolationType.ISOLATED);
+        project.addDescriptor(account);
+
+        RelationalDescriptor owner = new RelationalDescriptor();
+        owner.setJavaClass(Owner.class);
+        owner.addTableName("OWNER");
+        owner.addPrimaryKeyFieldName("OWNER.ID");
+        owner.addDirectMapping("id", "OWNER.ID");
+        OneToOneMapping ownerVehicle = new OneToOneMapping();
+        ownerVehicle.setAttributeName("vehicle");
+        ownerVehicle.setReferenceClass(Vehicle.class);
+        ownerVehicle.addForeignKeyFieldName("OWNER.VEHICLE_ID", "VEHICLE.ID");
+        ownerVehicle.dontUseIndirection();
+        owner.addMapping(ownerVehicle);
+        OneToOneMapping ownerAccount = new OneToOneMapping();
+        ownerAccount.setAttributeName("account");
+        ownerAccount.setReferenceClass(Account.class);
+        ownerAccount.addForeignKeyFieldName("OWNER.ACCOUNT_ID", "ACCOUNT.ID");
+        ownerAccount.dontUseIndirection();
+        owner.addMapping(ownerAccount);
+        project.addDescriptor(owner);
+
+        RelationalDescriptor order = new RelationalDescriptor();
+        order.setJavaClass(Order.class);
+        order.addTableName("ORDERS");
+        order.addPrimaryKeyFieldName("ORDERS.ID");
+        order.addDirectMapping("id", "ORDERS.ID");
+        order.addDirectMapping("version", "ORDERS.VERSION").readOnly();
+        VersionLockingPolicy locking = new VersionLockingPolicy("ORDERS.VERSION");
+        locking.setIsCascaded(true);
+        order.setOptimisticLockingPolicy(locking);
+        OneToManyMapping orderLines = new OneToManyMapping();
+        orderLines.setAttributeName("lines");
+        orderLines.setReferenceClass(OrderLine.class);
+        orderLines.addTargetForeignKeyFieldName("ORDER_LINE.ORDER_ID", "ORDERS.ID");
+        orderLines.dontUseIndirection();
+        orderLines.privateOwnedRelationship();
+        order.addMapping(orderLines);
+        project.addDescriptor(order);
+
+        RelationalDescriptor orderLine = new RelationalDescriptor();
+        orderLine.setJavaClass(OrderLine.class);
+        orderLine.addTableName("ORDER_LINE");
+        orderLine.addPrimaryKeyFieldName("ORDER_LINE.ID");
+        orderLine.addDirectMapping("id", "ORDER_LINE.ID");
+        project.addDescriptor(orderLine);
+
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClass(Customer.class);
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        project.addDescriptor(customer);
+
+        DatabaseSession session = project.createDatabaseSession();
+        session.setLogLevel(SessionLog.WARNING);
+        sessions.add(session);
+        session.login();
+        return session;
+    }
+
+    private List<String> fieldNames(ClassDescriptor descriptor) {
+        List<String> names = new ArrayList<>();
+        for (DatabaseField field : descriptor.getFields()) {
+            names.add(field.getQualifiedName());
+        }
+        return names;
+    }
+
+    @Test
+    public void initializeTest() {
+        DatabaseSession session = login(true);
+        for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+            assertTrue(descriptor.isFullyInitialized());
+        }
+        // Children are initialized after their parent.
+        ClassDescriptor car = session.getDescriptor(Car.class);
+        assertEquals(3, car.getMappings().size());
+        assertTrue(car.getObjectBuilder().getMappingForAttributeName("name") != null);
+        // Relationships are resolved to the descriptors of the session.
+        OneToOneMapping vehicle = (OneToOneMapping)session.getDescriptor(Owner.class).getMappingForAttributeName("vehicle");
+        assertSame(session.getDescriptor(Vehicle.class), vehicle.getReferenceDescriptor());
+        // Cascaded locking is added to the privately owned descriptors.
+        assertTrue(session.getDescriptor(OrderLine.class).hasCascadeLockingPolicies());
+        // Descriptors referencing an isolated descriptor are protected.
+        assertEquals(CacheIsolationType.PROTECTED, session.getDescriptor(Owner.class).getCachePolicy().getCacheIsolation());
+        assertFalse(session.getDescriptor(Customer.class).getCachePolicy().isProtectedIsolation());
+    }
+
+    @Test
+    public void sameAsSequentialTest() {
+        DatabaseSession sequential = login(false);
+        DatabaseSession parallel = login(true);
+        assertEquals(sequential.getDescriptors().size(), parallel.getDescriptors().size());
+        for (ClassDescriptor expected : sequential.getDescriptors().values()) {
+            ClassDescriptor descriptor = parallel.getDescriptor(expected.getJavaClass());
+            assertEquals(fieldNames(expected), fieldNames(descriptor));
+            assertEquals(expected.getMappings().size(), descriptor.getMappings().size());
+            assertEquals(expected.getPrimaryKeyFields(), descriptor.getPrimaryKeyFields());
+            assertEquals(expected.getCachePolicy().getCacheIsolation(), descriptor.getCachePolicy().getCacheIsolation());
+            assertEquals(expected.hasCascadeLockingPolicies(), descriptor.hasCascadeLockingPolicies());
+            assertEquals(expected.getReferencingClasses().size(), descriptor.getReferencingClasses().size());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.factories.ProjectChecksum;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class ProjectChecksumTest {
+
+    public static class Customer {
+        private long id;
+        private String name;
+    }
+
+    public static class Address {
+        private long id;
+    }
+
+    /** Finds the class file of Address for Customer, as if Customer had changed. */
+    public static class ChangedClassLoader extends ClassLoader {
+        ChangedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public URL getResource(String name) {
+            if (name.equals(Customer.class.getName().replace('.', '/') + ".class")) {
+                return super.getResource(Address.class.getName().replace('.', '/') + ".class");
+            }
+            return super.getResource(name);
+        }
+    }
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Project project;
+    private ClassLoader loader;
+    private File mappingFile;
+    private List<String> mappingFileNames;
+
+    @Before
+    public void prepare() throws Exception {
+        project = new Project(new DatabaseLogin());
+        RelationalDescriptor customer = new RelationalDescriptor();
+        customer.setJavaClassName(Customer.class.getName());
+        customer.addTableName("CUSTOMER");
+        customer.addPrimaryKeyFieldName("CUSTOMER.ID");
+        customer.addDirectMapping("id", "CUSTOMER.ID");
+        customer.addDirectMapping("name", "CUSTOMER.NAME");
+        project.getOrderedDescriptors().add(customer);
+        loader = getClass().getClassLoader();
+        mappingFile = folder.newFile("orm.xml");
+        Files.writeString(mappingFile.toPath(), "<entity-mappings/>");
+        mappingFileNames = List.of(mappingFile.toURI().toString(), "META-INF/missing-orm.xml");
+    }
+
+    private long checksum(ClassLoader loader) throws Exception {
+        return ProjectChecksum.computeChecksum(ProjectChecksum.getClassNames(project), mappingFileNames, loader);
+    }
+
+    @Test
+    public void classNamesTest() {
+        assertEquals(List.of(Customer.class.getName()), ProjectChecksum.getClassNames(project));
+    }
+
+    @Test
+    public void changedTest() throws Exception {
+        long checksum = checksum(loader);
+        assertEquals(checksum, checksum(loader));
+
+        // A class of a descriptor changed.
+        assertNotEquals(checksum, checksum(new ChangedClassLoader(loader)));
+
+        // A mapping file changed.
+        Files.writeString(mappingFile.toPath(), "<entity-mappings><entity class=\"Customer\"/></entity-mappings>");
+        assertNotEquals(checksum, checksum(loader));
+    }
+}
@@ -44,5 +44,12 @@ public enum CacheCoordinationType {
     /**
      * Does no cache coordination.
      */
-    NONE
+    NONE,
+
+    /**
+     * Sends only the identity and new version of the objects that have changed.
+     * The receiving cache invalidates the objects with an older version, objects
+     * already refreshed to the new version are kept.
+     */
+    INVALIDATE_STALE_OBJECTS
 }
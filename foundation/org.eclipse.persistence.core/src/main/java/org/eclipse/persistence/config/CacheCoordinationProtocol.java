@@ -30,4 +30,5 @@ public class CacheCoordinationProtocol {
     public static final String JMS = "jms";
     public static final String JMSPublishing = "jms-publishing";
     public static final String JGROUPS = "jgroups";
+    public static final String TCP = "tcp";
 }
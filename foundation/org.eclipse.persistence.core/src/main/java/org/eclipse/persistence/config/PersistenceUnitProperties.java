@@ -1539,13 +1539,34 @@ public class PersistenceUnitProperties {
      * for example "<code>org.eclipse.persistence.platform.database.oracle.dcn.OracleChangeNotificationListener</code>"
      * <li>"<code>DCN</code>" - for Oracle only
      * <li>"<code>QCN</code>" - for Oracle only
+     * <li>"<code>NOTIFY</code>" - for PostgreSQL only, uses LISTEN/NOTIFY and triggers
+     * <li>"<code>CHANGE-LOG</code>" - polls a change log table maintained by triggers,
+     * for databases without change notifications such as MySQL, DB2, Derby or HSQL
      * </ul>
      *
      * @see DatabaseEventListener
      * @see "org.eclipse.persistence.platform.database.oracle.dcn.OracleChangeNotificationListener"
+     * @see "org.eclipse.persistence.pgsql.PostgreSQLChangeNotificationListener"
+     * @see org.eclipse.persistence.platform.database.events.ChangeLogTableListener
      */
     public static final String DATABASE_EVENT_LISTENER = "eclipselink.cache.database-event-listener";
 
+    /**
+     * The "<code>eclipselink.cache.database-event-listener.poll-timeout</code>" property configures
+     * the milliseconds the PostgreSQL "<code>NOTIFY</code>" database event listener waits for notifications
+     * before checking whether it was removed.
+     * This bounds the time the listening thread keeps running after logout.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a positive integer value, "<code>1000</code>" is the default
+     * </ul>
+     *
+     * @see #DATABASE_EVENT_LISTENER
+     * @see "org.eclipse.persistence.pgsql.PostgreSQLChangeNotificationListener#setPollTimeout(int)"
+     */
+    public static final String DATABASE_EVENT_LISTENER_POLL_TIMEOUT = "eclipselink.cache.database-event-listener.poll-timeout";
+
     /**
      * The "<code>eclipselink.cache.query-force-deferred-locks</code>" property force all queries and relationships
      * to use deferred lock strategy during object building and L2 cache population.
@@ -2634,6 +2655,8 @@ public class PersistenceUnitProperties {
      * <b>Allowed Values:</b>
      * <ul>
      * <li>"<code>java-serialization</code>" - use {@code org.eclipse.persistence.jpa.metadata.FileBasedProjectCache}
+     * <li>"<code>class</code>" - use {@code org.eclipse.persistence.jpa.metadata.GeneratedProjectCache}, a project class
+     * generated at build time that builds the descriptors directly
      * <li>the fully qualified name for a class that implements {@code org.eclipse.persistence.jpa.metadata.ProjectCache} interface
      * </ul>
      *
@@ -2653,6 +2676,33 @@ public class PersistenceUnitProperties {
      */
     public static final String PROJECT_CACHE_FILE = "eclipselink.project-cache.java-serialization.file-location";
 
+    /**
+     * The property "<code>eclipselink.project-cache.class.name</code>" specifies the fully qualified name
+     * of the generated project class representing the application's metadata.
+     * If the class is not found, or was generated by another version or for other classes or mapping files,
+     * the project is built from the metadata.
+     *
+     * <p>This property should be used in conjunction with
+     * "<code>eclipselink.project-cache</code>" set to "<code>class</code>".</p>
+     *
+     * @see #PROJECT_CACHE
+     * @see #PROJECT_CACHE_CLASS_SOURCE_DIRECTORY
+     */
+    public static final String PROJECT_CACHE_CLASS_NAME = "eclipselink.project-cache.class.name";
+
+    /**
+     * The property "<code>eclipselink.project-cache.class.source-directory</code>" specifies the directory
+     * the source of the project class is generated to, when the project is built from the metadata.
+     * It is only set at build time, the project class is not used while it is set.
+     *
+     * <p>This property should be used in conjunction with
+     * "<code>eclipselink.project-cache</code>" set to "<code>class</code>".</p>
+     *
+     * @see #PROJECT_CACHE
+     * @see #PROJECT_CACHE_CLASS_NAME
+     */
+    public static final String PROJECT_CACHE_CLASS_SOURCE_DIRECTORY = "eclipselink.project-cache.class.source-directory";
+
     /**
      * The "<code>eclipselink.temporal.mutable</code>" property configures the
      * default for detecting changes to temporal field (Date, Calendar). Default
@@ -2921,6 +2971,22 @@ public class PersistenceUnitProperties {
      */
     public static final String METADATA_SOURCE_PROPERTIES_FILE = "eclipselink.metadata-source.properties.file";
 
+    /**
+     * The "<code>eclipselink.metadata.parallel-scanning</code>" property defines if the archives
+     * and the class files of the persistence unit should be read on multiple threads during predeploy.
+     * <p>
+     * The archives of the <code>jar-file</code> elements and the persistence unit root are scanned in parallel,
+     * then the annotations of the classes found are read in parallel into the metadata class cache.
+     * The entities, embeddables and mapped superclasses are still processed in order.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     */
+    public static final String METADATA_PARALLEL_SCANNING = "eclipselink.metadata.parallel-scanning";
+
     /**
      * The property "<code>eclipselink.application-location</code>" specifies the file system directory
      * location where DDL files are written (output) to.
@@ -3412,6 +3478,7 @@ public class PersistenceUnitProperties {
      * <li>"<code>rmi</code>"
      * <li>"<code>rmi-iiop</code>"
      * <li>"<code>jgroups</code>"
+     * <li>"<code>tcp</code>"
      * <li>the fully qualified name for a class that extends {@link TransportManager} abstract class.
      * </ul>
      *
@@ -3436,6 +3503,48 @@ public class PersistenceUnitProperties {
      */
     public static final String COORDINATION_JGROUPS_CONFIG = "eclipselink.cache.coordination.jgroups.config";
 
+    /**
+     * The "<code>eclipselink.cache.coordination.tcp.address</code>" property
+     * configures cache coordination for a clustered environment.
+     * <p>
+     * Only used for TCP coordination.
+     * <p>
+     * Sets the address the service listens on, as "host:port" or ":port" for all interfaces.<br>
+     * If not set the service listens on the port 7900 of all interfaces, the port 0 uses any free port.
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see org.eclipse.persistence.sessions.coordination.tcp.TCPTransportManager#setAddress(String)
+     */
+    public static final String COORDINATION_TCP_ADDRESS = "eclipselink.cache.coordination.tcp.address";
+
+    /**
+     * The "<code>eclipselink.cache.coordination.tcp.peers</code>" property
+     * configures cache coordination for a clustered environment.
+     * <p>
+     * Only used for TCP coordination.
+     * <p>
+     * Sets the comma separated "host:port" addresses of the other services.
+     * The address of the service itself may be listed.
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see org.eclipse.persistence.sessions.coordination.tcp.TCPTransportManager#setPeers(String)
+     */
+    public static final String COORDINATION_TCP_PEERS = "eclipselink.cache.coordination.tcp.peers";
+
+    /**
+     * The "<code>eclipselink.cache.coordination.tcp.peers-file</code>" property
+     * configures cache coordination for a clustered environment.
+     * <p>
+     * Only used for TCP coordination.
+     * <p>
+     * Sets the path of a file listing the "host:port" addresses of the other services, one per line.
+     * The file is re-read periodically, so services can be added without a restart.
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see org.eclipse.persistence.sessions.coordination.tcp.TCPTransportManager#setPeersFile(String)
+     */
+    public static final String COORDINATION_TCP_PEERS_FILE = "eclipselink.cache.coordination.tcp.peers-file";
+
     /**
      * The "<code>eclipselink.cache.coordination.jms.host</code>" property
      * configures cache coordination for a clustered environment.
@@ -3688,10 +3797,38 @@ public class PersistenceUnitProperties {
      *
      * @see #COORDINATION_PROTOCOL
      * @see Serializer
+     * @see org.eclipse.persistence.sessions.serializers.ChangeSetSerializer
      * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(Serializer)
      */
     public static final String COORDINATION_SERIALIZER = "eclipselink.cache.coordination.serializer";
 
+    /**
+     * The "<code>eclipselink.cache.coordination.batch.delay</code>" property
+     * configures the number of milliseconds cache coordination commands are collected before being sent.
+     * <p>
+     * The commands collected are sent as a single message, and repeated invalidations of the same object
+     * are only sent once, reducing the number of messages under a high commit rate at the cost of latency.
+     * The commands are sent from a thread of the server platform.
+     * <p>
+     * The default is 0, each command is sent when the transaction commits.
+     *
+     * @see #COORDINATION_BATCH_SIZE
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandBatchingDelay(long)
+     */
+    public static final String COORDINATION_BATCH_DELAY = "eclipselink.cache.coordination.batch.delay";
+
+    /**
+     * The "<code>eclipselink.cache.coordination.batch.size</code>" property
+     * configures the maximum number of cache coordination commands sent in a single message
+     * when a batch delay is set, a batch is sent before the delay elapsed when it is full.
+     * <p>
+     * The default is 100.
+     *
+     * @see #COORDINATION_BATCH_DELAY
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setMaxCommandBatchSize(int)
+     */
+    public static final String COORDINATION_BATCH_SIZE = "eclipselink.cache.coordination.batch.size";
+
     /**
      * The "<code>eclipselink.cache.coordination.channel</code>" property
      * configures cache coordination for a clustered environment.
@@ -3989,6 +4126,82 @@ public class PersistenceUnitProperties {
      */
     public static final String NAMING_INTO_INDEXED = "eclipselink.jpa.naming_into_indexed";
 
+    /**
+     * The "<code>eclipselink.generate-attribute-accessors</code>" property defines if attributes
+     * of non-weaved classes, accessed through instance variables or get/set methods, should use
+     * generated accessor classes instead of reflection.
+     * <p>
+     * The accessor classes are defined at deployment as hidden classes nested with the entity class.
+     * Attributes for which an accessor can't be generated (i.e. the entity package is not open to EclipseLink)
+     * keep using reflection.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setShouldGenerateAttributeAccessors(boolean)
+     */
+    public static final String GENERATE_ATTRIBUTE_ACCESSORS = "eclipselink.generate-attribute-accessors";
+
+    /**
+     * The "<code>eclipselink.generate-object-cloners</code>" property defines if a cloner class
+     * should be generated for each entity, instantiating objects and copying their direct attributes
+     * in straight-line code when building working copies, backup clones and merging.
+     * <p>
+     * The cloner classes are defined at deployment as hidden classes nested with the entity class.
+     * Only immutable direct attributes accessed through instance variables are copied by the cloner,
+     * other attributes are still cloned by their mappings.
+     * Entities for which a cloner can't be generated keep using reflection.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setShouldGenerateObjectCloners(boolean)
+     */
+    public static final String GENERATE_OBJECT_CLONERS = "eclipselink.generate-object-cloners";
+
+    /**
+     * The "<code>eclipselink.initialize-descriptors-in-parallel</code>" property defines if the descriptors
+     * should be initialized on multiple threads when the session is deployed.
+     * <p>
+     * The descriptors of an inheritance hierarchy, and the descriptors depending on each other through
+     * cascaded optimistic locking or cache isolation, are initialized by the same thread.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setShouldInitializeDescriptorsInParallel(boolean)
+     */
+    public static final String INITIALIZE_DESCRIPTORS_IN_PARALLEL = "eclipselink.initialize-descriptors-in-parallel";
+
+    /**
+     * The "<code>eclipselink.initialize-descriptors-lazily</code>" property defines if the descriptors
+     * should be initialized on first use instead of when the session is deployed.
+     * <p>
+     * A descriptor is initialized with the descriptors it references the first time it is used,
+     * such as by a query, a persist or a relationship, and the named queries are prepared the first time they are executed.
+     * This reduces the deployment time and memory of large persistence units when only some of the entities are used,
+     * but the errors of the mappings and named queries are only reported on first use.
+     * The metamodel and the schema generation initialize all the descriptors.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setShouldInitializeDescriptorsLazily(boolean)
+     */
+    public static final String INITIALIZE_DESCRIPTORS_LAZILY = "eclipselink.initialize-descriptors-lazily";
+
     /**
      * This system property in milliseconds can control thread management in org.eclipse.persistence.internal.helper.ConcurrencyManager.
      * It control how much time loop wait before it try acquire lock for current thread again. It value is set above above 0 dead lock detection
@@ -927,6 +927,43 @@ public class QueryHints {
      */
     public static final String SERIALIZED_OBJECT = "eclipselink.serialized-object";
 
+    /**
+     * "eclipselink.parallel-object-building"
+     * <p>Configures if the objects of large results of this read all query should be built on multiple threads.
+     * The objects are still returned in the result order. Only applies to results of at least a thousand rows
+     * read outside of a transaction (i.e. with the "eclipselink.read-only" hint), without join fetching, batch fetching
+     * or query results caching.
+     * Valid values are:  HintValues.TRUE, HintValues.FALSE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see org.eclipse.persistence.queries.ReadAllQuery#setShouldBuildObjectsInParallel(boolean)
+     */
+    public static final String PARALLEL_OBJECT_BUILDING = "eclipselink.parallel-object-building";
+
+    /**
+     * "eclipselink.jdbc.pipelined-fetch"
+     * <p>Configures if the rows of this read all query should be fetched from the JDBC result set on a separate thread,
+     * while the objects are built. The rows are passed through a bounded buffer sized on the fetch size,
+     * the fetching thread waits while the buffer is full. Only applies to queries read outside of a transaction
+     * (i.e. with the "eclipselink.read-only" hint), without 1-m join fetching or IN batch fetching.
+     * Valid values are:  HintValues.TRUE, HintValues.FALSE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see #JDBC_FETCH_SIZE
+     * @see org.eclipse.persistence.queries.ReadAllQuery#setShouldPipelineFetch(boolean)
+     */
+    public static final String PIPELINED_FETCH = "eclipselink.jdbc.pipelined-fetch";
+
+    /**
+     * "eclipselink.cache-partition-fetch"
+     * <p>Configures if this read object query should fetch the row of an object missing from the cache
+     * from the cache of the service owning it, when the shared cache is partitioned with a CachePartitionManager.
+     * Each fetch waits for the owner, up to its fetch timeout, before the database is queried.
+     * Valid values are:  HintValues.TRUE, HintValues.FALSE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see org.eclipse.persistence.queries.ReadObjectQuery#setShouldFetchFromCachePartition(boolean)
+     * @see org.eclipse.persistence.sessions.coordination.CachePartitionManager
+     */
+    public static final String CACHE_PARTITION_FETCH = "eclipselink.cache-partition-fetch";
+
     /**
      * "eclipselink.query-return-name-value-pairs"
      * <p>Configures a ResultSetMappingQuery to return populated DatabaseRecord(s)
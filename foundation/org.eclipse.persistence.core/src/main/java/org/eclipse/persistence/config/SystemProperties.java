@@ -271,4 +271,15 @@ public class SystemProperties {
      */
     public static final String ASM_SERVICE = "eclipselink.asm.service";
 
+    /**
+     * <p>
+     * This property controls the maximum number of threads of the pool shared by the work EclipseLink runs in parallel,
+     * such as building the objects of a large query result or executing a call on several partitions.
+     * The calling thread always takes part in the work, and does the work itself once all the threads are busy.
+     * Default value is the number of processors. Allowed values are: int
+     * </p>
+     * @see org.eclipse.persistence.internal.helper.ParallelExecutor
+     */
+    public static final String PARALLEL_THREADS = "eclipselink.parallel.threads";
+
 }
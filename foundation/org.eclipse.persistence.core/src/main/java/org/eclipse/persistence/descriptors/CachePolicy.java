@@ -88,6 +88,7 @@ public class CachePolicy implements Cloneable, Serializable {
     public static final int INVALIDATE_CHANGED_OBJECTS = 2;
     public static final int SEND_NEW_OBJECTS_WITH_CHANGES = 3;
     public static final int DO_NOT_SEND_CHANGES = 4;
+    public static final int INVALIDATE_STALE_OBJECTS = 5;
 
     /** Configures how the unit of work uses the session cache. */
     protected int unitOfWorkCacheIsolationLevel = UNDEFINED_ISOLATATION;
@@ -421,6 +422,7 @@ public String getCacheInterceptorClassName(){
      * INVALIDATE_CHANGED_OBJECTS
      * SEND_NEW_OBJECTS+WITH_CHANGES
      * DO_NOT_SEND_CHANGES
+     * INVALIDATE_STALE_OBJECTS
      * @return int
      *
      */
@@ -788,7 +790,8 @@ public void setIdentityMapSize(int identityMapSize) {
      * <li>SEND_OBJECT_CHANGES
      * <li>INVALIDATE_CHANGED_OBJECTS
      * <li>SEND_NEW_OBJECTS_WITH_CHANGES
-     * <li>DO_NOT_SEND_CHANGES</ul>
+     * <li>DO_NOT_SEND_CHANGES
+     * <li>INVALIDATE_STALE_OBJECTS</ul>
      * Note: Cache Synchronization type cannot be altered for descriptors that are set as isolated using
      * the setIsIsolated method.<p>
      * This has been replaced by setCacheCoordinationType().
@@ -818,6 +821,8 @@ public void setCacheCoordinationType(CacheCoordinationType type) {
             setCacheSynchronizationType(SEND_NEW_OBJECTS_WITH_CHANGES);
         } else if (type == CacheCoordinationType.NONE) {
             setCacheSynchronizationType(DO_NOT_SEND_CHANGES);
+        } else if (type == CacheCoordinationType.INVALIDATE_STALE_OBJECTS) {
+            setCacheSynchronizationType(INVALIDATE_STALE_OBJECTS);
         }
     }
 
@@ -1016,6 +1021,19 @@ public void useFullIdentityMap() {
         setIdentityMapClass(ClassConstants.FullIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the partitioned identity map.
+     * This map caches all instances owned by this service of the cluster, and the most recently used
+     * instances owned by other services up to the identity map size.
+     * A CachePartitionManager must be set on the RemoteCommandManager of the session to partition the cache,
+     * otherwise this map caches all instances read as the full identity map.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void usePartitionedIdentityMap() {
+        setIdentityMapClass(ClassConstants.PartitionedIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the hard cache weak identity map.
@@ -262,6 +262,7 @@ public class ClassDescriptor extends CoreDescriptor<AttributeGroup, DescriptorEv
     public static final int INVALIDATE_CHANGED_OBJECTS = CachePolicy.INVALIDATE_CHANGED_OBJECTS;
     public static final int SEND_NEW_OBJECTS_WITH_CHANGES = CachePolicy.SEND_NEW_OBJECTS_WITH_CHANGES;
     public static final int DO_NOT_SEND_CHANGES = CachePolicy.DO_NOT_SEND_CHANGES;
+    public static final int INVALIDATE_STALE_OBJECTS = CachePolicy.INVALIDATE_STALE_OBJECTS;
 
     public static final int UNDEFINED_ISOLATATION = CachePolicy.UNDEFINED_ISOLATATION;
     public static final int USE_SESSION_CACHE_AFTER_TRANSACTION = CachePolicy.USE_SESSION_CACHE_AFTER_TRANSACTION;
@@ -938,7 +939,11 @@ public DatabaseField buildField(DatabaseField field, DatabaseTable relationTable
                 table = getDefaultTable();
             }
             builtField.setTable(table);
-            getObjectBuilder().getFieldsMap().put(builtField, builtField);
+            // Fields of a reference descriptor may be built by another thread if initializing in parallel.
+            DatabaseField existingField = getObjectBuilder().getFieldsMap().putIfAbsent(builtField, builtField);
+            if (existingField != null) {
+                return existingField;
+            }
         }
         return builtField;
     }
@@ -3096,14 +3101,18 @@ public void initialize(AbstractSession session) throws DescriptorException {
                 }
                 ClassDescriptor referencedDescriptor = mapping.getReferenceDescriptor();
                 if (referencedDescriptor!= null){
-                    referencedDescriptor.referencingClasses.add(this);
+                    synchronized (referencedDescriptor.referencingClasses) {
+                        referencedDescriptor.referencingClasses.add(this);
+                    }
                 }
             }
 
             if (mapping.isAggregateObjectMapping()) {
                 ClassDescriptor referencedDescriptor = mapping.getReferenceDescriptor();
                 if (referencedDescriptor!= null){
-                    referencedDescriptor.referencingClasses.add(this);
+                    synchronized (referencedDescriptor.referencingClasses) {
+                        referencedDescriptor.referencingClasses.add(this);
+                    }
                 }
             }
             // If this descriptor uses a cascaded version optimistic locking
@@ -3249,6 +3258,7 @@ public void initialize(AbstractSession session) throws DescriptorException {
         getCopyPolicy().initialize(session);
         getInstantiationPolicy().initialize(session);
         getCachePolicy().initialize(this, session);
+        getCacheInvalidationPolicy().initialize(this, session);
 
         if (getHistoryPolicy() != null) {
             getHistoryPolicy().initialize(session);
@@ -3946,6 +3956,14 @@ private void prepareReturnFields(List<ReturningPolicy> returningPolicies) {
         this.returnFieldsToMergeUpdate = (returnFieldsToMergeUpdate.isEmpty()) ? null : returnFieldsToMergeUpdate;
     }
 
+    /**
+     * INTERNAL:
+     * Return the descriptors with a relationship or aggregate mapping to this class, set during initialization.
+     */
+    public Set<ClassDescriptor> getReferencingClasses() {
+        return this.referencingClasses;
+    }
+
     /**
      * INTERNAL:
      * Configure all descriptors referencing this class to be protected and update their cache settings.
@@ -5853,6 +5871,19 @@ public void useFullIdentityMap() {
         getCachePolicy().useFullIdentityMap();
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the partitioned identity map.
+     * This map caches all instances owned by this service of the cluster, and the most recently used
+     * instances owned by other services up to the identity map size.
+     * A CachePartitionManager must be set on the RemoteCommandManager of the session to partition the cache,
+     * otherwise this map caches all instances read as the full identity map.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void usePartitionedIdentityMap() {
+        getCachePolicy().usePartitionedIdentityMap();
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the hard cache weak identity map.
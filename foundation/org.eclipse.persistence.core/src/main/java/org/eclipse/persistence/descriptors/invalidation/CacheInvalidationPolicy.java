@@ -15,9 +15,25 @@
 package org.eclipse.persistence.descriptors.invalidation;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 /**
@@ -47,6 +63,18 @@ public abstract class CacheInvalidationPolicy implements java.io.Serializable, C
     /** Random used for randomized invalidation. */
     protected Random random;
 
+    /** Allows invalid objects read together to have their version checked instead of being refreshed. */
+    protected boolean shouldRevalidateInvalidObjects = false;
+
+    /** The maximum number of objects checked by one version query. */
+    protected int revalidationBatchSize = 500;
+
+    /** The root descriptor of the objects, the version query selects from its tables. */
+    protected transient ClassDescriptor descriptor;
+
+    /** The session used to check the versions, the objects may be read through a unit of work. */
+    protected transient AbstractSession session;
+
     /**
      * PUBLIC:
      * Allows the timeToLive to be randomized to avoid bottlenecks.
@@ -88,9 +116,11 @@ public long getRemainingValidTime(CacheKey key) {
     /**
      * INTERNAL:
      * Allow initialization with the descriptor.
+     * The root descriptor and session are kept to check the versions of invalid objects.
      */
     public void initialize(ClassDescriptor descriptor, AbstractSession session) {
-
+        this.descriptor = descriptor.isChildDescriptor() ? descriptor.getInheritancePolicy().getRootParentDescriptor() : descriptor;
+        this.session = session.getRootSession(null);
     }
 
     /**
@@ -107,6 +137,165 @@ public boolean isInvalidated(CacheKey key) {
      */
     public abstract boolean isInvalidated(CacheKey key, long currentTimeMillis);
 
+    /**
+     * INTERNAL:
+     * Return true if the invalid objects can be checked against the database instead of being refreshed,
+     * this requires version locking.
+     * @see #revalidate(Collection, long)
+     */
+    public boolean shouldRevalidateInvalidObjects() {
+        return this.shouldRevalidateInvalidObjects && (this.descriptor != null)
+                && (this.descriptor.getOptimisticLockingPolicy() instanceof VersionLockingPolicy);
+    }
+
+    /**
+     * PUBLIC:
+     * Set if invalid objects read together, such as the targets of a relationship, are checked with one
+     * version query instead of being refreshed, default is false.
+     * Only the objects whose version changed are invalidated and read again, with a batch IN query,
+     * this avoids refreshing each object after the invalidation of many objects that did not change.
+     * The objects read from the database are also only rebuilt if their version changed.
+     * The descriptor must use a {@link VersionLockingPolicy}.
+     */
+    public void setShouldRevalidateInvalidObjects(boolean shouldRevalidateInvalidObjects) {
+        this.shouldRevalidateInvalidObjects = shouldRevalidateInvalidObjects;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of objects checked by one version query.
+     */
+    public int getRevalidationBatchSize() {
+        return revalidationBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of objects checked by one version query, default is 500.
+     */
+    public void setRevalidationBatchSize(int revalidationBatchSize) {
+        this.revalidationBatchSize = revalidationBatchSize;
+    }
+
+    /**
+     * INTERNAL:
+     * Check the versions of the invalid objects read together in batches,
+     * the unchanged objects are valid again and the others stay invalid.
+     */
+    public void revalidate(Collection<CacheKey> keys, long currentTimeMillis) {
+        revalidate(keys, currentTimeMillis, this.session);
+    }
+
+    /**
+     * INTERNAL:
+     * Check the versions of the invalid objects read together in batches, using the session of the reading query,
+     * the unchanged objects are valid again and the others stay invalid.
+     */
+    public void revalidate(Collection<CacheKey> keys, long currentTimeMillis, AbstractSession session) {
+        List<CacheKey> batch = new ArrayList<>(Math.min(keys.size(), this.revalidationBatchSize));
+        for (CacheKey key : keys) {
+            if ((key.getObject() != null) && isInvalidated(key, currentTimeMillis)) {
+                batch.add(key);
+                if (batch.size() == this.revalidationBatchSize) {
+                    checkVersions(batch, session);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            checkVersions(batch, session);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Called by a query reading the object by primary key, before it looks up the cache.
+     * Policies checking the version of the objects whose lease expired instead of refreshing them do it here,
+     * and not in {@link #isInvalidated(CacheKey)}, as the cache lookups and merges must not access the database.
+     * Nothing is checked by default.
+     */
+    public void revalidateExpired(CacheKey key, AbstractSession session) {
+    }
+
+    /**
+     * INTERNAL:
+     * Select the primary key and version of the objects and compare them to the cached write lock values.
+     * If the versions cannot be read the objects are invalidated, so they are refreshed.
+     */
+    @SuppressWarnings("unchecked")
+    protected void checkVersions(List<CacheKey> keys, AbstractSession session) {
+        VersionLockingPolicy lockingPolicy = (VersionLockingPolicy)this.descriptor.getOptimisticLockingPolicy();
+        List<DatabaseField> primaryKeyFields = this.descriptor.getPrimaryKeyFields();
+        int size = primaryKeyFields.size();
+        long queryTime = System.currentTimeMillis();
+        int[] states = new int[keys.size()];
+        for (int index = 0; index < states.length; index++) {
+            states[index] = keys.get(index).getInvalidationState();
+        }
+        Map<Object, Object> versions = new HashMap<>(keys.size());
+        try {
+            List<Object[]> results = (List<Object[]>)session.executeQuery(buildVersionQuery(keys, lockingPolicy));
+            for (Object[] result : results) {
+                AbstractRecord row = new DatabaseRecord(size);
+                for (int index = 0; index < size; index++) {
+                    row.put(primaryKeyFields.get(index), result[index]);
+                }
+                Object primaryKey = this.descriptor.getObjectBuilder().extractPrimaryKeyFromRow(row, session);
+                if ((primaryKey != null) && (result[size] != null)) {
+                    versions.put(primaryKey, result[size]);
+                }
+            }
+        } catch (DatabaseException exception) {
+            session.logThrowable(SessionLog.WARNING, SessionLog.CACHE, exception);
+        }
+        for (int index = 0; index < states.length; index++) {
+            CacheKey key = keys.get(index);
+            Object version = versions.get(key.getKey());
+            Object cachedVersion = key.getWriteLockValue();
+            Object object = key.getObject();
+            if (!lockingPolicy.isStoredInCache() && (object != null)) {
+                cachedVersion = lockingPolicy.getWriteLockValue(object, key.getKey(), session);
+            }
+            if ((version != null) && (cachedVersion != null) && (lockingPolicy.compareWriteLockValues(version, cachedVersion) == 0)) {
+                // Keep the objects invalidated while the versions were read.
+                if ((states[index] == CacheKey.CACHE_KEY_INVALID) || (key.getInvalidationState() != CacheKey.CACHE_KEY_INVALID)) {
+                    key.setReadTime(queryTime);
+                }
+            } else {
+                key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the query selecting the primary key and version of the objects,
+     * using the batch IN criteria of the descriptor.
+     */
+    public ReportQuery buildVersionQuery(List<CacheKey> keys, VersionLockingPolicy lockingPolicy) {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        ReportQuery query = new ReportQuery(this.descriptor.getJavaClass(), builder);
+        for (DatabaseField field : this.descriptor.getPrimaryKeyFields()) {
+            query.addItem(field.getName(), builder.getField(field));
+        }
+        query.addItem(lockingPolicy.getWriteLockField().getName(), builder.getField(lockingPolicy.getWriteLockField()));
+        List<Object> primaryKeys = new ArrayList<>(keys.size());
+        for (CacheKey key : keys) {
+            if (key.getKey() instanceof CacheId) {
+                primaryKeys.add(Arrays.asList(((CacheId)key.getKey()).getPrimaryKey()));
+            } else {
+                primaryKeys.add(key.getKey());
+            }
+        }
+        query.setIsExecutionClone(true);
+        query.addArgument(ForeignReferenceMapping.QUERY_BATCH_PARAMETER);
+        query.addArgumentValue(primaryKeys);
+        query.setSession(this.session);
+        query.setSelectionCriteria(this.descriptor.buildBatchCriteriaByPK(builder, query));
+        query.setReturnType(ReportQuery.ShouldReturnWithoutReportQueryResult);
+        return query;
+    }
+
     /**
      * PUBLIC:
      * Set whether to update the stored time an object was read when an object is updated.
@@ -156,6 +345,8 @@ public Object clone() {
             clone.setShouldUpdateReadTimeOnUpdate(this.shouldUpdateReadTimeOnUpdate);
             clone.setShouldRefreshInvalidObjectsOnClone(this.shouldRefreshInvalidObjectsOnClone);
             clone.setIsInvalidationRandomized(this.isInvalidationRandomized);
+            clone.setShouldRevalidateInvalidObjects(this.shouldRevalidateInvalidObjects);
+            clone.setRevalidationBatchSize(this.revalidationBatchSize);
         } catch (Exception exception) {
             throw new InternalError("clone failed");
         }
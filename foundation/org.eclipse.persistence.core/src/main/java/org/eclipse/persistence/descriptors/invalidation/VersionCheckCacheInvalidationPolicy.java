@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.descriptors.invalidation;
+
+import java.util.Collections;
+
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * PUBLIC:
+ * A CacheInvalidationPolicy which gives objects a lease of a specific amount of time after they are read,
+ * and checks the version of the objects with an expired lease instead of refreshing them.
+ * <p>
+ * When a query reads an object with an expired lease by primary key, only its primary key and version are selected
+ * before the cache is checked.
+ * If the version in the database is the cached version the lease is renewed, otherwise the object is invalidated
+ * and refreshed as usual. The cache lookups and merges themselves never access the database, for them an object
+ * with an expired lease is invalid. Objects read together from the cache, such as the targets of a relationship,
+ * are checked with one query, "SELECT ID, VERSION ... WHERE ID IN (...)", in batches of the revalidation batch size.
+ * This bounds how long other nodes may read a stale object, even between the commit of a change
+ * and the arrival of its cache coordination message, at a fraction of the cost of refreshing.
+ * <p>
+ * The descriptor must use a {@link VersionLockingPolicy}, otherwise the objects with an expired lease are
+ * refreshed as with a {@link TimeToLiveCacheInvalidationPolicy}.
+ * The read time is updated on update by default, as a successful version checked update means the object is up to date.
+ * @see CacheInvalidationPolicy
+ */
+public class VersionCheckCacheInvalidationPolicy extends TimeToLiveCacheInvalidationPolicy {
+
+    /**
+     * INTERNAL:
+     * Default Constructor for Project XML
+     * Unless the lease time is set by method, objects are checked each time they are read.
+     */
+    public VersionCheckCacheInvalidationPolicy() {
+        super();
+        this.shouldRevalidateInvalidObjects = true;
+        this.shouldUpdateReadTimeOnUpdate = true;
+    }
+
+    /**
+     * PUBLIC:
+     * Construct a VersionCheckCacheInvalidationPolicy
+     * @param leaseTime the number of milliseconds an object is used from the cache before its version is checked.
+     */
+    public VersionCheckCacheInvalidationPolicy(long leaseTime) {
+        this();
+        this.timeToLive = leaseTime;
+    }
+
+    /**
+     * INTERNAL:
+     * Check the version of the object read by primary key if its lease expired,
+     * the lease is renewed if the version did not change, otherwise the object is invalidated.
+     * Objects set as invalid are not checked, they are refreshed as they most likely changed.
+     */
+    @Override
+    public void revalidateExpired(CacheKey key, AbstractSession session) {
+        long currentTimeMillis = System.currentTimeMillis();
+        if ((key.getObject() != null) && (key.getInvalidationState() != CacheKey.CACHE_KEY_INVALID)
+                && shouldRevalidateInvalidObjects() && isInvalidated(key, currentTimeMillis)) {
+            revalidate(Collections.singletonList(key), currentTimeMillis, session);
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds an object is used from the cache before its version is checked.
+     */
+    public long getLeaseTime() {
+        return getTimeToLive();
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds an object is used from the cache before its version is checked.
+     * This is the maximum time a stale object can be read from the cache.
+     */
+    public void setLeaseTime(long leaseTime) {
+        setTimeToLive(leaseTime);
+    }
+}
@@ -14,9 +14,17 @@
 //     James Sutherland (Oracle) - initial API and implementation
 package org.eclipse.persistence.descriptors.partitioning;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
 import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.queries.PartitionKeyAnalyzer;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.sessions.server.ClientSession;
 
 /**
@@ -26,6 +34,8 @@
  * All write or read request for object's with that value are sent to the server.
  * If a query does not include the field as a parameter, then it can either be sent
  * to all server's and unioned, or left to the sesion's default behavior.
+ * If the query's selection criteria restricts the field, such as with an IN list or a range,
+ * the query is only sent to the servers of the selected values.
  * @author James Sutherland
  * @since EclipseLink 2.2
  */
@@ -37,6 +47,9 @@ public abstract class FieldPartitioningPolicy extends PartitioningPolicy {
     /** If query does not have the partition field in it, should the query be sent to all databases. */
     protected boolean unionUnpartitionableQueries = false;
 
+    /** If a query does not have the partition field as a parameter, should its selection criteria be used to select the databases. */
+    protected boolean shouldPruneUsingSelectionCriteria = true;
+
     protected FieldPartitioningPolicy() {
         super();
     }
@@ -117,6 +130,74 @@ public void setUnionUnpartitionableQueries(boolean unionUnpartitionableQueries)
         this.unionUnpartitionableQueries = unionUnpartitionableQueries;
     }
 
+    /**
+     * PUBLIC:
+     * Return if a query that does not have the partition field as a parameter
+     * should only be sent to the databases of the values selected by its selection criteria.
+     * Equality, IN lists, comparisons and BETWEEN on the partition field are used.
+     */
+    public boolean shouldPruneUsingSelectionCriteria() {
+        return shouldPruneUsingSelectionCriteria;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if a query that does not have the partition field as a parameter
+     * should only be sent to the databases of the values selected by its selection criteria.
+     * Equality, IN lists, comparisons and BETWEEN on the partition field are used.
+     * By default the selection criteria is used.
+     */
+    public void setShouldPruneUsingSelectionCriteria(boolean shouldPruneUsingSelectionCriteria) {
+        this.shouldPruneUsingSelectionCriteria = shouldPruneUsingSelectionCriteria;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the connection pools of the values of the partition field selected by the query's selection criteria,
+     * or null if the query may select any value, or the pools can't be determined.
+     */
+    protected Collection<String> getPoolsForSelectionCriteria(AbstractSession session, DatabaseQuery query, AbstractRecord arguments) {
+        if (!this.shouldPruneUsingSelectionCriteria || (query == null)) {
+            return null;
+        }
+        PartitionKeyAnalyzer.Constraint constraint = PartitionKeyAnalyzer.analyze(this.partitionField, query, arguments, session);
+        if ((constraint == null) || constraint.isEmpty()) {
+            return null;
+        }
+        Collection<String> poolNames;
+        try {
+            poolNames = getPoolsForConstraint(session, constraint);
+        } catch (ClassCastException notComparable) {
+            // The selected values are not of the type of the partition values.
+            return null;
+        }
+        if ((poolNames == null) || poolNames.isEmpty()) {
+            return null;
+        }
+        return poolNames;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the connection pools of the selected values, or null if they can't be determined.
+     * By default the selection criteria is not used.
+     */
+    protected Collection<String> getPoolsForConstraint(AbstractSession session, PartitionKeyAnalyzer.Constraint constraint) {
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return a connection from each of the connection pools.
+     */
+    protected List<Accessor> getAccessorsForPools(AbstractSession session, DatabaseQuery query, Collection<String> poolNames) {
+        List<Accessor> accessors = new ArrayList<>(poolNames.size());
+        for (String poolName : poolNames) {
+            accessors.add(getAccessor(poolName, session, query, false));
+        }
+        return accessors;
+    }
+
     /**
      * INTERNAL:
      * If persist should be partitioned, extra value from object.
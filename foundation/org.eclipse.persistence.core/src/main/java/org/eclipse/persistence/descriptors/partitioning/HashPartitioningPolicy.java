@@ -16,13 +16,17 @@
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.queries.PartitionKeyAnalyzer;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.sessions.server.ServerSession;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * PUBLIC:
@@ -32,6 +36,8 @@
  * All write or read request for objects with that hash value are sent to the server.
  * If a query does not include the field as a parameter, then it can either be sent
  * to all servers and unioned, or left to the session's default behavior.
+ * If the query's selection criteria restricts the field to a list of values,
+ * the query is only sent to the servers of the values' hashes.
  * @author James Sutherland
  * @since EclipseLink 2.2
  */
@@ -96,6 +102,16 @@ public void addConnectionPool(String connectionPool) {
     public List<Accessor> getConnectionsForQuery(AbstractSession session, DatabaseQuery query, AbstractRecord arguments) {
         Object value = arguments.get(this.partitionField);
         if (value == null) {
+            // Use the connection pools of the values in the selection criteria.
+            Collection<String> poolNames = getPoolsForSelectionCriteria(session, query, arguments);
+            if (poolNames != null) {
+                if ((poolNames.size() == 1) && session.getPlatform().hasPartitioningCallback()) {
+                    // UCP support.
+                    session.getPlatform().getPartitioningCallback().setPartitionId(this.connectionPools.indexOf(poolNames.iterator().next()));
+                    return null;
+                }
+                return getAccessorsForPools(session, query, poolNames);
+            }
             if (this.unionUnpartitionableQueries) {
                 // Use all connections.
                 List<Accessor> accessors = new ArrayList<>(this.connectionPools.size());
@@ -121,6 +137,22 @@ public List<Accessor> getConnectionsForQuery(AbstractSession session, DatabaseQu
         return accessors;
     }
 
+    /**
+     * INTERNAL:
+     * Return the pools of the hashes of the selected values, ranges can't be hashed.
+     */
+    @Override
+    protected Collection<String> getPoolsForConstraint(AbstractSession session, PartitionKeyAnalyzer.Constraint constraint) {
+        if (!constraint.getRanges().isEmpty()) {
+            return null;
+        }
+        Set<String> poolNames = new LinkedHashSet<>();
+        for (Object value : constraint.getValues()) {
+            poolNames.add(this.connectionPools.get(computePartitionId(value)));
+        }
+        return poolNames;
+    }
+
     /**
      * INTERNAL:
      * Allow for the persist call to assign the partition.
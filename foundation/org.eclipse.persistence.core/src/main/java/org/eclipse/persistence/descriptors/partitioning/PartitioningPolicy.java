@@ -40,6 +40,9 @@ public abstract class PartitioningPolicy implements java.io.Serializable {
     /** The persistent unit unique name for the policy. */
     protected String name;
 
+    /** Allow a query sent to several connections to be executed on each concurrently. */
+    protected boolean shouldExecuteInParallel;
+
     /**
      * Default constructor.
      */
@@ -133,4 +136,27 @@ public void setName(String name) {
         this.name = name;
     }
 
+
+    /**
+     * PUBLIC:
+     * Return if a query sent to several connections is executed on each concurrently.
+     */
+    public boolean shouldExecuteInParallel() {
+        return shouldExecuteInParallel;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if a query sent to several connections is executed on each concurrently, by default they are executed in turn.
+     * The calling thread and the threads of a pool shared by all the sessions execute the calls,
+     * so a union read costs about one round trip while threads are available, and the calls are executed
+     * in turn by the calling thread when none are.
+     * The size of the pool is set by the "eclipselink.parallel.threads" system property, by default the number of processors.
+     * The ordered rows of each connection are merged in order, and the COUNT, SUM, MIN, MAX aggregates
+     * of a report query are combined.
+     * This is used for a union read, or a replicated write.
+     */
+    public void setShouldExecuteInParallel(boolean shouldExecuteInParallel) {
+        this.shouldExecuteInParallel = shouldExecuteInParallel;
+    }
 }
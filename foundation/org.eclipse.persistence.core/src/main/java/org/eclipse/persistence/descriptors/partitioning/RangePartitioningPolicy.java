@@ -18,12 +18,16 @@
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.queries.PartitionKeyAnalyzer;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.queries.DatabaseQuery;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * PUBLIC:
@@ -33,6 +37,7 @@
  * All write or read request for object's with that value are sent to the server.
  * If a query does not include the field as a parameter, then it can either be sent
  * to all server's and unioned, or left to the sesion's default behavior.
+ * If the query's selection criteria restricts the field, the query is only sent to the servers of the overlapping ranges.
  * @author James Sutherland
  * @since EclipseLink 2.2
  */
@@ -117,6 +122,16 @@ public List<Accessor> getConnectionsForQuery(AbstractSession session, DatabaseQu
         Object value = arguments.get(this.partitionField);
         List<Accessor> accessors = null;
         if (value == null) {
+            // Use the connection pools of the ranges overlapping the selection criteria.
+            Collection<String> poolNames = getPoolsForSelectionCriteria(session, query, arguments);
+            if (poolNames != null) {
+                if ((poolNames.size() == 1) && session.getPlatform().hasPartitioningCallback()) {
+                    // UCP support.
+                    session.getPlatform().getPartitioningCallback().setPartitionId(getPartitionIndex(poolNames.iterator().next()));
+                    return null;
+                }
+                return getAccessorsForPools(session, query, poolNames);
+            }
             if (this.unionUnpartitionableQueries) {
                 accessors = new ArrayList<>(this.partitions.size());
             } else {
@@ -146,6 +161,35 @@ public List<Accessor> getConnectionsForQuery(AbstractSession session, DatabaseQu
         return accessors;
     }
 
+    /**
+     * INTERNAL:
+     * Return the pools of the partitions containing a selected value or overlapping a selected range.
+     */
+    @Override
+    protected Collection<String> getPoolsForConstraint(AbstractSession session, PartitionKeyAnalyzer.Constraint constraint) {
+        Set<String> poolNames = new LinkedHashSet<>();
+        for (RangePartition partition : this.partitions) {
+            if (constraint.overlaps(partition.getStartValue(), partition.getEndValue())) {
+                poolNames.add(partition.getConnectionPool());
+            }
+        }
+        return poolNames;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index of the first partition of the connection pool.
+     */
+    protected int getPartitionIndex(String poolName) {
+        int size = this.partitions.size();
+        for (int index = 0; index < size; index++) {
+            if (this.partitions.get(index).getConnectionPool().equals(poolName)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
     /**
      * INTERNAL:
      * Allow for the persist call to assign the partition.
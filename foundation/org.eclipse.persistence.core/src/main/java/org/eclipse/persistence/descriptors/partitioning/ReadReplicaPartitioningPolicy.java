@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.descriptors.partitioning;
+
+import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ObjectBuildingQuery;
+import org.eclipse.persistence.queries.ValueReadQuery;
+import org.eclipse.persistence.sessions.server.ServerSession;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PUBLIC:
+ * ReadReplicaPartitioningPolicy sends read queries to a set of replica databases, and writes to the primary database.
+ * It is for offloading the reads of a primary database to its read replicas, which are updated asynchronously.
+ * <p>
+ * Read queries outside of a transaction are sent to the replicas in a round robin fashion.
+ * Writes, locking reads, and any query in a transaction are sent to the primary.
+ * After a client session writes, its reads are also sent to the primary for the primary pinning time,
+ * so they see their own writes even if the replicas have not caught up yet.
+ * Writes executed directly on the server session pin all the reads.
+ * <p>
+ * If a maximum replication lag is set, the lag of each replica is checked periodically
+ * using the replication lag query, or the platform's, and a replica too far behind is not used.
+ * If no replica can be used, reads are sent to the primary.
+ * The policy should be set on the server session, or on the descriptors of the replicated classes.
+ * @see org.eclipse.persistence.internal.databaseaccess.DatabasePlatform#getReplicationLagQuery()
+ */
+public class ReadReplicaPartitioningPolicy extends PartitioningPolicy {
+
+    /** Session property storing the time until which the session's reads are sent to the primary. */
+    public static final String PRIMARY_PINNED_UNTIL = "eclipselink.partitioning.primary-pinned-until";
+
+    /** The connection pool of the primary database. */
+    protected String primaryConnectionPool = ServerSession.DEFAULT_POOL;
+
+    /** The connection pools of the replica databases. */
+    protected List<String> replicaConnectionPools = new ArrayList<>();
+
+    protected volatile int currentIndex = 0;
+
+    /** Milliseconds a session's reads are sent to the primary after it writes, 0 to not pin. */
+    protected long primaryPinningTime = 1000;
+
+    /** Milliseconds of replication lag over which a replica is not used, 0 to not check. */
+    protected long maxReplicationLag = 0;
+
+    /** Milliseconds between two checks of the lag of a replica. */
+    protected long replicationLagCheckInterval = 1000;
+
+    /** Query returning the replication lag in milliseconds, by default the platform's. */
+    protected ValueReadQuery replicationLagQuery;
+
+    /** The last lag measured for each replica pool. */
+    protected transient Map<String, ReplicaLag> replicaLags;
+
+    /**
+     * INTERNAL:
+     * The last replication lag measured for a replica.
+     */
+    protected static class ReplicaLag {
+        protected volatile long lag;
+        protected volatile long checkTime;
+    }
+
+    public ReadReplicaPartitioningPolicy() {
+        super();
+    }
+
+    public ReadReplicaPartitioningPolicy(String primaryConnectionPool, String... replicaConnectionPools) {
+        this(primaryConnectionPool, Arrays.asList(replicaConnectionPools));
+    }
+
+    public ReadReplicaPartitioningPolicy(String primaryConnectionPool, List<String> replicaConnectionPools) {
+        super();
+        this.primaryConnectionPool = primaryConnectionPool;
+        this.replicaConnectionPools = new ArrayList<>(replicaConnectionPools);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the connection pool of the primary database, by default the server session's default pool.
+     */
+    public String getPrimaryConnectionPool() {
+        return primaryConnectionPool;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the connection pool of the primary database, by default the server session's default pool.
+     */
+    public void setPrimaryConnectionPool(String primaryConnectionPool) {
+        this.primaryConnectionPool = primaryConnectionPool;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the connection pools of the replica databases.
+     */
+    public List<String> getReplicaConnectionPools() {
+        return replicaConnectionPools;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the connection pools of the replica databases.
+     */
+    public void setReplicaConnectionPools(List<String> replicaConnectionPools) {
+        this.replicaConnectionPools = replicaConnectionPools;
+    }
+
+    /**
+     * PUBLIC:
+     * Add the connection pool of a replica database.
+     */
+    public void addReplicaConnectionPool(String connectionPool) {
+        getReplicaConnectionPools().add(connectionPool);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds a session's reads are sent to the primary after it writes.
+     */
+    public long getPrimaryPinningTime() {
+        return primaryPinningTime;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds a session's reads are sent to the primary after it writes.
+     * This should be more than the usual replication lag, by default 1 second, 0 to not pin.
+     */
+    public void setPrimaryPinningTime(long primaryPinningTime) {
+        this.primaryPinningTime = primaryPinningTime;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds of replication lag over which a replica is not used, 0 if the lag is not checked.
+     */
+    public long getMaxReplicationLag() {
+        return maxReplicationLag;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds of replication lag over which a replica is not used.
+     * The lag is measured using the replication lag query, or the platform's, by default it is not checked.
+     */
+    public void setMaxReplicationLag(long maxReplicationLag) {
+        this.maxReplicationLag = maxReplicationLag;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds between two checks of the lag of a replica.
+     */
+    public long getReplicationLagCheckInterval() {
+        return replicationLagCheckInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds between two checks of the lag of a replica, by default 1 second.
+     */
+    public void setReplicationLagCheckInterval(long replicationLagCheckInterval) {
+        this.replicationLagCheckInterval = replicationLagCheckInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the query returning the replication lag in milliseconds of the replica it is executed on.
+     */
+    public ValueReadQuery getReplicationLagQuery() {
+        return replicationLagQuery;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the query returning the replication lag in milliseconds of the replica it is executed on.
+     * By default the platform's query is used.
+     */
+    public void setReplicationLagQuery(ValueReadQuery replicationLagQuery) {
+        this.replicationLagQuery = replicationLagQuery;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the SQL returning the replication lag in milliseconds of the replica it is executed on.
+     * By default the platform's query is used.
+     */
+    public void setReplicationLagSQL(String sql) {
+        ValueReadQuery query = new ValueReadQuery();
+        query.setSQLString(sql);
+        query.setAllowNativeSQLQuery(true);
+        setReplicationLagQuery(query);
+    }
+
+    /**
+     * INTERNAL:
+     * Send reads outside of a transaction to a replica, and other queries to the primary.
+     */
+    @Override
+    public List<Accessor> getConnectionsForQuery(AbstractSession session, DatabaseQuery query, AbstractRecord arguments) {
+        List<Accessor> accessors = new ArrayList<>(1);
+        if (session.isClientSession()) {
+            // A client session only executes the queries of its transaction, or of its exclusive connection.
+            if (query.isModifyQuery()) {
+                pinToPrimary(session);
+            }
+            accessors.add(getAccessor(this.primaryConnectionPool, session, query, false));
+            return accessors;
+        } else if (!session.isServerSession()) {
+            throw QueryException.partitioningNotSupported(session, query);
+        }
+        ServerSession server = (ServerSession)session;
+        AbstractSession pinningSession = getPinningSession(server, query);
+        if (query.isModifyQuery()) {
+            pinToPrimary(pinningSession);
+        } else if (query.isReadQuery() && !isPinnedToPrimary(pinningSession, query)) {
+            Accessor accessor = nextReplicaAccessor(server, query);
+            if (accessor != null) {
+                accessors.add(accessor);
+                return accessors;
+            }
+            // No replica is available, use the primary.
+        }
+        accessors.add(acquireAccessor(this.primaryConnectionPool, server, query, false));
+        return accessors;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the client session executing the query, or the server session.
+     */
+    protected AbstractSession getPinningSession(AbstractSession session, DatabaseQuery query) {
+        AbstractSession executionSession = query.getSession();
+        while ((executionSession != null) && executionSession.isUnitOfWork()) {
+            executionSession = executionSession.getParent();
+        }
+        if ((executionSession != null) && executionSession.isClientSession()) {
+            return executionSession;
+        }
+        return session;
+    }
+
+    /**
+     * INTERNAL:
+     * Send the session's reads to the primary for the primary pinning time.
+     */
+    protected void pinToPrimary(AbstractSession session) {
+        if (this.primaryPinningTime > 0) {
+            session.setProperty(PRIMARY_PINNED_UNTIL, System.currentTimeMillis() + this.primaryPinningTime);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the read must be sent to the primary.
+     * It must if the session is in a transaction or wrote recently, or if it locks the objects.
+     */
+    protected boolean isPinnedToPrimary(AbstractSession session, DatabaseQuery query) {
+        if (session.isInTransaction()) {
+            return true;
+        }
+        if (query.isObjectBuildingQuery() && ((ObjectBuildingQuery)query).isLockQuery()) {
+            return true;
+        }
+        Object pinnedUntil = session.getProperty(PRIMARY_PINNED_UNTIL);
+        return (pinnedUntil != null) && (((Long)pinnedUntil) > System.currentTimeMillis());
+    }
+
+    /**
+     * INTERNAL:
+     * Return the next pool index to use.
+     */
+    public int nextIndex() {
+        int index = ++this.currentIndex;
+        if (index >= this.replicaConnectionPools.size()) {
+            this.currentIndex = 0;
+            index = 0;
+        }
+        return index;
+    }
+
+    /**
+     * INTERNAL:
+     * Return a connection to the next replica in a round robin rotation,
+     * skipping the dead replicas and the ones too far behind, or null if none can be used.
+     */
+    public Accessor nextReplicaAccessor(ServerSession session, DatabaseQuery query) {
+        int size = this.replicaConnectionPools.size();
+        for (int count = 0; count < size; count++) {
+            String poolName = this.replicaConnectionPools.get(nextIndex());
+            if (isReplicationLagAcceptable(poolName, session, query)) {
+                Accessor accessor = acquireAccessor(poolName, session, query, true);
+                if (accessor != null) {
+                    return accessor;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the last lag measured for the replica is not over the maximum, measuring it again if it is too old.
+     */
+    protected boolean isReplicationLagAcceptable(String poolName, ServerSession session, DatabaseQuery query) {
+        if (this.maxReplicationLag <= 0) {
+            return true;
+        }
+        Map<String, ReplicaLag> lags = this.replicaLags;
+        if (lags == null) {
+            lags = new ConcurrentHashMap<>();
+            this.replicaLags = lags;
+        }
+        ReplicaLag replicaLag = lags.computeIfAbsent(poolName, name -> new ReplicaLag());
+        long now = System.currentTimeMillis();
+        if ((replicaLag.checkTime == 0) || ((now - replicaLag.checkTime) >= this.replicationLagCheckInterval)) {
+            synchronized (replicaLag) {
+                // Another thread may have checked it.
+                if ((replicaLag.checkTime == 0) || ((now - replicaLag.checkTime) >= this.replicationLagCheckInterval)) {
+                    replicaLag.lag = checkReplicationLag(poolName, session, query);
+                    replicaLag.checkTime = System.currentTimeMillis();
+                }
+            }
+        }
+        return replicaLag.lag <= this.maxReplicationLag;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the replication lag in milliseconds of the replica, 0 if it can't be measured,
+     * or Long.MAX_VALUE if the replica is dead or the query fails.
+     */
+    public long checkReplicationLag(String poolName, ServerSession session, DatabaseQuery query) {
+        ValueReadQuery lagQuery = this.replicationLagQuery;
+        if (lagQuery == null) {
+            lagQuery = session.getPlatform().getReplicationLagQuery();
+            if (lagQuery == null) {
+                return 0;
+            }
+        }
+        Accessor accessor = acquireAccessor(poolName, session, query, true);
+        if (accessor == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            // PERF: Prepare the query before being cloned.
+            lagQuery.setIsUserDefined(true);
+            lagQuery.checkPrepare(session, null);
+            lagQuery = (ValueReadQuery)lagQuery.clone();
+            lagQuery.setAccessor(accessor);
+            Object lag = session.executeQuery(lagQuery);
+            if (lag == null) {
+                return 0;
+            }
+            return ((Number)session.getPlatform().convertObject(lag, Long.class)).longValue();
+        } catch (RuntimeException exception) {
+            session.logThrowable(SessionLog.WARNING, SessionLog.CONNECTION, exception);
+            return Long.MAX_VALUE;
+        } finally {
+            accessor.getPool().releaseConnection(accessor);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the last replication lag measured for the replica, or -1 if it was not measured.
+     */
+    public long getLastReplicationLag(String poolName) {
+        Map<String, ReplicaLag> lags = this.replicaLags;
+        if (lags == null) {
+            return -1;
+        }
+        ReplicaLag replicaLag = lags.get(poolName);
+        if ((replicaLag == null) || (replicaLag.checkTime == 0)) {
+            return -1;
+        }
+        return replicaLag.lag;
+    }
+}
@@ -20,15 +20,19 @@
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
 import org.eclipse.persistence.internal.helper.ConversionManager;
+import org.eclipse.persistence.internal.queries.PartitionKeyAnalyzer;
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.queries.DatabaseQuery;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * PUBLIC:
@@ -38,6 +42,7 @@
  * All write or read request for object's with that value are sent to the server.
  * If a query does not include the field as a parameter, then it can either be sent
  * to all server's and unioned, or left to the sesion's default behavior.
+ * If the query's selection criteria restricts the field, the query is only sent to the servers of the selected values.
  * @author James Sutherland
  * @since EclipseLink 2.2
  */
@@ -181,6 +186,16 @@ public void addPartitionName(String valueName, String connectionPool) {
     public List<Accessor> getConnectionsForQuery(AbstractSession session, DatabaseQuery query, AbstractRecord arguments) {
         Object value = arguments.get(this.partitionField);
         if (value == null) {
+            // Use the connection pools of the values in the selection criteria.
+            Collection<String> poolNames = getPoolsForSelectionCriteria(session, query, arguments);
+            if (poolNames != null) {
+                if ((poolNames.size() == 1) && session.getPlatform().hasPartitioningCallback()) {
+                    // UCP support.
+                    session.getPlatform().getPartitioningCallback().setPartitionId(getOrderedPartitions().indexOf(poolNames.iterator().next()));
+                    return null;
+                }
+                return getAccessorsForPools(session, query, poolNames);
+            }
             if (this.unionUnpartitionableQueries) {
                 // Use all connections.
                 List<Accessor> accessors = new ArrayList<>(this.partitions.size());
@@ -212,6 +227,41 @@ public List<Accessor> getConnectionsForQuery(AbstractSession session, DatabaseQu
         return accessors;
     }
 
+    /**
+     * INTERNAL:
+     * Return the pools of the values, and if a range is selected of the partitions in the range and the default pool.
+     * Return null if a value is not mapped and there is no default pool.
+     */
+    @Override
+    protected Collection<String> getPoolsForConstraint(AbstractSession session, PartitionKeyAnalyzer.Constraint constraint) {
+        Set<String> poolNames = new LinkedHashSet<>();
+        for (Object value : constraint.getValues()) {
+            if (this.partitionValueType != null) {
+                value = session.getDatasourcePlatform().convertObject(value, this.partitionValueType);
+            }
+            String poolName = this.partitions.get(value);
+            if (poolName == null) {
+                if (this.defaultConnectionPool == null) {
+                    return null;
+                }
+                poolName = this.defaultConnectionPool;
+            }
+            poolNames.add(poolName);
+        }
+        if (!constraint.getRanges().isEmpty()) {
+            for (Map.Entry<Object, String> partition : this.partitions.entrySet()) {
+                if (constraint.includes(partition.getKey())) {
+                    poolNames.add(partition.getValue());
+                }
+            }
+            // Any other value of the range is in the default pool.
+            if (this.defaultConnectionPool != null) {
+                poolNames.add(this.defaultConnectionPool);
+            }
+        }
+        return poolNames;
+    }
+
     /**
      * INTERNAL:
      * Allow for the persist call to assign the partition.
@@ -214,6 +214,7 @@ public class QueryException extends ValidationException {
     public final static int SOP_OBJECT_WRONG_VERSION = 6181;
     public final static int SOP_OBJECT_WRONG_PK = 6182;
     public final static int UNSUPPORTED_MAPPING_FOR_QUERYBYEXAMPLE = 6183;
+    public final static int PIPELINED_FETCH_TIMEOUT = 6184;
 
 
     /**
@@ -1685,5 +1686,13 @@ public static QueryException unsupportedMappingQueryByExample(String className,
         queryException.setErrorCode(UNSUPPORTED_MAPPING_FOR_QUERYBYEXAMPLE);
         return queryException;
     }
+
+    public static QueryException pipelinedFetchTimeout(DatabaseQuery query, long timeout) {
+        Object[] args = {timeout};
+
+        QueryException queryException = new QueryException(ExceptionMessageGenerator.buildMessage(QueryException.class, PIPELINED_FETCH_TIMEOUT, args), query);
+        queryException.setErrorCode(PIPELINED_FETCH_TIMEOUT);
+        return queryException;
+    }
 }
 
@@ -470,6 +470,7 @@ public class ValidationException extends EclipseLinkException {
     public static final int INVALID_PERSISTENCE_ROOT_URL = 7357;
     public static final int INCORRECT_ASM_SERVICE_PROVIDED = 7358;
     public static final int NOT_AVAILABLE_ASM_SERVICE = 7359;
+    public static final int PROJECT_CLASS_UNSUPPORTED_METADATA = 7360;
 
     /* Code values in range <7500;7599> reserved for {@link org.eclipse.persistence.exceptions.BeanValidationException}. */
 
@@ -3043,4 +3044,12 @@ public static ValidationException notAvailableASMService() {
         validationException.setErrorCode(NOT_AVAILABLE_ASM_SERVICE);
         return validationException;
     }
+
+    public static ValidationException projectClassUnsupportedMetadata(String metadata, String owner) {
+        Object[] args = { metadata, owner };
+
+        ValidationException validationException = new ValidationException(ExceptionMessageGenerator.buildMessage(ValidationException.class, PROJECT_CLASS_UNSUPPORTED_METADATA, args));
+        validationException.setErrorCode(PROJECT_CLASS_UNSUPPORTED_METADATA);
+        return validationException;
+    }
 }
@@ -34,11 +34,13 @@
 
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.internal.helper.BoundedRingBuffer;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.LOBValueWriter;
 import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
+import org.eclipse.persistence.internal.helper.ParallelExecutor;
 import org.eclipse.persistence.internal.helper.ThreadCursoredList;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.localization.ToStringLocalization;
@@ -891,6 +893,52 @@ public void run() {
         return results;
     }
 
+    /**
+     * INTERNAL:
+     * PERF: Fetch the rows of the call's result set on a thread of the shared {@link ParallelExecutor} pool into a bounded buffer,
+     * so the rows are fetched concurrently to the objects being built from the buffer.
+     * The buffer blocks the fetching thread when it is full.
+     * The fetching thread does not use the session's profiler, only the calling thread does.
+     * The query must not execute other queries while building the objects, as they would use the same connection.
+     * Return null if all the threads of the pool are busy, the rows must then be fetched by the calling thread.
+     * The result set and statement are not closed, the consumer must cancel the buffer if it stops early,
+     * and wait for its completion before releasing them.
+     */
+    public BoundedRingBuffer<AbstractRecord> buildPipelinedResult(final DatabaseCall dbCall, final ResultSet resultSet, final ResultSetMetaData metaData, final AbstractSession session, int capacity) {
+        final BoundedRingBuffer<AbstractRecord> rows = new BoundedRingBuffer<>(capacity);
+        Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (!rows.isCancelled() && resultSet.next()) {
+                        if (!rows.put(fetchRow(dbCall.getFields(), dbCall.getFieldsArray(), resultSet, metaData, session))) {
+                            break;
+                        }
+                    }
+                    rows.complete();
+                } catch (SQLException exception) {
+                    RuntimeException exceptionToThrow = processExceptionForCommError(session, exception, dbCall);
+                    if (exceptionToThrow == null) {
+                        exceptionToThrow = DatabaseException.sqlException(exception, dbCall, DatabaseAccessor.this, session, false);
+                    }
+                    rows.fail(exceptionToThrow);
+                } catch (RuntimeException exception) {
+                    if (exception instanceof DatabaseException) {
+                        ((DatabaseException)exception).setCall(dbCall);
+                    }
+                    rows.fail(exception);
+                } catch (Error error) {
+                    rows.fail(new RuntimeException(error));
+                    throw error;
+                }
+            }
+        };
+        if (!ParallelExecutor.execute(runnable)) {
+            return null;
+        }
+        return rows;
+    }
+
     /**
      * Execute the statement.
      */
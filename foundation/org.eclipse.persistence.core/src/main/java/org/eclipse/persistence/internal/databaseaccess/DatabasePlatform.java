@@ -77,6 +77,7 @@
 import org.eclipse.persistence.queries.ReportQuery;
 import org.eclipse.persistence.queries.SQLCall;
 import org.eclipse.persistence.queries.StoredProcedureCall;
+import org.eclipse.persistence.queries.ValueReadQuery;
 import org.eclipse.persistence.sequencing.Sequence;
 import org.eclipse.persistence.sequencing.TableSequence;
 import org.eclipse.persistence.sessions.SessionProfiler;
@@ -3701,6 +3702,53 @@ public String buildDropIndex(String fullTableName, String indexName, String qual
         return queryString.toString();
     }
 
+    /**
+     * INTERNAL:
+     * Return if the platform supports the row triggers created by {@link org.eclipse.persistence.tools.schemaframework.TriggerDefinition}.
+     */
+    public boolean supportsTriggers() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the name used in the statement of a trigger to reference the values of the row before the change.
+     */
+    public String getTriggerOldRowName() {
+        return "OLD_ROW";
+    }
+
+    /**
+     * INTERNAL:
+     * Override this method with the platform's CREATE TRIGGER statement.
+     *
+     * @param triggerName
+     *            qualified name of the trigger
+     * @param fullTableName
+     *            qualified name of the table the trigger is to be created on
+     * @param event
+     *            UPDATE or DELETE, the statement is executed after each row changed by the event
+     * @param statement
+     *            the statement executed, referencing the values before the change through {@link #getTriggerOldRowName()}
+     */
+    public String buildCreateTrigger(String triggerName, String fullTableName, String event, String statement) {
+        return "CREATE TRIGGER " + triggerName + " AFTER " + event + " ON " + fullTableName
+                + " REFERENCING OLD ROW AS " + getTriggerOldRowName() + " FOR EACH ROW " + statement;
+    }
+
+    /**
+     * INTERNAL:
+     * Override this method with the platform's DROP TRIGGER statement.
+     *
+     * @param triggerName
+     *            qualified name of the trigger
+     * @param fullTableName
+     *            qualified name of the table the trigger was created on
+     */
+    public String buildDropTrigger(String triggerName, String fullTableName) {
+        return "DROP TRIGGER " + triggerName;
+    }
+
     /**
      * INTERNAL:
      * Returns sql used to create sequence object in the database.
@@ -3736,6 +3784,27 @@ public Writer buildSequenceObjectAlterIncrementWriter(Writer writer, String full
         return writer;
     }
 
+    /**
+     * INTERNAL:
+     * Return a query returning the current increment of the sequence object from the database catalog,
+     * or null if the platform does not support it.
+     * A NativeSequence only alters the increment to adapt its preallocation size if it can be read,
+     * so it is never lowered below the increment another application already allocates with.
+     */
+    public ValueReadQuery buildSelectQueryForSequenceObjectIncrement(String qualifiedSeqName) {
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return a query returning the replication lag in milliseconds of the replica database it is executed on,
+     * or null if the platform does not support it.
+     * It is used by a ReadReplicaPartitioningPolicy to stop reading from a replica that is too far behind.
+     */
+    public ValueReadQuery getReplicationLagQuery() {
+        return null;
+    }
+
     /**
      * INTERNAL:
      * Override this method if the platform supports sequence objects
@@ -3745,6 +3814,16 @@ public boolean isAlterSequenceObjectSupported() {
         return false;
     }
 
+    /**
+     * INTERNAL:
+     * Return if null values are sorted higher than any other value, so last in ascending order,
+     * false if they are sorted lower, or null if the default ordering of nulls is not known.
+     * It is used to merge the ordered rows returned by several connections.
+     */
+    public Boolean areNullsSortedHigh() {
+        return null;
+    }
+
     /**
      * INTERNAL:
      * Return if nesting outer joins is supported, i.e. each join must be followed by the ON clause.
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.eclipse.persistence.asm.ClassWriter;
+import org.eclipse.persistence.asm.EclipseLinkASMClassWriter;
+import org.eclipse.persistence.asm.MethodVisitor;
+import org.eclipse.persistence.asm.Opcodes;
+import org.eclipse.persistence.asm.Type;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.AttributeAccessor;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+
+/**
+ * INTERNAL:
+ * PERF: Generates specialized accessor classes for the attributes of non-weaved classes.
+ * <p>
+ * For every {@link InstanceVariableAttributeAccessor} and {@link MethodAttributeAccessor} of a descriptor
+ * a small class is generated that reads and writes the attribute with plain field or method instructions.
+ * The class is defined as a hidden nest mate of the class declaring the attribute,
+ * so private fields and methods are accessed directly, without reflection.
+ * The generated class only implements {@link Function} (get) and {@link BiConsumer} (set),
+ * so it can be defined in the domain class' loader regardless of EclipseLink's visibility from it.
+ * <p>
+ * Accessors that can't be generated (for instance the domain class' package is not open to EclipseLink,
+ * or the class is in a different module) keep using reflection.
+ * Generated classes are cached per declaring class and attribute, so inherited attributes are generated once.
+ *
+ * @see org.eclipse.persistence.sessions.Project#setShouldGenerateAttributeAccessors(boolean)
+ */
+public class AttributeAccessorGenerator {
+
+    /** Suffix of the generated accessor class names, the JVM adds its own suffix to hidden classes. */
+    public static final String ACCESSOR_CLASS_SUFFIX = "$$EclipseLinkAccessor$";
+
+    protected static final String FUNCTION = "java/util/function/Function";
+    protected static final String BI_CONSUMER = "java/util/function/BiConsumer";
+    protected static final String OBJECT = "java/lang/Object";
+    protected static final String INIT = "<init>";
+
+    /** Generated accessors, keyed on the declaring class and then on the field or methods names. */
+    protected static final ClassValue<Map<String, Object>> GENERATED_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private AttributeAccessorGenerator() {
+    }
+
+    /**
+     * INTERNAL:
+     * Replace reflective access of all the descriptor's instance variable and method accessors by generated accessors.
+     * The accessors must be initialized.
+     */
+    public static void generateAccessors(ClassDescriptor descriptor, AbstractSession session) {
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            AttributeAccessor accessor = mapping.getAttributeAccessor();
+            // Subclasses (i.e. for virtual attributes or SDO) define their own access semantics.
+            if ((accessor == null) || !accessor.isInitialized()) {
+                continue;
+            }
+            try {
+                if (accessor.getClass() == InstanceVariableAttributeAccessor.class) {
+                    generateAccessor((InstanceVariableAttributeAccessor)accessor);
+                } else if (accessor.getClass() == MethodAttributeAccessor.class) {
+                    generateAccessor((MethodAttributeAccessor)accessor);
+                }
+            } catch (Throwable exception) {
+                // Reflection is still used for this attribute.
+                session.log(SessionLog.FINER, SessionLog.METADATA, "attribute_accessor_not_generated",
+                        new Object[] {descriptor.getJavaClassName(), mapping.getAttributeName(), exception});
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Generate the field access for the instance variable accessor.
+     */
+    @SuppressWarnings("unchecked")
+    public static void generateAccessor(InstanceVariableAttributeAccessor accessor) throws Throwable {
+        Field field = accessor.getAttributeField();
+        if ((field == null) || Modifier.isStatic(field.getModifiers())) {
+            return;
+        }
+        Class<?> owner = field.getDeclaringClass();
+        boolean isFinal = Modifier.isFinal(field.getModifiers());
+        String key = "field:" + field.getName();
+        Object generated = GENERATED_ACCESSORS.get(owner).get(key);
+        if (generated == null) {
+            byte[] bytes = buildFieldAccessorBytes(owner, field.getName(), field.getType(), !isFinal);
+            generated = defineAccessor(owner, bytes);
+            GENERATED_ACCESSORS.get(owner).putIfAbsent(key, generated);
+        }
+        accessor.setGeneratedAccessors(owner, (Function<Object, Object>)generated, isFinal ? null : (BiConsumer<Object, Object>)generated);
+    }
+
+    /**
+     * INTERNAL:
+     * Generate the method calls for the method accessor.
+     * Only accessors with get and set methods declared on the same class are generated.
+     */
+    @SuppressWarnings("unchecked")
+    public static void generateAccessor(MethodAttributeAccessor accessor) throws Throwable {
+        Method getMethod = accessor.getGetMethod();
+        Method setMethod = accessor.getSetMethod();
+        if ((getMethod == null) || (getMethod.getParameterCount() != 0) || Modifier.isStatic(getMethod.getModifiers())) {
+            return;
+        }
+        Class<?> owner = getMethod.getDeclaringClass();
+        if ((setMethod != null) && ((setMethod.getDeclaringClass() != owner) || (setMethod.getParameterCount() != 1)
+                || Modifier.isStatic(setMethod.getModifiers()))) {
+            return;
+        }
+        String key = "method:" + getMethod.getName() + ":" + ((setMethod == null) ? "" : setMethod.getName());
+        Object generated = GENERATED_ACCESSORS.get(owner).get(key);
+        if (generated == null) {
+            byte[] bytes = buildMethodAccessorBytes(owner, getMethod, setMethod);
+            generated = defineAccessor(owner, bytes);
+            GENERATED_ACCESSORS.get(owner).putIfAbsent(key, generated);
+        }
+        accessor.setGeneratedAccessors(owner, (Function<Object, Object>)generated, (setMethod == null) ? null : (BiConsumer<Object, Object>)generated);
+    }
+
+    /**
+     * Define the accessor class as a hidden nest mate of the owner and return its instance.
+     */
+    protected static Object defineAccessor(Class<?> owner, byte[] bytes) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+        MethodHandles.Lookup hiddenLookup = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+        return hiddenLookup.findConstructor(hiddenLookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+    }
+
+    protected static String accessorClassName(Class<?> owner, String attribute) {
+        return Type.getInternalName(owner) + ACCESSOR_CLASS_SUFFIX + attribute;
+    }
+
+    /**
+     * Build the bytes of the class accessing the field directly.
+     */
+    protected static byte[] buildFieldAccessorBytes(Class<?> owner, String fieldName, Class<?> fieldType, boolean generateSetter) {
+        String ownerName = Type.getInternalName(owner);
+        String fieldDescriptor = Type.getDescriptor(fieldType);
+        ClassWriter cw = startClass(accessorClassName(owner, fieldName), generateSetter);
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "apply", "(Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+        mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+        mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), ownerName);
+        mv.visitFieldInsn(Opcodes.valueInt("GETFIELD"), ownerName, fieldName, fieldDescriptor);
+        box(mv, fieldType);
+        mv.visitInsn(Opcodes.valueInt("ARETURN"));
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        if (generateSetter) {
+            mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), ownerName);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 2);
+            unbox(mv, fieldType);
+            mv.visitFieldInsn(Opcodes.valueInt("PUTFIELD"), ownerName, fieldName, fieldDescriptor);
+            mv.visitInsn(Opcodes.valueInt("RETURN"));
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Build the bytes of the class calling the get and set methods directly.
+     */
+    protected static byte[] buildMethodAccessorBytes(Class<?> owner, Method getMethod, Method setMethod) {
+        String ownerName = Type.getInternalName(owner);
+        boolean isInterface = owner.isInterface();
+        int invoke = isInterface ? Opcodes.valueInt("INVOKEINTERFACE") : Opcodes.valueInt("INVOKEVIRTUAL");
+        ClassWriter cw = startClass(accessorClassName(owner, getMethod.getName()), setMethod != null);
+
+        Class<?> returnType = getMethod.getReturnType();
+        MethodVisitor mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "apply", "(Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+        mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+        mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), ownerName);
+        mv.visitMethodInsn(invoke, ownerName, getMethod.getName(), Type.getMethodDescriptor(getMethod), isInterface);
+        box(mv, returnType);
+        mv.visitInsn(Opcodes.valueInt("ARETURN"));
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        if (setMethod != null) {
+            Class<?> parameterType = setMethod.getParameterTypes()[0];
+            mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), ownerName);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 2);
+            unbox(mv, parameterType);
+            mv.visitMethodInsn(invoke, ownerName, setMethod.getName(), Type.getMethodDescriptor(setMethod), isInterface);
+            if (setMethod.getReturnType() != void.class) {
+                // Fluent setters.
+                mv.visitInsn((setMethod.getReturnType() == long.class || setMethod.getReturnType() == double.class) ? Opcodes.valueInt("POP2") : Opcodes.valueInt("POP"));
+            }
+            mv.visitInsn(Opcodes.valueInt("RETURN"));
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Start the accessor class implementing Function and optionally BiConsumer, with a default constructor.
+     */
+    protected static ClassWriter startClass(String className, boolean generateSetter) {
+        // Straight-line code only, no frames need to be computed.
+        ClassWriter cw = new EclipseLinkASMClassWriter(ClassWriter.valueInt("COMPUTE_MAXS"));
+        String[] interfaces = generateSetter ? new String[] {FUNCTION, BI_CONSUMER} : new String[] {FUNCTION};
+        cw.visit(Opcodes.valueInt("ACC_PUBLIC") + Opcodes.valueInt("ACC_FINAL") + Opcodes.valueInt("ACC_SUPER") + Opcodes.valueInt("ACC_SYNTHETIC"),
+                className, null, OBJECT, interfaces);
+        MethodVisitor mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), INIT, "()V", null, null);
+        mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+        mv.visitMethodInsn(Opcodes.valueInt("INVOKESPECIAL"), OBJECT, INIT, "()V", false);
+        mv.visitInsn(Opcodes.valueInt("RETURN"));
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        return cw;
+    }
+
+    /**
+     * Box the primitive value on top of the stack.
+     */
+    protected static void box(MethodVisitor mv, Class<?> type) {
+        if (!type.isPrimitive()) {
+            return;
+        }
+        Class<?> wrapper = wrapperFor(type);
+        String wrapperName = Type.getInternalName(wrapper);
+        mv.visitMethodInsn(Opcodes.valueInt("INVOKESTATIC"), wrapperName, "valueOf", "(" + Type.getDescriptor(type) + ")L" + wrapperName + ";", false);
+    }
+
+    /**
+     * Cast the value on top of the stack to the type, unbox it if the type is primitive.
+     */
+    protected static void unbox(MethodVisitor mv, Class<?> type) {
+        if (!type.isPrimitive()) {
+            if (type != Object.class) {
+                mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), Type.getInternalName(type));
+            }
+            return;
+        }
+        String wrapperName = Type.getInternalName(wrapperFor(type));
+        mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), wrapperName);
+        mv.visitMethodInsn(Opcodes.valueInt("INVOKEVIRTUAL"), wrapperName, type.getName() + "Value", "()" + Type.getDescriptor(type), false);
+    }
+
+    protected static Class<?> wrapperFor(Class<?> type) {
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else {
+            return Character.class;
+        }
+    }
+}
@@ -21,6 +21,8 @@
 import org.eclipse.persistence.mappings.AttributeAccessor;
 
 import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * <p><b>Purpose</b>: A wrapper class for handling cases when the domain object has instance variable
@@ -34,6 +36,18 @@ public class InstanceVariableAttributeAccessor extends AttributeAccessor {
     /** The attribute name of an object is converted to Field type to access it reflectively */
     protected transient Field attributeField;
 
+    /** PERF: Generated field getter, used instead of reflection if set. */
+    protected transient Function<Object, Object> generatedGetter;
+
+    /** PERF: Generated field setter, used instead of reflection if set. */
+    protected transient BiConsumer<Object, Object> generatedSetter;
+
+    /** The class declaring the field, objects of other classes go through reflection. */
+    protected transient Class<?> generatedOwner;
+
+    /** The field type (wrapper type for primitives), values of other types go through reflection. */
+    protected transient Class<?> generatedValueClass;
+
     /**
      * Returns the class type of the attribute.
      */
@@ -66,6 +80,10 @@ public Class<?> getAttributeType() {
      */
     @Override
     public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        // PERF: Use generated accessor, reflection is only used to report errors.
+        if ((this.generatedGetter != null) && this.generatedOwner.isInstance(anObject)) {
+            return this.generatedGetter.apply(anObject);
+        }
         return PrivilegedAccessHelper.callDoPrivilegedWithException(
                 () -> attributeField.get(anObject),
                 (ex) -> {
@@ -120,6 +138,29 @@ public boolean isInstanceVariableAttributeAccessor() {
      */
     protected void setAttributeField(Field field) {
         attributeField = field;
+        this.generatedGetter = null;
+        this.generatedSetter = null;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the generated field getter and setter to be used instead of reflection.
+     * The setter is null for final fields.
+     * @see AttributeAccessorGenerator
+     */
+    public void setGeneratedAccessors(Class<?> owner, Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+        this.generatedOwner = owner;
+        this.generatedValueClass = Helper.getObjectClass(getAttributeType());
+        this.generatedGetter = getter;
+        this.generatedSetter = setter;
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if generated accessors are used instead of reflection.
+     */
+    public boolean usesGeneratedAccessors() {
+        return this.generatedGetter != null;
     }
 
     /**
@@ -127,6 +168,11 @@ protected void setAttributeField(Field field) {
      */
     @Override
     public void setAttributeValueInObject(final Object anObject, final Object value) throws DescriptorException {
+        // PERF: Use generated accessor, null into primitive, conversion and errors are handled through reflection.
+        if ((this.generatedSetter != null) && this.generatedValueClass.isInstance(value) && this.generatedOwner.isInstance(anObject)) {
+            this.generatedSetter.accept(anObject, value);
+            return;
+        }
         try {
             // PERF: Direct variable access.
             PrivilegedAccessHelper.callDoPrivilegedWithException(
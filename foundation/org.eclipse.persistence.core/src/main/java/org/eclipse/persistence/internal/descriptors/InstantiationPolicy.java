@@ -27,6 +27,7 @@
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
 
 /**
  * <b>Purpose</b>: Allows customization of how an object is created/instantiated.<p>
@@ -92,6 +93,9 @@ public class InstantiationPolicy extends CoreInstantiationPolicy implements Clon
     /** Must be transient because java.lang.Constructor is not serializable. */
     private transient Constructor defaultConstructor;
 
+    /** PERF: Generated instantiator calling the default constructor directly, used instead of reflection if set. */
+    protected transient Supplier<Object> generatedInstantiator;
+
     /**
      * Default constructor
      */
@@ -106,6 +110,9 @@ public InstantiationPolicy() {
     public Object buildNewInstance() throws DescriptorException {
         // PERF: Just check method-name.
         if (this.methodName == null) {
+            if (this.generatedInstantiator != null) {
+                return buildNewInstanceUsingGeneratedInstantiator();
+            }
             return buildNewInstanceUsingDefaultConstructor();
         } else {
             return buildNewInstanceUsingFactory();
@@ -142,6 +149,18 @@ protected Object buildNewInstanceUsingDefaultConstructor() throws DescriptorExce
         );
     }
 
+    /**
+     * Build and return a new instance, using the generated instantiator.
+     */
+    protected Object buildNewInstanceUsingGeneratedInstantiator() throws DescriptorException {
+        try {
+            return this.generatedInstantiator.get();
+        } catch (RuntimeException exception) {
+            // Report constructor failures as the reflective instantiation does.
+            throw DescriptorException.targetInvocationWhileConstructorInstantiation(getDescriptor(), new InvocationTargetException(exception));
+        }
+    }
+
     /**
      * Build and return a new instance, using the factory.
      * The factory can be null, in which case the method is a static method defined by the descriptor class.
@@ -371,6 +390,22 @@ public boolean isUsingDefaultConstructor() {
         return this.getMethodName() == null;
     }
 
+    /**
+     * INTERNAL:
+     * Set the generated instantiator used instead of the reflective default constructor.
+     */
+    public void setGeneratedInstantiator(Supplier<Object> generatedInstantiator) {
+        this.generatedInstantiator = generatedInstantiator;
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if new instances are built by a generated instantiator.
+     */
+    public boolean usesGeneratedInstantiator() {
+        return (this.generatedInstantiator != null) && (this.methodName == null);
+    }
+
     protected void setDefaultConstructor(Constructor defaultConstructor) {
         this.defaultConstructor = defaultConstructor;
     }
@@ -30,6 +30,8 @@
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * <p><b>Purpose</b>: A wrapper class for handling cases when the domain object attributes are
@@ -45,6 +47,18 @@ public class MethodAttributeAccessor extends AttributeAccessor {
     protected transient Method setMethod;
     protected transient Method getMethod;
 
+    /** PERF: Generated get method call, used instead of reflection if set. */
+    protected transient Function<Object, Object> generatedGetter;
+
+    /** PERF: Generated set method call, used instead of reflection if set. */
+    protected transient BiConsumer<Object, Object> generatedSetter;
+
+    /** The class declaring the methods, objects of other classes go through reflection. */
+    protected transient Class<?> generatedOwner;
+
+    /** The set method parameter type (wrapper type for primitives), values of other types go through reflection. */
+    protected transient Class<?> generatedValueClass;
+
     /**
      * Return the return type of the method accessor.
      */
@@ -62,6 +76,14 @@ public Class<?> getAttributeClass() {
      */
     @Override
     public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        // PERF: Use generated accessor, reflection is only used to report errors.
+        if ((this.generatedGetter != null) && this.generatedOwner.isInstance(anObject)) {
+            try {
+                return this.generatedGetter.apply(anObject);
+            } catch (RuntimeException exception) {
+                throw DescriptorException.targetInvocationWhileGettingValueThruMethodAccessor(getGetMethodName(), anObject.getClass().getName(), exception);
+            }
+        }
         return getAttributeValueFromObject(anObject, null);
     }
 
@@ -209,6 +231,15 @@ public boolean isMethodAttributeAccessor() {
      */
     @Override
     public void setAttributeValueInObject(Object domainObject, Object attributeValue) throws DescriptorException {
+        // PERF: Use generated accessor, null into primitive, conversion and errors are handled through reflection.
+        if ((this.generatedSetter != null) && this.generatedValueClass.isInstance(attributeValue) && this.generatedOwner.isInstance(domainObject)) {
+            try {
+                this.generatedSetter.accept(domainObject, attributeValue);
+            } catch (RuntimeException exception) {
+                throw DescriptorException.targetInvocationWhileSettingValueThruMethodAccessor(getSetMethodName(), attributeValue, exception);
+            }
+            return;
+        }
         setAttributeValueInObject(domainObject, attributeValue, new Object[] {attributeValue});
     }
 
@@ -269,6 +300,29 @@ protected void setAttributeValueInObject(final Object domainObject, final Object
      */
     protected void setGetMethod(Method getMethod) {
         this.getMethod = getMethod;
+        this.generatedGetter = null;
+        this.generatedSetter = null;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the generated get and set method calls to be used instead of reflection.
+     * The setter is null for read-only accessors.
+     * @see AttributeAccessorGenerator
+     */
+    public void setGeneratedAccessors(Class<?> owner, Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+        this.generatedOwner = owner;
+        this.generatedValueClass = (this.setMethod == null) ? null : Helper.getObjectClass(this.setMethod.getParameterTypes()[0]);
+        this.generatedGetter = getter;
+        this.generatedSetter = setter;
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if generated accessors are used instead of reflection.
+     */
+    public boolean usesGeneratedAccessors() {
+        return this.generatedGetter != null;
     }
 
     /**
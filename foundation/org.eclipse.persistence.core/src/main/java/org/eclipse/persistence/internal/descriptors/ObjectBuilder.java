@@ -55,6 +55,8 @@
 import org.eclipse.persistence.internal.expressions.ObjectExpression;
 import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
 import org.eclipse.persistence.internal.expressions.SQLSelectStatement;
+import org.eclipse.persistence.internal.helper.BoundedRingBuffer;
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
 import org.eclipse.persistence.internal.helper.ConcurrencySemaphore;
 import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
 import org.eclipse.persistence.internal.helper.DatabaseField;
@@ -130,7 +132,11 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 /**
  * <p><b>Purpose</b>: Object builder is one of the behavior class attached to descriptor.
@@ -185,6 +191,16 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
     protected boolean shouldKeepRow = false;
     /** PERF: is there an cache index field that's would not be selected by SOP query. Ignored unless descriptor uses SOP and CachePolicy has cache indexes. */
     protected boolean hasCacheIndexesInSopObject = false;
+    /** PERF: Readers compiled for the query shapes built directly from a result-set, keyed by the fields array of the call. Used by ObjectLevelReadQuery ResultSet optimization. */
+    protected transient volatile ConcurrentFixedCache resultSetRowReaders;
+    /** PERF: Cached for the query shapes that can't be read through a compiled reader, so they are not compiled again. */
+    protected static final Object NO_RESULT_SET_ROW_READER = new Object();
+    /** PERF: Generated cloner copying the immutable direct attributes, null unless generated. */
+    protected transient BiConsumer<Object, Object> generatedCloner;
+    /** PERF: Mappings not copied by the generated cloner, set only if the cloner is generated. */
+    protected transient List<DatabaseMapping> nonGeneratedMappings;
+    /** PERF: Cloning mappings not copied by the generated cloner, set only if the cloner is generated. */
+    protected transient List<DatabaseMapping> nonGeneratedCloningMappings;
     /** Semaphore related properties. Transient to avoid serialization in clustered/replicated environments see CORBA tests*/
     private static final transient ThreadLocal<Boolean> SEMAPHORE_THREAD_LOCAL_VAR = new ThreadLocal<>();
     private static final transient int SEMAPHORE_MAX_NUMBER_THREADS = ConcurrencyUtil.SINGLETON.getNoOfThreadsAllowedToObjectBuildInParallel();
@@ -200,7 +216,8 @@ protected void initialize(ClassDescriptor descriptor) {
         this.mappingsByField = new HashMap(20);
         this.readOnlyMappingsByField = new HashMap(10);
         this.mappingsByAttribute = new HashMap(20);
-        this.fieldsMap = new HashMap(20);
+        // Fields of a reference descriptor may be built by another thread if initializing in parallel, fields are never null.
+        this.fieldsMap = new ConcurrentHashMap<>(20);
         this.primaryKeyMappings = new ArrayList(5);
         this.nonPrimaryKeyMappings = new ArrayList(10);
         this.cloningMappings = new ArrayList(10);
@@ -689,6 +706,14 @@ public Object buildBackupClone(Object clone, UnitOfWorkImpl unitOfWork) {
                     mapping.buildBackupClone(clone, backup, unitOfWork);
                 }
             }
+        } else if (this.generatedCloner != null) {
+            // PERF: Copy the direct attributes in generated code.
+            this.generatedCloner.accept(clone, backup);
+            mappings = this.nonGeneratedCloningMappings;
+            size = mappings.size();
+            for (int index = 0; index < size; index++) {
+                mappings.get(index).buildBackupClone(clone, backup, unitOfWork);
+            }
         } else {
             for (int index = 0; index < size; index++) {
                 mappings.get(index).buildBackupClone(clone, backup, unitOfWork);
@@ -1432,6 +1457,11 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                     }
                     query.setPrefetchedCacheKeys(session.getIdentityMapAccessorInstance().getAllCacheKeysFromIdentityMapWithEntityPK(pkList, descriptor));
                 }
+                // PERF: Build the objects of large results on multiple threads, they are still added in the rows order.
+                Object[] builtObjects = null;
+                if (ParallelObjectBuilder.shouldBuildObjectsInParallel(query, session, size)) {
+                    builtObjects = ParallelObjectBuilder.buildObjects(this, query, databaseRows, session, inheritancePolicy, shouldUseWrapperPolicy);
+                }
                 ContainerPolicy policy = query.getContainerPolicy();
                 if (policy.shouldAddAll()) {
                     List domainObjectsIn = new ArrayList(size);
@@ -1440,8 +1470,12 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                         AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
                         // PERF: 1-m joining nulls out duplicate rows.
                         if (databaseRow != null) {
-                            domainObjectsIn.add(buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
-                                    isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy));
+                            if (builtObjects != null) {
+                                domainObjectsIn.add(builtObjects[index]);
+                            } else {
+                                domainObjectsIn.add(buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                                        isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy));
+                            }
                             databaseRowsIn.add(databaseRow);
                         }
                     }
@@ -1452,8 +1486,13 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                         AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
                         // PERF: 1-m joining nulls out duplicate rows.
                         if (databaseRow != null) {
-                            Object domainObject = buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
-                                    isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                            Object domainObject;
+                            if (builtObjects != null) {
+                                domainObject = builtObjects[index];
+                            } else {
+                                domainObject = buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                                        isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                            }
                             if (quickAdd) {
                                 ((Collection)domainObjects).add(domainObject);
                             } else {
@@ -1546,6 +1585,72 @@ public Object buildObjectsFromResultSetInto(ReadAllQuery query, ResultSet result
         return domainObjects;
     }
 
+    /**
+     * PERF: Return a container which contains the instances of the receivers javaClass.
+     * Set the fields of the instance to the values of the rows taken from the buffer,
+     * the rows are fetched concurrently by the buffer's producer.
+     * The query fails if no row was fetched within its pipelined fetch timeout.
+     */
+    public Object buildObjectsFromPipelineInto(ReadAllQuery query, BoundedRingBuffer<AbstractRecord> databaseRows, Object domainObjects) {
+        AbstractSession session = query.getSession();
+        session.startOperationProfile(SessionProfiler.ObjectBuilding, query, SessionProfiler.ALL);
+        try {
+            InheritancePolicy inheritancePolicy = null;
+            if (this.descriptor.hasInheritance()) {
+                inheritancePolicy = this.descriptor.getInheritancePolicy();
+            }
+            boolean isUnitOfWork = session.isUnitOfWork();
+            boolean shouldCacheQueryResults = query.shouldCacheQueryResults();
+            boolean shouldUseWrapperPolicy = query.shouldUseWrapperPolicy();
+            // PERF: Avoid lazy init of join manager if no joining.
+            JoinedAttributeManager joinManager = null;
+            if (query.hasJoining()) {
+                joinManager = query.getJoinedAttributeManager();
+            }
+            ContainerPolicy policy = query.getContainerPolicy();
+            long timeout = query.getPipelinedFetchTimeout();
+            if (policy.shouldAddAll()) {
+                List domainObjectsIn = new ArrayList();
+                List<AbstractRecord> databaseRowsIn = new ArrayList();
+                AbstractRecord databaseRow = takeRow(query, databaseRows, timeout);
+                while (databaseRow != null) {
+                    domainObjectsIn.add(buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                            isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy));
+                    databaseRowsIn.add(databaseRow);
+                    databaseRow = takeRow(query, databaseRows, timeout);
+                }
+                policy.addAll(domainObjectsIn, domainObjects, session, databaseRowsIn, query, null, true);
+            } else {
+                boolean quickAdd = (domainObjects instanceof Collection) && !this.hasWrapperPolicy;
+                AbstractRecord databaseRow = takeRow(query, databaseRows, timeout);
+                while (databaseRow != null) {
+                    Object domainObject = buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                            isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                    if (quickAdd) {
+                        ((Collection)domainObjects).add(domainObject);
+                    } else {
+                        policy.addInto(domainObject, domainObjects, session, databaseRow, query, null, true);
+                    }
+                    databaseRow = takeRow(query, databaseRows, timeout);
+                }
+            }
+        } finally {
+            session.endOperationProfile(SessionProfiler.ObjectBuilding, query, SessionProfiler.ALL);
+        }
+        return domainObjects;
+    }
+
+    /**
+     * Take the next row of the buffer, the query fails if no row was fetched within the timeout.
+     */
+    protected AbstractRecord takeRow(ReadAllQuery query, BoundedRingBuffer<AbstractRecord> databaseRows, long timeout) {
+        try {
+            return databaseRows.take(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            throw QueryException.pipelinedFetchTimeout(query, timeout);
+        }
+    }
+
     /**
      * Return a container which contains the instances of the receivers javaClass.
      * Set the fields of the instance to the values stored in the database rows.
@@ -2428,7 +2533,15 @@ private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, Joine
         AbstractRecord row = null;
         Object[] values = null;
         Object primaryKey;
-        if (isSimple && pkFieldsSize == 1) {
+        ResultSetRowReader rowReader = null;
+        if (isSimple) {
+            rowReader = getResultSetRowReader(fieldsArray, metaData, platform);
+        }
+        if (rowReader != null) {
+            // PERF: Read the row by index, no intermediate record is built.
+            values = rowReader.readPrimaryKeyValues(resultSet, executionSession, accessor, metaData, platform);
+            primaryKey = rowReader.buildPrimaryKey(values, executionSession, descriptor.getJavaClass());
+        } else if (isSimple && pkFieldsSize == 1) {
             primaryKeyMapping = this.primaryKeyMappings.get(0);
             primaryKey = primaryKeyMapping.valueFromResultSet(resultSet, query, executionSession, accessor, metaData, 1, platform);
         } else {
@@ -2479,7 +2592,9 @@ private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, Joine
                 List<DatabaseMapping> mappings = descriptor.getMappings();
                 int size = mappings.size();
 
-                if (isSimple) {
+                if (rowReader != null) {
+                    rowReader.readInto(object, values, resultSet, session, accessor, metaData, platform);
+                } else if (isSimple) {
                     int shift = descriptor.getTables().size() * pkFieldsSize;
                     if (primaryKeyMapping != null) {
                         // simple primary key - set pk directly through the mapping
@@ -2536,6 +2651,37 @@ private Object buildObjectFromResultSetInternal(ObjectBuildingQuery query, Joine
         return object;
     }
 
+    /**
+     * INTERNAL:
+     * Return the reader compiled for the query shape (the fields selected by the call),
+     * compile it the first time the shape is read.
+     * Return null if the descriptor or the shape can't be read through a compiled reader.
+     * PERF: Used by ObjectLevelReadQuery ResultSet optimization.
+     */
+    protected ResultSetRowReader getResultSetRowReader(DatabaseField[] fieldsArray, ResultSetMetaData metaData, DatabasePlatform platform) throws SQLException {
+        if (fieldsArray == null) {
+            return null;
+        }
+        ConcurrentFixedCache rowReaders = this.resultSetRowReaders;
+        if (rowReaders == null) {
+            rowReaders = new ConcurrentFixedCache(20);
+            this.resultSetRowReaders = rowReaders;
+        }
+        // The fields array is the same instance for every execution of the call, its identity is the key.
+        Object rowReader = rowReaders.get(fieldsArray);
+        if (rowReader == null) {
+            rowReader = ResultSetRowReader.compile(this.descriptor, fieldsArray, metaData, platform);
+            if (rowReader == null) {
+                rowReader = NO_RESULT_SET_ROW_READER;
+            }
+            rowReaders.put(fieldsArray, rowReader);
+        }
+        if (rowReader == NO_RESULT_SET_ROW_READER) {
+            return null;
+        }
+        return (ResultSetRowReader)rowReader;
+    }
+
     /**
      * Returns a clone of itself.
      */
@@ -2550,7 +2696,7 @@ public Object clone() {
         // Only the shallow copy is created. The entries never change in these data structures
         objectBuilder.setMappingsByAttribute(new HashMap(getMappingsByAttribute()));
         objectBuilder.setMappingsByField(new HashMap(getMappingsByField()));
-        objectBuilder.setFieldsMap(new HashMap(getFieldsMap()));
+        objectBuilder.setFieldsMap(new ConcurrentHashMap<>(getFieldsMap()));
         objectBuilder.setReadOnlyMappingsByField(new HashMap(getReadOnlyMappingsByField()));
         objectBuilder.setPrimaryKeyMappings(new ArrayList(getPrimaryKeyMappings()));
         if (nonPrimaryKeyMappings != null) {
@@ -2559,6 +2705,10 @@ public Object clone() {
         objectBuilder.cloningMappings = new ArrayList(this.cloningMappings);
         objectBuilder.eagerMappings = new ArrayList(this.eagerMappings);
         objectBuilder.relationshipMappings = new ArrayList(this.relationshipMappings);
+        objectBuilder.resultSetRowReaders = null;
+        objectBuilder.generatedCloner = null;
+        objectBuilder.nonGeneratedMappings = null;
+        objectBuilder.nonGeneratedCloningMappings = null;
 
         return objectBuilder;
     }
@@ -2729,6 +2879,11 @@ public boolean compareObjects(Object firstObject, Object secondObject, AbstractS
     public void copyInto(Object source, Object target, boolean cloneOneToOneValueHolders) {
         // PERF: Avoid iterator.
         List<DatabaseMapping> mappings = this.descriptor.getMappings();
+        if (this.generatedCloner != null) {
+            // PERF: Copy the direct attributes in generated code.
+            this.generatedCloner.accept(source, target);
+            mappings = this.nonGeneratedMappings;
+        }
         for (int index = 0; index < mappings.size(); index++) {
             DatabaseMapping mapping = mappings.get(index);
             Object value = null;
@@ -3523,10 +3678,29 @@ public Map<DatabaseField, DatabaseField> getFieldsMap() {
      * Return the fields map.
      * Used to maintain identity on the field objects. Ensure they get the correct index/type.
      */
-    protected void setFieldsMap(Map fieldsMap) {
+    protected void setFieldsMap(Map<DatabaseField, DatabaseField> fieldsMap) {
         this.fieldsMap = fieldsMap;
     }
 
+    /**
+     * INTERNAL:
+     * Set the generated cloner copying the immutable direct attributes,
+     * and the mappings and cloning mappings that still have to be copied by the mappings.
+     */
+    public void setGeneratedCloner(BiConsumer<Object, Object> generatedCloner, List<DatabaseMapping> nonGeneratedMappings, List<DatabaseMapping> nonGeneratedCloningMappings) {
+        this.nonGeneratedMappings = nonGeneratedMappings;
+        this.nonGeneratedCloningMappings = nonGeneratedCloningMappings;
+        this.generatedCloner = generatedCloner;
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if the immutable direct attributes are copied by a generated cloner.
+     */
+    public boolean usesGeneratedCloner() {
+        return this.generatedCloner != null;
+    }
+
     /**
      * PERF:
      * Return all mappings that require cloning.
@@ -3759,6 +3933,9 @@ public void initialize(AbstractSession session) throws DescriptorException {
         getReadOnlyMappingsByField().clear();
         getMappingsByAttribute().clear();
         getCloningMappings().clear();
+        this.generatedCloner = null;
+        this.nonGeneratedMappings = null;
+        this.nonGeneratedCloningMappings = null;
         getEagerMappings().clear();
         getRelationshipMappings().clear();
         if (nonPrimaryKeyMappings == null) {
@@ -3914,6 +4091,14 @@ public void postInitialize(AbstractSession session) throws DescriptorException {
                 break;
             }
         }
+        // PERF: Replace reflective access of non-weaved attributes with generated accessors.
+        if (session.getProject().shouldGenerateAttributeAccessors()) {
+            AttributeAccessorGenerator.generateAccessors(this.descriptor, session);
+        }
+        // PERF: Replace reflective instantiation and per mapping cloning of direct attributes with a generated cloner.
+        if (session.getProject().shouldGenerateObjectCloners()) {
+            ObjectClonerGenerator.generateCloner(this.descriptor, session);
+        }
         // PERF: is there an cache index field that's would not be selected by SOP query. Ignored unless descriptor uses SOP and CachePolicy has cache indexes.
         if (this.descriptor.hasSerializedObjectPolicy() && this.descriptor.getCachePolicy().hasCacheIndexes()) {
             for (List<DatabaseField> indexFields : this.descriptor.getCachePolicy().getCacheIndexes().keySet()) {
@@ -4309,6 +4494,14 @@ public void populateAttributesForClone(Object original, CacheKey cacheKey, Objec
                     mapping.buildClone(original, cacheKey, clone, refreshCascade, cloningSession);
                 }
             }
+        } else if (this.generatedCloner != null) {
+            // PERF: Copy the direct attributes in generated code.
+            this.generatedCloner.accept(original, clone);
+            mappings = this.nonGeneratedCloningMappings;
+            size = mappings.size();
+            for (int index = 0; index < size; index++) {
+                mappings.get(index).buildClone(original, cacheKey, clone, refreshCascade, cloningSession);
+            }
         } else {
             for (int index = 0; index < size; index++) {
                 mappings.get(index).buildClone(original, cacheKey, clone, refreshCascade, cloningSession);
@@ -4429,7 +4622,10 @@ protected boolean refreshObjectIfRequired(ClassDescriptor concreteDescriptor, Ca
             if (concreteDescriptor.usesOptimisticLocking()) {
                 OptimisticLockingPolicy policy = concreteDescriptor.getOptimisticLockingPolicy();
                 Object cacheValue = policy.getValueToPutInCache(databaseRow, session);
-                if (concreteDescriptor.getCachePolicy().shouldOnlyRefreshCacheIfNewerVersion()) {
+                // Invalid objects that can be revalidated are only rebuilt if their version changed.
+                if (concreteDescriptor.getCachePolicy().shouldOnlyRefreshCacheIfNewerVersion()
+                        || (concreteDescriptor.getCacheInvalidationPolicy().shouldRevalidateInvalidObjects()
+                                && !query.shouldRefreshIdentityMapResult() && !concreteDescriptor.shouldAlwaysRefreshCache())) {
                     if (cacheValue == null) {
                         refreshRequired = policy.isNewerVersion(databaseRow, domainObject, cacheKey.getKey(), session);
                     } else {
@@ -4468,7 +4664,7 @@ protected boolean refreshObjectIfRequired(ClassDescriptor concreteDescriptor, Ca
     public void rehashFieldDependancies(AbstractSession session) {
         setMappingsByField(Helper.rehashMap(getMappingsByField()));
         setReadOnlyMappingsByField(Helper.rehashMap(getReadOnlyMappingsByField()));
-        setFieldsMap(Helper.rehashMap(getFieldsMap()));
+        setFieldsMap(new ConcurrentHashMap<>(getFieldsMap()));
         setPrimaryKeyMappings(new ArrayList(2));
         setNonPrimaryKeyMappings(new ArrayList(2));
         initializePrimaryKey(session);
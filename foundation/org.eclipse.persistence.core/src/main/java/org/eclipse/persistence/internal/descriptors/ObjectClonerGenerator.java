@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.eclipse.persistence.asm.ClassWriter;
+import org.eclipse.persistence.asm.EclipseLinkASMClassWriter;
+import org.eclipse.persistence.asm.MethodVisitor;
+import org.eclipse.persistence.asm.Opcodes;
+import org.eclipse.persistence.asm.Type;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+
+/**
+ * INTERNAL:
+ * PERF: Generates a cloner class for a descriptor, used to build new instances and to copy
+ * the immutable direct attributes of an object into another in straight-line code.
+ * <p>
+ * The generated class is defined as a hidden nest mate of the descriptor's class.
+ * It implements {@link Supplier} (calls the default constructor)
+ * and {@link BiConsumer} (copies the fields from the first argument into the second one).
+ * Only non-mutable {@link DirectToFieldMapping}s accessed through an {@link InstanceVariableAttributeAccessor}
+ * are copied, as for these cloning is a plain assignment. Fields of superclasses are copied if they are
+ * accessible from the descriptor's class package. All other mappings keep cloning themselves.
+ *
+ * @see org.eclipse.persistence.sessions.Project#setShouldGenerateObjectCloners(boolean)
+ */
+public class ObjectClonerGenerator {
+
+    /** Suffix of the generated cloner class names, the JVM adds its own suffix to hidden classes. */
+    public static final String CLONER_CLASS_SUFFIX = "$$EclipseLinkCloner";
+
+    protected static final String SUPPLIER = "java/util/function/Supplier";
+
+    /** Generated cloners, keyed on the class and then on the copied fields. */
+    protected static final ClassValue<Map<String, Object>> GENERATED_CLONERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ObjectClonerGenerator() {
+    }
+
+    /**
+     * INTERNAL:
+     * Generate the descriptor's cloner and set it in its object builder and instantiation policy.
+     * The mappings must be initialized.
+     */
+    @SuppressWarnings("unchecked")
+    public static void generateCloner(ClassDescriptor descriptor, AbstractSession session) {
+        Class<?> javaClass = descriptor.getJavaClass();
+        if ((javaClass == null) || javaClass.isInterface() || javaClass.isArray() || javaClass.isPrimitive()) {
+            return;
+        }
+        ObjectBuilder objectBuilder = descriptor.getObjectBuilder();
+        try {
+            List<Field> fields = new ArrayList<>();
+            List<DatabaseMapping> mappings = new ArrayList<>();
+            List<DatabaseMapping> cloningMappings = new ArrayList<>();
+            for (DatabaseMapping mapping : descriptor.getMappings()) {
+                Field field = copiedField(mapping, javaClass);
+                if ((field == null) || fields.contains(field)) {
+                    mappings.add(mapping);
+                    if (objectBuilder.getCloningMappings().contains(mapping)) {
+                        cloningMappings.add(mapping);
+                    }
+                } else {
+                    fields.add(field);
+                }
+            }
+            boolean generateConstructor = canInstantiate(descriptor);
+            if (fields.isEmpty() && !generateConstructor) {
+                return;
+            }
+            StringBuilder key = new StringBuilder(generateConstructor ? "new" : "");
+            for (Field field : fields) {
+                key.append(':').append(field.getDeclaringClass().getName()).append('.').append(field.getName());
+            }
+            Object generated = GENERATED_CLONERS.get(javaClass).get(key.toString());
+            if (generated == null) {
+                byte[] bytes = buildClonerBytes(javaClass, fields, generateConstructor);
+                generated = AttributeAccessorGenerator.defineAccessor(javaClass, bytes);
+                GENERATED_CLONERS.get(javaClass).putIfAbsent(key.toString(), generated);
+            }
+            if (generateConstructor) {
+                descriptor.getInstantiationPolicy().setGeneratedInstantiator((Supplier<Object>)generated);
+            }
+            if (!fields.isEmpty()) {
+                objectBuilder.setGeneratedCloner((BiConsumer<Object, Object>)generated, mappings, cloningMappings);
+            }
+        } catch (Throwable exception) {
+            // Instances keep being built and cloned through the policies and the mappings.
+            session.log(SessionLog.FINER, SessionLog.METADATA, "object_cloner_not_generated",
+                    new Object[] {descriptor.getJavaClassName(), exception});
+        }
+    }
+
+    /**
+     * Return the field that the generated cloner can copy for the mapping, or null if the mapping must clone itself.
+     */
+    protected static Field copiedField(DatabaseMapping mapping, Class<?> javaClass) {
+        // Subclasses and converters of mutable values define their own clone semantics.
+        if ((mapping.getClass() != DirectToFieldMapping.class) || ((DirectToFieldMapping)mapping).isMutable()) {
+            return null;
+        }
+        if ((mapping.getAttributeAccessor() == null) || (mapping.getAttributeAccessor().getClass() != InstanceVariableAttributeAccessor.class)
+                || !mapping.getAttributeAccessor().isInitialized()) {
+            return null;
+        }
+        Field field = ((InstanceVariableAttributeAccessor)mapping.getAttributeAccessor()).getAttributeField();
+        if ((field == null) || Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (declaringClass == javaClass) {
+            return field;
+        }
+        // Inherited fields must be accessible from the nest mate of the descriptor's class.
+        if (!declaringClass.isAssignableFrom(javaClass) || Modifier.isPrivate(field.getModifiers())
+                || (declaringClass.getClassLoader() != javaClass.getClassLoader())
+                || !declaringClass.getPackageName().equals(javaClass.getPackageName())) {
+            return null;
+        }
+        return field;
+    }
+
+    /**
+     * Return true if new instances can be built by calling the default constructor directly.
+     */
+    protected static boolean canInstantiate(ClassDescriptor descriptor) {
+        Class<?> javaClass = descriptor.getJavaClass();
+        InstantiationPolicy policy = descriptor.getInstantiationPolicy();
+        if ((policy.getClass() != InstantiationPolicy.class) || !policy.isUsingDefaultConstructor()
+                || Modifier.isAbstract(javaClass.getModifiers())
+                || (javaClass.isMemberClass() && !Modifier.isStatic(javaClass.getModifiers()))) {
+            return false;
+        }
+        try {
+            Constructor<?> constructor = javaClass.getDeclaredConstructor();
+            return constructor != null;
+        } catch (NoSuchMethodException | SecurityException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Build the bytes of the cloner class.
+     */
+    protected static byte[] buildClonerBytes(Class<?> javaClass, List<Field> fields, boolean generateConstructor) {
+        String ownerName = Type.getInternalName(javaClass);
+        List<String> interfaces = new ArrayList<>(2);
+        if (generateConstructor) {
+            interfaces.add(SUPPLIER);
+        }
+        if (!fields.isEmpty()) {
+            interfaces.add(AttributeAccessorGenerator.BI_CONSUMER);
+        }
+        // Straight-line code only, no frames need to be computed.
+        ClassWriter cw = new EclipseLinkASMClassWriter(ClassWriter.valueInt("COMPUTE_MAXS"));
+        cw.visit(Opcodes.valueInt("ACC_PUBLIC") + Opcodes.valueInt("ACC_FINAL") + Opcodes.valueInt("ACC_SUPER") + Opcodes.valueInt("ACC_SYNTHETIC"),
+                ownerName + CLONER_CLASS_SUFFIX, null, AttributeAccessorGenerator.OBJECT, interfaces.toArray(new String[interfaces.size()]));
+        MethodVisitor mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), AttributeAccessorGenerator.INIT, "()V", null, null);
+        mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+        mv.visitMethodInsn(Opcodes.valueInt("INVOKESPECIAL"), AttributeAccessorGenerator.OBJECT, AttributeAccessorGenerator.INIT, "()V", false);
+        mv.visitInsn(Opcodes.valueInt("RETURN"));
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        if (generateConstructor) {
+            mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "get", "()Ljava/lang/Object;", null, null);
+            mv.visitTypeInsn(Opcodes.valueInt("NEW"), ownerName);
+            mv.visitInsn(Opcodes.valueInt("DUP"));
+            mv.visitMethodInsn(Opcodes.valueInt("INVOKESPECIAL"), ownerName, AttributeAccessorGenerator.INIT, "()V", false);
+            mv.visitInsn(Opcodes.valueInt("ARETURN"));
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        if (!fields.isEmpty()) {
+            mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), ownerName);
+            mv.visitVarInsn(Opcodes.valueInt("ASTORE"), 3);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 2);
+            mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), ownerName);
+            mv.visitVarInsn(Opcodes.valueInt("ASTORE"), 4);
+            for (Field field : fields) {
+                String fieldDescriptor = Type.getDescriptor(field.getType());
+                mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 4);
+                mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 3);
+                mv.visitFieldInsn(Opcodes.valueInt("GETFIELD"), ownerName, field.getName(), fieldDescriptor);
+                mv.visitFieldInsn(Opcodes.valueInt("PUTFIELD"), ownerName, field.getName(), fieldDescriptor);
+            }
+            mv.visitInsn(Opcodes.valueInt("RETURN"));
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.InheritancePolicy;
+import org.eclipse.persistence.internal.helper.ParallelExecutor;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.ReadAllQuery;
+
+/**
+ * INTERNAL:
+ * PERF: Builds the objects of a large read all query result on multiple threads.
+ * <p>
+ * The rows are split in chunks, the chunks are claimed by the calling thread and by the threads of the
+ * {@link ParallelExecutor} pool shared by all the sessions. Every object is built through
+ * {@link ObjectBuilder#buildObject(org.eclipse.persistence.queries.ObjectBuildingQuery, AbstractRecord, JoinedAttributeManager, AbstractSession, org.eclipse.persistence.descriptors.ClassDescriptor, InheritancePolicy, boolean, boolean, boolean)},
+ * so the cache key locking protocol is unchanged, each thread acquires and releases its own locks.
+ * The built objects are returned in the order of the rows.
+ * <p>
+ * As the calling thread keeps claiming chunks until none are left, a saturated pool only reduces
+ * the parallelism, it can't block the query.
+ *
+ * @see ReadAllQuery#setShouldBuildObjectsInParallel(boolean)
+ */
+public class ParallelObjectBuilder {
+
+    /** Minimum number of rows for the objects to be built in parallel. */
+    public static final int MINIMUM_ROWS = 1000;
+
+    /** Number of rows claimed at once by a thread. */
+    public static final int CHUNK_SIZE = 256;
+
+    protected final ObjectBuilder objectBuilder;
+    protected final ReadAllQuery query;
+    protected final List<AbstractRecord> databaseRows;
+    protected final AbstractSession session;
+    protected final InheritancePolicy inheritancePolicy;
+    protected final boolean shouldUseWrapperPolicy;
+    protected final Object[] domainObjects;
+    protected final int numberOfChunks;
+
+    protected ParallelObjectBuilder(ObjectBuilder objectBuilder, ReadAllQuery query, List<AbstractRecord> databaseRows, AbstractSession session,
+            InheritancePolicy inheritancePolicy, boolean shouldUseWrapperPolicy) {
+        this.objectBuilder = objectBuilder;
+        this.query = query;
+        this.databaseRows = databaseRows;
+        this.session = session;
+        this.inheritancePolicy = inheritancePolicy;
+        this.shouldUseWrapperPolicy = shouldUseWrapperPolicy;
+        int size = databaseRows.size();
+        this.domainObjects = new Object[size];
+        this.numberOfChunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the objects of the rows can be built in parallel for the query.
+     * Objects are not built in parallel in a unit of work (not thread safe),
+     * or if joining, batch reading or query results caching are used as their state is shared by all the rows,
+     * or if the result set access is optimized as the rows may still read the result set.
+     */
+    public static boolean shouldBuildObjectsInParallel(ReadAllQuery query, AbstractSession session, int size) {
+        return query.shouldBuildObjectsInParallel() && (size >= MINIMUM_ROWS)
+                && !session.isUnitOfWork() && !session.isExclusiveIsolatedClientSession()
+                && !query.hasJoining() && !query.hasBatchReadAttributes() && !query.shouldCacheQueryResults()
+                && !query.usesResultSetAccessOptimization()
+                && (Runtime.getRuntime().availableProcessors() > 1);
+    }
+
+    /**
+     * INTERNAL:
+     * Build the objects of the rows in parallel and return them in the order of the rows.
+     * The elements of null rows (1-m joining) are null.
+     */
+    public static Object[] buildObjects(ObjectBuilder objectBuilder, ReadAllQuery query, List<AbstractRecord> databaseRows, AbstractSession session,
+            InheritancePolicy inheritancePolicy, boolean shouldUseWrapperPolicy) {
+        ParallelObjectBuilder builder = new ParallelObjectBuilder(objectBuilder, query, databaseRows, session, inheritancePolicy, shouldUseWrapperPolicy);
+        return builder.buildObjects();
+    }
+
+    protected Object[] buildObjects() {
+        ParallelExecutor.run(this.numberOfChunks, Runtime.getRuntime().availableProcessors(), this::buildChunk);
+        return this.domainObjects;
+    }
+
+    protected void buildChunk(int chunk) {
+        int start = chunk * CHUNK_SIZE;
+        int end = Math.min(start + CHUNK_SIZE, this.domainObjects.length);
+        for (int index = start; index < end; index++) {
+            AbstractRecord databaseRow = this.databaseRows.get(index);
+            // PERF: 1-m joining nulls out duplicate rows.
+            if (databaseRow != null) {
+                this.domainObjects[index] = this.objectBuilder.buildObject(this.query, databaseRow, null, this.session, this.objectBuilder.getDescriptor(),
+                        this.inheritancePolicy, false, false, this.shouldUseWrapperPolicy);
+            }
+        }
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.eclipse.persistence.annotations.CacheKeyType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+
+/**
+ * INTERNAL:
+ * PERF: Compiled reader used by ObjectLevelReadQuery ResultSet optimization.
+ * <p>
+ * The reader is compiled once per descriptor and query shape (the fields array of the select call)
+ * and resolves, for every direct mapping, the column index in the result-set and the typed JDBC getter
+ * to use for the mapping's attribute classification and the column's JDBC type.
+ * Each row is then read by index straight into the new instance's attributes,
+ * without building an intermediate record or looking up values by {@link DatabaseField}.
+ * <p>
+ * Only simple descriptors (all mappings are direct mappings) are compiled,
+ * {@link #compile(ClassDescriptor, DatabaseField[], ResultSetMetaData, DatabasePlatform)} returns null otherwise.
+ * The reader is immutable and can be shared by concurrent queries.
+ *
+ * @see ObjectBuilder#buildObjectFromResultSet
+ */
+public class ResultSetRowReader {
+
+    /** Read through DatabaseAccessor.getObject and convert through the mapping. */
+    protected static final int GENERIC = 0;
+    protected static final int STRING = 1;
+    protected static final int TRIMMED_STRING = 2;
+    protected static final int NSTRING = 3;
+    protected static final int TRIMMED_NSTRING = 4;
+    protected static final int LONG = 5;
+    protected static final int INTEGER = 6;
+    protected static final int SHORT = 7;
+    protected static final int DOUBLE = 8;
+    protected static final int FLOAT = 9;
+    protected static final int BIGDECIMAL = 10;
+
+    /** Primary key fields, in the same order as descriptor's primary key fields. */
+    protected final DatabaseField[] primaryKeyFields;
+    /** Mappings for the primary key fields, in the same order as descriptor's primary key fields. */
+    protected final AbstractDirectMapping[] primaryKeyMappings;
+    /** Type classifications of the primary key values stored in the cache key. */
+    protected final Class<?>[] primaryKeyClassifications;
+    /** Result-set column numbers of the primary key fields. */
+    protected final int[] primaryKeyColumns;
+    /** All non primary key mappings. */
+    protected final AbstractDirectMapping[] mappings;
+    /** Result-set column numbers of the non primary key mappings' fields. */
+    protected final int[] columns;
+    /** Typed getter used for each non primary key mapping. */
+    protected final int[] getters;
+    protected final boolean isSingleValueKey;
+    protected final boolean mayHaveNullInPrimaryKey;
+
+    protected ResultSetRowReader(DatabaseField[] primaryKeyFields, AbstractDirectMapping[] primaryKeyMappings, Class<?>[] primaryKeyClassifications, int[] primaryKeyColumns,
+            AbstractDirectMapping[] mappings, int[] columns, int[] getters, boolean isSingleValueKey, boolean mayHaveNullInPrimaryKey) {
+        this.primaryKeyFields = primaryKeyFields;
+        this.primaryKeyMappings = primaryKeyMappings;
+        this.primaryKeyClassifications = primaryKeyClassifications;
+        this.primaryKeyColumns = primaryKeyColumns;
+        this.mappings = mappings;
+        this.columns = columns;
+        this.getters = getters;
+        this.isSingleValueKey = isSingleValueKey;
+        this.mayHaveNullInPrimaryKey = mayHaveNullInPrimaryKey;
+    }
+
+    /**
+     * INTERNAL:
+     * Compile the reader for the descriptor and the fields selected by the call.
+     * Return null if the descriptor or the query shape is not supported,
+     * in which case the object should be built through the regular mappings' path.
+     */
+    public static ResultSetRowReader compile(ClassDescriptor descriptor, DatabaseField[] fieldsArray, ResultSetMetaData metaData, DatabasePlatform platform) throws SQLException {
+        ObjectBuilder builder = descriptor.getObjectBuilder();
+        if (!builder.isSimple() || (fieldsArray == null)) {
+            return null;
+        }
+        List<DatabaseField> keyFields = descriptor.getPrimaryKeyFields();
+        int keySize = keyFields.size();
+        if (keySize == 0) {
+            return null;
+        }
+        DatabaseField[] primaryKeyFields = new DatabaseField[keySize];
+        AbstractDirectMapping[] primaryKeyMappings = new AbstractDirectMapping[keySize];
+        Class<?>[] primaryKeyClassifications = new Class<?>[keySize];
+        int[] primaryKeyColumns = new int[keySize];
+        List<Class<?>> classifications = builder.getPrimaryKeyClassifications();
+        for (int index = 0; index < keySize; index++) {
+            DatabaseField field = keyFields.get(index);
+            DatabaseMapping mapping = builder.getMappingForField(field);
+            int column = columnFor(field, fieldsArray);
+            if ((mapping == null) || !mapping.isAbstractDirectMapping() || (column < 0)) {
+                return null;
+            }
+            primaryKeyFields[index] = field;
+            primaryKeyMappings[index] = (AbstractDirectMapping)mapping;
+            primaryKeyClassifications[index] = classifications.get(index);
+            primaryKeyColumns[index] = column;
+        }
+
+        List<DatabaseMapping> allMappings = descriptor.getMappings();
+        int size = allMappings.size();
+        AbstractDirectMapping[] mappings = new AbstractDirectMapping[size];
+        int[] columns = new int[size];
+        int[] getters = new int[size];
+        int count = 0;
+        for (int index = 0; index < size; index++) {
+            DatabaseMapping mapping = allMappings.get(index);
+            if (!mapping.isAbstractDirectMapping()) {
+                return null;
+            }
+            AbstractDirectMapping directMapping = (AbstractDirectMapping)mapping;
+            if (isPrimaryKeyMapping(directMapping, primaryKeyMappings)) {
+                continue;
+            }
+            int column = columnFor(directMapping.getField(), fieldsArray);
+            if (column < 0) {
+                return null;
+            }
+            mappings[count] = directMapping;
+            columns[count] = column;
+            getters[count] = getterFor(directMapping, metaData.getColumnType(column), platform);
+            count++;
+        }
+        if (count < size) {
+            AbstractDirectMapping[] compactMappings = new AbstractDirectMapping[count];
+            System.arraycopy(mappings, 0, compactMappings, 0, count);
+            mappings = compactMappings;
+            int[] compactColumns = new int[count];
+            System.arraycopy(columns, 0, compactColumns, 0, count);
+            columns = compactColumns;
+            int[] compactGetters = new int[count];
+            System.arraycopy(getters, 0, compactGetters, 0, count);
+            getters = compactGetters;
+        }
+        boolean isSingleValueKey = descriptor.getCachePolicy().getCacheKeyType() == CacheKeyType.ID_VALUE;
+        return new ResultSetRowReader(primaryKeyFields, primaryKeyMappings, primaryKeyClassifications, primaryKeyColumns,
+                mappings, columns, getters, isSingleValueKey, builder.mayHaveNullInPrimaryKey);
+    }
+
+    /**
+     * Return the 1-based column number of the field in the fields array, -1 if not selected.
+     */
+    protected static int columnFor(DatabaseField field, DatabaseField[] fieldsArray) {
+        for (int index = 0; index < fieldsArray.length; index++) {
+            DatabaseField selected = fieldsArray[index];
+            if ((selected == field) || ((selected != null) && selected.equals(field))) {
+                return index + 1;
+            }
+        }
+        return -1;
+    }
+
+    protected static boolean isPrimaryKeyMapping(AbstractDirectMapping mapping, AbstractDirectMapping[] primaryKeyMappings) {
+        for (AbstractDirectMapping primaryKeyMapping : primaryKeyMappings) {
+            if (primaryKeyMapping == mapping) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Select the typed getter for the mapping's attribute type and the column's JDBC type.
+     * Mappings with converters, and types that may require platform specific conversion, use the generic getter.
+     */
+    protected static int getterFor(AbstractDirectMapping mapping, int columnType, DatabasePlatform platform) {
+        if ((mapping.getConverter() != null) || (mapping.getAttributeClassification() == null)) {
+            return GENERIC;
+        }
+        Class<?> type = Helper.getObjectClass(mapping.getAttributeClassification());
+        if (type == ClassConstants.STRING) {
+            boolean useNString = platform.shouldUseGetSetNString() && ((columnType == Types.NVARCHAR) || (columnType == Types.NCHAR));
+            if ((columnType == Types.CHAR) || (columnType == Types.NCHAR)) {
+                if (platform.shouldTrimStrings()) {
+                    return useNString ? TRIMMED_NSTRING : TRIMMED_STRING;
+                }
+                return useNString ? NSTRING : STRING;
+            } else if ((columnType == Types.VARCHAR) || (columnType == Types.NVARCHAR) || (columnType == Types.LONGVARCHAR)) {
+                return useNString ? NSTRING : STRING;
+            }
+            return GENERIC;
+        }
+        if (!isNumericType(columnType)) {
+            return GENERIC;
+        }
+        if (type == ClassConstants.LONG) {
+            return LONG;
+        } else if (type == ClassConstants.INTEGER) {
+            return INTEGER;
+        } else if (type == ClassConstants.SHORT) {
+            return SHORT;
+        } else if (type == ClassConstants.DOUBLE) {
+            return DOUBLE;
+        } else if (type == ClassConstants.FLOAT) {
+            return FLOAT;
+        } else if (type == ClassConstants.BIGDECIMAL) {
+            return BIGDECIMAL;
+        }
+        return GENERIC;
+    }
+
+    protected static boolean isNumericType(int columnType) {
+        switch (columnType) {
+            case Types.BIGINT:
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.REAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Read the primary key field values of the current row.
+     */
+    public Object[] readPrimaryKeyValues(ResultSet resultSet, AbstractSession session, DatabaseAccessor accessor, ResultSetMetaData metaData, DatabasePlatform platform) {
+        int size = this.primaryKeyFields.length;
+        Object[] values = new Object[size];
+        for (int index = 0; index < size; index++) {
+            values[index] = accessor.getObject(resultSet, this.primaryKeyFields[index], metaData, this.primaryKeyColumns[index], platform, true, session);
+        }
+        return values;
+    }
+
+    /**
+     * INTERNAL:
+     * Build the cache key value from the primary key field values.
+     * This is the same value as ObjectBuilder.extractPrimaryKeyFromRow would return for the row.
+     */
+    public Object buildPrimaryKey(Object[] values, AbstractSession session, Class<?> javaClass) {
+        int size = values.length;
+        Object[] primaryKeyValues = null;
+        if (!this.isSingleValueKey) {
+            primaryKeyValues = new Object[size];
+        }
+        int numberOfNulls = 0;
+        for (int index = 0; index < size; index++) {
+            Object value = values[index];
+            if (value != null) {
+                Class<?> classification = this.primaryKeyClassifications[index];
+                if (value.getClass() != classification) {
+                    value = session.getPlatform(javaClass).convertObject(value, classification);
+                }
+                if (this.isSingleValueKey) {
+                    return value;
+                }
+                primaryKeyValues[index] = value;
+            } else {
+                if (this.mayHaveNullInPrimaryKey) {
+                    numberOfNulls++;
+                    if (numberOfNulls == size) {
+                        // Must have some non null elements. If all elements are null return null.
+                        return null;
+                    }
+                } else {
+                    return null;
+                }
+            }
+        }
+        return new CacheId(primaryKeyValues);
+    }
+
+    /**
+     * INTERNAL:
+     * Set the primary key attributes from the values read by readPrimaryKeyValues,
+     * then read all the other columns of the current row directly into the object's attributes.
+     */
+    public void readInto(Object object, Object[] primaryKeyValues, ResultSet resultSet, AbstractSession session, DatabaseAccessor accessor, ResultSetMetaData metaData, DatabasePlatform platform) throws SQLException {
+        AbstractDirectMapping[] primaryKeyMappings = this.primaryKeyMappings;
+        for (int index = 0; index < primaryKeyMappings.length; index++) {
+            AbstractDirectMapping mapping = primaryKeyMappings[index];
+            mapping.setAttributeValueInObject(object, mapping.getObjectValue(primaryKeyValues[index], session));
+        }
+        AbstractDirectMapping[] mappings = this.mappings;
+        int[] columns = this.columns;
+        int[] getters = this.getters;
+        for (int index = 0; index < mappings.length; index++) {
+            AbstractDirectMapping mapping = mappings[index];
+            int column = columns[index];
+            Object value;
+            switch (getters[index]) {
+                case STRING:
+                    value = resultSet.getString(column);
+                    break;
+                case TRIMMED_STRING:
+                    value = resultSet.getString(column);
+                    if (value != null) {
+                        value = Helper.rightTrimString((String)value);
+                    }
+                    break;
+                case NSTRING:
+                    value = resultSet.getNString(column);
+                    break;
+                case TRIMMED_NSTRING:
+                    value = resultSet.getNString(column);
+                    if (value != null) {
+                        value = Helper.rightTrimString((String)value);
+                    }
+                    break;
+                case LONG:
+                    value = resultSet.getLong(column);
+                    if (resultSet.wasNull()) {
+                        value = null;
+                    }
+                    break;
+                case INTEGER:
+                    value = resultSet.getInt(column);
+                    if (resultSet.wasNull()) {
+                        value = null;
+                    }
+                    break;
+                case SHORT:
+                    value = resultSet.getShort(column);
+                    if (resultSet.wasNull()) {
+                        value = null;
+                    }
+                    break;
+                case DOUBLE:
+                    value = resultSet.getDouble(column);
+                    if (resultSet.wasNull()) {
+                        value = null;
+                    }
+                    break;
+                case FLOAT:
+                    value = resultSet.getFloat(column);
+                    if (resultSet.wasNull()) {
+                        value = null;
+                    }
+                    break;
+                case BIGDECIMAL:
+                    value = resultSet.getBigDecimal(column);
+                    break;
+                default:
+                    value = accessor.getObject(resultSet, mapping.getField(), metaData, column, platform, true, session);
+                    mapping.setAttributeValueInObject(object, mapping.getObjectValue(value, session));
+                    continue;
+            }
+            if (value == null) {
+                // Null translation (null value, primitive defaults) is left to the mapping.
+                mapping.setAttributeValueInObject(object, mapping.getObjectValue(null, session));
+            } else {
+                mapping.setAttributeValueInObject(object, mapping.getObjectValueWithoutClassCheck(value, session));
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.sessions.Session;
+
+/**
+ * INTERNAL:
+ * PERF: Reads the compact binary encoding written by a {@link BinaryWriter}.
+ */
+public class BinaryReader {
+
+    protected final byte[] buffer;
+    protected int position;
+    protected final int limit;
+
+    public BinaryReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Return the position of the next byte to read.
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Return the number of bytes left to read.
+     */
+    public int remaining() {
+        return this.limit - this.position;
+    }
+
+    protected void require(int length) throws EOFException {
+        if ((length < 0) || (length > (this.limit - this.position))) {
+            throw new EOFException();
+        }
+    }
+
+    public int readByte() throws IOException {
+        require(1);
+        return this.buffer[this.position++];
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int next = readByte();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException();
+    }
+
+    public long readVarLong() throws IOException {
+        long encoded = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int next = readByte();
+            encoded |= (long)(next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return (encoded >>> 1) ^ -(encoded & 1);
+            }
+        }
+        throw new StreamCorruptedException();
+    }
+
+    public int readFixedInt() throws IOException {
+        require(4);
+        byte[] bytes = this.buffer;
+        int index = this.position;
+        this.position += 4;
+        return ((bytes[index] & 0xFF) << 24) | ((bytes[index + 1] & 0xFF) << 16) | ((bytes[index + 2] & 0xFF) << 8) | (bytes[index + 3] & 0xFF);
+    }
+
+    public long readFixedLong() throws IOException {
+        return ((long)readFixedInt() << 32) | (readFixedInt() & 0xFFFFFFFFL);
+    }
+
+    public byte[] readByteArray() throws IOException {
+        int length = readVarInt() - 1;
+        if (length == -1) {
+            return null;
+        }
+        require(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(this.buffer, this.position, bytes, 0, length);
+        this.position += length;
+        return bytes;
+    }
+
+    /**
+     * Return a copy of the bytes left to read.
+     */
+    public byte[] readRemaining() {
+        byte[] bytes = new byte[this.limit - this.position];
+        System.arraycopy(this.buffer, this.position, bytes, 0, bytes.length);
+        this.position = this.limit;
+        return bytes;
+    }
+
+    public String readString() throws IOException {
+        int length = readVarInt() - 1;
+        if (length == -1) {
+            return null;
+        }
+        require(length);
+        String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+        this.position += length;
+        return value;
+    }
+
+    /**
+     * Read a tagged value, serialized values are resolved with the session's class loader if a session is given.
+     */
+    public Object readValue(Session session) throws IOException {
+        int tag = readByte();
+        switch (tag) {
+            case BinaryWriter.NULL:
+                return null;
+            case BinaryWriter.TRUE:
+                return Boolean.TRUE;
+            case BinaryWriter.FALSE:
+                return Boolean.FALSE;
+            case BinaryWriter.LONG:
+                return readVarLong();
+            case BinaryWriter.INTEGER:
+                return (int)readVarLong();
+            case BinaryWriter.STRING:
+                return readString();
+            case BinaryWriter.CACHE_ID: {
+                Object[] values = new Object[readVarInt()];
+                for (int index = 0; index < values.length; index++) {
+                    values[index] = readValue(session);
+                }
+                return new CacheId(values);
+            }
+            case BinaryWriter.TIMESTAMP: {
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(readVarLong());
+                timestamp.setNanos(readVarInt());
+                return timestamp;
+            }
+            case BinaryWriter.SHORT:
+                return (short)readVarLong();
+            case BinaryWriter.BYTE:
+                return (byte)readByte();
+            case BinaryWriter.CHARACTER:
+                return (char)readVarInt();
+            case BinaryWriter.FLOAT:
+                return Float.intBitsToFloat(readFixedInt());
+            case BinaryWriter.DOUBLE:
+                return Double.longBitsToDouble(readFixedLong());
+            case BinaryWriter.BIG_DECIMAL: {
+                int scale = (int)readVarLong();
+                return new BigDecimal(new BigInteger(readByteArray()), scale);
+            }
+            case BinaryWriter.BIG_INTEGER:
+                return new BigInteger(readByteArray());
+            case BinaryWriter.BYTES:
+                return readByteArray();
+            case BinaryWriter.SQL_DATE:
+                return new java.sql.Date(readVarLong());
+            case BinaryWriter.TIME:
+                return new java.sql.Time(readVarLong());
+            case BinaryWriter.DATE:
+                return new java.util.Date(readVarLong());
+            case BinaryWriter.SERIALIZED: {
+                ByteArrayInputStream byteIn = new ByteArrayInputStream(readByteArray());
+                try (ObjectInputStream objectIn = (session == null)
+                        ? new ObjectInputStream(byteIn)
+                        : new CustomObjectInputStream(byteIn, session)) {
+                    return objectIn.readObject();
+                } catch (ClassNotFoundException exception) {
+                    throw new IOException(exception);
+                }
+            }
+            default:
+                throw new StreamCorruptedException(String.valueOf(tag));
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+
+/**
+ * INTERNAL:
+ * PERF: Growable byte buffer writing a compact binary encoding.
+ * <p>
+ * Counts and indexes are written as unsigned variable length integers (7 bits per byte),
+ * signed numbers are zig-zag encoded first so that small negative values stay small.
+ * Values are written with a one byte type tag, the common primary key and version types
+ * have a dedicated encoding, any other serializable value is written through Java serialization.
+ *
+ * @see BinaryReader
+ */
+public class BinaryWriter {
+
+    public static final byte NULL = 0;
+    public static final byte TRUE = 1;
+    public static final byte FALSE = 2;
+    public static final byte INTEGER = 3;
+    public static final byte LONG = 4;
+    public static final byte SHORT = 5;
+    public static final byte BYTE = 6;
+    public static final byte CHARACTER = 7;
+    public static final byte FLOAT = 8;
+    public static final byte DOUBLE = 9;
+    public static final byte STRING = 10;
+    public static final byte BIG_DECIMAL = 11;
+    public static final byte BIG_INTEGER = 12;
+    public static final byte BYTES = 13;
+    public static final byte TIMESTAMP = 14;
+    public static final byte SQL_DATE = 15;
+    public static final byte TIME = 16;
+    public static final byte DATE = 17;
+    public static final byte CACHE_ID = 18;
+    public static final byte SERIALIZED = 19;
+
+    protected byte[] buffer;
+    protected int size;
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(int capacity) {
+        this.buffer = new byte[Math.max(16, capacity)];
+    }
+
+    /**
+     * Return the internal buffer, only the first {@link #getSize()} bytes are written.
+     */
+    public byte[] getBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Return the number of bytes written.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Return a copy of the bytes written.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.size);
+    }
+
+    /**
+     * Discard the bytes written after the size.
+     */
+    public void truncate(int size) {
+        if (size < this.size) {
+            this.size = size;
+        }
+    }
+
+    protected void ensureCapacity(int length) {
+        int required = this.size + length;
+        if (required > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(required, this.buffer.length << 1));
+        }
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        this.buffer[this.size++] = (byte)value;
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, this.buffer, this.size, length);
+        this.size += length;
+    }
+
+    /**
+     * Write the value as an unsigned variable length integer, it must not be negative.
+     */
+    public void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            this.buffer[this.size++] = (byte)((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.size++] = (byte)value;
+    }
+
+    /**
+     * Write the signed value zig-zag encoded as a variable length integer.
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        long encoded = (value << 1) ^ (value >> 63);
+        while ((encoded & ~0x7FL) != 0) {
+            this.buffer[this.size++] = (byte)((encoded & 0x7F) | 0x80);
+            encoded >>>= 7;
+        }
+        this.buffer[this.size++] = (byte)encoded;
+    }
+
+    public void writeFixedInt(int value) {
+        ensureCapacity(4);
+        this.buffer[this.size++] = (byte)(value >>> 24);
+        this.buffer[this.size++] = (byte)(value >>> 16);
+        this.buffer[this.size++] = (byte)(value >>> 8);
+        this.buffer[this.size++] = (byte)value;
+    }
+
+    public void writeFixedLong(long value) {
+        writeFixedInt((int)(value >>> 32));
+        writeFixedInt((int)value);
+    }
+
+    /**
+     * Write the length prefixed bytes, null is allowed.
+     */
+    public void writeByteArray(byte[] bytes) {
+        if (bytes == null) {
+            writeVarInt(0);
+        } else {
+            writeVarInt(bytes.length + 1);
+            writeBytes(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Write the length prefixed UTF-8 bytes of the string, null is allowed.
+     */
+    public void writeString(String value) {
+        writeByteArray((value == null) ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write the tagged value.
+     * Values of other types than the ones with a dedicated encoding must be serializable.
+     */
+    public void writeValue(Object value) throws IOException {
+        if (value == null) {
+            writeByte(NULL);
+            return;
+        }
+        // Exact class checks, subclasses may hold more state and are serialized.
+        Class<?> type = value.getClass();
+        if (type == Long.class) {
+            writeByte(LONG);
+            writeVarLong((Long)value);
+        } else if (type == Integer.class) {
+            writeByte(INTEGER);
+            writeVarLong((Integer)value);
+        } else if (type == String.class) {
+            writeByte(STRING);
+            writeString((String)value);
+        } else if (type == CacheId.class) {
+            Object[] values = ((CacheId)value).getPrimaryKey();
+            writeByte(CACHE_ID);
+            writeVarInt(values.length);
+            for (Object element : values) {
+                writeValue(element);
+            }
+        } else if (type == java.sql.Timestamp.class) {
+            java.sql.Timestamp timestamp = (java.sql.Timestamp)value;
+            writeByte(TIMESTAMP);
+            writeVarLong(timestamp.getTime());
+            writeVarInt(timestamp.getNanos());
+        } else if (type == Boolean.class) {
+            writeByte(((Boolean)value) ? TRUE : FALSE);
+        } else if (type == Short.class) {
+            writeByte(SHORT);
+            writeVarLong((Short)value);
+        } else if (type == Byte.class) {
+            writeByte(BYTE);
+            writeByte((Byte)value);
+        } else if (type == Character.class) {
+            writeByte(CHARACTER);
+            writeVarInt((Character)value);
+        } else if (type == Float.class) {
+            writeByte(FLOAT);
+            writeFixedInt(Float.floatToIntBits((Float)value));
+        } else if (type == Double.class) {
+            writeByte(DOUBLE);
+            writeFixedLong(Double.doubleToLongBits((Double)value));
+        } else if (type == BigDecimal.class) {
+            BigDecimal decimal = (BigDecimal)value;
+            writeByte(BIG_DECIMAL);
+            writeVarLong(decimal.scale());
+            writeByteArray(decimal.unscaledValue().toByteArray());
+        } else if (type == BigInteger.class) {
+            writeByte(BIG_INTEGER);
+            writeByteArray(((BigInteger)value).toByteArray());
+        } else if (type == byte[].class) {
+            writeByte(BYTES);
+            writeByteArray((byte[])value);
+        } else if (type == java.sql.Date.class) {
+            writeByte(SQL_DATE);
+            writeVarLong(((java.sql.Date)value).getTime());
+        } else if (type == java.sql.Time.class) {
+            writeByte(TIME);
+            writeVarLong(((java.sql.Time)value).getTime());
+        } else if (type == java.util.Date.class) {
+            writeByte(DATE);
+            writeVarLong(((java.util.Date)value).getTime());
+        } else {
+            writeByte(SERIALIZED);
+            ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(byteOut)) {
+                objectOut.writeObject(value);
+            }
+            writeByteArray(byteOut.toByteArray());
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * INTERNAL:
+ * PERF: Bounded single producer, single consumer ring buffer.
+ * <p>
+ * Elements are published and consumed without locks, through ordered writes of the producer and consumer indexes.
+ * A full buffer blocks the producer (back-pressure), an empty buffer blocks the consumer, up to a timeout if one is given.
+ * Blocked threads spin briefly and then park until the other side makes progress.
+ * <p>
+ * The producer ends the stream with {@link #complete()} or {@link #fail(RuntimeException)},
+ * the consumer can stop the producer early with {@link #cancel()} and wait for it with {@link #awaitCompletion()}.
+ * Unlike {@link ThreadCursoredList} consumed elements are released, so the memory used is bounded by the capacity.
+ */
+public class BoundedRingBuffer<E> {
+
+    /** Number of spins before parking a blocked thread. */
+    protected static final int SPINS = 64;
+
+    /** Maximum park time, guards against a missed wake up. */
+    protected static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    protected final Object[] elements;
+    protected final int mask;
+
+    /** Index of the next element to take, only written by the consumer. */
+    protected final AtomicLong head = new AtomicLong();
+
+    /** Index of the next element to put, only written by the producer. */
+    protected final AtomicLong tail = new AtomicLong();
+
+    protected volatile boolean isComplete;
+    protected volatile boolean isCancelled;
+    protected volatile RuntimeException exception;
+    protected volatile Thread waitingProducer;
+    protected volatile Thread waitingConsumer;
+
+    /**
+     * Create a buffer holding at least the capacity elements, rounded up to a power of two.
+     */
+    public BoundedRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.elements = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Return the number of elements the buffer can hold.
+     */
+    public int getCapacity() {
+        return this.elements.length;
+    }
+
+    /**
+     * Add the element, waiting while the buffer is full.
+     * Return false if the consumer cancelled the stream, the element is not added.
+     */
+    public boolean put(E element) {
+        long index = this.tail.get();
+        int spins = 0;
+        while ((index - this.head.get()) >= this.elements.length) {
+            if (this.isCancelled) {
+                return false;
+            }
+            if (spins < SPINS) {
+                spins++;
+                Thread.onSpinWait();
+            } else {
+                this.waitingProducer = Thread.currentThread();
+                if (((index - this.head.get()) >= this.elements.length) && !this.isCancelled) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                this.waitingProducer = null;
+            }
+        }
+        if (this.isCancelled) {
+            return false;
+        }
+        this.elements[(int)index & this.mask] = element;
+        // Publish the element.
+        this.tail.set(index + 1);
+        wakeUp(this.waitingConsumer);
+        return true;
+    }
+
+    /**
+     * Remove and return the next element, waiting while the buffer is empty.
+     * Return null once the stream is complete and all elements were taken.
+     * If the producer failed, its exception is thrown once the preceding elements were taken.
+     */
+    public E take() {
+        try {
+            return take(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException exception) {
+            // Not reached, the wait is not bounded.
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Remove and return the next element, waiting at most the timeout while the buffer is empty.
+     * Return null once the stream is complete and all elements were taken.
+     * If the producer failed, its exception is thrown once the preceding elements were taken.
+     * @throws TimeoutException if no element was put and the stream was not completed within the timeout.
+     */
+    @SuppressWarnings("unchecked")
+    public E take(long timeout, TimeUnit unit) throws TimeoutException {
+        long index = this.head.get();
+        long timeoutNanos = unit.toNanos(timeout);
+        long start = 0;
+        int spins = 0;
+        while (index == this.tail.get()) {
+            if (this.isComplete) {
+                // The producer may have published its last elements just before completing.
+                if (index != this.tail.get()) {
+                    break;
+                }
+                RuntimeException failure = this.exception;
+                if (failure != null) {
+                    this.exception = null;
+                    throw failure;
+                }
+                return null;
+            }
+            if (spins < SPINS) {
+                spins++;
+                Thread.onSpinWait();
+                if (spins == SPINS) {
+                    start = System.nanoTime();
+                }
+            } else {
+                long remaining = timeoutNanos - (System.nanoTime() - start);
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                this.waitingConsumer = Thread.currentThread();
+                if ((index == this.tail.get()) && !this.isComplete) {
+                    LockSupport.parkNanos(this, Math.min(PARK_NANOS, remaining));
+                }
+                this.waitingConsumer = null;
+            }
+        }
+        int slot = (int)index & this.mask;
+        E element = (E)this.elements[slot];
+        this.elements[slot] = null;
+        // Release the slot.
+        this.head.set(index + 1);
+        wakeUp(this.waitingProducer);
+        return element;
+    }
+
+    /**
+     * Called by the producer after the last element was put.
+     */
+    public void complete() {
+        this.isComplete = true;
+        wakeUp(this.waitingConsumer);
+    }
+
+    /**
+     * Called by the producer if it failed, the exception is thrown to the consumer.
+     */
+    public void fail(RuntimeException exception) {
+        this.exception = exception;
+        complete();
+    }
+
+    /**
+     * Return if the producer completed.
+     */
+    public boolean isComplete() {
+        return this.isComplete;
+    }
+
+    /**
+     * Called by the consumer to stop the producer, remaining elements are discarded.
+     */
+    public void cancel() {
+        this.isCancelled = true;
+        wakeUp(this.waitingProducer);
+    }
+
+    /**
+     * Return if the consumer cancelled the stream, the producer should stop.
+     */
+    public boolean isCancelled() {
+        return this.isCancelled;
+    }
+
+    /**
+     * Wait until the producer completed, i.e. stopped using its resources.
+     */
+    public void awaitCompletion() {
+        boolean interrupted = false;
+        while (!this.isComplete) {
+            this.waitingConsumer = Thread.currentThread();
+            if (!this.isComplete) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+                interrupted |= Thread.interrupted();
+            }
+            this.waitingConsumer = null;
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected void wakeUp(Thread thread) {
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+}
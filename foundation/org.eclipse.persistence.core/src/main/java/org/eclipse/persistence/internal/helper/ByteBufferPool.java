@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * INTERNAL:
+ * PERF: Pool of direct byte buffers of a fixed size used for socket I/O.
+ * <p>
+ * Direct buffers avoid a copy on every channel read and write but are expensive to allocate,
+ * so they are reused. Requests for more than the buffer size get a heap buffer of the exact size
+ * that is not pooled, and at most the maximum number of free buffers is kept.
+ */
+public class ByteBufferPool {
+
+    protected final int bufferSize;
+    protected final int maxPooledBuffers;
+    protected final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger pooledBuffers = new AtomicInteger();
+
+    public ByteBufferPool(int bufferSize, int maxPooledBuffers) {
+        this.bufferSize = bufferSize;
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * Return a cleared buffer with at least the capacity.
+     */
+    public ByteBuffer acquire(int capacity) {
+        if (capacity > this.bufferSize) {
+            return ByteBuffer.allocate(capacity);
+        }
+        ByteBuffer buffer = this.buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(this.bufferSize);
+        }
+        this.pooledBuffers.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Return the buffer to the pool, it must not be used afterwards.
+     */
+    public void release(ByteBuffer buffer) {
+        if ((buffer == null) || !buffer.isDirect() || (buffer.capacity() != this.bufferSize)) {
+            return;
+        }
+        if (this.pooledBuffers.incrementAndGet() > this.maxPooledBuffers) {
+            this.pooledBuffers.decrementAndGet();
+            return;
+        }
+        this.buffers.offer(buffer);
+    }
+}
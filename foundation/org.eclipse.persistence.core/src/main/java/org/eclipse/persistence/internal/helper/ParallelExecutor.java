@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+import org.eclipse.persistence.config.SystemProperties;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
+
+/**
+ * INTERNAL:
+ * PERF: Runs work on the calling thread and on the threads of a pool shared by all the sessions.
+ * <p>
+ * The pool is bounded by the {@link SystemProperties#PARALLEL_THREADS} system property, by default the number of processors,
+ * and does not queue work, a task is only handed to an idle or a new thread of the pool, otherwise it is rejected.
+ * The tasks of {@link #run(int, int, IntConsumer)} are claimed one at a time by the calling thread and by the pool threads
+ * that could be started, so a saturated pool only reduces the parallelism, the calling thread then runs the tasks itself.
+ * <p>
+ * Delayed tasks are handed to the pool by a single scheduler thread when their delay elapsed,
+ * or run by the scheduler thread if the pool is saturated.
+ * <p>
+ * The threads are daemon threads, ended after being idle for a minute.
+ * A pool thread runs a task with the context class loader of the thread that handed it the task.
+ */
+public final class ParallelExecutor {
+
+    /** Time an idle thread of the pool is kept. */
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private static volatile ThreadPoolExecutor executor;
+
+    private static volatile ScheduledThreadPoolExecutor scheduler;
+
+    private ParallelExecutor() {
+    }
+
+    /**
+     * Return the maximum number of threads of the pool.
+     */
+    public static int getMaximumThreads() {
+        return getExecutor().getMaximumPoolSize();
+    }
+
+    /**
+     * Run the task on a thread of the pool.
+     * Return false if all the threads of the pool are busy, the task is not run.
+     */
+    public static boolean execute(Runnable task) {
+        return execute(task, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Run the task on a thread of the pool once the delay in milliseconds elapsed,
+     * or on the scheduler thread if all the threads of the pool are busy.
+     * The returned future can be used to cancel the task.
+     */
+    public static ScheduledFuture<?> schedule(Runnable task, long delay) {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return getScheduler().schedule(() -> {
+            if (!execute(task, loader)) {
+                runWithContextClassLoader(task, loader);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean execute(Runnable task, ClassLoader loader) {
+        try {
+            getExecutor().execute(() -> runWithContextClassLoader(task, loader));
+            return true;
+        } catch (RejectedExecutionException exception) {
+            return false;
+        }
+    }
+
+    private static void runWithContextClassLoader(Runnable task, ClassLoader loader) {
+        Thread thread = Thread.currentThread();
+        thread.setContextClassLoader(loader);
+        try {
+            task.run();
+        } finally {
+            thread.setContextClassLoader(null);
+        }
+    }
+
+    /**
+     * Run the task for each index from 0 to size - 1, on the calling thread and on up to parallelism - 1 threads of the pool.
+     * Return once the task was run for all the indexes.
+     * The first exception thrown by the task is rethrown, the indexes not claimed yet are then skipped.
+     */
+    public static void run(int size, int parallelism, IntConsumer task) {
+        new Tasks(size, task).runAll(Math.min(parallelism, size) - 1);
+    }
+
+    private static ThreadPoolExecutor getExecutor() {
+        ThreadPoolExecutor pool = executor;
+        if (pool == null) {
+            synchronized (ParallelExecutor.class) {
+                pool = executor;
+                if (pool == null) {
+                    pool = buildExecutor();
+                    executor = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    private static ScheduledThreadPoolExecutor getScheduler() {
+        ScheduledThreadPoolExecutor pool = scheduler;
+        if (pool == null) {
+            synchronized (ParallelExecutor.class) {
+                pool = scheduler;
+                if (pool == null) {
+                    pool = new ScheduledThreadPoolExecutor(1, runnable -> {
+                        Thread thread = new Thread(runnable, "EclipseLink-Scheduler");
+                        thread.setDaemon(true);
+                        thread.setContextClassLoader(null);
+                        return thread;
+                    });
+                    pool.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+                    pool.allowCoreThreadTimeOut(true);
+                    pool.setRemoveOnCancelPolicy(true);
+                    scheduler = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    private static ThreadPoolExecutor buildExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        String value = PrivilegedAccessHelper.getSystemProperty(SystemProperties.PARALLEL_THREADS);
+        if (value != null) {
+            try {
+                threads = Integer.parseInt(value.trim());
+            } catch (NumberFormatException exception) {
+                // The default is used.
+            }
+        }
+        threads = Math.max(1, threads);
+        final AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "EclipseLink-Parallel-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(null);
+            return thread;
+        };
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(), factory);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * The indexes of a run, claimed by the calling thread and the pool threads.
+     */
+    private static final class Tasks implements Runnable {
+
+        private final int size;
+        private final IntConsumer task;
+        private final AtomicInteger next = new AtomicInteger();
+        private final CountDownLatch remaining;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Tasks(int size, IntConsumer task) {
+            this.size = size;
+            this.task = task;
+            this.remaining = new CountDownLatch(size);
+        }
+
+        private void runAll(int helpers) {
+            for (int index = 0; index < helpers; index++) {
+                if (!execute(this)) {
+                    break;
+                }
+            }
+            run();
+            boolean interrupted = false;
+            while (this.remaining.getCount() > 0) {
+                try {
+                    this.remaining.await();
+                } catch (InterruptedException exception) {
+                    // The indexes claimed by the pool threads are being run and must be waited for.
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable exception = this.failure.get();
+            if (exception instanceof RuntimeException) {
+                throw (RuntimeException)exception;
+            } else if (exception instanceof Error) {
+                throw (Error)exception;
+            }
+        }
+
+        /**
+         * Claim and run the indexes until none are left.
+         */
+        @Override
+        public void run() {
+            int index = this.next.getAndIncrement();
+            while (index < this.size) {
+                try {
+                    if (this.failure.get() == null) {
+                        this.task.accept(index);
+                    }
+                } catch (Throwable exception) {
+                    this.failure.compareAndSet(null, exception);
+                } finally {
+                    this.remaining.countDown();
+                }
+                index = this.next.getAndIncrement();
+            }
+        }
+    }
+}
@@ -69,6 +69,7 @@ public HistoricalSession(AbstractSession parent, AsOfClause clause) {
         }
         this.exceptionHandler = parent.getExceptionHandler();
         this.descriptors = parent.getDescriptors();
+        this.lazyDescriptorInitializer = parent.getLazyDescriptorInitializer();
     }
 
     /**
@@ -15,12 +15,15 @@
 package org.eclipse.persistence.internal.identitymaps;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.CacheInvalidationPolicy;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -273,6 +276,32 @@ public Object get(Object primaryKey) {
         return cacheKey.getObject();
     }
 
+    /**
+     * INTERNAL:
+     * Check the versions of the invalid objects together if the invalidation policy allows it,
+     * using the session of the query or mapping reading the objects.
+     */
+    protected void revalidateInvalidKeys(Object[] pkList, ClassDescriptor descriptor, long currentTime, AbstractSession session) {
+        CacheInvalidationPolicy policy = descriptor.getCacheInvalidationPolicy();
+        if (!policy.shouldRevalidateInvalidObjects()) {
+            return;
+        }
+        List<CacheKey> invalidKeys = new ArrayList<>();
+        for (Object pk : pkList) {
+            CacheKey cachedObject = getCacheKey(pk, false);
+            if ((cachedObject != null) && (cachedObject.getObject() != null) && policy.isInvalidated(cachedObject, currentTime)) {
+                invalidKeys.add(cachedObject);
+            }
+        }
+        if (!invalidKeys.isEmpty()) {
+            if (session == null) {
+                policy.revalidate(invalidKeys, currentTime);
+            } else {
+                policy.revalidate(invalidKeys, currentTime, session);
+            }
+        }
+    }
+
     /**
      * ADVANCED:
      * Using a list of Entity PK this method will attempt to bulk load the entire list from the cache.
@@ -286,6 +315,7 @@ public Map<Object, Object> getAllFromIdentityMapWithEntityPK(Object[] pkList, Cl
         HashMap<Object, Object> map = new HashMap<>();
         CacheKey cachedObject = null;
         long currentTime = System.currentTimeMillis();
+        revalidateInvalidKeys(pkList, descriptor, currentTime, session);
         for (Object pk : pkList){
             cachedObject = getCacheKey(pk, false);
             if ((cachedObject != null && cachedObject.getObject() != null && !descriptor.getCacheInvalidationPolicy().isInvalidated(cachedObject, currentTime))){
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.CachePartitionManager;
+import org.eclipse.persistence.sessions.coordination.CommandManager;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p><b>Purpose</b>: An identity map for a shared cache partitioned across the nodes of a cluster.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Holds the objects owned by this node, as decided by the cache partition manager, indefinitely.
+ *    <li> Holds the objects owned by other nodes in a near cache of a fixed size, the least recently used are removed.
+ * </ul>
+ * Ownership is decided when the object is put in the map, and decided again for all the objects of the map
+ * when services join or leave the cluster, the objects no longer owned move to the near cache.
+ * Without a cache partition manager all objects are owned, as in a FullIdentityMap.
+ * @see CachePartitionManager
+ */
+public class PartitionedIdentityMap extends CacheIdentityMap {
+
+    /** Number of objects owned by other nodes, they are in the linked list. */
+    protected int nearCacheSize;
+
+    /** The membership version of the cache partition manager the ownership of the objects was decided with. */
+    protected volatile int membershipVersion = -1;
+
+    public PartitionedIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+    }
+
+    /**
+     * Return the cache partition manager of the session, null if the cache is not partitioned.
+     */
+    protected CachePartitionManager getCachePartitionManager() {
+        if (this.session == null) {
+            return null;
+        }
+        CommandManager commandManager = this.session.getCommandManager();
+        if (commandManager instanceof RemoteCommandManager) {
+            return ((RemoteCommandManager)commandManager).getCachePartitionManager();
+        }
+        return null;
+    }
+
+    /**
+     * Return if this node owns the object with the primary key.
+     */
+    protected boolean isOwner(Object primaryKey) {
+        CachePartitionManager manager = getCachePartitionManager();
+        return (manager == null) || (this.descriptor == null) || manager.isOwner(this.descriptor, primaryKey);
+    }
+
+    /**
+     * Decide again which objects are owned if services joined or left the cluster since it was last decided.
+     * The objects owned by other nodes are moved to the near cache, the most recently used first,
+     * and the objects now owned are removed from it.
+     */
+    protected void updateOwnership(CachePartitionManager manager) {
+        int version = manager.getMembershipVersion();
+        if (version == this.membershipVersion) {
+            return;
+        }
+        synchronized (this.first) {
+            if (version == this.membershipVersion) {
+                return;
+            }
+            this.membershipVersion = version;
+            for (CacheKey key : this.cacheKeys.values()) {
+                LinkedCacheKey linkedKey = (LinkedCacheKey)key;
+                boolean isNearCached = linkedKey.getNext() != null;
+                boolean isOwner = (this.descriptor == null) || manager.isOwner(this.descriptor, key.getKey());
+                if (isOwner && isNearCached) {
+                    removeLink(linkedKey);
+                } else if (!isOwner && !isNearCached) {
+                    insertLink(linkedKey);
+                }
+            }
+            ensureFixedSize();
+        }
+    }
+
+    /**
+     * Only the objects owned by other nodes are removed, the least recently used first.
+     */
+    @Override
+    protected void ensureFixedSize() {
+        synchronized (this.first) {
+            while ((getMaxSize() > 0) && (this.nearCacheSize > getMaxSize())) {
+                remove(this.last.getPrevious());
+            }
+        }
+    }
+
+    /**
+     * Move the accessed key to the top of the linked list, if it is in the near cache.
+     */
+    @Override
+    public CacheKey getCacheKey(Object primaryKey, boolean forMerge) {
+        CachePartitionManager manager = getCachePartitionManager();
+        if (manager != null) {
+            updateOwnership(manager);
+        }
+        LinkedCacheKey cacheKey = (LinkedCacheKey)this.cacheKeys.get(primaryKey);
+        if ((cacheKey != null) && (cacheKey.getNext() != null)) {
+            synchronized (this.first) {
+                if (cacheKey.getNext() != null) {
+                    removeLink(cacheKey);
+                    insertLink(cacheKey);
+                }
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Link the key if it is put and owned by another node.
+     */
+    @Override
+    protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
+        boolean isOwner = isOwner(searchKey.getKey());
+        CachePartitionManager manager = getCachePartitionManager();
+        if (manager != null) {
+            updateOwnership(manager);
+        }
+        synchronized (this.first) {
+            searchKey.setOwningMap(this);
+            CacheKey cacheKey = ((ConcurrentMap<Object, CacheKey>)this.cacheKeys).putIfAbsent(searchKey.getKey(), searchKey);
+            if ((cacheKey == null) && !isOwner) {
+                insertLink((LinkedCacheKey)searchKey);
+                ensureFixedSize();
+            }
+            return cacheKey;
+        }
+    }
+
+    /**
+     * Also count the keys of the near cache that are removed.
+     * Callers of this method must synchronize on the start of the list (this.first).
+     */
+    @Override
+    protected LinkedCacheKey removeLink(LinkedCacheKey key) {
+        if ((key != null) && (key.getPrevious() != null) && (key.getNext() != null)) {
+            this.nearCacheSize--;
+        }
+        return super.removeLink(key);
+    }
+
+    /**
+     * Also count the keys of the near cache that are inserted.
+     * Callers of this method must synchronize on the start of the list (this.first).
+     */
+    @Override
+    protected LinkedCacheKey insertLink(LinkedCacheKey key) {
+        if (key != null) {
+            this.nearCacheSize++;
+        }
+        return super.insertLink(key);
+    }
+
+    /**
+     * Return the number of objects owned by other nodes.
+     */
+    public int getNearCacheSize() {
+        return this.nearCacheSize;
+    }
+}
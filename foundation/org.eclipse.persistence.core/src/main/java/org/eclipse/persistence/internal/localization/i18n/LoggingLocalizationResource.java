@@ -147,7 +147,16 @@ public class LoggingLocalizationResource extends ListResourceBundle {
         { "exception_thrown_when_attempting_to_close_connection", "Warning: exception thrown when attempting to close connection" },
         { "error_executing_remote_command", "{0} command failed due to: {1}" },
         { "problem_adding_connection", "Could not add remote connection from {0} due to error: {1}" },
+        { "tcp_dispatcher_failed", "Cache coordination TCP dispatcher stopped due to error: {0}" },
+        { "tcp_connection_failed", "Closing cache coordination connection {0} due to error: {1}" },
+        { "tcp_command_failed", "Could not process the command received on {0} due to error: {1}" },
+        { "tcp_peer_on_other_channel", "Rejected connection from {0}, it is not on the channel {1}" },
+        { "tcp_unreadable_peers_file", "Could not read the cache coordination peers file {0} due to error: {1}" },
         { "problem_reconnect_to_jms", "Could not reconnect to JMS Topic name {0} due to error: {1}" },
+        { "database_event_listener_connection_lost", "Lost the connection listening to the database change events of channel {0}, reconnecting. Error: {1}" },
+        { "dcn_invalid_payload", "Invalidating the class of the database change event [{0}], as its primary key cannot be read." },
+        { "change_log_triggers_not_supported", "The database platform {0} does not support row triggers, the change log triggers of table {1} must be created manually." },
+        { "change_log_poll_failed", "Failed to read the database change log table {0}, retrying on the next poll. Error: {1}" },
 
         { "toplink_severe", "[EL Severe]: " },
         { "toplink_warning", "[EL Warning]: " },
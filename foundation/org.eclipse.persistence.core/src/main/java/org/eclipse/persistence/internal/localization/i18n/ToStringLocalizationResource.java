@@ -99,6 +99,16 @@ public class ToStringLocalizationResource extends ListResourceBundle {
                                            { "staticweave_commandline_help_message_18of19", "    and output to C:\\foo-target.jar:" },
                                            { "staticweave_commandline_help_message_19of19", "    StaticWeave -persistenceinfo C:\\foo-containing-persistence-xml.jar -classpath C:\\classpath1;C:\\classpath2 C:\\foo-source.jar C:\\foo-target.jar"},
 
+                                           { "staticprojectclassgenerator_commandline_help_message_1of9", "  Usage: StaticProjectClassGenerator [options] persistence-unit-name project-class-name source-directory" },
+                                           { "staticprojectclassgenerator_commandline_help_message_2of9", "  Options:" },
+                                           { "staticprojectclassgenerator_commandline_help_message_3of9", "    -classpath classpath" },
+                                           { "staticprojectclassgenerator_commandline_help_message_4of9", "      Set the class path of the persistence unit classes." },
+                                           { "staticprojectclassgenerator_commandline_help_message_5of9", "    -persistencexml path" },
+                                           { "staticprojectclassgenerator_commandline_help_message_6of9", "      Set the resource name of the persistence.xml file, META-INF/persistence.xml is the default." },
+                                           { "staticprojectclassgenerator_commandline_help_message_7of9", "    -property name=value" },
+                                           { "staticprojectclassgenerator_commandline_help_message_8of9", "      Set a persistence unit property, such as eclipselink.target-database or eclipselink.weaving." },
+                                           { "staticprojectclassgenerator_commandline_help_message_9of9", "  The source of the project class is generated in the source directory, in the directory of its package." },
+
                                            { "sdo_classgenerator_usage_help_1of8", "{0} Usage: org.eclipse.persistence.sdo.helper.{0} [-options]" },
                                            { "sdo_classgenerator_usage_help_2of8", "Options:" },
                                            { "sdo_classgenerator_usage_help_3of8", "    -help                        Prints the help message text" },
@@ -340,7 +340,12 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "processing_remote_command", "Executing command {0} from {1}" },
         { "sync_propagation", "Propagating command synchronously" },
         { "async_propagation", "Propagating command asynchronously" },
+        { "propagate_command_batch", "Propagating a batch of {0} commands, {1} invalidations coalesced" },
         { "propagate_command_to", "Propagating command {0} to {1}" },
+        { "tcp_listening", "Cache coordination listening on {0}" },
+        { "tcp_connecting_to_peer", "Connecting to cache coordination peer {0}" },
+        { "tcp_peer_unreachable", "Cache coordination peer {0} is unreachable: {1}" },
+        { "tcp_connection_failed", "Closing cache coordination connection {0} due to error: {1}" },
         { "discovery_manager_active", "RCM Discovery Manager active" },
         { "discovery_manager_stopped", "RCM Discovery Manager stopped" },
         { "announcement_sent", "RCM service announcement sent out to cluster" },
@@ -415,6 +420,8 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "weaver_user_impl_change_tracking", "Weaving for change tracking not required for class [{0}] because it already implements the ChangeTracker interface."},
         { "weaver_found_field_lock", "Weaving for change tracking not enabled for class [{0}] because it uses field-based optimisitic locking."},
         { "weaver_processing_class", "Class [{0}] registered to be processed by weaver."},
+        { "attribute_accessor_not_generated", "Accessor for attribute [{1}] of class [{0}] could not be generated, reflection will be used: {2}"},
+        { "object_cloner_not_generated", "Cloner for class [{0}] could not be generated, reflection and mappings will be used: {1}"},
         { "begin_weaving_class", "Begin weaver class transformer processing class [{0}]."},
         { "end_weaving_class", "End weaver class transformer processing class [{0}]."},
         { "transform_missing_class_details", "Missing class details for [{0}]."},
@@ -453,6 +460,7 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "property_value_default", "property={0}; default value={1}"},
         { "handler_property_value_specified", "property={0}; value={1}; translated value={2}"},
         { "handler_property_value_default", "property={0}; default value={1}; translated value={2}"},
+        { "project_class_stale", "The project class {0} is stale, it was generated by another version or for other classes or mapping files. The project is built from the metadata."},
         { "predeploy_begin", "Begin predeploying Persistence Unit {0}; session {1}; state {2}; factoryCount {3}"},
         { "predeploy_end", "End predeploying Persistence Unit {0}; session {1}; state {2}; factoryCount {3}"},
         { "session_name_change", "Session change name: Persistence Unit {0}; old session {1}; new session {2}"},
@@ -525,6 +533,7 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "dcn_invalidate", "Invalidating cache key [{0}] from database change event for class [{1}]." },
         { "dcn_register_table", "Registering table [{0}] for database change event notification." },
         { "dcn_unregister", "Removing registering for database change event notification." },
+        { "change_log_invalidate", "Invalidating cache from {0} database change log entries up to [{1}]." },
 
         { "exception_caught_closing_statement", "Exception caught when trying to close the query statement [{0}]." },
         //MOXy fine/finer/finest
@@ -25,6 +25,7 @@
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.DescriptorQueryManager;
 import org.eclipse.persistence.descriptors.InheritancePolicy;
+import org.eclipse.persistence.descriptors.invalidation.CacheInvalidationPolicy;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.expressions.Expression;
@@ -851,6 +852,24 @@ protected SQLUpdateStatement buildUpdateStatement(DatabaseTable table) {
         return updateStatement;
     }
 
+    /**
+     * Check the version of the cached object before it is looked up by primary key,
+     * if the invalidation policy checks the objects whose lease expired instead of refreshing them.
+     * This is done by the query and not by the cache lookup, as it selects the version from the database.
+     * The unit of work does not check, its parent session does when its cache is checked.
+     */
+    protected void revalidateCachedObject(Object primaryKey, AbstractSession session) {
+        ClassDescriptor descriptor = getDescriptor();
+        CacheInvalidationPolicy policy = descriptor.getCacheInvalidationPolicy();
+        if (session.isUnitOfWork() || getReadObjectQuery().shouldCheckCacheOnly() || !policy.shouldRevalidateInvalidObjects()) {
+            return;
+        }
+        CacheKey cacheKey = session.getIdentityMapAccessorInstance().getCacheKeyForObject(primaryKey, descriptor.getJavaClass(), descriptor, false);
+        if (cacheKey != null) {
+            policy.revalidateExpired(cacheKey, session);
+        }
+    }
+
     /**
      * Perform a cache lookup for the query
      * This is only called from read object query.
@@ -902,6 +921,7 @@ public Object checkCacheForObject(AbstractRecord translationRow, AbstractSession
                 // Must be checked separately as the expression and row is not yet set.
                 query.setSelectionId(selectionKey);
             }
+            revalidateCachedObject(selectionKey, session);
             if (query.requiresDeferredLocks()) {
                 cachedObject = session.getIdentityMapAccessorInstance().getFromLocalIdentityMapWithDeferredLock(selectionKey, query.getReferenceClass(), false, descriptor);
             } else {
@@ -937,6 +957,7 @@ public Object checkCacheForObject(AbstractRecord translationRow, AbstractSession
                             if (selectionKey == InvalidObject.instance) {
                                 return selectionKey;
                             }
+                            revalidateCachedObject(selectionKey, session);
                             if (query.requiresDeferredLocks()) {
                                 cachedObject = session.getIdentityMapAccessorInstance().getFromLocalIdentityMapWithDeferredLock(selectionKey, query.getReferenceClass(), false, descriptor);
                             } else {
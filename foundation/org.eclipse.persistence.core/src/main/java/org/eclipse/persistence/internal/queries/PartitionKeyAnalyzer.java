@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.queries;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.expressions.ExpressionOperator;
+import org.eclipse.persistence.internal.expressions.CompoundExpression;
+import org.eclipse.persistence.internal.expressions.ConstantExpression;
+import org.eclipse.persistence.internal.expressions.DataExpression;
+import org.eclipse.persistence.internal.expressions.FunctionExpression;
+import org.eclipse.persistence.internal.expressions.ParameterExpression;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ModifyAllQuery;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+
+/**
+ * INTERNAL:
+ * Find the values of a partition field selected by the selection criteria of a query.
+ * <p>
+ * Equality, IN lists, comparisons and BETWEEN on the partition field of the query's class
+ * are combined through AND (intersection) and OR (union) into a set of values and ranges.
+ * Only the field of the objects selected by the query is considered, the same field reached through a relationship,
+ * such as in a self-join, or through another expression builder, can have any value on any partition.
+ * Any other condition selects any value, so if it is part of an OR, or the criteria has no
+ * condition on the field, the query can't be pruned.
+ *
+ * @see org.eclipse.persistence.descriptors.partitioning.FieldPartitioningPolicy
+ */
+public class PartitionKeyAnalyzer {
+
+    /** Value of an expression that is not a constant or parameter. */
+    protected static final Object NO_VALUE = new Object();
+
+    protected final DatabaseField partitionField;
+    protected final DatabaseQuery query;
+    protected final AbstractRecord arguments;
+    protected final AbstractSession session;
+
+    /** The expression builder of the objects selected by the query. */
+    protected final ExpressionBuilder builder;
+
+    protected PartitionKeyAnalyzer(DatabaseField partitionField, DatabaseQuery query, AbstractRecord arguments, AbstractSession session) {
+        this.partitionField = partitionField;
+        this.query = query;
+        this.arguments = arguments;
+        this.session = session;
+        if (query.isObjectLevelReadQuery()) {
+            this.builder = ((ObjectLevelReadQuery)query).getExpressionBuilder();
+        } else if (query.isModifyAllQuery()) {
+            this.builder = ((ModifyAllQuery)query).getExpressionBuilder();
+        } else {
+            this.builder = query.getSelectionCriteria().getBuilder();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the values of the partition field selected by the query, or null if any value can be selected.
+     */
+    public static Constraint analyze(DatabaseField partitionField, DatabaseQuery query, AbstractRecord arguments, AbstractSession session) {
+        Expression criteria = query.getSelectionCriteria();
+        if ((criteria == null) || (partitionField == null)) {
+            return null;
+        }
+        try {
+            return new PartitionKeyAnalyzer(partitionField, query, arguments, session).analyze(criteria);
+        } catch (RuntimeException notComparable) {
+            // Values of different types, or an expression that can't be resolved.
+            return null;
+        }
+    }
+
+    protected Constraint analyze(Expression expression) {
+        if (expression.isLogicalExpression()) {
+            CompoundExpression logical = (CompoundExpression)expression;
+            int selector = logical.getOperator().getSelector();
+            Constraint first = analyze(logical.getFirstChild());
+            Constraint second = analyze(logical.getSecondChild());
+            if (selector == ExpressionOperator.And) {
+                if (first == null) {
+                    return second;
+                }
+                return (second == null) ? first : first.intersect(second);
+            } else if (selector == ExpressionOperator.Or) {
+                return ((first == null) || (second == null)) ? null : first.union(second);
+            }
+            return null;
+        }
+        if (expression.isRelationExpression()) {
+            return analyzeRelation((CompoundExpression)expression);
+        }
+        if (expression.isFunctionExpression() && (expression.getOperator().getSelector() == ExpressionOperator.Between)) {
+            List<Expression> children = ((FunctionExpression)expression).getChildren();
+            if ((children.size() == 3) && isPartitionField(children.get(0))) {
+                Object low = valueOf(children.get(1));
+                Object high = valueOf(children.get(2));
+                if ((low instanceof Comparable) && (high instanceof Comparable)) {
+                    return Constraint.range(new Range(Range.comparable(low), true, Range.comparable(high), true));
+                }
+            }
+        }
+        return null;
+    }
+
+    protected Constraint analyzeRelation(CompoundExpression relation) {
+        int selector = relation.getOperator().getSelector();
+        Expression field = relation.getFirstChild();
+        Expression value = relation.getSecondChild();
+        if (!isPartitionField(field)) {
+            // A comparison may be written with the value first.
+            field = relation.getSecondChild();
+            value = relation.getFirstChild();
+            if (!isPartitionField(field)) {
+                return null;
+            }
+            if (selector == ExpressionOperator.LessThan) {
+                selector = ExpressionOperator.GreaterThan;
+            } else if (selector == ExpressionOperator.LessThanEqual) {
+                selector = ExpressionOperator.GreaterThanEqual;
+            } else if (selector == ExpressionOperator.GreaterThan) {
+                selector = ExpressionOperator.LessThan;
+            } else if (selector == ExpressionOperator.GreaterThanEqual) {
+                selector = ExpressionOperator.LessThanEqual;
+            } else if (selector != ExpressionOperator.Equal) {
+                return null;
+            }
+        }
+        Object fieldValue = valueOf(value);
+        if ((fieldValue == NO_VALUE) || (fieldValue == null)) {
+            return null;
+        }
+        if (selector == ExpressionOperator.Equal) {
+            return Constraint.value(fieldValue);
+        } else if (selector == ExpressionOperator.In) {
+            if (!(fieldValue instanceof Collection)) {
+                return null;
+            }
+            Constraint constraint = new Constraint();
+            for (Object element : (Collection)fieldValue) {
+                if (element instanceof Expression) {
+                    element = valueOf((Expression)element);
+                }
+                if ((element == NO_VALUE) || (element == null)) {
+                    return null;
+                }
+                constraint.values.add(element);
+            }
+            return constraint;
+        }
+        if (!(fieldValue instanceof Comparable)) {
+            return null;
+        }
+        Comparable<Object> comparable = Range.comparable(fieldValue);
+        if (selector == ExpressionOperator.LessThan) {
+            return Constraint.range(new Range(null, false, comparable, false));
+        } else if (selector == ExpressionOperator.LessThanEqual) {
+            return Constraint.range(new Range(null, false, comparable, true));
+        } else if (selector == ExpressionOperator.GreaterThan) {
+            return Constraint.range(new Range(comparable, false, null, false));
+        } else if (selector == ExpressionOperator.GreaterThanEqual) {
+            return Constraint.range(new Range(comparable, true, null, false));
+        }
+        return null;
+    }
+
+    /**
+     * Return if the expression is the partition field of the objects selected by the query.
+     * The field must be based on the query's expression builder, as the partition field of a related object,
+     * or of a table that is not the query's, does not select the partition of the query's objects.
+     */
+    protected boolean isPartitionField(Expression expression) {
+        if (!(expression.isFieldExpression() || expression.isQueryKeyExpression())
+                || (((DataExpression)expression).getBaseExpression() != this.builder)) {
+            return false;
+        }
+        ClassDescriptor descriptor = getDescriptor();
+        DatabaseField field = ((DataExpression)expression).getField();
+        if ((field == null) && expression.isQueryKeyExpression() && (descriptor != null)) {
+            // The criteria may not be bound to the descriptors yet.
+            field = descriptor.getObjectBuilder().getFieldForQueryKeyName(expression.getName());
+        }
+        if ((field == null) || !field.equals(this.partitionField)) {
+            return false;
+        }
+        // An unqualified field is equal to the field of the same name of any table, it must be of the query's tables.
+        if (field.hasTableName() && (descriptor != null)) {
+            return descriptor.getTables().contains(field.getTable());
+        }
+        return true;
+    }
+
+    /**
+     * Return the descriptor of the objects selected by the query.
+     */
+    protected ClassDescriptor getDescriptor() {
+        if (this.builder.getDescriptor() != null) {
+            return this.builder.getDescriptor();
+        }
+        if ((this.builder.getQueryClass() != null) && (this.session != null)) {
+            return this.session.getDescriptor(this.builder.getQueryClass());
+        }
+        return this.query.getDescriptor();
+    }
+
+    /**
+     * Return the field value of a constant or parameter, or NO_VALUE.
+     */
+    protected Object valueOf(Expression expression) {
+        if (expression.isParameterExpression()) {
+            if (this.arguments == null) {
+                return NO_VALUE;
+            }
+            return ((ParameterExpression)expression).getValue(this.arguments, this.query, this.session);
+        } else if (expression.isConstantExpression()) {
+            Object value = ((ConstantExpression)expression).getValue();
+            if (value instanceof Collection) {
+                return value;
+            }
+            Expression localBase = ((ConstantExpression)expression).getLocalBase();
+            if ((localBase != null) && (this.session != null)) {
+                value = localBase.getFieldValue(value, this.session);
+            }
+            return value;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * INTERNAL:
+     * The values and ranges of values selected by a query, an empty constraint selects no value.
+     */
+    public static class Constraint {
+        protected final Set<Object> values = new LinkedHashSet<>();
+        protected final List<Range> ranges = new ArrayList<>();
+
+        public static Constraint value(Object value) {
+            Constraint constraint = new Constraint();
+            constraint.values.add(value);
+            return constraint;
+        }
+
+        public static Constraint range(Range range) {
+            Constraint constraint = new Constraint();
+            constraint.ranges.add(range);
+            return constraint;
+        }
+
+        public Set<Object> getValues() {
+            return values;
+        }
+
+        public List<Range> getRanges() {
+            return ranges;
+        }
+
+        public boolean isEmpty() {
+            return this.values.isEmpty() && this.ranges.isEmpty();
+        }
+
+        /**
+         * Return if the value is selected.
+         */
+        public boolean includes(Object value) {
+            if (this.values.contains(value)) {
+                return true;
+            }
+            for (Range range : this.ranges) {
+                if (range.includes(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Return if a value between the start and end, both included, is selected.
+         * A null start or end is unbounded.
+         */
+        public boolean overlaps(Comparable<?> start, Comparable<?> end) {
+            Range partition = new Range(Range.comparable(start), true, Range.comparable(end), true);
+            for (Object value : this.values) {
+                if (partition.includes(value)) {
+                    return true;
+                }
+            }
+            for (Range range : this.ranges) {
+                if (range.intersect(partition) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public Constraint intersect(Constraint other) {
+            Constraint result = new Constraint();
+            for (Object value : this.values) {
+                if (other.includes(value)) {
+                    result.values.add(value);
+                }
+            }
+            for (Object value : other.values) {
+                if (includes(value)) {
+                    result.values.add(value);
+                }
+            }
+            for (Range range : this.ranges) {
+                for (Range otherRange : other.ranges) {
+                    Range intersection = range.intersect(otherRange);
+                    if (intersection != null) {
+                        result.ranges.add(intersection);
+                    }
+                }
+            }
+            return result;
+        }
+
+        public Constraint union(Constraint other) {
+            Constraint result = new Constraint();
+            result.values.addAll(this.values);
+            result.values.addAll(other.values);
+            result.ranges.addAll(this.ranges);
+            result.ranges.addAll(other.ranges);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "Constraint(values=" + this.values + ", ranges=" + this.ranges + ")";
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * A range of values, a null bound is unbounded.
+     */
+    public static class Range {
+        protected final Comparable<Object> low;
+        protected final boolean isLowIncluded;
+        protected final Comparable<Object> high;
+        protected final boolean isHighIncluded;
+
+        public Range(Comparable<Object> low, boolean isLowIncluded, Comparable<Object> high, boolean isHighIncluded) {
+            this.low = low;
+            this.isLowIncluded = isLowIncluded;
+            this.high = high;
+            this.isHighIncluded = isHighIncluded;
+        }
+
+        /**
+         * Return the value as a bound comparable against any other key value.
+         * Partition key values of one field are all of the field's type,
+         * so the comparison is checked only at runtime, as in the partitioning policies.
+         */
+        @SuppressWarnings("unchecked")
+        static Comparable<Object> comparable(Object value) {
+            return (Comparable<Object>)value;
+        }
+
+        public boolean includes(Object value) {
+            if (this.low != null) {
+                int compare = this.low.compareTo(value);
+                if ((compare > 0) || ((compare == 0) && !this.isLowIncluded)) {
+                    return false;
+                }
+            }
+            if (this.high != null) {
+                int compare = this.high.compareTo(value);
+                if ((compare < 0) || ((compare == 0) && !this.isHighIncluded)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Return the values in both ranges, or null if none.
+         */
+        public Range intersect(Range other) {
+            Comparable<Object> low = this.low;
+            boolean isLowIncluded = this.isLowIncluded;
+            if (other.low != null) {
+                int compare = (low == null) ? -1 : low.compareTo(other.low);
+                if (compare < 0) {
+                    low = other.low;
+                    isLowIncluded = other.isLowIncluded;
+                } else if (compare == 0) {
+                    isLowIncluded = isLowIncluded && other.isLowIncluded;
+                }
+            }
+            Comparable<Object> high = this.high;
+            boolean isHighIncluded = this.isHighIncluded;
+            if (other.high != null) {
+                int compare = (high == null) ? 1 : high.compareTo(other.high);
+                if (compare > 0) {
+                    high = other.high;
+                    isHighIncluded = other.isHighIncluded;
+                } else if (compare == 0) {
+                    isHighIncluded = isHighIncluded && other.isHighIncluded;
+                }
+            }
+            if ((low != null) && (high != null)) {
+                int compare = low.compareTo(high);
+                if ((compare > 0) || ((compare == 0) && !(isLowIncluded && isHighIncluded))) {
+                    return null;
+                }
+            }
+            return new Range(low, isLowIncluded, high, isHighIncluded);
+        }
+
+        @Override
+        public String toString() {
+            return (this.isLowIncluded ? "[" : "(") + this.low + ", " + this.high + (this.isHighIncluded ? "]" : ")");
+        }
+    }
+}
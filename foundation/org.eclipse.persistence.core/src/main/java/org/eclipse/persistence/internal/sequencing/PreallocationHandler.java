@@ -19,6 +19,7 @@
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Handles the storage and allocation of sequence values.
@@ -27,6 +28,73 @@
  */
 class PreallocationHandler implements SequencingLogInOut {
     protected Map<String, Queue<Object>> preallocatedSequences;
+    protected Map<String, PreallocatedRanges> preallocatedRanges;
+
+    /**
+     * The range of a sequence values are handed out from, and the range prefetched to follow it.
+     * Sequences with consecutive values are preallocated as ranges, instead of as a queue of values.
+     */
+    static final class PreallocatedRanges {
+        volatile SequenceRange current;
+        /** Guarded by this. */
+        SequenceRange prefetched;
+        /** Set when the prefetch value of the current range is handed out, until the prefetch is launched. */
+        final AtomicBoolean isPrefetchRequested = new AtomicBoolean();
+
+        /**
+         * Return the next value, switching to the prefetched range when the current one is used up,
+         * or null if there is no value left.
+         */
+        Long next() {
+            while (true) {
+                SequenceRange range = this.current;
+                if (range != null) {
+                    Long value = range.next();
+                    if (value != null) {
+                        if (value == range.getPrefetchValue()) {
+                            this.isPrefetchRequested.set(true);
+                        }
+                        return value;
+                    }
+                }
+                synchronized (this) {
+                    if (this.current == range) {
+                        if (this.prefetched == null) {
+                            return null;
+                        }
+                        this.current = this.prefetched;
+                        this.prefetched = null;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Return if a range must be prefetched, only true for one caller.
+         */
+        boolean shouldPrefetch() {
+            return this.isPrefetchRequested.get() && this.isPrefetchRequested.compareAndSet(true, false);
+        }
+
+        /**
+         * Return if a range is already waiting to follow the current one.
+         */
+        synchronized boolean hasPrefetched() {
+            return this.prefetched != null;
+        }
+
+        /**
+         * Add the allocated range, it follows the current one if values are left in it.
+         */
+        synchronized void add(SequenceRange range) {
+            SequenceRange current = this.current;
+            if ((current == null) || (current.getRemaining() == 0)) {
+                this.current = range;
+            } else {
+                this.prefetched = range;
+            }
+        }
+    }
 
     public PreallocationHandler() {
         super();
@@ -51,6 +119,13 @@ public Queue<Object> getPreallocated(String sequenceName) {
         return sequences;
     }
 
+    /**
+     * Returns the ranges of the sequence name, registered if missing.
+     */
+    public PreallocatedRanges getPreallocatedRanges(String sequenceName) {
+        return preallocatedRanges.computeIfAbsent(sequenceName, name -> new PreallocatedRanges());
+    }
+
     // SequencingLogInOut
     @Override
     public void onConnect() {
@@ -60,6 +135,7 @@ public void onConnect() {
     @Override
     public void onDisconnect() {
         preallocatedSequences = null;
+        preallocatedRanges = null;
     }
 
     @Override
@@ -74,6 +150,7 @@ public boolean isConnected() {
      */
     public void initializePreallocated() {
         preallocatedSequences = new ConcurrentHashMap<>(20);
+        preallocatedRanges = new ConcurrentHashMap<>(20);
     }
 
     /**
@@ -83,6 +160,7 @@ public void initializePreallocated() {
      */
     public void initializePreallocated(String seqName) {
         preallocatedSequences.remove(seqName);
+        preallocatedRanges.remove(seqName);
     }
 
     /**
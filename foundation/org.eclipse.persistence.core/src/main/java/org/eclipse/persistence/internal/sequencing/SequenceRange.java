@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sequencing;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A block of consecutive preallocated sequence values, from first to last.
+ * The values are handed out with an atomic increment, so concurrent threads
+ * never lock and no value is held until it is handed out.
+ * @see org.eclipse.persistence.sequencing.Sequence#getGeneratedRange
+ */
+public class SequenceRange {
+    protected final long first;
+    protected final long last;
+    protected final AtomicLong next;
+
+    public SequenceRange(long first, long last) {
+        this.first = first;
+        this.last = last;
+        this.next = new AtomicLong(first);
+    }
+
+    /**
+     * Return the next value of the range, or null if all were handed out.
+     */
+    public Long next() {
+        long value = this.next.getAndIncrement();
+        if (value > this.last) {
+            // Keep next from wrapping if threads keep polling an exhausted range.
+            this.next.set(this.last + 1);
+            return null;
+        }
+        return value;
+    }
+
+    public long getFirst() {
+        return first;
+    }
+
+    public long getLast() {
+        return last;
+    }
+
+    /**
+     * Return the value from which the following range should be allocated, half way through the range.
+     */
+    public long getPrefetchValue() {
+        return this.first + (getSize() / 2);
+    }
+
+    public long getSize() {
+        return this.last - this.first + 1;
+    }
+
+    /**
+     * Return the number of values not handed out yet.
+     */
+    public long getRemaining() {
+        return Math.max(0, this.last - this.next.get() + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "SequenceRange(" + this.first + ", " + this.last + ")";
+    }
+}
@@ -21,6 +21,7 @@
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.sequencing.PreallocationHandler.PreallocatedRanges;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.logging.SessionLog;
@@ -109,6 +110,7 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private Vector<Sequence> connectedSequences;
     boolean atLeastOneSequenceShouldUseTransaction;
     boolean atLeastOneSequenceShouldUsePreallocation;
+    boolean atLeastOneSequenceShouldUseSequencingConnection;
 
     // state ids
     private static final int NOPREALLOCATION = 0;
@@ -127,6 +129,7 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private int maxPoolSize = -1;
     private int initialPoolSize = -1;
     private ConnectionPool connectionPool;
+    private boolean shouldPrefetchPreallocation = true;
 
     public SequencingManager(DatabaseSessionImpl ownerSession) {
         this.ownerSession = ownerSession;
@@ -225,6 +228,16 @@ public void setShouldUseSeparateConnection(boolean shouldUseSeparateConnection)
         this.shouldUseSeparateConnection = shouldUseSeparateConnection;
     }
 
+    @Override
+    public boolean shouldPrefetchPreallocation() {
+        return shouldPrefetchPreallocation;
+    }
+
+    @Override
+    public void setShouldPrefetchPreallocation(boolean shouldPrefetchPreallocation) {
+        this.shouldPrefetchPreallocation = shouldPrefetchPreallocation;
+    }
+
     @Override
     public boolean isConnectedUsingSeparateConnection() {
         return isConnected() && (getConnectionHandler() != null);
@@ -355,6 +368,77 @@ protected void logDebugPreallocation(String seqName, Object firstSequenceValue,
         }
     }
 
+    protected void logDebugPreallocation(String seqName, SequenceRange range) {
+        if (getOwnerSession().shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
+            Object[] args = { seqName, range.getSize(), range.getFirst(), range.getLast() };
+            getOwnerSession().log(SessionLog.FINEST, SessionLog.SEQUENCING, "sequencing_preallocation", args);
+        }
+    }
+
+    /**
+     * Return the next value of the preallocated range of the sequence.
+     * A lock is only acquired to allocate a new range when all values were handed out,
+     * and once half of a range was handed out the following range is allocated asynchronously,
+     * so threads usually neither lock nor wait for the database.
+     */
+    protected Object getNextValueFromRange(RangeState state, Sequence sequence, AbstractSession writeSession) {
+        String seqName = sequence.getName();
+        String context = getContext(writeSession);
+        PreallocatedRanges ranges = getPreallocationHandler(context).getPreallocatedRanges(seqName);
+        // First try to get the next sequence value without locking.
+        Long sequenceValue = ranges.next();
+        if (sequenceValue == null) {
+            // Range is used up, so must lock and allocate next range.
+            ConcurrencyManager lock = acquireLock(seqName);
+            try {
+                sequenceValue = ranges.next();
+                if (sequenceValue == null) {
+                    SequenceRange range = state.allocateRange(sequence, writeSession);
+                    // Take the first value before adding the range to ensure this thread gets one.
+                    sequenceValue = range.next();
+                    ranges.add(range);
+                    logDebugPreallocation(seqName, range);
+                }
+            } finally {
+                lock.release();
+            }
+        }
+        if (ranges.shouldPrefetch() && this.shouldPrefetchPreallocation && "default".equals(context) && state.canPrefetch()) {
+            prefetchRange(state, sequence, ranges);
+        }
+        return sequenceValue;
+    }
+
+    /**
+     * Allocate the range following the current range of the sequence in another thread.
+     * The owner session is used, as the write session may be used concurrently by its own thread.
+     */
+    protected void prefetchRange(RangeState state, Sequence sequence, PreallocatedRanges ranges) {
+        getOwnerSession().getServerPlatform().launchContainerRunnable(() -> {
+            String seqName = sequence.getName();
+            ConcurrencyManager lock = null;
+            try {
+                if (!isConnected()) {
+                    return;
+                }
+                lock = acquireLock(seqName);
+                // The range may already have been allocated by a thread having used up the current one.
+                if (!ranges.hasPrefetched()) {
+                    SequenceRange range = state.allocateRange(sequence, getOwnerSession());
+                    ranges.add(range);
+                    logDebugPreallocation(seqName, range);
+                }
+            } catch (RuntimeException exception) {
+                // The range is allocated when the current one is used up instead.
+                getOwnerSession().logThrowable(SessionLog.WARNING, SessionLog.SEQUENCING, exception);
+            } finally {
+                if (lock != null) {
+                    lock.release();
+                }
+            }
+        });
+    }
+
     protected void logDebugLocalPreallocation(AbstractSession writeSession, String seqName, Vector<?> sequences, Accessor accessor) {
         if (writeSession.shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING)) {
             Object[] args = { seqName, sequences.size(), sequences.firstElement(), sequences.lastElement() };
@@ -376,6 +460,21 @@ public String toString() {
         }
     }
 
+    /**
+     * Implemented by the states handing out the values of sequences using range allocation.
+     */
+    interface RangeState {
+        /**
+         * Allocate a range of values of a sequence using range allocation.
+         */
+        SequenceRange allocateRange(Sequence sequence, AbstractSession writeSession);
+
+        /**
+         * Return if ranges can be allocated by another thread, without the connection of the write session.
+         */
+        boolean canPrefetch();
+    }
+
     /**
      * Uses preallocation, uses transaction, no separate connection.
      * This is used for a DatabaseSession, or a ServerSession not using native sequencing,
@@ -595,11 +694,15 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
      * This is used in a ServerSession with a sequence connection pool.
      * This is typically the default behavior.
      */
-    class Preallocation_Transaction_Accessor_State extends State {
+    class Preallocation_Transaction_Accessor_State extends State implements RangeState {
         @Override
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
+                // PERF: Consecutive values are handed out from a range, without a queue of values.
+                if (sequence.shouldUseRangeAllocation()) {
+                    return getNextValueFromRange(this, sequence, writeSession);
+                }
                 PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
@@ -670,18 +773,55 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 }
             }
         }
+
+        @Override
+        public SequenceRange allocateRange(Sequence sequence, AbstractSession writeSession) {
+            // note that accessor.getLogin().shouldUseExternalTransactionController()
+            // should be set to false
+            Accessor accessor = getConnectionHandler().acquireAccessor();
+            try {
+                accessor.beginTransaction(writeSession);
+                try {
+                    SequenceRange range = sequence.getGeneratedRange(accessor, writeSession);
+                    accessor.commitTransaction(writeSession);
+                    return range;
+                } catch (RuntimeException ex) {
+                    try {
+                        // make sure to rollback the transaction we've begun
+                        accessor.rollbackTransaction(writeSession);
+                    } catch (Exception rollbackException) {
+                        // ignore rollback exception
+                    }
+                    // don't eat the original exception
+                    throw ex;
+                }
+            } finally {
+                getConnectionHandler().releaseAccessor(accessor);
+            }
+        }
+
+        @Override
+        public boolean canPrefetch() {
+            // The range is allocated with a separate connection.
+            return true;
+        }
     }
 
     /**
      * Using preallocation, NoTransaction, NoAccessor.
      * This is used by native sequence objects.
-     * No transaction is required as sequence objects are non-transactional.
+     * No transaction is required as sequence objects are non-transactional,
+     * the sequencing connection is only used by sequences requiring it.
      */
-    class Preallocation_NoTransaction_State extends State {
+    class Preallocation_NoTransaction_State extends State implements RangeState {
         @Override
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
+                // PERF: Consecutive values are handed out from a range, without a queue of values.
+                if (sequence.shouldUseRangeAllocation()) {
+                    return getNextValueFromRange(this, sequence, writeSession);
+                }
                 PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
@@ -696,7 +836,7 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                     if (sequenceValue != null) {
                         return sequenceValue;
                     }
-                    Vector<?> sequences = sequence.getGeneratedVector(null, writeSession);
+                    Vector<?> sequences = getGeneratedVector(sequence, writeSession);
                     // Remove the first value before adding to the global cache to ensure this thread gets one.
                     sequenceValue = sequences.remove(0);
                     // copy remaining values to global cache.
@@ -708,9 +848,47 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 return sequenceValue;
             } else {
                 // preallocation size is 1 - just return the first (and only) element of the allocated vector.
-                return sequence.getGeneratedVector(null, writeSession).firstElement();
+                return getGeneratedVector(sequence, writeSession).firstElement();
             }
         }
+
+        @Override
+        public SequenceRange allocateRange(Sequence sequence, AbstractSession writeSession) {
+            if (!shouldUseConnectionHandler(sequence)) {
+                return sequence.getGeneratedRange(null, writeSession);
+            }
+            Accessor accessor = getConnectionHandler().acquireAccessor();
+            try {
+                return sequence.getGeneratedRange(accessor, writeSession);
+            } finally {
+                getConnectionHandler().releaseAccessor(accessor);
+            }
+        }
+
+        /**
+         * Allocate the values with the sequencing connection if the sequence requires it, without a transaction.
+         */
+        protected Vector<?> getGeneratedVector(Sequence sequence, AbstractSession writeSession) {
+            if (!shouldUseConnectionHandler(sequence)) {
+                return sequence.getGeneratedVector(null, writeSession);
+            }
+            Accessor accessor = getConnectionHandler().acquireAccessor();
+            try {
+                return sequence.getGeneratedVector(accessor, writeSession);
+            } finally {
+                getConnectionHandler().releaseAccessor(accessor);
+            }
+        }
+
+        protected boolean shouldUseConnectionHandler(Sequence sequence) {
+            return sequence.shouldUseSequencingConnection() && (getConnectionHandler() != null);
+        }
+
+        @Override
+        public boolean canPrefetch() {
+            // The sequence object is read with a pooled connection, a DatabaseSession has only one connection.
+            return getOwnerSession().isServerSession();
+        }
     }
 
     /**
@@ -795,6 +973,7 @@ protected void onConnectInternal(Collection<ClassDescriptor> descriptors) {
         int whenShouldAcquireValueForAllOriginal = whenShouldAcquireValueForAll;
         boolean atLeastOneSequenceShouldUseTransactionOriginal = atLeastOneSequenceShouldUseTransaction;
         boolean atLeastOneSequenceShouldUsePreallocationOriginal = atLeastOneSequenceShouldUsePreallocation;
+        boolean atLeastOneSequenceShouldUseSequencingConnectionOriginal = atLeastOneSequenceShouldUseSequencingConnection;
 
         onConnectSequences(descriptors);
 
@@ -814,7 +993,7 @@ protected void onConnectInternal(Collection<ClassDescriptor> descriptors) {
             if (!hasConnectionHandler) {
                 if (!shouldUseSeparateConnection()) {
                     setConnectionHandler(null);
-                } else if (atLeastOneSequenceShouldUseTransaction) {
+                } else if (atLeastOneSequenceShouldUseTransaction || atLeastOneSequenceShouldUseSequencingConnection) {
                     if (getConnectionHandler() == null) {
                         createConnectionHandler();
                     }
@@ -848,6 +1027,7 @@ protected void onConnectInternal(Collection<ClassDescriptor> descriptors) {
                 whenShouldAcquireValueForAll = whenShouldAcquireValueForAllOriginal;
                 atLeastOneSequenceShouldUseTransaction = atLeastOneSequenceShouldUseTransactionOriginal;
                 atLeastOneSequenceShouldUsePreallocation = atLeastOneSequenceShouldUsePreallocationOriginal;
+                atLeastOneSequenceShouldUseSequencingConnection = atLeastOneSequenceShouldUseSequencingConnectionOriginal;
             }
             if (!hasConnectionHandler && getConnectionHandler() != null) {
                 if (onExceptionDisconnectConnectionHandler) {
@@ -958,6 +1138,7 @@ protected void onConnectSequences(Collection<ClassDescriptor> descriptors) {
         }
         boolean shouldUseTransaction = false;
         boolean shouldUsePreallocation = false;
+        boolean shouldUseSequencingConnection = false;
         boolean shouldAcquireValueAfterInsert = false;
         if (descriptors == null) {
             descriptors = getOwnerSession().getDescriptors().values();
@@ -996,12 +1177,14 @@ protected void onConnectSequences(Collection<ClassDescriptor> descriptors) {
                     connectedSequences.add(nAlreadyConnectedSequences, getDefaultSequence());
                     shouldUseTransaction |= getDefaultSequence().shouldUseTransaction();
                     shouldUsePreallocation |= getDefaultSequence().shouldUsePreallocation();
+                    shouldUseSequencingConnection |= getDefaultSequence().shouldUseSequencingConnection();
                     shouldAcquireValueAfterInsert |= getDefaultSequence().shouldAcquireValueAfterInsert();
                 }
                 sequence.onConnect(getOwnerSession().getDatasourcePlatform());
                 connectedSequences.addElement(sequence);
                 shouldUseTransaction |= sequence.shouldUseTransaction();
                 shouldUsePreallocation |= sequence.shouldUsePreallocation();
+                shouldUseSequencingConnection |= sequence.shouldUseSequencingConnection();
                 shouldAcquireValueAfterInsert |= sequence.shouldAcquireValueAfterInsert();
             } catch (RuntimeException ex) {
                 // defaultSequence has to disconnect the last
@@ -1039,6 +1222,7 @@ protected void onConnectSequences(Collection<ClassDescriptor> descriptors) {
         }
         atLeastOneSequenceShouldUseTransaction |= shouldUseTransaction;
         atLeastOneSequenceShouldUsePreallocation |= shouldUsePreallocation;
+        atLeastOneSequenceShouldUseSequencingConnection |= shouldUseSequencingConnection;
     }
 
     /*
@@ -1064,6 +1248,7 @@ protected void onDisconnectSequences(int nAlreadyConnectedSequences) {
             whenShouldAcquireValueForAll = UNDEFINED;
             atLeastOneSequenceShouldUseTransaction = false;
             atLeastOneSequenceShouldUsePreallocation = false;
+            atLeastOneSequenceShouldUseSequencingConnection = false;
         }
         if (exception != null) {
             throw exception;
@@ -58,6 +58,7 @@
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.core.sessions.CoreAbstractSession;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
 import org.eclipse.persistence.internal.databaseaccess.Platform;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
@@ -240,6 +241,9 @@ public abstract class AbstractSession extends CoreAbstractSession<ClassDescripto
     /** PERF: cache descriptors from project. */
     transient protected Map<Class<?>, ClassDescriptor> descriptors;
 
+    /** PERF: Initializes the descriptors on first use, null if the descriptors are initialized on login. */
+    transient protected LazyDescriptorInitializer lazyDescriptorInitializer;
+
     /** PERF: cache table per tenant descriptors needing to be initialized per EM */
     transient protected List<ClassDescriptor> tablePerTenantDescriptors;
 
@@ -954,6 +958,22 @@ public void clearLastDescriptorAccessed() {
         this.lastDescriptorAccessed = null;
     }
 
+    /**
+     * INTERNAL:
+     * Return the initializer of the descriptors on first use, null if the descriptors are initialized on login.
+     */
+    public LazyDescriptorInitializer getLazyDescriptorInitializer() {
+        return this.lazyDescriptorInitializer;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the descriptor is only pre-initialized, waiting for its first use to be initialized.
+     */
+    public boolean isDescriptorInitializationPending(ClassDescriptor descriptor) {
+        return (this.lazyDescriptorInitializer != null) && this.lazyDescriptorInitializer.isPending(descriptor);
+    }
+
     /**
      * INTERNAL:
      * Clear the the descriptors cache.
@@ -2047,6 +2067,9 @@ public Object basicExecuteCall(Call call, AbstractRecord translationRow, Databas
         try {
             if (query.getAccessors().size() == 1) {
                 result = query.getAccessor().executeCall(call, translationRow, this);
+            } else if (PartitionedCallExecutor.shouldExecuteInParallel(this, call, query)) {
+                // PERF: Execute on each connection concurrently.
+                result = new PartitionedCallExecutor(this, (DatabaseCall)call, translationRow, query).execute();
             } else {
                 RuntimeException exception = null;
                 // Replication or partitioning may require execution on multiple connections.
@@ -2399,7 +2422,11 @@ public ClassDescriptor getClassDescriptor(Object domainObject) {
      */
     @Override
     public ClassDescriptor getClassDescriptorForAlias(String alias) {
-        return project.getDescriptorForAlias(alias);
+        ClassDescriptor descriptor = project.getDescriptorForAlias(alias);
+        if ((this.lazyDescriptorInitializer != null) && (descriptor != null)) {
+            this.lazyDescriptorInitializer.initializeDescriptor(descriptor);
+        }
+        return descriptor;
     }
 
     /**
@@ -2462,6 +2489,13 @@ public ClassDescriptor getDescriptor(Class<?> theClass) {
             }
         }
 
+        // Initialize the descriptor on first use if the descriptors are initialized lazily.
+        if ((this.lazyDescriptorInitializer != null) && (descriptor != null)
+                && !this.lazyDescriptorInitializer.initializeDescriptor(descriptor)) {
+            // The descriptor is being initialized by this thread, it must not be cached.
+            return descriptor;
+        }
+
         // Cache for optimization.
         this.lastDescriptorAccessed = descriptor;
 
@@ -2501,6 +2535,9 @@ public ClassDescriptor getDescriptorForAlias(final String alias) {
         if (desc != null && desc.hasMultitenantPolicy() && this.descriptors != null) {
             return this.descriptors.get(desc.getJavaClass());
         } else {
+            if ((this.lazyDescriptorInitializer != null) && (desc != null)) {
+                this.lazyDescriptorInitializer.initializeDescriptor(desc);
+            }
             return desc;
         }
     }
@@ -3070,6 +3107,11 @@ public DatabaseQuery getQuery(String name, Vector arguments) {
      */
     public DatabaseQuery getQuery(String name, Vector arguments, boolean shouldSearchParent) {
         List<DatabaseQuery> queries = getQueries().get(name);
+        if ((queries == null) && (this.lazyDescriptorInitializer != null)) {
+            // The JPA queries are prepared on first use if the descriptors are initialized lazily.
+            this.lazyDescriptorInitializer.prepareQueries(name);
+            queries = getQueries().get(name);
+        }
         if ((queries != null) && !queries.isEmpty()) {
             // Short circuit the simple, most common case of only one query.
             if (queries.size() == 1) {
@@ -4413,7 +4455,12 @@ public void processJPAQueries() {
         if (! jpaQueriesProcessed) {
             // Process the JPA queries that do not query table per tenant entities.
             for (DatabaseQuery jpaQuery : getJPAQueries()) {
-                processJPAQuery(jpaQuery);
+                if (this.lazyDescriptorInitializer != null) {
+                    // PERF: Preparing the query initializes the descriptors it uses, so it is deferred to its first use.
+                    this.lazyDescriptorInitializer.addQuery(jpaQuery);
+                } else {
+                    processJPAQuery(jpaQuery);
+                }
             }
 
             // Process the JPA queries that query table per tenant entities. At
@@ -107,6 +107,10 @@ public void markVisited() {
      * If my superclass is related to a class, I'm related to it.
      */
     public void recordMappingDependencies() {
+        // The dependencies of a descriptor initialized lazily are recorded once it is initialized.
+        if (session.isDescriptorInitializationPending(getDescriptor())) {
+            return;
+        }
         for (Enumeration<DatabaseMapping> mappings = getDescriptor().getMappings().elements();
              mappings.hasMoreElements();) {
             DatabaseMapping mapping = mappings.nextElement();
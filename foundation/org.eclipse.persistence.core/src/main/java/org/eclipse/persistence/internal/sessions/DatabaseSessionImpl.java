@@ -626,7 +626,9 @@ public void initializeDescriptorIfSessionAlive(ClassDescriptor descriptor) {
      */
     public void initializeDescriptors() {
         // Must clone to avoid modification of the map while enumerating.
-        initializeDescriptors((Map)((HashMap)getDescriptors()).clone(), true);
+        Collection descriptors = ((Map)((HashMap)getDescriptors()).clone()).values();
+        this.lazyDescriptorInitializer = null;
+        initializeDescriptors(descriptors, true, LazyDescriptorInitializer.shouldInitializeDescriptorsLazily(this));
         // Initialize serializer
         if (this.serializer != null) {
             this.serializer.initialize(null, null, this);
@@ -649,12 +651,7 @@ public void initializeDescriptors() {
         if (defaultQueryCachePolicy != null) {
             for (List<DatabaseQuery> queries : getQueries().values()) {
                 for (DatabaseQuery query : queries) {
-                    if (query.isReadQuery() && (query.getDescriptor() != null) && !query.getDescriptor().getCachePolicy().isIsolated()) {
-                        ReadQuery readQuery = (ReadQuery)query;
-                        if (!readQuery.shouldCacheQueryResults()) {
-                            readQuery.setQueryResultsCachePolicy(defaultQueryCachePolicy.clone());
-                        }
-                    }
+                    initializeDefaultQueryResultsCachePolicy(query, defaultQueryCachePolicy);
                 }
             }
         }
@@ -664,6 +661,20 @@ public void initializeDescriptors() {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Configure the default query results cache of the project on the named query,
+     * if it is a read query of a class using the shared cache that does not cache its results.
+     */
+    protected void initializeDefaultQueryResultsCachePolicy(DatabaseQuery query, QueryResultsCachePolicy defaultQueryCachePolicy) {
+        if (query.isReadQuery() && (query.getDescriptor() != null) && !query.getDescriptor().getCachePolicy().isIsolated()) {
+            ReadQuery readQuery = (ReadQuery)query;
+            if (!readQuery.shouldCacheQueryResults()) {
+                readQuery.setQueryResultsCachePolicy(defaultQueryCachePolicy.clone());
+            }
+        }
+    }
+
     /**
      * INTERNAL:
      * Allow each descriptor to initialize any dependencies on this session.
@@ -698,6 +709,16 @@ public void initializeDescriptors(Map descriptors, boolean shouldInitializeSeque
         initializeDescriptors(descriptors.values(), shouldInitializeSequencing);
     }
     public void initializeDescriptors(Collection descriptors, boolean shouldInitializeSequencing) {
+        initializeDescriptors(descriptors, shouldInitializeSequencing, false);
+    }
+
+    /**
+     * INTERNAL:
+     * Allow each descriptor to initialize any dependencies on this session.
+     * If shouldInitializeLazily parameter is true then the descriptors are only pre-initialized,
+     * each descriptor is initialized with the descriptors it references on its first use.
+     */
+    protected void initializeDescriptors(Collection descriptors, boolean shouldInitializeSequencing, boolean shouldInitializeLazily) {
         if (shouldInitializeSequencing) {
             initializeSequencing();
         } else {
@@ -729,32 +750,16 @@ public void initializeDescriptors(Collection descriptors, boolean shouldInitiali
                 }
             }
 
-            // Second initialize basic mappings
-            iterator = descriptors.iterator();
-            while (iterator.hasNext()) {
-                ClassDescriptor descriptor = (ClassDescriptor)iterator.next();
-                try {
-                    AbstractSession session = getSessionForClass(descriptor.getJavaClass());
-                    if (descriptor.requiresInitialization(session)) {
-                        descriptor.initialize(session);
-                    }
-                } catch (RuntimeException exception) {
-                    getIntegrityChecker().handleError(exception);
-                }
-            }
-
-            // Third initialize child dependencies
-            iterator = descriptors.iterator();
-            while (iterator.hasNext()) {
-                ClassDescriptor descriptor = (ClassDescriptor)iterator.next();
-                try {
-                    AbstractSession session = getSessionForClass(descriptor.getJavaClass());
-                    if (descriptor.requiresInitialization(session)) {
-                        descriptor.postInitialize(session);
-                    }
-                } catch (RuntimeException exception) {
-                    getIntegrityChecker().handleError(exception);
-                }
+            if (shouldInitializeLazily) {
+                // PERF: Each descriptor is initialized with the descriptors it references on its first use.
+                this.lazyDescriptorInitializer = new LazyDescriptorInitializer(this, descriptors);
+                clearLastDescriptorAccessed();
+            } else if (ParallelDescriptorInitializer.shouldInitializeDescriptorsInParallel(this, descriptors)) {
+                // PERF: The independent inheritance hierarchies can be initialized on multiple threads.
+                ParallelDescriptorInitializer.initializeDescriptors(this, descriptors);
+                ParallelDescriptorInitializer.postInitializeDescriptors(this, descriptors);
+            } else {
+                initializePreInitializedDescriptors(descriptors);
             }
 
             if (getIntegrityChecker().hasErrors()) {
@@ -768,6 +773,37 @@ public void initializeDescriptors(Collection descriptors, boolean shouldInitiali
         getCommitManager().initializeCommitOrder();
     }
 
+    /**
+     * INTERNAL:
+     * Initialize the basic mappings then the child dependencies of the pre-initialized descriptors.
+     * The errors are recorded in the integrity checker.
+     */
+    protected void initializePreInitializedDescriptors(Collection<ClassDescriptor> descriptors) {
+        // Second initialize basic mappings
+        for (ClassDescriptor descriptor : descriptors) {
+            try {
+                AbstractSession session = getSessionForClass(descriptor.getJavaClass());
+                if (descriptor.requiresInitialization(session)) {
+                    descriptor.initialize(session);
+                }
+            } catch (RuntimeException exception) {
+                getIntegrityChecker().handleError(exception);
+            }
+        }
+
+        // Third initialize child dependencies
+        for (ClassDescriptor descriptor : descriptors) {
+            try {
+                AbstractSession session = getSessionForClass(descriptor.getJavaClass());
+                if (descriptor.requiresInitialization(session)) {
+                    descriptor.postInitialize(session);
+                }
+            } catch (RuntimeException exception) {
+                getIntegrityChecker().handleError(exception);
+            }
+        }
+    }
+
     /**
      * INTERNAL:
      * Return if this session is a database session.
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.IntegrityException;
+import org.eclipse.persistence.mappings.AggregateMapping;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * INTERNAL:
+ * PERF: Initializes the descriptors pre-initialized on login on their first use by the session.
+ * <p>
+ * The first time a pre-initialized descriptor is looked up, it is initialized and post-initialized
+ * with the pre-initialized descriptors it references, through its mappings and inheritance, transitively,
+ * so a descriptor returned by the session and the descriptors reachable from it are always fully initialized.
+ * The descriptors are initialized by a single thread at a time, the other threads looking up
+ * a descriptor being initialized wait until it is initialized.
+ * A descriptor referenced only while being initialized, such as by a map key mapping, is initialized on its own.
+ * <p>
+ * The named JPA queries initialize the descriptors they use when they are prepared, so they are also prepared on first use.
+ *
+ * @see Project#setShouldInitializeDescriptorsLazily(boolean)
+ */
+public class LazyDescriptorInitializer {
+
+    protected final DatabaseSessionImpl session;
+
+    /** The pre-initialized descriptors, removed once initialized. */
+    protected final Set<ClassDescriptor> pendingDescriptors = ConcurrentHashMap.newKeySet();
+
+    /** The descriptors being initialized by the thread holding the lock of this initializer. */
+    protected final Set<ClassDescriptor> initializingDescriptors = ConcurrentHashMap.newKeySet();
+
+    /** The JPA queries not yet prepared, by name. */
+    protected final Map<String, List<DatabaseQuery>> pendingQueries = new ConcurrentHashMap<>();
+
+    public LazyDescriptorInitializer(DatabaseSessionImpl session, Collection<ClassDescriptor> descriptors) {
+        this.session = session;
+        for (ClassDescriptor descriptor : descriptors) {
+            if (!descriptor.isFullyInitialized()) {
+                this.pendingDescriptors.add(descriptor);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the descriptors should be initialized on first use for the session.
+     * The descriptors of a session broker and of its member sessions are always initialized on login.
+     */
+    public static boolean shouldInitializeDescriptorsLazily(DatabaseSessionImpl session) {
+        return session.getProject().shouldInitializeDescriptorsLazily() && !session.isBroker() && !session.hasBroker();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the descriptor is pre-initialized and not being initialized.
+     */
+    public boolean isPending(ClassDescriptor descriptor) {
+        return this.pendingDescriptors.contains(descriptor) && !this.initializingDescriptors.contains(descriptor);
+    }
+
+    /**
+     * INTERNAL:
+     * Initialize the descriptor and the descriptors it references if it is pre-initialized.
+     * Return false if the descriptor is being initialized by the current thread, so is not yet fully initialized.
+     */
+    public boolean initializeDescriptor(ClassDescriptor descriptor) {
+        if (!this.pendingDescriptors.contains(descriptor)) {
+            return true;
+        }
+        synchronized (this) {
+            if (this.initializingDescriptors.contains(descriptor)) {
+                return false;
+            }
+            if (this.pendingDescriptors.contains(descriptor)) {
+                initializeDescriptors(buildReferencedDescriptors(descriptor));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Initialize all the pre-initialized descriptors, when the whole project is required such as to generate the tables.
+     */
+    public void initializeAllDescriptors() {
+        synchronized (this) {
+            List<ClassDescriptor> descriptors = new ArrayList<>(this.pendingDescriptors.size());
+            for (ClassDescriptor descriptor : this.pendingDescriptors) {
+                if (!this.initializingDescriptors.contains(descriptor)) {
+                    descriptors.add(descriptor);
+                }
+            }
+            if (!descriptors.isEmpty()) {
+                initializeDescriptors(descriptors);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the pre-initialized descriptors referenced by the descriptor through its mappings and inheritance,
+     * transitively, including the descriptor.
+     */
+    protected List<ClassDescriptor> buildReferencedDescriptors(ClassDescriptor descriptor) {
+        Map<Class<?>, ClassDescriptor> descriptors = this.session.getDescriptors();
+        Set<ClassDescriptor> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<ClassDescriptor> referencedDescriptors = new ArrayList<>();
+        addReferencedDescriptor(descriptor, found, referencedDescriptors);
+        for (int index = 0; index < referencedDescriptors.size(); index++) {
+            ClassDescriptor referencedDescriptor = referencedDescriptors.get(index);
+            if (referencedDescriptor.hasInheritance()) {
+                ClassDescriptor root = referencedDescriptor.getInheritancePolicy().getRootParentDescriptor();
+                addReferencedDescriptor(root, found, referencedDescriptors);
+                for (ClassDescriptor child : root.getInheritancePolicy().getAllChildDescriptors()) {
+                    addReferencedDescriptor(child, found, referencedDescriptors);
+                }
+            }
+            if (referencedDescriptor.isDescriptorForInterface()) {
+                for (ClassDescriptor implementor : referencedDescriptor.getInterfacePolicy().getChildDescriptors()) {
+                    addReferencedDescriptor(implementor, found, referencedDescriptors);
+                }
+            }
+            for (DatabaseMapping mapping : referencedDescriptor.getMappings()) {
+                Class<?> referenceClass = null;
+                if (mapping.isForeignReferenceMapping()) {
+                    referenceClass = ((ForeignReferenceMapping)mapping).getReferenceClass();
+                } else if (mapping.isAggregateMapping()) {
+                    referenceClass = ((AggregateMapping)mapping).getReferenceClass();
+                }
+                if (referenceClass != null) {
+                    addReferencedDescriptor(descriptors.get(referenceClass), found, referencedDescriptors);
+                }
+            }
+        }
+        return referencedDescriptors;
+    }
+
+    protected void addReferencedDescriptor(ClassDescriptor descriptor, Set<ClassDescriptor> found, List<ClassDescriptor> referencedDescriptors) {
+        if ((descriptor != null) && isPending(descriptor) && found.add(descriptor)) {
+            referencedDescriptors.add(descriptor);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Initialize then post-initialize the pre-initialized descriptors, and update the commit order.
+     * The descriptors are no longer pending, even if their initialization failed, as on login.
+     */
+    protected void initializeDescriptors(List<ClassDescriptor> descriptors) {
+        this.initializingDescriptors.addAll(descriptors);
+        try {
+            try {
+                this.session.initializePreInitializedDescriptors(descriptors);
+                if (this.session.getIntegrityChecker().hasErrors()) {
+                    this.session.handleSevere(new IntegrityException(this.session.getIntegrityChecker()));
+                }
+            } finally {
+                this.session.clearIntegrityChecker();
+            }
+            notifyReferencedDescriptorsOfIsolation(descriptors);
+            this.session.getCommitManager().initializeCommitOrder();
+        } finally {
+            this.pendingDescriptors.removeAll(descriptors);
+            this.initializingDescriptors.removeAll(descriptors);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * The descriptors referencing a descriptor not using the shared cache must also not use it.
+     * A descriptor initialized earlier has already notified its referencing descriptors,
+     * so it must notify again for the descriptors now referencing it.
+     */
+    protected void notifyReferencedDescriptorsOfIsolation(List<ClassDescriptor> descriptors) {
+        Set<ClassDescriptor> initialized = Collections.newSetFromMap(new IdentityHashMap<>());
+        initialized.addAll(descriptors);
+        for (ClassDescriptor descriptor : descriptors) {
+            for (DatabaseMapping mapping : descriptor.getMappings()) {
+                ClassDescriptor referenceDescriptor = mapping.getReferenceDescriptor();
+                if (mapping.isForeignReferenceMapping() && (referenceDescriptor != null) && !initialized.contains(referenceDescriptor)
+                        && !referenceDescriptor.getCachePolicy().isSharedIsolation()) {
+                    referenceDescriptor.notifyReferencingDescriptorsOfIsolation(this.session);
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Add the JPA query to be prepared on first use.
+     */
+    public void addQuery(DatabaseQuery query) {
+        this.pendingQueries.computeIfAbsent(query.getName(), name -> new ArrayList<>()).add(query);
+    }
+
+    /**
+     * INTERNAL:
+     * Prepare the JPA queries with the name if not yet prepared, and add them to the session queries.
+     */
+    public void prepareQueries(String name) {
+        if ((name == null) || !this.pendingQueries.containsKey(name)) {
+            return;
+        }
+        synchronized (this) {
+            List<DatabaseQuery> queries = this.pendingQueries.get(name);
+            if (queries == null) {
+                return;
+            }
+            try {
+                QueryResultsCachePolicy defaultQueryCachePolicy = this.session.getProject().getDefaultQueryResultsCachePolicy();
+                for (DatabaseQuery query : queries) {
+                    this.session.processJPAQuery(query);
+                    if (defaultQueryCachePolicy != null) {
+                        DatabaseQuery databaseQuery = (DatabaseQuery)query.getProperty("databasequery");
+                        this.session.initializeDefaultQueryResultsCachePolicy((databaseQuery == null) ? query : databaseQuery, defaultQueryCachePolicy);
+                    }
+                }
+            } finally {
+                this.pendingQueries.remove(name);
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
 import org.eclipse.persistence.internal.descriptors.PersistenceEntity;
+import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.linkedlist.LinkedNode;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
@@ -37,6 +38,7 @@
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.queries.DoesExistQuery;
 import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.InvalidateStaleObjectsCommand;
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 
 import java.util.ArrayList;
@@ -477,6 +479,70 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate the objects of the command cached with an older version than the command's version.
+     */
+    public void mergeStaleObjectInvalidations(InvalidateStaleObjectsCommand command) {
+        AbstractSession session = this.session;
+        session.startOperationProfile(SessionProfiler.DistributedMerge);
+        try {
+            session.log(SessionLog.FINER, SessionLog.PROPAGATION, "received_updates_from_remote_server");
+            List<String> classNames = command.getClassNames();
+            Class<?>[] classes = new Class<?>[classNames.size()];
+            ClassDescriptor[] descriptors = new ClassDescriptor[classes.length];
+            for (int index = 0; index < command.getSize(); index++) {
+                int classIndex = command.getClassNameIndex(index);
+                if (classes[classIndex] == null) {
+                    classes[classIndex] = session.getDatasourcePlatform().getConversionManager().convertObject(classNames.get(classIndex), ClassConstants.CLASS);
+                    descriptors[classIndex] = session.getDescriptor(classes[classIndex]);
+                }
+                if (invalidateStaleObject(command.getPrimaryKey(index), command.getWriteLockValue(index), classes[classIndex], descriptors[classIndex])) {
+                    session.incrementProfile(SessionProfiler.ChangeSetsProcessed);
+                } else {
+                    session.incrementProfile(SessionProfiler.ChangeSetsNotProcessed);
+                }
+            }
+            for (Class<?> changedClass : classes) {
+                if (changedClass != null) {
+                    session.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                }
+            }
+        } catch (RuntimeException exception) {
+            session.handleException(exception);
+        } finally {
+            session.endOperationProfile(SessionProfiler.DistributedMerge);
+        }
+    }
+
+    /**
+     * Invalidate the cached object unless its cached version is the same or newer than the version,
+     * return if the object was invalidated.
+     * Objects without a version, or of classes not using version locking are always invalidated.
+     */
+    protected boolean invalidateStaleObject(Object primaryKey, Object writeLockValue, Class<?> localClassType, ClassDescriptor descriptor) {
+        AbstractSession session = this.session;
+        if ((primaryKey == null) || (descriptor == null)) {
+            return false;
+        }
+        CacheKey cacheKey = session.getIdentityMapAccessorInstance().getCacheKeyForObject(primaryKey, localClassType, descriptor, false);
+        if ((cacheKey == null) || (cacheKey.getObject() == null)) {
+            // Nothing cached, nothing can be stale.
+            return false;
+        }
+        OptimisticLockingPolicy policy = descriptor.getOptimisticLockingPolicy();
+        if ((writeLockValue != null) && descriptor.usesVersionLocking() && policy.supportsWriteLockValuesComparison()) {
+            Object cachedValue = policy.isStoredInCache() ? cacheKey.getWriteLockValue() : policy.getWriteLockValue(cacheKey.getObject(), primaryKey, session);
+            if ((cachedValue != null) && (policy.compareWriteLockValues(writeLockValue, cachedValue) <= 0)) {
+                // The cached object was already refreshed to the new version, or a newer one.
+                session.log(SessionLog.FINEST, SessionLog.PROPAGATION, "change_from_remote_server_older_than_current_version", localClassType.getName(), primaryKey);
+                return false;
+            }
+        }
+        cacheKey.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+        return true;
+    }
+
     /**
      * Merge the changes specified within the changeSet into the cache.
      * The object passed in is the original object from the cache.
@@ -493,6 +559,9 @@ protected Object mergeChangesIntoDistributedCache(Object original, ObjectChangeS
         if (changeSet.getSynchronizationType() == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS) {
             session.getIdentityMapAccessorInstance().invalidateObject(changeSet.getId(), localClassType);
             return original;
+        } else if (changeSet.getSynchronizationType() == ClassDescriptor.INVALIDATE_STALE_OBJECTS) {
+            invalidateStaleObject(changeSet.getId(), changeSet.getWriteLockValue(), localClassType, descriptor);
+            return original;
         }
 
         // If version locking was used, check if the cache version is the correct version, otherwise invalidate,
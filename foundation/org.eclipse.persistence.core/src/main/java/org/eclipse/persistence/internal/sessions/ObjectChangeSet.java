@@ -852,7 +852,8 @@ private void readObject(java.io.ObjectInputStream stream) throws java.io.IOExcep
 
         // Only the identity information is sent with a number of cache synchronization types
         // Here we decide what to read.
-        if (this.shouldBeDeleted || (cacheSyncType == ClassDescriptor.DO_NOT_SEND_CHANGES) || (cacheSyncType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS)) {
+        if (this.shouldBeDeleted || (cacheSyncType == ClassDescriptor.DO_NOT_SEND_CHANGES) || (cacheSyncType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS)
+                || (cacheSyncType == ClassDescriptor.INVALIDATE_STALE_OBJECTS)) {
             readIdentityInformation(stream);
         } else {
             readCompleteChangeSet(stream);
@@ -1079,7 +1080,8 @@ private void writeObject(java.io.ObjectOutputStream stream) throws java.io.IOExc
         stream.writeBoolean(this.isAggregate);
         stream.writeObject(this.shouldModifyVersionField);
         stream.writeBoolean(this.hasVersionChange);
-        if (this.shouldBeDeleted || (this.cacheSynchronizationType == ClassDescriptor.DO_NOT_SEND_CHANGES) || (this.cacheSynchronizationType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS)) {
+        if (this.shouldBeDeleted || (this.cacheSynchronizationType == ClassDescriptor.DO_NOT_SEND_CHANGES) || (this.cacheSynchronizationType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS)
+                || (this.cacheSynchronizationType == ClassDescriptor.INVALIDATE_STALE_OBJECTS)) {
             writeIdentityInformation(stream);
         } else {
             writeCompleteChangeSet(stream);
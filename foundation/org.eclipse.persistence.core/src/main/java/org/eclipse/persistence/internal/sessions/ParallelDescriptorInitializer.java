@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.ParallelExecutor;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * INTERNAL:
+ * PERF: Runs the initialize or the post-initialize phase of the descriptors on multiple threads.
+ * <p>
+ * The descriptors are grouped in units that must be initialized by a single thread, in the order of the descriptors:
+ * <ul>
+ * <li> the descriptors of an inheritance hierarchy, a child initializes its parent and a parent post-initializes its children,
+ * <li> for the initialize phase, the descriptors using cascaded optimistic locking and the descriptors they privately own,
+ * as the cascade locking policies are added to the owned descriptors,
+ * <li> for the post-initialize phase, the descriptors not using a shared cache and the descriptors referencing them,
+ * as the cache isolation of the referencing descriptors is changed.
+ * </ul>
+ * Aggregate descriptors are not in a unit, each aggregate mapping initializes its own clone of the aggregate descriptor.
+ * The units are claimed by the calling thread and by the threads of the {@link ParallelExecutor} pool shared by all the sessions.
+ * The pre-initialize phase resolves the inheritance and must be run before, in the calling thread.
+ *
+ * @see Project#setShouldInitializeDescriptorsInParallel(boolean)
+ */
+public class ParallelDescriptorInitializer {
+
+    protected final DatabaseSessionImpl session;
+    protected final List<List<ClassDescriptor>> units;
+    protected final boolean isPostInitialization;
+
+    protected ParallelDescriptorInitializer(DatabaseSessionImpl session, List<List<ClassDescriptor>> units, boolean isPostInitialization) {
+        this.session = session;
+        this.units = units;
+        this.isPostInitialization = isPostInitialization;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the descriptors should be initialized in parallel for the session.
+     */
+    public static boolean shouldInitializeDescriptorsInParallel(DatabaseSessionImpl session, Collection<ClassDescriptor> descriptors) {
+        return session.getProject().shouldInitializeDescriptorsInParallel() && (descriptors.size() > 1);
+    }
+
+    /**
+     * INTERNAL:
+     * Initialize the pre-initialized descriptors in parallel.
+     */
+    public static void initializeDescriptors(DatabaseSessionImpl session, Collection<ClassDescriptor> descriptors) {
+        new ParallelDescriptorInitializer(session, buildUnits(session, descriptors, false), false).initializeDescriptors();
+    }
+
+    /**
+     * INTERNAL:
+     * Post-initialize the initialized descriptors in parallel.
+     */
+    public static void postInitializeDescriptors(DatabaseSessionImpl session, Collection<ClassDescriptor> descriptors) {
+        new ParallelDescriptorInitializer(session, buildUnits(session, descriptors, true), true).initializeDescriptors();
+    }
+
+    /**
+     * INTERNAL:
+     * Group the descriptors in the units that must be initialized by a single thread, in the order of the descriptors.
+     * All the descriptors are in one unit if a dependency can't be resolved to a unit.
+     */
+    protected static List<List<ClassDescriptor>> buildUnits(DatabaseSessionImpl session, Collection<ClassDescriptor> descriptors, boolean isPostInitialization) {
+        Map<ClassDescriptor, ClassDescriptor> parents = new IdentityHashMap<>();
+        for (ClassDescriptor descriptor : descriptors) {
+            parents.put(descriptor, descriptor);
+        }
+        for (ClassDescriptor descriptor : descriptors) {
+            if (descriptor.hasInheritance()) {
+                union(parents, descriptor, descriptor.getInheritancePolicy().getRootParentDescriptor());
+            }
+        }
+        boolean isResolved = true;
+        for (ClassDescriptor descriptor : descriptors) {
+            if (isPostInitialization) {
+                if (!descriptor.getCachePolicy().isSharedIsolation()) {
+                    isResolved = isResolved && unionReferencingDescriptors(parents, descriptor);
+                }
+            } else if (usesCascadedLocking(descriptor)) {
+                unionPrivatelyOwnedDescriptors(session, parents, descriptor);
+            }
+        }
+        List<List<ClassDescriptor>> units = new ArrayList<>();
+        if (!isResolved) {
+            units.add(new ArrayList<>(descriptors));
+            return units;
+        }
+        Map<ClassDescriptor, List<ClassDescriptor>> unitsByRoot = new IdentityHashMap<>();
+        for (ClassDescriptor descriptor : descriptors) {
+            ClassDescriptor root = find(parents, descriptor);
+            List<ClassDescriptor> unit = unitsByRoot.get(root);
+            if (unit == null) {
+                unit = new ArrayList<>();
+                unitsByRoot.put(root, unit);
+                units.add(unit);
+            }
+            unit.add(descriptor);
+        }
+        return units;
+    }
+
+    /**
+     * Return if the descriptor, or the root of its hierarchy, cascades its optimistic locking.
+     */
+    protected static boolean usesCascadedLocking(ClassDescriptor descriptor) {
+        if (descriptor.usesOptimisticLocking() && descriptor.getOptimisticLockingPolicy().isCascaded()) {
+            return true;
+        }
+        if (descriptor.hasInheritance()) {
+            ClassDescriptor root = descriptor.getInheritancePolicy().getRootParentDescriptor();
+            return root.usesOptimisticLocking() && root.getOptimisticLockingPolicy().isCascaded();
+        }
+        return false;
+    }
+
+    /**
+     * Join the descriptor with the descriptors it privately owns, recursively as the owned descriptors cascade the locking policy.
+     */
+    protected static void unionPrivatelyOwnedDescriptors(DatabaseSessionImpl session, Map<ClassDescriptor, ClassDescriptor> parents, ClassDescriptor descriptor) {
+        Map<ClassDescriptor, ClassDescriptor> visited = new IdentityHashMap<>();
+        List<ClassDescriptor> owners = new ArrayList<>();
+        owners.add(descriptor);
+        visited.put(descriptor, descriptor);
+        while (!owners.isEmpty()) {
+            ClassDescriptor owner = owners.remove(owners.size() - 1);
+            for (DatabaseMapping mapping : owner.getMappings()) {
+                if (mapping.isPrivateOwned() && mapping.isForeignReferenceMapping()) {
+                    Class<?> referenceClass = ((ForeignReferenceMapping)mapping).getReferenceClass();
+                    ClassDescriptor reference = (referenceClass == null) ? null : session.getDescriptor(referenceClass);
+                    if ((reference != null) && !reference.isAggregateDescriptor()) {
+                        union(parents, owner, reference);
+                        if (visited.put(reference, reference) == null) {
+                            owners.add(reference);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Join the descriptor with the descriptors referencing it, recursively as their cache isolation may change too.
+     * Return false if a referencing descriptor is not being initialized, such as the clone of an aggregate descriptor.
+     */
+    protected static boolean unionReferencingDescriptors(Map<ClassDescriptor, ClassDescriptor> parents, ClassDescriptor descriptor) {
+        Map<ClassDescriptor, ClassDescriptor> visited = new IdentityHashMap<>();
+        List<ClassDescriptor> referenced = new ArrayList<>();
+        referenced.add(descriptor);
+        visited.put(descriptor, descriptor);
+        while (!referenced.isEmpty()) {
+            ClassDescriptor target = referenced.remove(referenced.size() - 1);
+            for (ClassDescriptor referencing : target.getReferencingClasses()) {
+                if (!parents.containsKey(referencing)) {
+                    return false;
+                }
+                union(parents, target, referencing);
+                if (visited.put(referencing, referencing) == null) {
+                    referenced.add(referencing);
+                }
+            }
+        }
+        return true;
+    }
+
+    protected static ClassDescriptor find(Map<ClassDescriptor, ClassDescriptor> parents, ClassDescriptor descriptor) {
+        ClassDescriptor root = descriptor;
+        ClassDescriptor parent = parents.get(root);
+        while ((parent != null) && (parent != root)) {
+            root = parent;
+            parent = parents.get(root);
+        }
+        if (parent == null) {
+            parents.put(root, root);
+        }
+        // Compress the path to the root.
+        ClassDescriptor next = descriptor;
+        while (next != root) {
+            ClassDescriptor current = next;
+            next = parents.get(current);
+            parents.put(current, root);
+        }
+        return root;
+    }
+
+    protected static void union(Map<ClassDescriptor, ClassDescriptor> parents, ClassDescriptor descriptor, ClassDescriptor other) {
+        ClassDescriptor root = find(parents, descriptor);
+        ClassDescriptor otherRoot = find(parents, other);
+        if (root != otherRoot) {
+            parents.put(otherRoot, root);
+        }
+    }
+
+    protected void initializeDescriptors() {
+        // The integrity checker is shared by all the threads and is lazily created.
+        this.session.getIntegrityChecker().getCaughtExceptions();
+        ParallelExecutor.run(this.units.size(), Runtime.getRuntime().availableProcessors(), index -> initializeUnit(this.units.get(index)));
+    }
+
+    protected void initializeUnit(List<ClassDescriptor> unit) {
+        for (ClassDescriptor descriptor : unit) {
+            try {
+                AbstractSession session = this.session.getSessionForClass(descriptor.getJavaClass());
+                if (descriptor.requiresInitialization(session)) {
+                    if (this.isPostInitialization) {
+                        descriptor.postInitialize(session);
+                    } else {
+                        descriptor.initialize(session);
+                    }
+                }
+            } catch (RuntimeException exception) {
+                this.session.getIntegrityChecker().handleError(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Vector;
+import java.util.function.Function;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.partitioning.PartitioningPolicy;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionOperator;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.expressions.DataExpression;
+import org.eclipse.persistence.internal.expressions.FunctionExpression;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.ParallelExecutor;
+import org.eclipse.persistence.internal.helper.ThreadCursoredList;
+import org.eclipse.persistence.internal.queries.ReportItem;
+import org.eclipse.persistence.queries.Call;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.queries.ReportQuery;
+
+/**
+ * INTERNAL:
+ * PERF: Executes a call on the several connections returned by a partitioning policy concurrently.
+ * <p>
+ * The connections are claimed by the calling thread and by the threads of the {@link ParallelExecutor} pool
+ * shared by all the sessions. The size of the pool bounds the number of threads, not the number of connections
+ * used at once by all the queries, as every calling thread executes calls too.
+ * Each connection executes its own clone of the call, as a call holds the statement and result of its execution.
+ * As the calling thread keeps claiming connections until none are left, a saturated pool only
+ * reduces the parallelism, the calls are then executed in turn by the calling thread.
+ * <p>
+ * The results are merged as if the call was executed on each connection in turn, except for rows:
+ * <ul>
+ * <li> The aggregates of a report query (COUNT, SUM, MIN, MAX) are combined by group,
+ * unless it has a HAVING clause, an AVG or a COUNT DISTINCT, which can't be combined.
+ * <li> Rows ordered by fields or report items are merged in order, and truncated to the max rows.
+ * Nulls are ordered as by the database platform unless NULLS FIRST or NULLS LAST is used.
+ * The rows are only merged if the database ordering can be reproduced, so not for strings,
+ * which are ordered by the collation of the database, or for nulls if the platform does not know their ordering.
+ * </ul>
+ *
+ * @see PartitioningPolicy#setShouldExecuteInParallel(boolean)
+ */
+public class PartitionedCallExecutor {
+
+    protected final AbstractSession session;
+    protected final DatabaseCall call;
+    protected final AbstractRecord translationRow;
+    protected final DatabaseQuery query;
+    protected final Accessor[] accessors;
+    protected final DatabaseCall[] calls;
+    protected final Object[] results;
+    protected final Throwable[] failures;
+
+    public PartitionedCallExecutor(AbstractSession session, DatabaseCall call, AbstractRecord translationRow, DatabaseQuery query) {
+        this.session = session;
+        this.call = call;
+        this.translationRow = translationRow;
+        this.query = query;
+        Collection<Accessor> accessors = query.getAccessors();
+        this.accessors = accessors.toArray(new Accessor[accessors.size()]);
+        int size = this.accessors.length;
+        // The clones are made before any execution, the original call is executed on the first connection.
+        this.calls = new DatabaseCall[size];
+        this.calls[0] = call;
+        for (int index = 1; index < size; index++) {
+            this.calls[index] = (DatabaseCall)call.clone();
+        }
+        this.results = new Object[size];
+        this.failures = new Throwable[size];
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the call can be executed concurrently on the connections of the query.
+     * The partitioning policy of the query, otherwise of its descriptor, otherwise of the session must allow it.
+     * Cursors, and calls leaving state on the connection (batched, LOB or generated keys writes) are executed in turn.
+     */
+    public static boolean shouldExecuteInParallel(AbstractSession session, Call call, DatabaseQuery query) {
+        if ((query.getAccessors().size() < 2) || !(call instanceof DatabaseCall)) {
+            return false;
+        }
+        PartitioningPolicy policy = query.getPartitioningPolicy();
+        ClassDescriptor descriptor = query.getDescriptor();
+        if ((policy == null) && (descriptor != null)) {
+            policy = descriptor.getPartitioningPolicy();
+        }
+        if (policy == null) {
+            policy = session.getPartitioningPolicy();
+        }
+        if ((policy == null) || !policy.shouldExecuteInParallel()) {
+            return false;
+        }
+        DatabaseCall databaseCall = (DatabaseCall)call;
+        if (databaseCall.isCursorReturned() || databaseCall.isExecuteUpdate()) {
+            return false;
+        }
+        if (databaseCall.isNothingReturned()) {
+            return !databaseCall.shouldReturnGeneratedKeys() && !databaseCall.isLOBLocatorNeeded()
+                    && !session.getPlatform().usesBatchWriting();
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the call on each connection and merge the results.
+     * If the call failed on any connection, the failure of the first connection is thrown.
+     */
+    public Object execute() {
+        ParallelExecutor.run(this.accessors.length, this.accessors.length, this::executeCall);
+        for (Throwable failure : this.failures) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException)failure;
+            } else if (failure instanceof Error) {
+                throw (Error)failure;
+            }
+        }
+        return mergeResults();
+    }
+
+    /**
+     * Execute the call on the connection of the index.
+     */
+    protected void executeCall(int index) {
+        try {
+            this.results[index] = this.accessors[index].executeCall(this.calls[index], this.translationRow, this.session);
+        } catch (Throwable exception) {
+            // Execution continues on the other connections, as when executed in turn.
+            this.failures[index] = exception;
+        }
+    }
+
+    /**
+     * Merge the results in the order of the connections.
+     */
+    protected Object mergeResults() {
+        if (this.call.isOneRowReturned()) {
+            // The first row found.
+            for (Object result : this.results) {
+                if (result != null) {
+                    return result;
+                }
+            }
+            return null;
+        }
+        if (this.call.isNothingReturned()) {
+            // Ensure row count is consistent, 0 if any 0, otherwise first number.
+            Object rowCount = null;
+            for (Object result : this.results) {
+                if (rowCount == null) {
+                    rowCount = result;
+                } else if ((result instanceof Integer) && ((Integer)rowCount != 0) && ((Integer)result != 0)) {
+                    rowCount = result;
+                }
+            }
+            return rowCount;
+        }
+        List<List<AbstractRecord>> rows = new ArrayList<>(this.results.length);
+        for (Object result : this.results) {
+            if ((result instanceof List) && !(result instanceof ThreadCursoredList)) {
+                rows.add(toRows(result));
+            } else if (result != null) {
+                return concatenate();
+            }
+        }
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Comparator<AbstractRecord> comparator = buildOrderComparator(rows);
+        List<AbstractRecord> merged = null;
+        if (this.query.isReportQuery()) {
+            merged = combineAggregates((ReportQuery)this.query, rows);
+            if ((merged != null) && (comparator != null)) {
+                merged.sort(comparator);
+            }
+        }
+        if ((merged == null) && (comparator != null)) {
+            merged = mergeOrdered(rows, comparator);
+        }
+        if (merged == null) {
+            return concatenate();
+        }
+        if (comparator != null) {
+            // Each connection returned its first rows, the first rows of the union are kept.
+            ReadQuery readQuery = (ReadQuery)this.query;
+            if ((readQuery.getMaxRows() > 0) && (readQuery.getFirstResult() == 0) && (merged.size() > readQuery.getMaxRows())) {
+                merged.subList(readQuery.getMaxRows(), merged.size()).clear();
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Append the results of the other connections to the result of the first, as when executed in turn.
+     */
+    @SuppressWarnings("unchecked")
+    protected Object concatenate() {
+        Object result = null;
+        for (Object object : this.results) {
+            if (result == null) {
+                result = object;
+            } else if (object instanceof List) {
+                ((List<Object>)result).addAll((List<?>)object);
+            } else {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Merge the ordered rows of each connection into one ordered list, rows comparing equal are kept in connection order.
+     */
+    protected List<AbstractRecord> mergeOrdered(List<List<AbstractRecord>> rows, Comparator<AbstractRecord> comparator) {
+        int size = 0;
+        for (List<AbstractRecord> connectionRows : rows) {
+            size = size + connectionRows.size();
+        }
+        List<AbstractRecord> merged = new Vector<>(size);
+        int[] positions = new int[rows.size()];
+        PriorityQueue<Integer> heads = new PriorityQueue<>(rows.size(), (first, second) -> {
+            int compare = comparator.compare(rows.get(first).get(positions[first]), rows.get(second).get(positions[second]));
+            return (compare != 0) ? compare : Integer.compare(first, second);
+        });
+        for (int index = 0; index < rows.size(); index++) {
+            if (!rows.get(index).isEmpty()) {
+                heads.add(index);
+            }
+        }
+        while (!heads.isEmpty()) {
+            int index = heads.poll();
+            merged.add(rows.get(index).get(positions[index]));
+            positions[index]++;
+            if (positions[index] < rows.get(index).size()) {
+                heads.add(index);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Return a comparator of the rows from the ordering of the query,
+     * or null if the query is not ordered or an ordering can't be found in the rows or reproduced.
+     */
+    protected Comparator<AbstractRecord> buildOrderComparator(List<List<AbstractRecord>> rows) {
+        if (!this.query.isObjectLevelReadQuery() || !((ObjectLevelReadQuery)this.query).hasOrderByExpressions()) {
+            return null;
+        }
+        AbstractRecord sample = null;
+        for (List<AbstractRecord> connectionRows : rows) {
+            if (!connectionRows.isEmpty()) {
+                sample = connectionRows.get(0);
+                break;
+            }
+        }
+        if (sample == null) {
+            return null;
+        }
+        Comparator<AbstractRecord> comparator = null;
+        for (Expression orderBy : ((ObjectLevelReadQuery)this.query).getOrderByExpressions()) {
+            Expression expression = orderBy;
+            boolean isDescending = false;
+            boolean isNullsFirst = false;
+            boolean isNullsOrderSet = false;
+            while (expression.isFunctionExpression()) {
+                int selector = expression.getOperator().getSelector();
+                if (selector == ExpressionOperator.Descending) {
+                    isDescending = true;
+                } else if ((selector == ExpressionOperator.NullsFirst) || (selector == ExpressionOperator.NullsLast)) {
+                    isNullsFirst = selector == ExpressionOperator.NullsFirst;
+                    isNullsOrderSet = true;
+                } else if (selector != ExpressionOperator.Ascending) {
+                    break;
+                }
+                expression = ((FunctionExpression)expression).getBaseExpression();
+            }
+            Function<AbstractRecord, Object> value = buildValueExtractor(expression, sample);
+            if (value == null) {
+                return null;
+            }
+            boolean hasNulls = false;
+            for (List<AbstractRecord> connectionRows : rows) {
+                for (AbstractRecord row : connectionRows) {
+                    Object columnValue = value.apply(row);
+                    if (columnValue == null) {
+                        hasNulls = true;
+                    } else if (!isOrderedAsInDatabase(columnValue)) {
+                        return null;
+                    }
+                }
+            }
+            boolean isNullsFirstOrder = isNullsFirst;
+            if (hasNulls && !isNullsOrderSet) {
+                Boolean nullsSortedHigh = this.session.getPlatform().areNullsSortedHigh();
+                if (nullsSortedHigh == null) {
+                    return null;
+                }
+                // Nulls sorted high are last ascending and first descending.
+                isNullsFirstOrder = nullsSortedHigh == isDescending;
+            }
+            boolean nullsFirst = isNullsFirstOrder;
+            boolean descending = isDescending;
+            Comparator<AbstractRecord> valueComparator = (first, second) -> compareValues(value.apply(first), value.apply(second), descending, nullsFirst);
+            comparator = (comparator == null) ? valueComparator : comparator.thenComparing(valueComparator);
+        }
+        return comparator;
+    }
+
+    /**
+     * Return the function extracting the value of the expression from a row, either a report item or a field.
+     */
+    protected Function<AbstractRecord, Object> buildValueExtractor(Expression expression, AbstractRecord sample) {
+        if (this.query.isReportQuery()) {
+            for (ReportItem item : ((ReportQuery)this.query).getItems()) {
+                if ((item.getAttributeExpression() == expression) && isSingleValue(item)) {
+                    int index = item.getResultIndex();
+                    return row -> row.getValues().get(index);
+                }
+            }
+        }
+        if (!expression.isDataExpression()) {
+            return null;
+        }
+        DatabaseField resolvedField;
+        try {
+            resolvedField = ((DataExpression)expression).getField();
+            // The ordering may not be bound to the descriptor, an attribute of the query's class is looked up.
+            if ((resolvedField == null) && expression.isQueryKeyExpression() && ((DataExpression)expression).getBaseExpression().isExpressionBuilder()
+                    && (this.query.getDescriptor() != null)) {
+                resolvedField = this.query.getDescriptor().getObjectBuilder().getFieldForQueryKeyName(expression.getName());
+            }
+        } catch (RuntimeException notResolved) {
+            return null;
+        }
+        DatabaseField field = resolvedField;
+        if ((field == null) || !sample.containsKey(field)) {
+            return null;
+        }
+        return row -> row.get(field);
+    }
+
+    /**
+     * Return if the value of a column compares as in the database.
+     * Strings and characters are ordered by the collation of the database, so are not.
+     */
+    protected boolean isOrderedAsInDatabase(Object value) {
+        return (value instanceof Comparable) && ((value instanceof Number) || (value instanceof Date)
+                || (value instanceof TemporalAccessor) || (value instanceof Boolean));
+    }
+
+    protected int compareValues(Object value, Object other, boolean isDescending, boolean isNullsFirst) {
+        if ((value == null) || (other == null)) {
+            if (value == other) {
+                return 0;
+            }
+            return ((value == null) == isNullsFirst) ? -1 : 1;
+        }
+        int compare = compare(value, other);
+        return isDescending ? -compare : compare;
+    }
+
+    /**
+     * Return if the item is a single value of the row, not an object.
+     */
+    protected boolean isSingleValue(ReportItem item) {
+        return (item.getAttributeExpression() != null) && (item.getDescriptor() == null) && !item.isConstructorItem()
+                && ((item.getMapping() == null) || item.getMapping().isAbstractColumnMapping());
+    }
+
+    /**
+     * Combine the aggregates of the rows with the same values of the other items,
+     * or return null if the query has no aggregates or they can't be combined.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<AbstractRecord> combineAggregates(ReportQuery reportQuery, List<List<AbstractRecord>> rows) {
+        if ((reportQuery.getHavingExpression() != null) || reportQuery.shouldDistinctBeUsed()) {
+            return null;
+        }
+        List<ReportItem> items = reportQuery.getItems();
+        int size = items.size();
+        int[] indexes = new int[size];
+        int[] aggregates = new int[size];
+        boolean hasAggregates = false;
+        for (int index = 0; index < size; index++) {
+            ReportItem item = items.get(index);
+            if (!isSingleValue(item)) {
+                return null;
+            }
+            indexes[index] = item.getResultIndex();
+            aggregates[index] = -1;
+            Expression expression = item.getAttributeExpression();
+            if (expression.isFunctionExpression() && expression.getOperator().isAggregateOperator()) {
+                int selector = expression.getOperator().getSelector();
+                Expression base = ((FunctionExpression)expression).getBaseExpression();
+                boolean isDistinct = (base != null) && base.isFunctionExpression() && (base.getOperator().getSelector() == ExpressionOperator.Distinct);
+                if (isDistinct || ((selector != ExpressionOperator.Count) && (selector != ExpressionOperator.Sum)
+                        && (selector != ExpressionOperator.Maximum) && (selector != ExpressionOperator.Minimum))) {
+                    return null;
+                }
+                aggregates[index] = selector;
+                hasAggregates = true;
+            }
+        }
+        if (!hasAggregates) {
+            return null;
+        }
+        Map<List<Object>, AbstractRecord> groups = new LinkedHashMap<>();
+        for (List<AbstractRecord> connectionRows : rows) {
+            for (AbstractRecord row : connectionRows) {
+                List<Object> key = new ArrayList<>(size);
+                for (int index = 0; index < size; index++) {
+                    if (aggregates[index] == -1) {
+                        key.add(row.getValues().get(indexes[index]));
+                    }
+                }
+                AbstractRecord group = groups.get(key);
+                if (group == null) {
+                    groups.put(key, row);
+                } else {
+                    for (int index = 0; index < size; index++) {
+                        if (aggregates[index] != -1) {
+                            int valueIndex = indexes[index];
+                            Object value = combineAggregate(aggregates[index], group.getValues().get(valueIndex), row.getValues().get(valueIndex));
+                            group.getValues().set(valueIndex, value);
+                        }
+                    }
+                }
+            }
+        }
+        return new Vector<>(groups.values());
+    }
+
+    protected Object combineAggregate(int selector, Object value, Object other) {
+        if (value == null) {
+            return other;
+        }
+        if (other == null) {
+            return value;
+        }
+        if ((selector == ExpressionOperator.Count) || (selector == ExpressionOperator.Sum)) {
+            BigDecimal sum = toBigDecimal(value).add(toBigDecimal(other));
+            return this.session.getPlatform().convertObject(sum, value.getClass());
+        }
+        int compare = compare(value, other);
+        if (selector == ExpressionOperator.Maximum) {
+            return (compare >= 0) ? value : other;
+        }
+        return (compare <= 0) ? value : other;
+    }
+
+    /**
+     * Compare the values of a column, values of a column are of the same comparable type.
+     */
+    @SuppressWarnings("unchecked")
+    protected int compare(Object value, Object other) {
+        return ((Comparable<Object>)value).compareTo(other);
+    }
+
+    /**
+     * Return the rows of a connection, a query returning rows returns a list of records.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<AbstractRecord> toRows(Object result) {
+        return (List<AbstractRecord>)result;
+    }
+
+    protected BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal)value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger)value);
+        }
+        return new BigDecimal(value.toString());
+    }
+}
@@ -238,6 +238,8 @@ protected static abstract class Prop {
             addProp(new BooleanProp(PersistenceUnitProperties.USE_LOCAL_TIMESTAMP, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.SQL_CALL_DEFERRAL, "true"));
             addProp(new BooleanProp(PersistenceUnitProperties.NAMING_INTO_INDEXED, "false"));
+            addProp(new BooleanProp(PersistenceUnitProperties.GENERATE_ATTRIBUTE_ACCESSORS, "false"));
+            addProp(new BooleanProp(PersistenceUnitProperties.GENERATE_OBJECT_CLONERS, "false"));
         }
 
         Prop(String name) {
@@ -19,6 +19,7 @@
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.queries.FetchGroup;
+import org.eclipse.persistence.sessions.coordination.InvalidateStaleObjectsCommand;
 
 import java.io.Serializable;
 import java.util.HashMap;
@@ -340,7 +341,8 @@ public UnitOfWorkChangeSet buildCacheCoordinationMergeChangeSet(AbstractSession
             // Change sets for new objects will only be sent as part of the UnitOfWorkChangeSet
             // if they are meant to be merged into the distributed cache.
             // Note: New objects could still be sent if the are referred to by a change record.
-            if ((syncType != ClassDescriptor.DO_NOT_SEND_CHANGES)
+            // Stale object invalidations are sent separately as an InvalidateStaleObjectsCommand.
+            if ((syncType != ClassDescriptor.DO_NOT_SEND_CHANGES) && (syncType != ClassDescriptor.INVALIDATE_STALE_OBJECTS)
                     && (!changeSet.isNew() || (syncType == ClassDescriptor.SEND_NEW_OBJECTS_WITH_CHANGES))) {
                 changeSet.unitOfWorkChangeSet.setSession(null);
                 writableChangeSets.put(changeSet, changeSet);
@@ -380,6 +382,29 @@ public UnitOfWorkChangeSet buildCacheCoordinationMergeChangeSet(AbstractSession
         return remoteChangeSet;
     }
 
+    /**
+     * INTERNAL:
+     * Return the command invalidating the changed objects of the classes using the
+     * INVALIDATE_STALE_OBJECTS cache coordination type on other nodes, or null if there are none.
+     * Only the class name, primary key and new version of the objects are sent.
+     */
+    public InvalidateStaleObjectsCommand buildStaleObjectsInvalidationCommand() {
+        InvalidateStaleObjectsCommand command = null;
+        for (ObjectChangeSet changeSet : getAllChangeSets().keySet()) {
+            ClassDescriptor descriptor = changeSet.getDescriptor();
+            // New objects cannot be cached on other nodes.
+            if ((descriptor.getCachePolicy().getCacheSynchronizationType() == ClassDescriptor.INVALIDATE_STALE_OBJECTS)
+                    && !changeSet.isNew() && !changeSet.shouldBeDeleted() && (changeSet.getId() != null)) {
+                if (command == null) {
+                    command = new InvalidateStaleObjectsCommand();
+                }
+                Object writeLockValue = descriptor.usesVersionLocking() ? changeSet.getWriteLockValue() : null;
+                command.addInvalidation(changeSet.getClassName(), changeSet.getId(), writeLockValue);
+            }
+        }
+        return command;
+    }
+
     /**
      * Ensure the change set is populated for cache coordination.
      *
@@ -93,6 +93,7 @@
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.Session;
 import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.InvalidateStaleObjectsCommand;
 import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
 
 import java.io.StringWriter;
@@ -397,6 +398,7 @@ public UnitOfWorkImpl(AbstractSession parent, ReferenceMode referenceMode) {
             this.eventManager.postAcquireUnitOfWork();
         }
         this.descriptors = parent.getDescriptors();
+        this.lazyDescriptorInitializer = parent.getLazyDescriptorInitializer();
         incrementProfile(SessionProfiler.UowCreated);
         // PERF: Cache the write-lock check to avoid cost of checking in every register/clone.
         this.shouldCheckWriteLock = parent.getDatasourceLogin().shouldSynchronizedReadOnWrite() || parent.getDatasourceLogin().shouldSynchronizeWrites();
@@ -3483,6 +3485,10 @@ protected void mergeChangesIntoParent() {
                             command.setChangeSet(remoteChangeSet);
                             this.parent.getCommandManager().propagateCommand(command);
                         }
+                        InvalidateStaleObjectsCommand invalidation = uowChangeSet.buildStaleObjectsInvalidationCommand();
+                        if (invalidation != null) {
+                            this.parent.getCommandManager().propagateCommand(invalidation);
+                        }
                     }
                 }
             }
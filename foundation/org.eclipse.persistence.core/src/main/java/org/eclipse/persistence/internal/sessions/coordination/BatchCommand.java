@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.List;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.Command;
+
+/**
+ * INTERNAL:
+ * PERF: Command holding the commands coalesced by a {@link CommandBatcher}, sent as a single message.
+ * The receiving command manager processes the commands one by one in their original order.
+ */
+public class BatchCommand extends Command {
+
+    private static final long serialVersionUID = -2466404254431429871L;
+
+    /** The batched commands, in the order they were propagated. */
+    protected List<Command> commands;
+
+    public BatchCommand() {
+    }
+
+    public BatchCommand(List<Command> commands) {
+        this.commands = commands;
+    }
+
+    public List<Command> getCommands() {
+        return commands;
+    }
+
+    public void setCommands(List<Command> commands) {
+        this.commands = commands;
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batched commands in order.
+     */
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        for (Command command : this.commands) {
+            command.executeWithSession(session);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.CachePartitionManager;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Request the row of an object from the cache of the service owning it.
+ * </p><p>
+ * <b>Description</b>: This command is sent by the CachePartitionManager of a service reading an object
+ * missing from its partitioned cache to the service owning the object only.
+ * The owner answers with a CacheFetchReplyCommand of the same request id.
+ * </p>
+ * @see CachePartitionManager
+ */
+public class CacheFetchCommand extends RCMCommand {
+
+    /** Id the reply is matched to the request with. */
+    protected long requestId;
+
+    /** Class of the object. */
+    protected String className;
+
+    /** Primary key of the object. */
+    protected Object primaryKey;
+
+    public CacheFetchCommand() {
+    }
+
+    /**
+     * INTERNAL:
+     * Executed on the RCM of the owner when received, answer with the cached row.
+     */
+    @Override
+    public void executeWithRCM(RemoteCommandManager rcm) {
+        CachePartitionManager manager = rcm.getCachePartitionManager();
+        if (manager != null) {
+            manager.processFetch(this);
+        }
+    }
+
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        // Internal RCM commands do not implement this method
+    }
+
+    public long getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(long requestId) {
+        this.requestId = requestId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public void setClassName(String className) {
+        this.className = className;
+    }
+
+    public Object getPrimaryKey() {
+        return primaryKey;
+    }
+
+    public void setPrimaryKey(Object primaryKey) {
+        this.primaryKey = primaryKey;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.CachePartitionManager;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Answer a CacheFetchCommand with the row of the object in the cache of its owner.
+ * </p><p>
+ * <b>Description</b>: The row is null if the object is not in the cache of the owner,
+ * the requesting service then reads it from the database.
+ * </p>
+ * @see CachePartitionManager
+ */
+public class CacheFetchReplyCommand extends RCMCommand {
+
+    /** Id of the request answered. */
+    protected long requestId;
+
+    /** Row of the cached object, or null. */
+    protected AbstractRecord row;
+
+    public CacheFetchReplyCommand() {
+    }
+
+    /**
+     * INTERNAL:
+     * Executed on the RCM of the requesting service when received, complete the waiting request.
+     */
+    @Override
+    public void executeWithRCM(RemoteCommandManager rcm) {
+        CachePartitionManager manager = rcm.getCachePartitionManager();
+        if (manager != null) {
+            manager.processReply(this);
+        }
+    }
+
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        // Internal RCM commands do not implement this method
+    }
+
+    public long getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(long requestId) {
+        this.requestId = requestId;
+    }
+
+    public AbstractRecord getRow() {
+        return row;
+    }
+
+    public void setRow(AbstractRecord row) {
+        this.row = row;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.ParallelExecutor;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * INTERNAL:
+ * PERF: Coalesces the commands propagated by a command manager and sends them as one {@link BatchCommand}.
+ * <p>
+ * A batch is sent when it holds the maximum number of commands, or when the batching delay elapsed
+ * since its first command was added, so the message rate is bounded regardless of the commit rate.
+ * The batch is sent by a task scheduled on the {@link ParallelExecutor} when a batch is started,
+ * no thread waits for the delay.
+ * <p>
+ * Invalidations of the same object by the merge change set commands of a batch are deduplicated: an invalidation supersedes the previous
+ * invalidations of the object. The change sets of the commands are not changed, as they may be held elsewhere,
+ * a command having superseded invalidations is sent as a copy without them, commands left without changes are dropped.
+ *
+ * @see RemoteCommandManager#setCommandBatchingDelay(long)
+ */
+public class CommandBatcher implements Runnable {
+
+    protected final RemoteCommandManager rcm;
+
+    /** Milliseconds a command waits at most for its batch to be sent. */
+    protected final long delay;
+
+    /** Number of commands that causes a batch to be sent before the delay elapsed. */
+    protected final int maxSize;
+
+    /** Commands of the current batch. */
+    protected List<Command> commands = new ArrayList<>();
+
+    /** Invalidations of the current batch, by class name and primary key. */
+    protected Map<String, Map<Object, ObjectChangeSet>> invalidations = new HashMap<>();
+
+    /** Invalidations of the current batch superseded by a later invalidation of the same object. */
+    protected Map<ObjectChangeSet, ObjectChangeSet> supersededInvalidations = new IdentityHashMap<>();
+
+    /** Number of invalidations removed from the current batch. */
+    protected int coalesced;
+
+    /** Set while a delayed flush is pending. */
+    protected boolean isFlushScheduled;
+
+    /** The pending delayed flush, cancelled when the batch is flushed. */
+    protected ScheduledFuture<?> scheduledFlush;
+
+    public CommandBatcher(RemoteCommandManager rcm, long delay, int maxSize) {
+        this.rcm = rcm;
+        this.delay = delay;
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    /**
+     * INTERNAL:
+     * Add the command to the current batch, the batch is sent if it is full.
+     */
+    public void add(Command command) {
+        List<Command> batch = null;
+        int coalescedInBatch = 0;
+        synchronized (this) {
+            // Subclasses are not coalesced as they could not be copied.
+            if (command.getClass() == MergeChangeSetCommand.class) {
+                coalesceInvalidations(((MergeChangeSetCommand)command).getChangeSet(null));
+            }
+            this.commands.add(command);
+            if (this.commands.size() >= this.maxSize) {
+                coalescedInBatch = this.coalesced;
+                batch = takeBatch();
+            } else if (!this.isFlushScheduled) {
+                this.isFlushScheduled = true;
+                this.scheduledFlush = ParallelExecutor.schedule(this, this.delay);
+            }
+        }
+        if (batch != null) {
+            send(batch, coalescedInBatch);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Send the current batch now, e.g. on shutdown.
+     */
+    public void flush() {
+        List<Command> batch;
+        int coalescedInBatch;
+        synchronized (this) {
+            if (this.scheduledFlush != null) {
+                this.scheduledFlush.cancel(false);
+                this.scheduledFlush = null;
+            }
+            this.isFlushScheduled = false;
+            coalescedInBatch = this.coalesced;
+            batch = takeBatch();
+        }
+        send(batch, coalescedInBatch);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of commands in the current batch.
+     */
+    public synchronized int getPendingCommandCount() {
+        return this.commands.size();
+    }
+
+    /**
+     * Send the current batch once the batching delay elapsed.
+     */
+    @Override
+    public void run() {
+        List<Command> batch;
+        int coalescedInBatch;
+        synchronized (this) {
+            this.isFlushScheduled = false;
+            this.scheduledFlush = null;
+            coalescedInBatch = this.coalesced;
+            batch = takeBatch();
+        }
+        send(batch, coalescedInBatch);
+    }
+
+    /**
+     * Mark the previous invalidations of the objects invalidated by the change set as superseded.
+     */
+    protected void coalesceInvalidations(UnitOfWorkChangeSet changeSet) {
+        if (changeSet == null) {
+            return;
+        }
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            if ((objectChangeSet.getSynchronizationType() != ClassDescriptor.INVALIDATE_CHANGED_OBJECTS)
+                    || objectChangeSet.isNew() || (objectChangeSet.getId() == null)) {
+                continue;
+            }
+            Map<Object, ObjectChangeSet> invalidatedIds = this.invalidations.computeIfAbsent(objectChangeSet.getClassName(), name -> new HashMap<>());
+            ObjectChangeSet previous = invalidatedIds.put(objectChangeSet.getId(), objectChangeSet);
+            if (previous != null) {
+                this.supersededInvalidations.put(previous, previous);
+                this.coalesced++;
+            }
+        }
+    }
+
+    /**
+     * Return the commands of the current batch that still have changes and start a new batch.
+     * Commands having superseded invalidations are replaced by a copy without them.
+     */
+    protected List<Command> takeBatch() {
+        List<Command> batch = new ArrayList<>(this.commands.size());
+        for (Command command : this.commands) {
+            if (command instanceof MergeChangeSetCommand) {
+                UnitOfWorkChangeSet changeSet = ((MergeChangeSetCommand)command).getChangeSet(null);
+                if (changeSet != null) {
+                    Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = changeSet.getAllChangeSets();
+                    if (!this.supersededInvalidations.isEmpty()) {
+                        Map<ObjectChangeSet, ObjectChangeSet> remaining = new IdentityHashMap<>(allChangeSets.size());
+                        for (ObjectChangeSet objectChangeSet : allChangeSets.keySet()) {
+                            if (!this.supersededInvalidations.containsKey(objectChangeSet)) {
+                                remaining.put(objectChangeSet, objectChangeSet);
+                            }
+                        }
+                        if (remaining.size() < allChangeSets.size()) {
+                            allChangeSets = remaining;
+                            command = copy((MergeChangeSetCommand)command, changeSet, remaining);
+                        }
+                    }
+                    if (allChangeSets.isEmpty() && !changeSet.hasDeletedObjects()) {
+                        continue;
+                    }
+                }
+            }
+            batch.add(command);
+        }
+        this.commands = new ArrayList<>();
+        this.invalidations = new HashMap<>();
+        this.supersededInvalidations = new IdentityHashMap<>();
+        this.coalesced = 0;
+        return batch;
+    }
+
+    /**
+     * Return a copy of the command holding only the remaining object change sets and the deleted objects of its change set.
+     */
+    protected MergeChangeSetCommand copy(MergeChangeSetCommand command, UnitOfWorkChangeSet changeSet, Map<ObjectChangeSet, ObjectChangeSet> remaining) {
+        UnitOfWorkChangeSet copiedChangeSet = new UnitOfWorkChangeSet();
+        copiedChangeSet.setAllChangeSets(remaining);
+        if (changeSet.hasDeletedObjects()) {
+            copiedChangeSet.setDeletedObjects(changeSet.getDeletedObjects());
+        }
+        MergeChangeSetCommand copiedCommand = new MergeChangeSetCommand();
+        copiedCommand.setChangeSet(copiedChangeSet);
+        copiedCommand.setServiceId(command.getServiceId());
+        return copiedCommand;
+    }
+
+    protected void send(List<Command> batch, int coalescedInBatch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Command command;
+        if (batch.size() == 1) {
+            command = batch.get(0);
+        } else {
+            command = new BatchCommand(batch);
+            command.setServiceId(this.rcm.getServiceId());
+        }
+        if (this.rcm.shouldLogDebugMessage()) {
+            this.rcm.logDebugWithoutLevelCheck("propagate_command_batch", new Object[] {batch.size(), coalescedInBatch});
+        }
+        try {
+            this.rcm.sendCommand(command);
+        } catch (RuntimeException exception) {
+            // Sent from a batching thread, no caller can handle the failure.
+            this.rcm.logWarning("failed_command_propagation", new Object[] {this.rcm.getServiceId(), exception});
+        }
+    }
+}
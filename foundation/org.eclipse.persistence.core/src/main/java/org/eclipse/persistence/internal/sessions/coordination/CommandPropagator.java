@@ -105,6 +105,7 @@ public void synchronousPropagateCommand() {
     public void asynchronousPropagateCommand() {
         // The async logic is in the run() method
         rcm.logDebug("async_propagation", null);
+        this.rcm.updatePendingPropagationCount(1);
         this.rcm.getServerPlatform().launchContainerRunnable(this);
     }
 
@@ -159,6 +160,7 @@ public void handleExceptionFromRemoteExecution(RemoteConnection conn, String exS
      * so the real exception that interests us is inside.
      */
     public void handleCommunicationException(RemoteConnection conn, CommunicationException comEx) {
+        rcm.connectionFailed(conn.getServiceId(), comEx.getInternalException());
         // If the removeOnError flag is set then just log a warning and discard connection
         if (rcm.getTransportManager().shouldRemoveConnectionOnError()) {
             Object[] args = { conn.getServiceId(), comEx.getInternalException() };
@@ -192,30 +194,36 @@ public void handleCommunicationException(RemoteConnection conn, CommunicationExc
     @Override
     public void run() {
         // If the connection is set then we are an async connection thread
-        if (this.connection != null) {
-            this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordination);
-            try {
-                propagateCommand(this.connection);
-            } finally {
-                this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordination);
-            }
-        } else {
-            Map<String, RemoteConnection> mapConnections = this.rcm.getTransportManager().getConnectionsToExternalServicesForCommandPropagation();
-            Iterator<RemoteConnection> iterator = mapConnections.values().iterator();
-            if (mapConnections.size() == 1) {
-                // There is only one connection - no need for yet another thread.
-                // Set the connection into the current one
-                // so that it's recognized as async propagation in handleCommunicationException method.
-                this.connection = iterator.next();
-                propagateCommand(this.connection);
+        // Each propagation pending for a connection counts in the queue depth of the command manager.
+        try {
+            if (this.connection != null) {
+                this.rcm.getCommandProcessor().startOperationProfile(SessionProfiler.CacheCoordination);
+                try {
+                    propagateCommand(this.connection);
+                } finally {
+                    this.rcm.getCommandProcessor().endOperationProfile(SessionProfiler.CacheCoordination);
+                }
             } else {
-                // This is the top level thread. We need to spawn off a bunch of async connection threads
-                while (iterator.hasNext()) {
-                    RemoteConnection remoteConnection = iterator.next();
-                    CommandPropagator propagator = new CommandPropagator(this.rcm, this.command, this.commandBytes, remoteConnection);
-                    this.rcm.getServerPlatform().launchContainerRunnable(propagator);
+                Map<String, RemoteConnection> mapConnections = this.rcm.getTransportManager().getConnectionsToExternalServicesForCommandPropagation();
+                Iterator<RemoteConnection> iterator = mapConnections.values().iterator();
+                if (mapConnections.size() == 1) {
+                    // There is only one connection - no need for yet another thread.
+                    // Set the connection into the current one
+                    // so that it's recognized as async propagation in handleCommunicationException method.
+                    this.connection = iterator.next();
+                    propagateCommand(this.connection);
+                } else {
+                    // This is the top level thread. We need to spawn off a bunch of async connection threads
+                    while (iterator.hasNext()) {
+                        RemoteConnection remoteConnection = iterator.next();
+                        CommandPropagator propagator = new CommandPropagator(this.rcm, this.command, this.commandBytes, remoteConnection);
+                        this.rcm.updatePendingPropagationCount(1);
+                        this.rcm.getServerPlatform().launchContainerRunnable(propagator);
+                    }
                 }
             }
+        } finally {
+            this.rcm.updatePendingPropagationCount(-1);
         }
     }
 }
@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination.tcp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.persistence.internal.helper.ByteBufferPool;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.coordination.tcp.TCPTransportManager;
+
+/**
+ * INTERNAL:
+ * PERF: Single thread multiplexing all the sockets of the TCP transport through a selector.
+ * <p>
+ * The dispatcher accepts the connections of the other services, connects to the peers of the transport manager
+ * and reads the commands they send. After connecting, each side sends a HELLO frame with its service id:
+ * the connecting side registers the connection to send its commands once the reply is received,
+ * the accepting side connects back to the service if it is not connected to it yet.
+ * Peers that cannot be reached or closed their connection are connected again on the next peer refresh.
+ * <p>
+ * The received commands are processed in order by a worker launched through the server platform,
+ * so a slow command does not delay the other sockets. While the size of the commands waiting for the worker
+ * exceeds the maximum pending bytes, the connections are not read.
+ * <p>
+ * Other threads change the registrations through tasks executed by the selector thread.
+ *
+ * @see TCPTransportManager
+ */
+public class TCPDispatcher implements Runnable {
+
+    protected final TCPTransportManager transportManager;
+    protected final RemoteCommandManager rcm;
+    protected final ByteBufferPool bufferPool;
+    protected final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    protected Selector selector;
+    protected ServerSocketChannel serverChannel;
+    protected volatile boolean isRunning;
+
+    /** Outgoing connections by peer address, only used by the selector thread. */
+    protected final Map<String, TCPRemoteConnection> peerConnections = new HashMap<>();
+
+    /** Peer addresses found to be this service. */
+    protected final Set<String> localAddresses = new HashSet<>();
+
+    /** Time of the next peer refresh, reset by other threads to refresh the peers now. */
+    protected volatile long nextPeerRefresh;
+
+    /** Commands received from the connections, processed in order by the command worker. */
+    protected final ConcurrentLinkedQueue<Runnable> receivedCommands = new ConcurrentLinkedQueue<>();
+
+    /** Size of the received commands not processed yet. */
+    protected final AtomicLong pendingCommandBytes = new AtomicLong();
+
+    /** Set while a command worker is launched. */
+    protected final AtomicBoolean isProcessingCommands = new AtomicBoolean();
+
+    /** Set while the connections are not read, because the command worker is behind. */
+    protected final AtomicBoolean isReadSuspended = new AtomicBoolean();
+
+    public TCPDispatcher(TCPTransportManager transportManager) {
+        this.transportManager = transportManager;
+        this.rcm = transportManager.getRemoteCommandManager();
+        this.bufferPool = new ByteBufferPool(transportManager.getBufferSize(), 64);
+    }
+
+    public ByteBufferPool getBufferPool() {
+        return this.bufferPool;
+    }
+
+    public long getMaxPendingBytes() {
+        return this.transportManager.getMaxPendingBytes();
+    }
+
+    public int getMaxFrameSize() {
+        return this.transportManager.getMaxFrameSize();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the port the server socket is bound to.
+     */
+    public int getLocalPort() {
+        return this.serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * INTERNAL:
+     * Bind the server socket, the selector thread is started once the URL of the service is set.
+     */
+    public void bind(InetSocketAddress bindAddress) throws IOException {
+        this.selector = Selector.open();
+        try {
+            this.serverChannel = ServerSocketChannel.open();
+            this.serverChannel.bind(bindAddress);
+            this.serverChannel.configureBlocking(false);
+            this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException exception) {
+            closeQuietly();
+            throw exception;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Start the selector thread, the HELLO frames it sends hold the URL of the service.
+     */
+    public void start() {
+        this.isRunning = true;
+        this.rcm.getServerPlatform().launchContainerRunnable(this);
+    }
+
+    /**
+     * INTERNAL:
+     * Stop the selector thread, it closes all the sockets.
+     */
+    public void stop() {
+        this.isRunning = false;
+        if (this.selector != null) {
+            this.selector.wakeup();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Refresh the peers on the next iteration of the selector thread.
+     */
+    public void refreshPeers() {
+        this.nextPeerRefresh = 0;
+        this.selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (this.isRunning) {
+                long now = System.currentTimeMillis();
+                if (now >= this.nextPeerRefresh) {
+                    connectToPeers();
+                    now = System.currentTimeMillis();
+                    this.nextPeerRefresh = now + this.transportManager.getPeerRefreshInterval();
+                }
+                this.selector.select(Math.max(1, this.nextPeerRefresh - now));
+                Runnable task;
+                while ((task = this.tasks.poll()) != null) {
+                    task.run();
+                }
+                Set<SelectionKey> selectedKeys = this.selector.selectedKeys();
+                for (SelectionKey key : selectedKeys) {
+                    if (key.isValid()) {
+                        processKey(key);
+                    }
+                }
+                selectedKeys.clear();
+            }
+        } catch (IOException | RuntimeException exception) {
+            if (this.isRunning) {
+                this.rcm.logWarning("tcp_dispatcher_failed", new Object[] { exception });
+            }
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    protected void processKey(SelectionKey key) {
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        TCPRemoteConnection connection = (TCPRemoteConnection)key.attachment();
+        try {
+            if (key.isConnectable()) {
+                connection.getChannel().finishConnect();
+                key.interestOps(getReadOps());
+                connection.write(TCPRemoteConnection.HELLO, buildHello());
+            }
+            if (key.isValid() && key.isReadable() && !connection.read()) {
+                connection.close();
+            }
+            if (key.isValid() && key.isWritable() && connection.flush()) {
+                key.interestOps(getReadOps());
+            }
+        } catch (IOException exception) {
+            if (this.rcm.shouldLogDebugMessage()) {
+                Object[] args = { connection, exception };
+                this.rcm.logDebugWithoutLevelCheck("tcp_connection_failed", args);
+            }
+            connection.close();
+        }
+    }
+
+    protected void accept() {
+        try {
+            SocketChannel channel;
+            while ((channel = this.serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, Boolean.TRUE);
+                channel.register(this.selector, getReadOps(), new TCPRemoteConnection(this, channel, null));
+            }
+        } catch (IOException exception) {
+            this.rcm.logWarning("tcp_connection_failed", new Object[] { this.serverChannel, exception });
+        }
+    }
+
+    /**
+     * Connect to the peers without a connection, called on the selector thread.
+     */
+    protected void connectToPeers() {
+        for (String address : this.transportManager.getPeerAddresses()) {
+            if (this.localAddresses.contains(address)) {
+                continue;
+            }
+            TCPRemoteConnection connection = this.peerConnections.get(address);
+            if ((connection == null) || connection.isClosed()) {
+                connect(address);
+            }
+        }
+    }
+
+    /**
+     * Open a connection to the peer address, called on the selector thread.
+     */
+    protected void connect(String address) {
+        SocketChannel channel = null;
+        try {
+            InetSocketAddress socketAddress = TCPTransportManager.parseAddress(address, 0);
+            if (this.rcm.shouldLogDebugMessage()) {
+                this.rcm.logDebugWithoutLevelCheck("tcp_connecting_to_peer", new Object[] { address });
+            }
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, Boolean.TRUE);
+            TCPRemoteConnection connection = new TCPRemoteConnection(this, channel, address);
+            this.peerConnections.put(address, connection);
+            if (channel.connect(socketAddress)) {
+                channel.register(this.selector, getReadOps(), connection);
+                connection.write(TCPRemoteConnection.HELLO, buildHello());
+            } else {
+                channel.register(this.selector, SelectionKey.OP_CONNECT, connection);
+            }
+        } catch (IOException | IllegalArgumentException exception) {
+            if (this.rcm.shouldLogDebugMessage()) {
+                this.rcm.logDebugWithoutLevelCheck("tcp_peer_unreachable", new Object[] { address, exception });
+            }
+            this.peerConnections.remove(address);
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignore) {
+                    // Nothing to do, the peer is retried on the next refresh.
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Write the queued frames of the connection once its channel is writable.
+     */
+    public void requestWrite(final TCPRemoteConnection connection) {
+        this.tasks.add(() -> {
+            SelectionKey key = connection.getChannel().keyFor(this.selector);
+            if ((key != null) && key.isValid() && ((key.interestOps() & SelectionKey.OP_CONNECT) == 0)) {
+                key.interestOps(getReadOps() | SelectionKey.OP_WRITE);
+            }
+        });
+        this.selector.wakeup();
+    }
+
+    /**
+     * INTERNAL:
+     * Forget the closed connection, called by the connection after closing its channel.
+     */
+    public void connectionClosed(final TCPRemoteConnection connection) {
+        this.tasks.add(() -> {
+            String address = connection.getAddress();
+            if ((address != null) && (this.peerConnections.get(address) == connection)) {
+                this.peerConnections.remove(address);
+            }
+            ServiceId serviceId = connection.getServiceId();
+            if ((address != null) && (serviceId != null)) {
+                // Stop propagating to the service, it is registered again once reconnected.
+                this.transportManager.getConnectionsToExternalServices().remove(serviceId.getId(), connection);
+            }
+            connection.readBuffer = null;
+        });
+        if (this.selector != null) {
+            this.selector.wakeup();
+        }
+    }
+
+    /**
+     * Return the interest set of a connection that is not writing, no operation while the reads are suspended.
+     */
+    protected int getReadOps() {
+        return this.isReadSuspended.get() ? 0 : SelectionKey.OP_READ;
+    }
+
+    /**
+     * Stop reading the connections, called on the selector thread.
+     */
+    protected void suspendReads() {
+        for (SelectionKey key : this.selector.keys()) {
+            if (key.isValid() && (key.attachment() instanceof TCPRemoteConnection)) {
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            }
+        }
+    }
+
+    /**
+     * Read the connections again, unless they were suspended again since, called on the selector thread.
+     */
+    protected void resumeReads() {
+        if (this.isReadSuspended.get()) {
+            return;
+        }
+        for (SelectionKey key : this.selector.keys()) {
+            if (key.isValid() && (key.attachment() instanceof TCPRemoteConnection) && ((key.interestOps() & SelectionKey.OP_CONNECT) == 0)) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Process a frame received on the connection, called on the selector thread.
+     * A command is queued for the command worker.
+     */
+    public void processFrame(TCPRemoteConnection connection, byte type, byte[] payload) throws IOException {
+        if (type == TCPRemoteConnection.HELLO) {
+            processHello(connection, payload);
+        } else if ((type == TCPRemoteConnection.COMMAND) && connection.isConnected()) {
+            this.receivedCommands.add(() -> processCommand(connection, payload));
+            if ((this.pendingCommandBytes.addAndGet(payload.length) > getMaxPendingBytes()) && this.isReadSuspended.compareAndSet(false, true)) {
+                suspendReads();
+            }
+            if (this.isProcessingCommands.compareAndSet(false, true)) {
+                this.rcm.getServerPlatform().launchContainerRunnable(this::processCommands);
+            }
+        } else {
+            throw new IOException("Unexpected frame " + type + " from " + connection);
+        }
+    }
+
+    /**
+     * Process the received commands in order, run by the command worker.
+     */
+    protected void processCommands() {
+        do {
+            Runnable command;
+            while (this.isRunning && ((command = this.receivedCommands.poll()) != null)) {
+                command.run();
+            }
+            this.isProcessingCommands.set(false);
+            // A command queued after the last poll is processed by this worker, unless another worker was launched for it.
+        } while (this.isRunning && !this.receivedCommands.isEmpty() && this.isProcessingCommands.compareAndSet(false, true));
+    }
+
+    protected void processCommand(TCPRemoteConnection connection, byte[] payload) {
+        try {
+            this.rcm.processCommandFromRemoteConnection(payload);
+        } catch (RuntimeException exception) {
+            // There is no caller to throw to, keep receiving the next commands.
+            this.rcm.logWarning("tcp_command_failed", new Object[] { connection, exception });
+        } finally {
+            if ((this.pendingCommandBytes.addAndGet(-payload.length) <= getMaxPendingBytes() / 2) && this.isReadSuspended.compareAndSet(true, false)) {
+                this.tasks.add(this::resumeReads);
+                this.selector.wakeup();
+            }
+        }
+    }
+
+    protected void processHello(TCPRemoteConnection connection, byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        ServiceId serviceId = new ServiceId(in.readUTF(), in.readUTF(), in.readUTF());
+        ServiceId localServiceId = this.rcm.getServiceId();
+        String address = connection.getAddress();
+        if (serviceId.getId().equals(localServiceId.getId())) {
+            // Connected to itself, through the peer list or a connect back.
+            if (address != null) {
+                this.localAddresses.add(address);
+                this.peerConnections.remove(address);
+            }
+            connection.close();
+            return;
+        }
+        if (!serviceId.getChannel().equals(localServiceId.getChannel())) {
+            Object[] args = { serviceId, localServiceId.getChannel() };
+            this.rcm.logWarning("tcp_peer_on_other_channel", args);
+            connection.close();
+            return;
+        }
+        connection.setServiceId(serviceId);
+        connection.setIsConnected(true);
+        if (address == null) {
+            connection.write(TCPRemoteConnection.HELLO, buildHello());
+            String url = serviceId.getURL();
+            if (url.startsWith(TCPTransportManager.URL_PREFIX)) {
+                String peerAddress = url.substring(TCPTransportManager.URL_PREFIX.length());
+                if (!this.peerConnections.containsKey(peerAddress)
+                        && !this.transportManager.getConnectionsToExternalServices().containsKey(serviceId.getId())) {
+                    connect(peerAddress);
+                }
+            }
+        } else {
+            RemoteConnection existing = this.transportManager.getConnectionsToExternalServices().get(serviceId.getId());
+            if ((existing instanceof TCPRemoteConnection) && !((TCPRemoteConnection)existing).isClosed()) {
+                // Another address of the same service, keep the first connection.
+                this.peerConnections.put(address, (TCPRemoteConnection)existing);
+                connection.setServiceId(null);
+                connection.close();
+                return;
+            }
+            this.transportManager.addConnectionToExternalService(connection);
+        }
+    }
+
+    protected byte[] buildHello() throws IOException {
+        ServiceId serviceId = this.rcm.getServiceId();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeUTF(serviceId.getChannel());
+        out.writeUTF(serviceId.getId());
+        out.writeUTF((serviceId.getURL() == null) ? "" : serviceId.getURL());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    protected void closeQuietly() {
+        this.isRunning = false;
+        if (this.selector != null) {
+            for (SelectionKey key : this.selector.keys()) {
+                Object attachment = key.attachment();
+                if (attachment instanceof TCPRemoteConnection) {
+                    ((TCPRemoteConnection)attachment).close();
+                }
+            }
+            try {
+                this.selector.close();
+            } catch (IOException ignore) {
+                // Nothing to do, the transport is stopped.
+            }
+        }
+        if (this.serverChannel != null) {
+            try {
+                this.serverChannel.close();
+            } catch (IOException ignore) {
+                // Nothing to do, the transport is stopped.
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination.tcp;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.eclipse.persistence.exceptions.CommunicationException;
+import org.eclipse.persistence.internal.helper.ByteBufferPool;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+
+/**
+ * INTERNAL:
+ * PERF: Non-blocking socket connection of the TCP transport.
+ * <p>
+ * Messages are written as frames: the length of the rest of the frame (4 bytes), the frame type (1 byte)
+ * and the payload. Commands are written directly by the propagating thread while nothing is pending,
+ * the rest of a frame that does not fit in the socket buffer is queued and written by the dispatcher.
+ * Frame buffers come from the pool of the dispatcher.
+ * <p>
+ * Connections to other services are only used to send commands, the commands of a service are received
+ * on the connection it opened to this service.
+ *
+ * @see TCPDispatcher
+ */
+public class TCPRemoteConnection extends RemoteConnection {
+
+    private static final long serialVersionUID = -3057233155452718467L;
+
+    /** Frame types. */
+    public static final byte HELLO = 1;
+    public static final byte COMMAND = 2;
+
+    /** Size of the frame length and type. */
+    public static final int HEADER_SIZE = 5;
+
+    protected final transient TCPDispatcher dispatcher;
+    protected final transient SocketChannel channel;
+    protected final transient ByteBufferPool pool;
+
+    /** The peer address for outgoing connections, "host:port". */
+    protected final String address;
+
+    /** Frames not fully written yet and their remaining bytes. */
+    protected final transient Deque<ByteBuffer> pendingWrites = new ArrayDeque<>();
+    protected transient long pendingBytes;
+
+    /** Bytes read and not processed yet, null until something is read. */
+    protected transient ByteBuffer readBuffer;
+
+    /** Set once the HELLO frames were exchanged. */
+    protected transient volatile boolean isConnected;
+    protected transient volatile boolean isClosed;
+
+    public TCPRemoteConnection(TCPDispatcher dispatcher, SocketChannel channel, String address) {
+        this.dispatcher = dispatcher;
+        this.channel = channel;
+        this.pool = dispatcher.getBufferPool();
+        this.address = address;
+    }
+
+    public SocketChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the address the connection was opened to, null for accepted connections.
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    public boolean isConnected() {
+        return isConnected;
+    }
+
+    public void setIsConnected(boolean isConnected) {
+        this.isConnected = isConnected;
+    }
+
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+    /**
+     * INTERNAL:
+     * Send the command serialized through Java serialization, used when no serializer is configured.
+     */
+    @Override
+    public Object executeCommand(Command command) throws CommunicationException {
+        return executeCommand((byte[])JavaSerializer.instance.serialize(command, null));
+    }
+
+    /**
+     * INTERNAL:
+     * Send the serialized command. The command is executed asynchronously on the remote service,
+     * so null is always returned.
+     */
+    @Override
+    public Object executeCommand(byte[] command) throws CommunicationException {
+        try {
+            write(COMMAND, command);
+        } catch (IOException exception) {
+            close();
+            throw CommunicationException.errorInInvocation(exception);
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the frame, or queue what does not fit in the socket buffer.
+     */
+    public void write(byte type, byte[] payload) throws IOException {
+        ByteBuffer frame = this.pool.acquire(HEADER_SIZE + payload.length);
+        frame.putInt(payload.length + 1);
+        frame.put(type);
+        frame.put(payload);
+        frame.flip();
+        synchronized (this) {
+            if (this.isClosed) {
+                this.pool.release(frame);
+                throw new ClosedChannelException();
+            }
+            if (this.pendingWrites.isEmpty()) {
+                this.channel.write(frame);
+                if (!frame.hasRemaining()) {
+                    this.pool.release(frame);
+                    return;
+                }
+            } else if (this.pendingBytes + frame.remaining() > this.dispatcher.getMaxPendingBytes()) {
+                // The peer does not read its messages, drop it rather than buffering without bounds.
+                this.pool.release(frame);
+                throw new IOException("Too many bytes pending for " + this);
+            }
+            this.pendingWrites.add(frame);
+            this.pendingBytes += frame.remaining();
+        }
+        this.dispatcher.requestWrite(this);
+    }
+
+    /**
+     * INTERNAL:
+     * Write the queued frames, return true if everything was written.
+     * Called by the dispatcher when the channel is writable.
+     */
+    public synchronized boolean flush() throws IOException {
+        ByteBuffer frame;
+        while ((frame = this.pendingWrites.peek()) != null) {
+            int written = this.channel.write(frame);
+            this.pendingBytes -= written;
+            if (frame.hasRemaining()) {
+                return false;
+            }
+            this.pendingWrites.poll();
+            this.pool.release(frame);
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Read the available bytes and pass the complete frames to the dispatcher.
+     * Return false if the peer closed the connection.
+     */
+    public boolean read() throws IOException {
+        if (this.readBuffer == null) {
+            this.readBuffer = this.pool.acquire(this.pool.getBufferSize());
+        }
+        int count = this.channel.read(this.readBuffer);
+        if (count < 0) {
+            return false;
+        }
+        ByteBuffer buffer = this.readBuffer;
+        buffer.flip();
+        while (buffer.remaining() >= 4) {
+            int length = buffer.getInt(buffer.position());
+            if ((length < 1) || (length > this.dispatcher.getMaxFrameSize())) {
+                throw new StreamCorruptedException("Invalid frame length " + length + " from " + this);
+            }
+            if (buffer.remaining() < length + 4) {
+                if (buffer.capacity() < length + 4) {
+                    // Grow for a frame bigger than the pooled buffers.
+                    ByteBuffer bigger = ByteBuffer.allocate(length + 4);
+                    bigger.put(buffer);
+                    this.pool.release(buffer);
+                    this.readBuffer = bigger;
+                    return true;
+                }
+                break;
+            }
+            buffer.getInt();
+            byte type = buffer.get();
+            byte[] payload = new byte[length - 1];
+            buffer.get(payload);
+            this.dispatcher.processFrame(this, type, payload);
+            if (this.isClosed) {
+                return true;
+            }
+        }
+        if (!buffer.hasRemaining() && (buffer.capacity() != this.pool.getBufferSize())) {
+            // Return to a pooled buffer after a big frame.
+            this.readBuffer = this.pool.acquire(this.pool.getBufferSize());
+        } else {
+            buffer.compact();
+        }
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Close the socket, queued frames are discarded.
+     * Invoked when the transport manager discards the connection.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (this.isClosed) {
+                return;
+            }
+            this.isClosed = true;
+            for (ByteBuffer frame : this.pendingWrites) {
+                this.pool.release(frame);
+            }
+            this.pendingWrites.clear();
+            this.pendingBytes = 0;
+        }
+        try {
+            this.channel.close();
+        } catch (IOException exception) {
+            // Nothing to do, the connection is discarded.
+        }
+        this.dispatcher.connectionClosed(this);
+    }
+
+    @Override
+    public String toString() {
+        return "TCPRemoteConnection[" + ((this.serviceId == null) ? this.address : this.serviceId) + "]";
+    }
+}
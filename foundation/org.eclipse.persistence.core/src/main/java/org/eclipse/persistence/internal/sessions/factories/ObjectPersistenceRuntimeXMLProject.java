@@ -2326,6 +2326,7 @@ protected ClassDescriptor buildClassDescriptorDescriptor() {
         cacheSyncTypeConverter.addConversionValue("no-changes", ClassDescriptor.DO_NOT_SEND_CHANGES);
         cacheSyncTypeConverter.addConversionValue("change-set-with-new-objects", ClassDescriptor.SEND_NEW_OBJECTS_WITH_CHANGES);
         cacheSyncTypeConverter.addConversionValue("change-set", ClassDescriptor.SEND_OBJECT_CHANGES);
+        cacheSyncTypeConverter.addConversionValue("stale-invalidation", ClassDescriptor.INVALIDATE_STALE_OBJECTS);
         cacheSyncTypeMapping.setConverter(cacheSyncTypeConverter);
         cacheSyncTypeMapping.setNullValue(ClassDescriptor.UNDEFINED_OBJECT_CHANGE_BEHAVIOR);
         descriptor.addMapping(cacheSyncTypeMapping);
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.factories;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Compute the checksum of the metadata a project was built from.
+ * <p><b>Description</b>: The checksum covers the class files of the descriptor classes
+ * and the mapping files of the persistence unit, so a project cache can detect that it was built
+ * for classes or mapping files that have changed since.
+ * The checksum only covers the classes that have a descriptor, a change to a mapped superclass
+ * that does not change its entities' class files is not detected.
+ */
+public class ProjectChecksum {
+
+    private ProjectChecksum() {
+    }
+
+    /**
+     * Return the sorted names of the descriptor classes of the project, the classes the checksum is computed for.
+     */
+    public static List<String> getClassNames(Project project) {
+        List<String> classNames = new ArrayList<>(project.getDescriptors().size());
+        for (ClassDescriptor descriptor : project.getOrderedDescriptors()) {
+            if (descriptor.getJavaClassName() != null) {
+                classNames.add(descriptor.getJavaClassName());
+            }
+        }
+        Collections.sort(classNames);
+        return classNames;
+    }
+
+    /**
+     * Return the checksum of the class files of the classes and of the mapping files found by the class loader.
+     * A mapping file name that is not a resource of the class loader is read as a URL.
+     */
+    public static long computeChecksum(List<String> classNames, List<String> mappingFileNames, ClassLoader loader) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[8192];
+        for (String className : classNames) {
+            checksum.update(className.getBytes(StandardCharsets.UTF_8));
+            URL resource = (loader == null) ? null : loader.getResource(className.replace('.', '/') + ".class");
+            if (resource == null) {
+                // A missing class is a change too.
+                checksum.update(0);
+            } else {
+                update(checksum, resource, buffer);
+            }
+        }
+        for (String mappingFileName : mappingFileNames) {
+            checksum.update(mappingFileName.getBytes(StandardCharsets.UTF_8));
+            List<URL> resources = getMappingFiles(mappingFileName, loader);
+            if (resources.isEmpty()) {
+                checksum.update(0);
+            }
+            for (URL resource : resources) {
+                update(checksum, resource, buffer);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Return the mapping files of the name found by the class loader, or its URL.
+     */
+    protected static List<URL> getMappingFiles(String mappingFileName, ClassLoader loader) throws IOException {
+        if (loader != null) {
+            Enumeration<URL> resources = loader.getResources(mappingFileName);
+            if (resources.hasMoreElements()) {
+                return Collections.list(resources);
+            }
+        }
+        try {
+            return List.of(new URL(mappingFileName));
+        } catch (MalformedURLException notURL) {
+            return Collections.emptyList();
+        }
+    }
+
+    protected static void update(CRC32 checksum, URL resource, byte[] buffer) throws IOException {
+        try (InputStream stream = resource.openStream()) {
+            int read = stream.read(buffer);
+            while (read >= 0) {
+                checksum.update(buffer, 0, read);
+                read = stream.read(buffer);
+            }
+        }
+    }
+}
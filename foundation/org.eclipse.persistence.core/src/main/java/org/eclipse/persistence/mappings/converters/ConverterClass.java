@@ -60,7 +60,7 @@
     protected String fieldClassificationName;
     protected String attributeConverterClassName;
     protected AttributeConverter<X,Y> attributeConverter;
-    protected AbstractSession session;
+    protected transient AbstractSession session;
     private Class<T> attributeConverterClass;
 
     /**
@@ -186,6 +186,10 @@ public Object convertObjectValueToDataValue(Object objectValue, Session session)
      */
     @Override
     public void initialize(DatabaseMapping mapping, Session session) {
+        // A converter built by a generated project class, or read from a project cache, is not given its session before.
+        if (this.session == null) {
+            this.session = (AbstractSession) session;
+        }
         // Ensure the mapping has the correct field classification set.
         if (mapping.isDirectToFieldMapping()) {
             DirectToFieldMapping m = (DirectToFieldMapping) mapping;
@@ -234,6 +238,38 @@ public void setSession(AbstractSession session) {
         this.session = session;
     }
 
+    /**
+     * INTERNAL:
+     * Return the name of the AttributeConverter class.
+     */
+    public String getAttributeConverterClassName() {
+        return attributeConverterClassName;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the name of the field classification, the database type of the converted values.
+     */
+    public String getFieldClassificationName() {
+        return fieldClassificationName;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the converter applies to the key of a map mapping.
+     */
+    public boolean isForMapKey() {
+        return isForMapKey;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the conversion is disabled.
+     */
+    public boolean isConversionDisabled() {
+        return disableConversion;
+    }
+
     protected AttributeConverter<X, Y> getAttributeConverter() {
         if (attributeConverter == null) {
             constructAttributeConverter();
@@ -101,6 +101,14 @@ public String getEnumClassName() {
         return m_enumClassName;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the enum values are converted to their ordinal, otherwise to their name.
+     */
+    public boolean shouldUseOrdinalValues() {
+        return m_useOrdinalValues;
+    }
+
     /**
      * INTERNAL:
      * Convert all the class-name-based settings in this converter to actual
@@ -1663,6 +1663,14 @@ public boolean supportsGlobalTempTables() {
         return true;
     }
 
+    /**
+     * INTERNAL: DB2 supports row triggers with a single SQL statement.
+     */
+    @Override
+    public boolean supportsTriggers() {
+        return true;
+    }
+
     /**
      * INTERNAL: DB2 temp table syntax.
      * This is used by UpdateAllQuerys.
@@ -1886,4 +1894,12 @@ public void printSQLSelectStatement(DatabaseCall call, ExpressionSQLPrinter prin
         call.setIgnoreMaxResultsSetting(true);
     }
 
+    /**
+     * INTERNAL:
+     * Nulls are sorted higher than any other value.
+     */
+    @Override
+    public Boolean areNullsSortedHigh() {
+        return Boolean.TRUE;
+    }
 }
@@ -139,6 +139,16 @@ public ValueReadQuery buildSelectQueryForSequenceObject(String seqName, Integer
         return new ValueReadQuery(new StringBuilder(20 + seqName.length()).append("CALL NEXT VALUE FOR ").append(seqName).toString());
     }
 
+    @Override
+    public ValueReadQuery buildSelectQueryForSequenceObjectIncrement(String qualifiedSeqName) {
+        int index = qualifiedSeqName.lastIndexOf('.');
+        if (index == -1) {
+            return new ValueReadQuery("SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = '" + qualifiedSeqName.toUpperCase() + "'");
+        }
+        return new ValueReadQuery("SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_SCHEMA = '" + qualifiedSeqName.substring(0, index).toUpperCase()
+                + "' AND SEQUENCE_NAME = '" + qualifiedSeqName.substring(index + 1).toUpperCase() + "'");
+    }
+
     @Override
     public boolean supportsIdentity() {
         return true;
@@ -284,4 +294,13 @@ public boolean isH2() {
     public String getProcedureCallHeader() {
         return "CALL ";
     }
+
+    /**
+     * INTERNAL:
+     * Nulls are sorted lower than any other value.
+     */
+    @Override
+    public Boolean areNullsSortedHigh() {
+        return Boolean.FALSE;
+    }
 }
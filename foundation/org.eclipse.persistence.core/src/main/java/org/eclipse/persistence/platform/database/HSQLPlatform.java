@@ -203,6 +203,15 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * HSQL supports row triggers with a single SQL statement.
+     */
+    @Override
+    public boolean supportsTriggers() {
+        return true;
+    }
+
     @Override
     public ValueReadQuery buildSelectQueryForIdentity() {
         return new ValueReadQuery("CALL IDENTITY()");
@@ -263,6 +272,16 @@ public ValueReadQuery buildSelectQueryForSequenceObject(String seqName, Integer
         return new ValueReadQuery(new StringBuilder(20 + seqName.length()).append("CALL NEXT VALUE FOR ").append(seqName).toString());
     }
 
+    @Override
+    public ValueReadQuery buildSelectQueryForSequenceObjectIncrement(String qualifiedSeqName) {
+        int index = qualifiedSeqName.lastIndexOf('.');
+        if (index == -1) {
+            return new ValueReadQuery("SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = '" + qualifiedSeqName.toUpperCase() + "'");
+        }
+        return new ValueReadQuery("SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_SCHEMA = '" + qualifiedSeqName.substring(0, index).toUpperCase()
+                + "' AND SEQUENCE_NAME = '" + qualifiedSeqName.substring(index + 1).toUpperCase() + "'");
+    }
+
     @Override
     public boolean supportsGlobalTempTables() {
         return true;
@@ -384,4 +403,13 @@ public Writer buildSequenceObjectCreationWriter(Writer writer, String fullSeqNam
         }
         return writer;
     }
+
+    /**
+     * INTERNAL:
+     * Nulls are sorted lower than any other value.
+     */
+    @Override
+    public Boolean areNullsSortedHigh() {
+        return Boolean.FALSE;
+    }
 }
@@ -714,6 +714,33 @@ public boolean supportsStoredFunctions() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * MySQL supports row triggers, one event per trigger.
+     */
+    @Override
+    public boolean supportsTriggers() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * MySQL always references the values before the change as OLD.
+     */
+    @Override
+    public String getTriggerOldRowName() {
+        return "OLD";
+    }
+
+    /**
+     * INTERNAL:
+     * MySQL does not support the REFERENCING clause.
+     */
+    @Override
+    public String buildCreateTrigger(String triggerName, String fullTableName, String event, String statement) {
+        return "CREATE TRIGGER " + triggerName + " AFTER " + event + " ON " + fullTableName + " FOR EACH ROW " + statement;
+    }
+
     /**
      * Some db allow VARCHAR db field to be used in arithmetic operations automatically converting them to numeric:
      * UPDATE OL_PHONE SET PHONE_ORDER_VARCHAR = (PHONE_ORDER_VARCHAR + 1) WHERE ...
@@ -972,4 +999,13 @@ public ValueReadQuery getUUIDQuery() {
         }
         return uuidQuery;
     }
+
+    /**
+     * INTERNAL:
+     * Nulls are sorted lower than any other value.
+     */
+    @Override
+    public Boolean areNullsSortedHigh() {
+        return Boolean.FALSE;
+    }
 }
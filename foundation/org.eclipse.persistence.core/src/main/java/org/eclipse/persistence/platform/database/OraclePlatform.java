@@ -878,6 +878,20 @@ public ValueReadQuery buildSelectQueryForSequenceObject(String qualifiedSeqName,
         return new ValueReadQuery("SELECT " + qualifiedSeqName + ".NEXTVAL FROM DUAL");
     }
 
+    /**
+     * INTERNAL:
+     * Read the increment from the sequences of the user, or of the owner if the name is qualified.
+     */
+    @Override
+    public ValueReadQuery buildSelectQueryForSequenceObjectIncrement(String qualifiedSeqName) {
+        int index = qualifiedSeqName.lastIndexOf('.');
+        if (index == -1) {
+            return new ValueReadQuery("SELECT INCREMENT_BY FROM USER_SEQUENCES WHERE SEQUENCE_NAME = '" + qualifiedSeqName.toUpperCase() + "'");
+        }
+        return new ValueReadQuery("SELECT INCREMENT_BY FROM ALL_SEQUENCES WHERE SEQUENCE_OWNER = '" + qualifiedSeqName.substring(0, index).toUpperCase()
+                + "' AND SEQUENCE_NAME = '" + qualifiedSeqName.substring(index + 1).toUpperCase() + "'");
+    }
+
     /**
      * INTERNAL:
      * Though Oracle doesn't support identity it could be imitated,
@@ -1360,4 +1374,13 @@ public boolean checkTableExists(final DatabaseSessionImpl session,
     public int getINClauseLimit() {
         return 1000;
     }
+
+    /**
+     * INTERNAL:
+     * Nulls are sorted higher than any other value.
+     */
+    @Override
+    public Boolean areNullsSortedHigh() {
+        return Boolean.TRUE;
+    }
 }
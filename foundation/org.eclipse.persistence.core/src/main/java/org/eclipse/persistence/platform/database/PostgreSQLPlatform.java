@@ -270,6 +270,19 @@ protected ExpressionOperator toNumberOperator() {
         return exOperator;
     }
 
+    /**
+     * INTERNAL: This method returns the query to select the replication lag of a
+     * hot standby for Postgres. An idle standby that replayed all the WAL it received has no lag.
+     */
+    @Override
+    public ValueReadQuery getReplicationLagQuery() {
+        ValueReadQuery query = new ValueReadQuery();
+        query.setSQLString("SELECT CASE WHEN NOT PG_IS_IN_RECOVERY() OR PG_LAST_WAL_RECEIVE_LSN() = PG_LAST_WAL_REPLAY_LSN() THEN 0"
+                + " ELSE COALESCE(EXTRACT(EPOCH FROM (NOW() - PG_LAST_XACT_REPLAY_TIMESTAMP())) * 1000, 0) END");
+        query.setAllowNativeSQLQuery(true);
+        return query;
+    }
+
     /**
      * INTERNAL: This method returns the query to select the timestamp from the
      * server for Postgres.
@@ -390,6 +403,15 @@ public ValueReadQuery buildSelectQueryForSequenceObject(String qualifiedSeqName,
         return new ValueReadQuery("select nextval(\'" + qualifiedSeqName + "\')");
     }
 
+    /**
+     * INTERNAL:
+     * Read the increment from the pg_sequence catalog.
+     */
+    @Override
+    public ValueReadQuery buildSelectQueryForSequenceObjectIncrement(String qualifiedSeqName) {
+        return new ValueReadQuery("select seqincrement from pg_sequence where seqrelid = \'" + qualifiedSeqName + "\'::regclass");
+    }
+
     /**
      * INTERNAL: Append the receiver's field 'identity' constraint clause to a
      * writer.
@@ -793,4 +815,13 @@ public void setParameterValueInDatabaseCall(Object parameter,
             super.setParameterValueInDatabaseCall(parameter, statement, name, session);
         }
     }
+
+    /**
+     * INTERNAL:
+     * Nulls are sorted higher than any other value.
+     */
+    @Override
+    public Boolean areNullsSortedHigh() {
+        return Boolean.TRUE;
+    }
 }
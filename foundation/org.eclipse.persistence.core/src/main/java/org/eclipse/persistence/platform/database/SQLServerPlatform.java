@@ -1097,4 +1097,12 @@ public void setParameterValueInDatabaseCall(
         super.setParameterValueInDatabaseCall(parameter, statement, name, session);
     }
 
+    /**
+     * INTERNAL:
+     * Nulls are sorted lower than any other value.
+     */
+    @Override
+    public Boolean areNullsSortedHigh() {
+        return Boolean.FALSE;
+    }
 }
@@ -976,4 +976,13 @@ public void writeUpdateOriginalFromTempTableSql(Writer writer, DatabaseTable tab
         writer.write(tempTableName);
         writeAutoJoinWhereClause(writer, tableName, tempTableName, pkFields, this);
     }
+
+    /**
+     * INTERNAL:
+     * Nulls are sorted lower than any other value.
+     */
+    @Override
+    public Boolean areNullsSortedHigh() {
+        return Boolean.FALSE;
+    }
 }
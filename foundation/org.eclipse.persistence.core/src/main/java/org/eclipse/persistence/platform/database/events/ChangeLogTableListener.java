@@ -0,0 +1,578 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.platform.database.events;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.annotations.DatabaseChangeNotificationType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
+import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.tools.schemaframework.FieldDefinition;
+import org.eclipse.persistence.tools.schemaframework.SchemaManager;
+import org.eclipse.persistence.tools.schemaframework.TableDefinition;
+import org.eclipse.persistence.tools.schemaframework.TriggerDefinition;
+
+/**
+ * PUBLIC:
+ * Listener polling a change log table maintained by triggers, for databases without change notifications
+ * such as MySQL, DB2, Derby, HSQL or H2.
+ * This allows the EclipseLink cache to be invalidated when other applications change the database,
+ * so long cache expiry times can be used without refreshing on each query.
+ * <p>
+ * On login the change log table and, on the primary table of each descriptor using database change notification,
+ * triggers logging the table name and the primary key of every updated or deleted row are created through the
+ * schema framework. A background thread reads the new entries of the log in order of their identity column,
+ * in batches, and invalidates the cached objects. Inserts are not logged as new rows cannot be stale in the cache.
+ * Changes made by this application are logged too, so its own updated objects are also invalidated.
+ * <p>
+ * The identity of an entry is assigned when it is inserted, not when its transaction commits,
+ * so an entry can become visible after entries with a higher identity were read.
+ * The identities skipped are kept as gaps for a grace period, and read again by each poll until they are found
+ * or the grace period expires, as the transaction may also have been rolled back.
+ * <p>
+ * The key values are logged as text, trailing spaces are ignored. A table with more primary key columns
+ * than key columns in the log invalidates the whole class on every change.
+ * Platforms without SQL row triggers (H2 only supports Java triggers) only get the log table,
+ * the triggers must be created manually with the same statement, see {@link #buildLogStatement}.
+ * The log is never purged by the listener as other applications may still have to read it,
+ * old entries should be deleted periodically by the DBA.
+ *
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#DATABASE_EVENT_LISTENER
+ */
+public class ChangeLogTableListener implements DatabaseEventListener {
+
+    public static final String DEFAULT_LOG_TABLE_NAME = "EL_CHANGE_LOG";
+    public static final String CHANGE_ID = "CHANGE_ID";
+    public static final String TABLE_NAME = "TABLE_NAME";
+    public static final String KEY = "KEY";
+
+    /** The name of the change log table. */
+    protected String logTableName;
+    /** The number of key columns of the log table. */
+    protected int keyColumnCount;
+    /** Create the log table and triggers on login, true by default. */
+    protected boolean shouldCreateSchema;
+    /** Milliseconds between two polls of the log table. */
+    protected long pollInterval;
+    /** Maximum number of log entries read by one query. */
+    protected int batchSize;
+    /** Milliseconds the identities skipped in the log are read again, waiting for their transaction to commit. */
+    protected long gracePeriod;
+
+    /** Map each table, as logged by the triggers, to the descriptor that needs to be invalidated. */
+    protected Map<String, ClassDescriptor> descriptorsByTable;
+
+    /** The dedicated polling connection, null until connected or after a failure. */
+    protected Connection connection;
+    /** The identity of the last log entry read. */
+    protected long lastChangeId;
+    /** The ranges of identities below the last one read that were not read yet, in order. */
+    protected List<Gap> gaps;
+    /** Released to stop the polling thread, null once removed. */
+    protected volatile CountDownLatch stopLatch;
+
+    public ChangeLogTableListener() {
+        this.logTableName = DEFAULT_LOG_TABLE_NAME;
+        this.keyColumnCount = 3;
+        this.shouldCreateSchema = true;
+        this.pollInterval = 1000;
+        this.batchSize = 1000;
+        this.gracePeriod = 60000;
+        this.gaps = new ArrayList<>();
+    }
+
+    /**
+     * INTERNAL:
+     * A range of identities not read yet, and until when they are waited for.
+     */
+    protected static class Gap {
+        protected long first;
+        protected long last;
+        protected final long expiry;
+
+        protected Gap(long first, long last, long expiry) {
+            this.first = first;
+            this.last = last;
+            this.expiry = expiry;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Create the log table and triggers and start polling on a dedicated connection.
+     */
+    @Override
+    public void register(Session session) {
+        final AbstractSession databaseSession = (AbstractSession)session;
+        // Determine which tables should be tracked for change events.
+        Map<String, ClassDescriptor> descriptors = new HashMap<>();
+        for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+            if (!descriptor.getTables().isEmpty()
+                    && (descriptor.getCachePolicy().getDatabaseChangeNotificationType() != null)
+                    && (descriptor.getCachePolicy().getDatabaseChangeNotificationType() != DatabaseChangeNotificationType.NONE)) {
+                // Inheritance subclasses share the table of the root, the root class is invalidated.
+                ClassDescriptor root = descriptor.isChildDescriptor() ? descriptor.getInheritancePolicy().getRootParentDescriptor() : descriptor;
+                descriptors.put(root.getTables().get(0).getQualifiedName(), root);
+            }
+        }
+        if (descriptors.isEmpty()) {
+            return;
+        }
+        databaseSession.log(SessionLog.FINEST, SessionLog.CONNECTION, "dcn_registering");
+        if (this.shouldCreateSchema) {
+            createSchema(descriptors, (DatabaseSessionImpl)session);
+        }
+        final CountDownLatch latch = new CountDownLatch(1);
+        synchronized (this) {
+            if (this.stopLatch != null) {
+                // Registered again without being removed, stop the previous polling thread.
+                this.stopLatch.countDown();
+                close(this.connection);
+            }
+            this.descriptorsByTable = descriptors;
+            this.connection = connect(databaseSession);
+            this.lastChangeId = readLastChangeId(databaseSession);
+            this.gaps = new ArrayList<>();
+            this.stopLatch = latch;
+        }
+        databaseSession.getServerPlatform().launchContainerRunnable(() -> poll(databaseSession, latch));
+    }
+
+    /**
+     * Create the log table if it does not exist, and replace the triggers of each tracked table.
+     */
+    protected void createSchema(Map<String, ClassDescriptor> descriptors, DatabaseSessionImpl session) {
+        SchemaManager schemaManager = new SchemaManager(session);
+        TableDefinition logTable = buildLogTableDefinition();
+        if (!schemaManager.checkTableExists(logTable)) {
+            schemaManager.createObject(logTable);
+        }
+        DatabasePlatform platform = session.getPlatform();
+        for (Map.Entry<String, ClassDescriptor> entry : descriptors.entrySet()) {
+            DatabaseTable table = entry.getValue().getTables().get(0);
+            if (!platform.supportsTriggers()) {
+                session.log(SessionLog.WARNING, SessionLog.DDL, "change_log_triggers_not_supported", platform.getClass().getSimpleName(), entry.getKey());
+                continue;
+            }
+            String statement = buildLogStatement(entry.getKey(), entry.getValue(), platform);
+            String name = Helper.truncate("EL_" + table.getName(), platform.getMaxFieldNameSize() - 2);
+            try {
+                schemaManager.replaceObject(buildTriggerDefinition(name + "_U", table, TriggerDefinition.UPDATE, statement, platform));
+                schemaManager.replaceObject(buildTriggerDefinition(name + "_D", table, TriggerDefinition.DELETE, statement, platform));
+                session.log(SessionLog.FINEST, SessionLog.CONNECTION, "dcn_register_table", entry.getKey());
+            } catch (DatabaseException failed) {
+                // This will fail if the table does not exist,
+                // just log the error to allow table creation to work.
+                session.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the definition of the log table, an identity column, the table name and the key columns.
+     */
+    public TableDefinition buildLogTableDefinition() {
+        TableDefinition definition = new TableDefinition();
+        definition.setName(this.logTableName);
+        FieldDefinition changeId = new FieldDefinition(CHANGE_ID, Long.class);
+        changeId.setIsPrimaryKey(true);
+        changeId.setIsIdentity(true);
+        changeId.setShouldAllowNull(false);
+        definition.addField(changeId);
+        FieldDefinition tableName = new FieldDefinition(TABLE_NAME, String.class, 255);
+        tableName.setShouldAllowNull(false);
+        definition.addField(tableName);
+        for (int index = 1; index <= this.keyColumnCount; index++) {
+            definition.addField(new FieldDefinition(KEY + index, String.class, 255));
+        }
+        return definition;
+    }
+
+    protected TriggerDefinition buildTriggerDefinition(String name, DatabaseTable table, String event, String statement, DatabasePlatform platform) {
+        TriggerDefinition definition = new TriggerDefinition();
+        definition.setName(name);
+        definition.setQualifier(table.getTableQualifier());
+        definition.setTargetTable(table.getQualifiedNameDelimited(platform));
+        definition.setEvent(event);
+        definition.setStatement(statement);
+        return definition;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the statement of the triggers of the table, inserting in the log the qualified table name
+     * of the descriptor and the primary key values of the row before the change, cast to CHAR(255).
+     */
+    public String buildLogStatement(String tableName, ClassDescriptor descriptor, DatabasePlatform platform) {
+        DatabaseTable table = descriptor.getTables().get(0);
+        StringBuilder columns = new StringBuilder(TABLE_NAME);
+        StringBuilder values = new StringBuilder("'").append(tableName.replace("'", "''")).append("'");
+        int index = 0;
+        List<DatabaseField> primaryKeyFields = descriptor.getPrimaryKeyFields();
+        if (primaryKeyFields.size() <= this.keyColumnCount) {
+            for (DatabaseField field : primaryKeyFields) {
+                if (field.getTable().equals(table)) {
+                    index++;
+                    columns.append(", ").append(KEY).append(index);
+                    values.append(", CAST(").append(platform.getTriggerOldRowName()).append('.')
+                            .append(field.getNameDelimited(platform)).append(" AS CHAR(255))");
+                }
+            }
+        }
+        return "INSERT INTO " + this.logTableName + " (" + columns + ") VALUES (" + values + ")";
+    }
+
+    /**
+     * Open the polling connection.
+     */
+    protected Connection connect(AbstractSession session) {
+        Connection newConnection = (Connection)session.getDatasourceLogin().connectToDatasource(null, session);
+        try {
+            newConnection.setAutoCommit(true);
+            return newConnection;
+        } catch (SQLException exception) {
+            close(newConnection);
+            throw DatabaseException.sqlException(exception, session, false);
+        }
+    }
+
+    /**
+     * Return the identity of the last log entry, the changes made before login are already read from the database.
+     */
+    protected long readLastChangeId(AbstractSession session) {
+        try (Statement statement = this.connection.createStatement();
+                ResultSet result = statement.executeQuery("SELECT MAX(" + CHANGE_ID + ") FROM " + this.logTableName)) {
+            return result.next() ? result.getLong(1) : 0;
+        } catch (SQLException exception) {
+            close(this.connection);
+            this.connection = null;
+            throw DatabaseException.sqlException(exception, session, false);
+        }
+    }
+
+    /**
+     * Poll the log until the listener is removed or registered again.
+     */
+    protected void poll(AbstractSession session, CountDownLatch latch) {
+        try {
+            while (!latch.await(this.pollInterval, TimeUnit.MILLISECONDS)) {
+                pollChanges(session);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Read the new log entries, and the entries of the gaps, in batches, and invalidate the cache.
+     * The entries are read from the first gap, those already read are skipped.
+     * If the log cannot be read the connection is discarded and opened again on the next poll,
+     * the entries are not lost as they are kept in the log.
+     */
+    public synchronized void pollChanges(AbstractSession session) {
+        if (this.stopLatch == null) {
+            return;
+        }
+        String sql = "SELECT " + CHANGE_ID + ", " + TABLE_NAME;
+        for (int index = 1; index <= this.keyColumnCount; index++) {
+            sql = sql + ", " + KEY + index;
+        }
+        sql = sql + " FROM " + this.logTableName + " WHERE " + CHANGE_ID + " > ? ORDER BY " + CHANGE_ID;
+        try {
+            if (this.connection == null) {
+                this.connection = connect(session);
+            }
+            Set<ClassDescriptor> invalidClasses = new HashSet<>();
+            long now = System.currentTimeMillis();
+            long fromChangeId = this.gaps.isEmpty() ? this.lastChangeId : this.gaps.get(0).first - 1;
+            int count;
+            do {
+                count = 0;
+                int processed = 0;
+                try (PreparedStatement statement = this.connection.prepareStatement(sql)) {
+                    statement.setMaxRows(this.batchSize);
+                    statement.setLong(1, fromChangeId);
+                    try (ResultSet result = statement.executeQuery()) {
+                        while (result.next()) {
+                            count++;
+                            long changeId = result.getLong(1);
+                            fromChangeId = changeId;
+                            if (isNewChange(changeId, now)) {
+                                processed++;
+                                processChange(result, invalidClasses, session);
+                            }
+                        }
+                    }
+                }
+                if (processed > 0) {
+                    session.log(SessionLog.FINEST, SessionLog.CONNECTION, "change_log_invalidate", processed, this.lastChangeId);
+                }
+            } while (count >= this.batchSize);
+            for (ClassDescriptor descriptor : invalidClasses) {
+                session.getIdentityMapAccessor().invalidateClass(descriptor.getJavaClass(), true);
+            }
+            // The transactions of the identities still missing after the grace period were rolled back.
+            this.gaps.removeIf(gap -> gap.expiry <= now);
+        } catch (SQLException | RuntimeException exception) {
+            session.log(SessionLog.WARNING, SessionLog.CONNECTION, "change_log_poll_failed", this.logTableName, exception);
+            close(this.connection);
+            this.connection = null;
+        }
+    }
+
+    /**
+     * Return if the log entry was not read yet, recording the identities skipped before a new entry as a gap.
+     */
+    protected boolean isNewChange(long changeId, long now) {
+        if (changeId > this.lastChangeId) {
+            if (changeId > this.lastChangeId + 1) {
+                this.gaps.add(new Gap(this.lastChangeId + 1, changeId - 1, now + this.gracePeriod));
+            }
+            this.lastChangeId = changeId;
+            return true;
+        }
+        for (int index = 0; index < this.gaps.size(); index++) {
+            Gap gap = this.gaps.get(index);
+            if (changeId < gap.first) {
+                return false;
+            }
+            if (changeId <= gap.last) {
+                if (gap.first == gap.last) {
+                    this.gaps.remove(index);
+                } else if (changeId == gap.first) {
+                    gap.first++;
+                } else if (changeId == gap.last) {
+                    gap.last--;
+                } else {
+                    // Split the gap around the entry.
+                    this.gaps.add(index + 1, new Gap(changeId + 1, gap.last, gap.expiry));
+                    gap.last = changeId - 1;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Invalidate the cached object of the log entry, or collect its class if the key was not logged.
+     */
+    protected void processChange(ResultSet result, Set<ClassDescriptor> invalidClasses, AbstractSession session) throws SQLException {
+        ClassDescriptor descriptor = this.descriptorsByTable.get(result.getString(2));
+        if ((descriptor == null) || invalidClasses.contains(descriptor)) {
+            return;
+        }
+        DatabaseTable table = descriptor.getTables().get(0);
+        DatabaseRecord row = new DatabaseRecord();
+        int index = 3;
+        for (DatabaseField field : descriptor.getPrimaryKeyFields()) {
+            if (!field.getTable().equals(table)) {
+                continue;
+            }
+            String value = (index - 2 <= this.keyColumnCount) ? result.getString(index) : null;
+            if (value == null) {
+                invalidClasses.add(descriptor);
+                return;
+            }
+            row.put(field, Helper.rightTrimString(value));
+            index++;
+        }
+        Object primaryKey = descriptor.getObjectBuilder().extractPrimaryKeyFromRow(row, session);
+        if (primaryKey == null) {
+            invalidClasses.add(descriptor);
+            return;
+        }
+        CacheKey key = session.getIdentityMapAccessorInstance().getIdentityMapManager().getCacheKeyForObject(
+                primaryKey, descriptor.getJavaClass(), descriptor, false);
+        if (key != null) {
+            session.log(SessionLog.FINEST, SessionLog.CONNECTION, "dcn_invalidate", key.getKey(), descriptor.getJavaClass().getName());
+            key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+        }
+    }
+
+    /**
+     * Initialize the descriptor to receive database change events.
+     * This is called when the descriptor is initialized.
+     * Nothing is required, the changes are read from the log.
+     */
+    @Override
+    public void initialize(ClassDescriptor descriptor, AbstractSession session) {
+        // Nothing required.
+    }
+
+    /**
+     * INTERNAL:
+     * Stop polling and close the dedicated connection, the log table and triggers are kept for the next login.
+     */
+    @Override
+    public void remove(Session session) {
+        CountDownLatch latch = this.stopLatch;
+        if (latch == null) {
+            return;
+        }
+        ((AbstractSession)session).log(SessionLog.FINEST, SessionLog.CONNECTION, "dcn_unregister");
+        latch.countDown();
+        synchronized (this) {
+            this.stopLatch = null;
+            close(this.connection);
+            this.connection = null;
+        }
+    }
+
+    protected void close(Connection oldConnection) {
+        if (oldConnection != null) {
+            try {
+                oldConnection.close();
+            } catch (SQLException ignore) {
+                // The connection is discarded.
+            }
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the name of the change log table.
+     */
+    public String getLogTableName() {
+        return logTableName;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the name of the change log table, "EL_CHANGE_LOG" by default.
+     */
+    public void setLogTableName(String logTableName) {
+        this.logTableName = logTableName;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of key columns of the log table.
+     */
+    public int getKeyColumnCount() {
+        return keyColumnCount;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of key columns of the log table, 3 by default.
+     * The changes of tables with more primary key columns invalidate the whole class.
+     */
+    public void setKeyColumnCount(int keyColumnCount) {
+        this.keyColumnCount = keyColumnCount;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the log table and triggers are created on login.
+     */
+    public boolean shouldCreateSchema() {
+        return shouldCreateSchema;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the log table and triggers are created on login, true by default.
+     * If the application user is not allowed to create triggers, they must be created by the DBA.
+     */
+    public void setShouldCreateSchema(boolean shouldCreateSchema) {
+        this.shouldCreateSchema = shouldCreateSchema;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds between two polls of the log table.
+     */
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds between two polls of the log table, 1 second by default.
+     * This is the maximum time a stale object can be read from the cache.
+     */
+    public void setPollInterval(long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of log entries read by one query.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of log entries read by one query, 1000 by default.
+     * A poll keeps reading until all the new entries are read.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds the identities skipped in the log are read again.
+     */
+    public long getGracePeriod() {
+        return gracePeriod;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds the identities skipped in the log are read again, 1 minute by default.
+     * An entry is assigned its identity when it is inserted, so the entries of a transaction committing
+     * after a later one are read late, this should be longer than the longest transaction updating tracked tables.
+     * The entries committed during the grace period of a gap are read again by each poll.
+     */
+    public void setGracePeriod(long gracePeriod) {
+        this.gracePeriod = gracePeriod;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the mapping of tables to descriptors.
+     */
+    public Map<String, ClassDescriptor> getDescriptorsByTable() {
+        return descriptorsByTable;
+    }
+}
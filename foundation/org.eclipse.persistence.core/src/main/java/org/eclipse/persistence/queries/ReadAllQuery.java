@@ -18,6 +18,8 @@
 //       - 356197: Add new VPD type to MultitenantType
 package org.eclipse.persistence.queries;
 
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.DescriptorQueryManager;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.expressions.Expression;
@@ -27,6 +29,7 @@
 import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
+import org.eclipse.persistence.internal.helper.BoundedRingBuffer;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.InvalidObject;
@@ -41,6 +44,7 @@
 import org.eclipse.persistence.internal.sessions.remote.RemoteSessionController;
 import org.eclipse.persistence.internal.sessions.remote.Transporter;
 import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
 import org.eclipse.persistence.mappings.OneToManyMapping;
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.SessionProfiler;
@@ -58,6 +62,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p><b>Purpose</b>:
@@ -80,6 +85,18 @@ public class ReadAllQuery extends ObjectLevelReadQuery {
     protected List<Expression> orderSiblingsByExpressions;
     protected Direction direction;
 
+    /** PERF: Allow the objects of large results to be built on multiple threads. */
+    protected boolean shouldBuildObjectsInParallel = false;
+
+    /** PERF: Fetch the rows on a separate thread while the objects are built. */
+    protected boolean shouldPipelineFetch = false;
+
+    /** Minimum number of rows buffered between the fetching thread and the building thread. */
+    public static final int PIPELINED_FETCH_BUFFER_SIZE = 128;
+
+    /** Milliseconds waited for the fetching thread to fetch a row, when the query has no timeout. */
+    public static final long PIPELINED_FETCH_TIMEOUT = 60000L;
+
     /**
      * Specifies the direction in which the hierarchy is traversed in a
      * hierarchical query.
@@ -567,6 +584,8 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
                         }
                     }
                 }
+            } else if ((sopObject == null) && usesPipelinedFetch()) {
+                result = executeObjectLevelReadQueryPipelined();
             } else {
                 List<AbstractRecord> rows;
                 if (sopObject != null) {
@@ -693,6 +712,158 @@ protected Object executeObjectLevelReadQueryFromResultSet() throws DatabaseExcep
         }
     }
 
+    /**
+     * INTERNAL:
+     * PERF: Execute the query fetching the rows on a separate thread, into a bounded buffer,
+     * while the objects are built from the buffer on the calling thread.
+     */
+    protected Object executeObjectLevelReadQueryPipelined() throws DatabaseException {
+        DatabaseCall call = ((DatasourceCallQueryMechanism)this.queryMechanism).selectResultSet();
+        this.executionTime = System.currentTimeMillis();
+        Statement statement = call.getStatement();
+        ResultSet resultSet = call.getResult();
+        DatabaseAccessor dbAccessor = (DatabaseAccessor)getAccessor();
+        BoundedRingBuffer<AbstractRecord> rows = null;
+        boolean exceptionOccured = false;
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            // Buffer two fetches, so the next one can be fetched while the previous one is built.
+            rows = dbAccessor.buildPipelinedResult(call, resultSet, metaData, this.session, Math.max(getFetchSize(), PIPELINED_FETCH_BUFFER_SIZE) * 2);
+            Object result = this.containerPolicy.containerInstance();
+            if (rows == null) {
+                // No thread is available to fetch the rows, they are fetched by the calling thread.
+                List<AbstractRecord> fetchedRows = new ArrayList<>();
+                while (resultSet.next()) {
+                    fetchedRows.add(dbAccessor.fetchRow(call.getFields(), call.getFieldsArray(), resultSet, metaData, this.session));
+                }
+                this.descriptor.getObjectBuilder().buildObjectsInto(this, fetchedRows, result);
+            } else {
+                this.descriptor.getObjectBuilder().buildObjectsFromPipelineInto(this, rows, result);
+            }
+            return result;
+        } catch (SQLException exception) {
+            exceptionOccured = true;
+            DatabaseException commException = dbAccessor.processExceptionForCommError(this.session, exception, call);
+            if (commException != null) {
+                throw commException;
+            }
+            throw DatabaseException.sqlException(exception, call, dbAccessor, this.session, false);
+        } catch (QueryException exception) {
+            exceptionOccured = true;
+            if ((exception.getErrorCode() == QueryException.PIPELINED_FETCH_TIMEOUT) && (statement != null)) {
+                // The fetching thread is waiting for the database, the statement is cancelled so it stops.
+                try {
+                    statement.cancel();
+                } catch (SQLException cancelException) {
+                    // The fetching thread is still waited for.
+                }
+            }
+            throw exception;
+        } catch (RuntimeException exception) {
+            exceptionOccured = true;
+            throw exception;
+        } finally {
+            // The fetching thread must be stopped before the result set is closed.
+            if (rows != null) {
+                rows.cancel();
+                rows.awaitCompletion();
+            }
+            try {
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+                if (statement != null) {
+                    dbAccessor.releaseStatement(statement, call.getSQLString(), call, this.session);
+                }
+                if (call.hasAllocatedConnection()) {
+                    getExecutionSession().releaseConnectionAfterCall(this);
+                }
+            } catch (RuntimeException cleanupException) {
+                if (!exceptionOccured) {
+                    throw cleanupException;
+                }
+            } catch (SQLException cleanupSQLException) {
+                if (!exceptionOccured) {
+                    throw DatabaseException.sqlException(cleanupSQLException, call, dbAccessor, this.session, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the milliseconds waited for the fetching thread to fetch a row,
+     * the query timeout if it has one, otherwise {@link #PIPELINED_FETCH_TIMEOUT}.
+     */
+    public long getPipelinedFetchTimeout() {
+        if (this.queryTimeout > 0) {
+            TimeUnit unit = (this.queryTimeoutUnit == null) ? DescriptorQueryManager.DefaultTimeoutUnit : this.queryTimeoutUnit;
+            return unit.toMillis(this.queryTimeout);
+        }
+        return PIPELINED_FETCH_TIMEOUT;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the rows should be fetched on a separate thread while the objects are built.
+     * Not used in a unit of work, with a concurrent session, if all the rows are required up front
+     * (1-m joining, IN batch fetching, included data), or if building the objects may execute queries
+     * as they would use the connection the rows are fetched from.
+     */
+    public boolean usesPipelinedFetch() {
+        return this.shouldPipelineFetch && !this.session.isUnitOfWork() && !this.session.isConcurrent() && !this.shouldIncludeData
+                && super.supportsResultSetAccessOptimizationOnPrepare() && (this.descriptor != null) && !mayQueryWhileBuilding(this.descriptor);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if building the objects of the descriptor may execute queries:
+     * relationships without indirection, inheritance, event listeners or mappings other than direct and aggregate mappings.
+     */
+    protected boolean mayQueryWhileBuilding(ClassDescriptor descriptor) {
+        if (descriptor.hasInheritance() || descriptor.getEventManager().hasAnyEventListeners()) {
+            return true;
+        }
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            if (mapping.isAggregateObjectMapping()) {
+                if (mayQueryWhileBuilding(mapping.getReferenceDescriptor())) {
+                    return true;
+                }
+            } else if (mapping.isForeignReferenceMapping()) {
+                if (!((ForeignReferenceMapping)mapping).usesIndirection()) {
+                    return true;
+                }
+            } else if (!mapping.isAbstractColumnMapping()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the rows should be fetched from the result set on a separate thread, while the objects are built.
+     * The rows are passed through a bounded buffer of twice the fetch size (at least 256 rows),
+     * the fetching thread waits while the buffer is full.
+     * The fetching thread is taken from a shared pool, if none is available the rows are fetched by the calling thread.
+     * The query fails if no row is fetched within the query timeout, or a minute if the query has no timeout.
+     * This hides the database round trips of large results when the objects are read outside of a unit of work
+     * (i.e. read-only queries), without 1-m joining or IN batch fetching, and their building can't execute queries
+     * (relationships use indirection, no inheritance or event listeners).
+     * Default is false.
+     */
+    public void setShouldPipelineFetch(boolean shouldPipelineFetch) {
+        this.shouldPipelineFetch = shouldPipelineFetch;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the rows should be fetched from the result set on a separate thread, while the objects are built.
+     */
+    public boolean shouldPipelineFetch() {
+        return this.shouldPipelineFetch;
+    }
+
     /**
      * INTERNAL:
      * Extract the correct query result from the transporter.
@@ -878,6 +1049,8 @@ protected void prepareCustomQuery(DatabaseQuery customQuery) {
         ReadAllQuery customReadQuery = (ReadAllQuery)customQuery;
         customReadQuery.containerPolicy = this.containerPolicy;
         customReadQuery.cascadePolicy = this.cascadePolicy;
+        customReadQuery.shouldBuildObjectsInParallel = this.shouldBuildObjectsInParallel;
+        customReadQuery.shouldPipelineFetch = this.shouldPipelineFetch;
         customReadQuery.shouldRefreshIdentityMapResult = this.shouldRefreshIdentityMapResult;
         customReadQuery.shouldMaintainCache = this.shouldMaintainCache;
         customReadQuery.shouldUseWrapperPolicy = this.shouldUseWrapperPolicy;
@@ -1126,6 +1299,27 @@ public Map replaceValueHoldersIn(Object object, RemoteSessionController controll
         return controller.replaceValueHoldersInAll(object, getContainerPolicy());
     }
 
+    /**
+     * PUBLIC:
+     * Set if the objects of large results should be built on multiple threads.
+     * The rows are split in chunks built by the calling thread and by the threads of a pool shared by all the sessions,
+     * the objects are still returned in the rows order.
+     * Objects are only built in parallel for results of at least a thousand rows, read outside of a unit of work
+     * (i.e. read-only queries), without joining, batch reading, query results caching or result set access optimization.
+     * Default is false.
+     */
+    public void setShouldBuildObjectsInParallel(boolean shouldBuildObjectsInParallel) {
+        this.shouldBuildObjectsInParallel = shouldBuildObjectsInParallel;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the objects of large results should be built on multiple threads.
+     */
+    public boolean shouldBuildObjectsInParallel() {
+        return this.shouldBuildObjectsInParallel;
+    }
+
     /**
      * PUBLIC:
      * Set the container policy. Used to support different containers
@@ -43,6 +43,9 @@
 import org.eclipse.persistence.internal.sessions.remote.Transporter;
 import org.eclipse.persistence.sessions.DatabaseRecord;
 import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.coordination.CachePartitionManager;
+import org.eclipse.persistence.sessions.coordination.CommandManager;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 import org.eclipse.persistence.tools.profiler.QueryMonitor;
 
@@ -75,6 +78,9 @@ public class ReadObjectQuery extends ObjectLevelReadQuery {
     /** Can be used to refresh a specific non-cached instance from the database. */
     protected boolean shouldLoadResultIntoSelectionObject = false;
 
+    /** Fetch the row from the cache of the service owning the object if the shared cache is partitioned. */
+    protected boolean shouldFetchFromCachePartition = false;
+
     /**
      * PUBLIC:
      * Return a new read object query.
@@ -476,7 +482,11 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
         Object sopObject = getTranslationRow().getSopObject();
         boolean useOptimization = false;
         if (sopObject == null) {
-            useOptimization = usesResultSetAccessOptimization();
+            // PERF: Fetch the row from the cache of the service owning the object if the cache is partitioned.
+            row = fetchRowFromCachePartition(session);
+            if (row == null) {
+                useOptimization = usesResultSetAccessOptimization();
+            }
         }
 
         if (useOptimization) {
@@ -551,7 +561,7 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
             if (sopObject != null) {
                 row = new DatabaseRecord(0);
                 row.setSopObject(sopObject);
-            } else {
+            } else if (row == null) {
                 // If using 1-m joins, must select all rows.
                 if (shouldSetRowsForJoins) {
                     List rows = getQueryMechanism().selectAllRows();
@@ -806,6 +816,7 @@ protected void prepareCustomQuery(DatabaseQuery customQuery) {
         customReadQuery.queryId = this.queryId;
         customReadQuery.executionTime = this.executionTime;
         customReadQuery.shouldLoadResultIntoSelectionObject = this.shouldLoadResultIntoSelectionObject;
+        customReadQuery.shouldFetchFromCachePartition = this.shouldFetchFromCachePartition;
         AbstractRecord primaryKeyRow;
         if (this.selectionObject != null) {
             // CR#... Must also set the selection object as may be loading into the object (refresh)
@@ -934,6 +945,41 @@ public Map replaceValueHoldersIn(Object object, RemoteSessionController controll
         return controller.replaceValueHoldersIn(object);
     }
 
+    /**
+     * INTERNAL:
+     * Fetch the row of the object from the cache of the service owning it, if the query fetches from the cache partition,
+     * the shared cache of the descriptor is partitioned across the services and the object is read by primary key.
+     * Return null if the row must be selected from the database.
+     * @see CachePartitionManager
+     */
+    protected AbstractRecord fetchRowFromCachePartition(AbstractSession session) {
+        if (!this.shouldFetchFromCachePartition || hasJoining() || this.shouldRefreshIdentityMapResult || isLockQuery()
+                || this.descriptor.getCachePolicy().isIsolated()) {
+            return null;
+        }
+        AbstractSession rootSession = session.getParentIdentityMapSession(this.descriptor, false, true);
+        CommandManager commandManager = rootSession.getCommandManager();
+        if (!(commandManager instanceof RemoteCommandManager)) {
+            return null;
+        }
+        CachePartitionManager partitionManager = ((RemoteCommandManager)commandManager).getCachePartitionManager();
+        if ((partitionManager == null) || !partitionManager.isPartitioned(this.descriptor)) {
+            return null;
+        }
+        Object primaryKey = this.selectionId;
+        if (primaryKey == null) {
+            if (this.selectionObject != null) {
+                primaryKey = this.descriptor.getObjectBuilder().extractPrimaryKeyFromObject(this.selectionObject, session);
+            } else {
+                primaryKey = this.descriptor.getObjectBuilder().extractPrimaryKeyFromExpression(true, getSelectionCriteria(), this.translationRow, session);
+            }
+        }
+        if ((primaryKey == null) || partitionManager.isOwner(this.descriptor, primaryKey)) {
+            return null;
+        }
+        return partitionManager.fetchRow(this.descriptor, primaryKey, rootSession);
+    }
+
     /**
      * INTERNAL:
      * Return the primary key stored in this query
@@ -1042,6 +1088,27 @@ public boolean shouldLoadResultIntoSelectionObject() {
         return shouldLoadResultIntoSelectionObject;
     }
 
+    /**
+     * PUBLIC:
+     * Set if the row of an object missing from the cache should be fetched from the cache of the service owning it,
+     * when the shared cache of the descriptor is partitioned across the services of the cluster.
+     * Each fetch waits for a round trip to the owner, and for up to the fetch timeout of the cache partition manager
+     * before the database is queried if the owner is slow or unavailable.
+     * Default is false.
+     * @see CachePartitionManager#setFetchTimeout(long)
+     */
+    public void setShouldFetchFromCachePartition(boolean shouldFetchFromCachePartition) {
+        this.shouldFetchFromCachePartition = shouldFetchFromCachePartition;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the row of an object missing from the cache should be fetched from the cache of the service owning it.
+     */
+    public boolean shouldFetchFromCachePartition() {
+        return this.shouldFetchFromCachePartition;
+    }
+
     /**
      * INTERNAL:
      * Return if the query has an non-default fetch group defined for itself.
@@ -15,6 +15,7 @@
 package org.eclipse.persistence.sequencing;
 
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sequencing.SequenceRange;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 
 import java.util.Vector;
@@ -141,6 +142,16 @@ public boolean shouldUseTransaction() {
         return getDefaultSequence().shouldUseTransaction();
     }
 
+    /**
+     * INTERNAL:
+     * Indicates whether the values should be allocated with the sequencing connection, if a separate
+     * connection is used, although no transaction is required.
+     */
+    @Override
+    public boolean shouldUseSequencingConnection() {
+        return getDefaultSequence().shouldUseSequencingConnection();
+    }
+
     /**
      * INTERNAL:
      * Return the newly-generated sequencing value.
@@ -178,6 +189,24 @@ public Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSess
         return getDefaultSequence().getGeneratedVector(accessor, writeSession, seqName, size);
     }
 
+    /**
+     * INTERNAL:
+     * Indicates whether the preallocated values are consecutive numbers.
+     */
+    @Override
+    public boolean shouldUseRangeAllocation() {
+        return getDefaultSequence().shouldUseRangeAllocation();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the range of newly-generated sequencing values.
+     */
+    @Override
+    public SequenceRange getGeneratedRange(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+        return getDefaultSequence().getGeneratedRange(accessor, writeSession, seqName, size);
+    }
+
     /**
      * INTERNAL:
      * This method is called when Sequencing object is created.
@@ -15,8 +15,16 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.sequencing;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
 import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DataModifyQuery;
+import org.eclipse.persistence.queries.SQLCall;
 import org.eclipse.persistence.queries.ValueReadQuery;
 
 /**
@@ -29,6 +37,11 @@
  * or a auto-incrementing column such as the IDENTITY field in Sybase.
  * For an auto-incrementing column the preallocation size is always 1.
  * For a SEQUENCE object the preallocation size must match the SEQUENCE objects "increment by".
+ * With an adaptive preallocation size the "increment by" is read from the database before each allocation,
+ * if the platform supports it, and no more values than the "increment by" read are used.
+ * The "increment by" is only altered to grow it if enabled with {@link #setShouldAlterIncrement(boolean)},
+ * and the values are allocated on a dedicated sequencing connection.
+ * Otherwise the preallocation size is not adapted.
  */
 public class NativeSequence extends QuerySequence {
     /**
@@ -48,6 +61,11 @@ public class NativeSequence extends QuerySequence {
      */
     protected QuerySequence delegateSequence;
 
+    /**
+     * true indicates that the "increment by" of the SEQUENCE object is altered when the adaptive preallocation size grows.
+     */
+    protected boolean shouldAlterIncrement = false;
+
     public NativeSequence() {
         super();
         setShouldSkipUpdate(true);
@@ -122,6 +140,38 @@ public boolean shouldUseGeneratedKeysIfPlatformSupports() {
         return shouldUseGeneratedKeysIfPlatformSupports;
     }
 
+    /**
+     * PUBLIC:
+     * Set if the "increment by" of the SEQUENCE object is altered to grow it with the adaptive preallocation size,
+     * false by default.
+     * The SEQUENCE object must only be altered by this application on a single node, as concurrent ALTER SEQUENCE
+     * statements may lower the increment after it was read, and values would then be allocated twice.
+     * It is only altered when a separate sequencing connection is used, as on some databases, such as Oracle,
+     * ALTER SEQUENCE commits the transaction of the connection.
+     * @see SequencingControl#setShouldUseSeparateConnection(boolean)
+     * @see StandardSequence#useAdaptivePreallocationSize(int, int)
+     */
+    public void setShouldAlterIncrement(boolean shouldAlterIncrement) {
+        this.shouldAlterIncrement = shouldAlterIncrement;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the "increment by" of the SEQUENCE object is altered to grow it with the adaptive preallocation size.
+     */
+    public boolean shouldAlterIncrement() {
+        return shouldAlterIncrement;
+    }
+
+    /**
+     * INTERNAL:
+     * The increment is only altered on the sequencing connection, as ALTER SEQUENCE may commit the transaction.
+     */
+    @Override
+    public boolean shouldUseSequencingConnection() {
+        return this.shouldAlterIncrement && isAdaptivePreallocationSize() && (this.delegateSequence == null);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof NativeSequence) {
@@ -237,6 +287,71 @@ public void onConnect() {
         super.onConnect();
     }
 
+    /**
+     * INTERNAL:
+     * The values of a SEQUENCE object are allocated by its "increment by", which is read from the database,
+     * as other applications sharing the SEQUENCE object may have altered it.
+     * The values allocated are at most the increment read, allocating less values than the "increment by" is safe,
+     * only the remaining values are lost.
+     * If enabled the increment is altered to grow it, only on the dedicated sequencing connection,
+     * and read again so the values allocated are those of the altered increment.
+     * If the increment cannot be read the preallocation size is used, which must match the "increment by".
+     */
+    @Override
+    protected int allocatedPreallocationSize(Accessor accessor, AbstractSession writeSession, String seqName, AdaptiveSize adaptiveSize) {
+        if (this.delegateSequence != null) {
+            // Table sequencing passes the size on each allocation.
+            return adaptiveSize.size;
+        }
+        if (!(getDatasourcePlatform() instanceof DatabasePlatform)) {
+            return getPreallocationSize();
+        }
+        DatabasePlatform platform = (DatabasePlatform)getDatasourcePlatform();
+        String qualifiedSeqName = getQualified(seqName);
+        int increment = readIncrement(platform, qualifiedSeqName, accessor, writeSession);
+        if (increment <= 0) {
+            // The sequence object was not found in the catalog.
+            return getPreallocationSize();
+        }
+        // The accessor is only given for the sequencing connection, the write session may be in a transaction.
+        if ((adaptiveSize.size > increment) && this.shouldAlterIncrement && (accessor != null) && platform.isAlterSequenceObjectSupported()) {
+            StringWriter writer = new StringWriter();
+            try {
+                platform.buildSequenceObjectAlterIncrementWriter(writer, qualifiedSeqName, adaptiveSize.size);
+            } catch (IOException exception) {
+                throw ValidationException.fileError(exception);
+            }
+            DataModifyQuery query = new DataModifyQuery(new SQLCall(writer.toString()));
+            query.setAccessor(accessor);
+            writeSession.executeQuery(query);
+            // Only use the increment read after the ALTER, the statement may not have been applied.
+            int alteredIncrement = readIncrement(platform, qualifiedSeqName, accessor, writeSession);
+            if (alteredIncrement > 0) {
+                increment = alteredIncrement;
+            }
+        }
+        return Math.min(adaptiveSize.size, increment);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the "increment by" of the SEQUENCE object read from the database, or 0 if it cannot be read.
+     */
+    protected int readIncrement(DatabasePlatform platform, String qualifiedSeqName, Accessor accessor, AbstractSession writeSession) {
+        ValueReadQuery incrementQuery = platform.buildSelectQueryForSequenceObjectIncrement(qualifiedSeqName);
+        if (incrementQuery == null) {
+            return 0;
+        }
+        if (accessor != null) {
+            incrementQuery.setAccessor(accessor);
+        }
+        Object value = writeSession.executeQuery(incrementQuery);
+        if (!(value instanceof Number)) {
+            return 0;
+        }
+        return ((Number)value).intValue();
+    }
+
     /**
      * INTERNAL:
      */
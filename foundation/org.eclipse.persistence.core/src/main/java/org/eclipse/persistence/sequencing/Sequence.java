@@ -17,6 +17,7 @@
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
 import org.eclipse.persistence.internal.databaseaccess.Platform;
+import org.eclipse.persistence.internal.sequencing.SequenceRange;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 
 import java.io.Serializable;
@@ -206,6 +207,16 @@ public boolean shouldUsePreallocation() {
      */
     public abstract boolean shouldUseTransaction();
 
+    /**
+     * INTERNAL:
+     * Indicates whether the values should be allocated with the sequencing connection, if a separate
+     * connection is used, although no transaction is required.
+     * In default implementation, it is false, it is true for native sequencing altering its increment.
+     */
+    public boolean shouldUseSequencingConnection() {
+        return false;
+    }
+
     /**
      * INTERNAL:
      * Return the newly-generated sequencing value.
@@ -269,6 +280,39 @@ public Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSess
         return getGeneratedVector(accessor, writeSession, getName(), getPreallocationSize());
     }
 
+    /**
+     * INTERNAL:
+     * Indicates whether the preallocated values are consecutive numbers,
+     * they are then allocated as a range instead of a Vector.
+     * Sequences overriding getGeneratedVector should return false.
+     */
+    public boolean shouldUseRangeAllocation() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the range of newly-generated sequencing values.
+     * Used only in case preallocation is used and shouldUseRangeAllocation() returns true,
+     * the accessor may be null as for getGeneratedVector.
+     * @param accessor Accessor is a separate sequencing accessor (may be null);
+     * @param writeSession Session is a Session used for writing (either ClientSession or DatabaseSession);
+     * @param seqName String is sequencing number field name
+     * @param size int number of values to preallocate.
+     */
+    public SequenceRange getGeneratedRange(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the range of newly-generated sequencing values.
+     * @see #getGeneratedRange(Accessor, AbstractSession, String, int)
+     */
+    public SequenceRange getGeneratedRange(Accessor accessor, AbstractSession writeSession) {
+        return getGeneratedRange(accessor, writeSession, getName(), getPreallocationSize());
+    }
+
     /**
      * INTERNAL:
      * This method is called when Sequencing object is created.
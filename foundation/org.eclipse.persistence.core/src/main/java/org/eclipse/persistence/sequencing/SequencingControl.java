@@ -102,6 +102,23 @@ public interface SequencingControl {
      */
     boolean isConnectedUsingSeparateConnection();
 
+    /**
+     * PUBLIC:
+     * Indicate whether the next range of sequence values is preallocated by another thread
+     * once half of the current range was used (by default it is).
+     * Only the sequences with consecutive values, such as table and native sequences, are preallocated as ranges,
+     * and the next range is only prefetched if it is allocated with a separate or pooled connection.
+     */
+    boolean shouldPrefetchPreallocation();
+
+    /**
+     * PUBLIC:
+     * Set whether the next range of sequence values is preallocated by another thread
+     * once half of the current range was used, so inserts do not wait for the allocation.
+     * The change takes effect immediately.
+     */
+    void setShouldPrefetchPreallocation(boolean shouldPrefetchPreallocation);
+
     /**
      * ADVANCED:
      * Return a DatabaseLogin to be used by separate sequencing connection(s).
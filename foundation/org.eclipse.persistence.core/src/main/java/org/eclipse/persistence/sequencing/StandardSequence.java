@@ -19,9 +19,13 @@
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sequencing.SequenceRange;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -29,6 +33,35 @@
  * </p>
  */
 public abstract class StandardSequence extends Sequence {
+    /** Cache of shouldUseRangeAllocation(), computed from the methods overridden by the class. */
+    protected transient Boolean shouldUseRangeAllocation;
+
+    /** Bounds of the preallocation size in adaptive mode, the size is fixed if the maximum is 0. */
+    protected int minPreallocationSize;
+    protected int maxPreallocationSize;
+
+    /** The milliseconds a block of preallocated values should last in adaptive mode. */
+    protected long targetAllocationInterval = 1000;
+
+    /** Allocation statistics of each sequence name in adaptive mode, a default sequence is used for several names. */
+    protected transient Map<String, AdaptiveSize> adaptiveSizes;
+
+    /**
+     * INTERNAL:
+     * The preallocation size of a sequence name in adaptive mode, and when it was last allocated.
+     */
+    protected static class AdaptiveSize {
+        protected int size;
+        protected long lastAllocationTime;
+        /** The size the database allocates, only used by sequences that must be altered to change it. */
+        protected int allocatedSize;
+
+        protected AdaptiveSize(int size) {
+            this.size = size;
+            this.allocatedSize = size;
+        }
+    }
+
     protected StandardSequence() {
         super();
     }
@@ -52,7 +85,7 @@ public void onConnect() {
 
     @Override
     public void onDisconnect() {
-        // does nothing
+        this.adaptiveSizes = null;
     }
 
     protected abstract Number updateAndSelectSequence(Accessor accessor, AbstractSession writeSession, String seqName, int size);
@@ -79,6 +112,7 @@ public Object getGeneratedValue(Accessor accessor, AbstractSession writeSession,
     @Override
     public Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
         if (shouldUsePreallocation()) {
+            size = adaptPreallocationSize(accessor, writeSession, seqName, size);
             Number value = updateAndSelectSequence(accessor, writeSession, seqName, size);
             if (value == null) {
                 throw DatabaseException.errorPreallocatingSequenceNumbers();
@@ -92,6 +126,183 @@ public Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSess
         }
     }
 
+    /**
+     * INTERNAL:
+     * The preallocated values are consecutive numbers, unless a subclass builds its own values.
+     */
+    @Override
+    public boolean shouldUseRangeAllocation() {
+        Boolean shouldUseRangeAllocation = this.shouldUseRangeAllocation;
+        if (shouldUseRangeAllocation == null) {
+            shouldUseRangeAllocation = Boolean.TRUE;
+            for (Class<?> javaClass = getClass(); javaClass != StandardSequence.class; javaClass = javaClass.getSuperclass()) {
+                for (Method method : javaClass.getDeclaredMethods()) {
+                    String name = method.getName();
+                    if (name.equals("getGeneratedVector") || name.equals("createVector") || name.equals("createVectorAtNextVal")) {
+                        shouldUseRangeAllocation = Boolean.FALSE;
+                    }
+                }
+            }
+            this.shouldUseRangeAllocation = shouldUseRangeAllocation;
+        }
+        return shouldUseRangeAllocation;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the range of the values allocated, as getGeneratedVector without building the values.
+     */
+    @Override
+    public SequenceRange getGeneratedRange(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+        if (!shouldUsePreallocation()) {
+            return null;
+        }
+        size = adaptPreallocationSize(accessor, writeSession, seqName, size);
+        Number value = updateAndSelectSequence(accessor, writeSession, seqName, size);
+        if (value == null) {
+            throw DatabaseException.errorPreallocatingSequenceNumbers();
+        }
+        long first = value.longValue();
+        if (!writeSession.getPlatform().getDefaultSeqenceAtNextValue()) {
+            first = first - size + 1;
+        }
+        // Check for incorrect values return to validate that the sequence is setup correctly.
+        if (first < 0L) {
+            throw ValidationException.sequenceSetupIncorrectly(seqName);
+        }
+        return new SequenceRange(first, first + size - 1);
+    }
+
+    /**
+     * PUBLIC:
+     * Adapt the preallocation size to the rate values are allocated, within the bounds.
+     * The size is doubled if a block of values lasted less than half the target allocation interval,
+     * and halved if it lasted more than twice the interval, the preallocation size is the initial size.
+     * A high rate then requires less round trips to the database,
+     * and a low rate does not waste values if the application is restarted.
+     * @see #setTargetAllocationInterval(long)
+     */
+    public void useAdaptivePreallocationSize(int minPreallocationSize, int maxPreallocationSize) {
+        if ((minPreallocationSize < 1) || (maxPreallocationSize < minPreallocationSize)) {
+            throw new IllegalArgumentException("minPreallocationSize=" + minPreallocationSize + ", maxPreallocationSize=" + maxPreallocationSize);
+        }
+        this.minPreallocationSize = minPreallocationSize;
+        this.maxPreallocationSize = maxPreallocationSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the preallocation size adapts to the rate values are allocated.
+     */
+    public boolean isAdaptivePreallocationSize() {
+        return this.maxPreallocationSize > 0;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the minimum preallocation size in adaptive mode.
+     */
+    public int getMinPreallocationSize() {
+        return minPreallocationSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum preallocation size in adaptive mode, 0 if the size is fixed.
+     */
+    public int getMaxPreallocationSize() {
+        return maxPreallocationSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds a block of preallocated values should last in adaptive mode.
+     */
+    public long getTargetAllocationInterval() {
+        return targetAllocationInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds a block of preallocated values should last in adaptive mode, by default 1 second.
+     */
+    public void setTargetAllocationInterval(long targetAllocationInterval) {
+        this.targetAllocationInterval = targetAllocationInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the size of the last block of values allocated for the sequence name,
+     * or the size of the first block if none was allocated yet.
+     */
+    public int getCurrentPreallocationSize(String seqName) {
+        Map<String, AdaptiveSize> adaptiveSizes = this.adaptiveSizes;
+        AdaptiveSize adaptiveSize = (adaptiveSizes == null) ? null : adaptiveSizes.get(seqName);
+        if (adaptiveSize == null) {
+            return isAdaptivePreallocationSize() ? boundPreallocationSize(getPreallocationSize()) : getPreallocationSize();
+        }
+        synchronized (adaptiveSize) {
+            return adaptiveSize.allocatedSize;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the adaptive statistics of the sequence name.
+     */
+    protected AdaptiveSize getAdaptiveSize(String seqName, int size) {
+        Map<String, AdaptiveSize> adaptiveSizes = this.adaptiveSizes;
+        if (adaptiveSizes == null) {
+            synchronized (this) {
+                adaptiveSizes = this.adaptiveSizes;
+                if (adaptiveSizes == null) {
+                    adaptiveSizes = new ConcurrentHashMap<>();
+                    this.adaptiveSizes = adaptiveSizes;
+                }
+            }
+        }
+        return adaptiveSizes.computeIfAbsent(seqName, name -> new AdaptiveSize(boundPreallocationSize(size)));
+    }
+
+    protected int boundPreallocationSize(int size) {
+        return Math.max(this.minPreallocationSize, Math.min(this.maxPreallocationSize, size));
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of values to allocate, in adaptive mode computed from the time since the previous allocation.
+     * Called before each allocation, the caller holds the sequence lock.
+     */
+    protected int adaptPreallocationSize(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+        if (!isAdaptivePreallocationSize()) {
+            return size;
+        }
+        AdaptiveSize adaptiveSize = getAdaptiveSize(seqName, size);
+        synchronized (adaptiveSize) {
+            long now = System.currentTimeMillis();
+            if (adaptiveSize.lastAllocationTime != 0) {
+                long elapsed = now - adaptiveSize.lastAllocationTime;
+                if (elapsed < this.targetAllocationInterval / 2) {
+                    adaptiveSize.size = boundPreallocationSize(adaptiveSize.size * 2);
+                } else if (elapsed > this.targetAllocationInterval * 2) {
+                    adaptiveSize.size = boundPreallocationSize(adaptiveSize.size / 2);
+                }
+            }
+            adaptiveSize.lastAllocationTime = now;
+            adaptiveSize.allocatedSize = allocatedPreallocationSize(accessor, writeSession, seqName, adaptiveSize);
+            return adaptiveSize.allocatedSize;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of values the database will allocate for the adapted size.
+     * The size is passed to the database on each allocation, so it can always be used.
+     */
+    protected int allocatedPreallocationSize(Accessor accessor, AbstractSession writeSession, String seqName, AdaptiveSize adaptiveSize) {
+        return adaptiveSize.size;
+    }
+
     /**
      * INTERNAL:
      * given sequence = 10, size = 5 will create Vector (6,7,8,9,10)
@@ -41,6 +41,9 @@
 import org.eclipse.persistence.sessions.DatabaseLogin;
 import org.eclipse.persistence.sessions.DefaultConnector;
 import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.coordination.CommandManager;
+import org.eclipse.persistence.sessions.coordination.CommandMetrics;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
 import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
@@ -918,6 +921,172 @@ public Long getTimeConnectionEstablished() {
          return ((DatabaseSessionImpl) getSession()).getConnectedTime();
      }
 
+     /**
+      * This method will return the number of cache coordination messages sent, a batch of commands is one message,
+      * or null if the session does not use cache coordination.
+      */
+     public Long getCacheCoordinationMessagesSent() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getMessagesSent();
+     }
+
+     /**
+      * This method will return the number of cache coordination messages received, a batch of commands is one message,
+      * or null if the session does not use cache coordination.
+      */
+     public Long getCacheCoordinationMessagesReceived() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getMessagesReceived();
+     }
+
+     /**
+      * This method will return the average number of cache coordination messages sent per second,
+      * or null if the session does not use cache coordination.
+      */
+     public Double getCacheCoordinationMessagesSentPerSecond() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getMessagesSentPerSecond();
+     }
+
+     /**
+      * This method will return the average number of cache coordination messages received per second,
+      * or null if the session does not use cache coordination.
+      */
+     public Double getCacheCoordinationMessagesReceivedPerSecond() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getMessagesReceivedPerSecond();
+     }
+
+     /**
+      * This method will return the total bytes of the serialized cache coordination messages sent,
+      * or null if the session does not use cache coordination.
+      */
+     public Long getCacheCoordinationBytesSent() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getBytesSent();
+     }
+
+     /**
+      * This method will return the total bytes of the serialized cache coordination messages received,
+      * or null if the session does not use cache coordination.
+      */
+     public Long getCacheCoordinationBytesReceived() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getBytesReceived();
+     }
+
+     /**
+      * This method will return the average nanoseconds spent serializing a cache coordination message,
+      * or null if the session does not use cache coordination.
+      */
+     public Long getCacheCoordinationAverageSerializationTime() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getAverageSerializationTime();
+     }
+
+     /**
+      * This method will return the number of times a cache coordination message could not be sent to a remote service,
+      * or null if the session does not use cache coordination.
+      */
+     public Long getCacheCoordinationFailedConnections() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getFailedConnections();
+     }
+
+     /**
+      * This method will return the milliseconds from the commit on the remote service to the merge of the last change received,
+      * or null if the session does not use cache coordination.
+      */
+     public Long getCacheCoordinationLag() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getLastPropagationLag();
+     }
+
+     /**
+      * This method will return the maximum milliseconds from the commit on the remote service to the merge of a change received,
+      * or null if the session does not use cache coordination.
+      */
+     public Long getCacheCoordinationMaxLag() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getMaxPropagationLag();
+     }
+
+     /**
+      * This method will return the average milliseconds from the commit on the remote service to the merge of a change received,
+      * or null if the session does not use cache coordination.
+      */
+     public Long getCacheCoordinationAverageLag() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics == null) {
+             return null;
+         }
+         return metrics.getAveragePropagationLag();
+     }
+
+     /**
+      * This method will return the number of cache coordination commands waiting to be sent,
+      * or null if the session does not use cache coordination.
+      */
+     public Integer getCacheCoordinationQueueDepth() {
+         CommandManager commandManager = getSession().getCommandManager();
+         if (!(commandManager instanceof RemoteCommandManager)) {
+             return null;
+         }
+         return ((RemoteCommandManager)commandManager).getQueueDepth();
+     }
+
+     /**
+      * This method is used to clear the cache coordination statistics, the rates are then computed from now.
+      */
+     public void resetCacheCoordinationMetrics() {
+         CommandMetrics metrics = getCacheCoordinationMetrics();
+         if (metrics != null) {
+             metrics.reset();
+         }
+     }
+
+     /**
+      * INTERNAL:
+      * Return the cache coordination statistics, null if the session does not use cache coordination.
+      */
+     protected CommandMetrics getCacheCoordinationMetrics() {
+         CommandManager commandManager = getSession().getCommandManager();
+         if (!(commandManager instanceof RemoteCommandManager)) {
+             return null;
+         }
+         return ((RemoteCommandManager)commandManager).getMetrics();
+     }
+
      /**
        *        This method will return if batchWriting is in use or not.
        */
@@ -501,4 +501,69 @@ public interface MBeanRuntimeServicesMBean {
     */
     void invalidateIdentityMap(String className, Boolean recurse) throws ClassNotFoundException;
 
+    /**
+    *    This method will return the number of cache coordination messages sent, null without cache coordination
+    */
+    Long getCacheCoordinationMessagesSent();
+
+    /**
+    *    This method will return the number of cache coordination messages received, null without cache coordination
+    */
+    Long getCacheCoordinationMessagesReceived();
+
+    /**
+    *    This method will return the average number of cache coordination messages sent per second, null without cache coordination
+    */
+    Double getCacheCoordinationMessagesSentPerSecond();
+
+    /**
+    *    This method will return the average number of cache coordination messages received per second, null without cache coordination
+    */
+    Double getCacheCoordinationMessagesReceivedPerSecond();
+
+    /**
+    *    This method will return the total bytes of the serialized cache coordination messages sent, null without cache coordination
+    */
+    Long getCacheCoordinationBytesSent();
+
+    /**
+    *    This method will return the total bytes of the serialized cache coordination messages received, null without cache coordination
+    */
+    Long getCacheCoordinationBytesReceived();
+
+    /**
+    *    This method will return the average nanoseconds spent serializing a cache coordination message, null without cache coordination
+    */
+    Long getCacheCoordinationAverageSerializationTime();
+
+    /**
+    *    This method will return the number of times a cache coordination message could not be sent, null without cache coordination
+    */
+    Long getCacheCoordinationFailedConnections();
+
+    /**
+    *    This method will return the milliseconds from the remote commit to the merge of the last change received, null without cache coordination
+    */
+    Long getCacheCoordinationLag();
+
+    /**
+    *    This method will return the maximum milliseconds from the remote commit to the merge of a change received, null without cache coordination
+    */
+    Long getCacheCoordinationMaxLag();
+
+    /**
+    *    This method will return the average milliseconds from the remote commit to the merge of a change received, null without cache coordination
+    */
+    Long getCacheCoordinationAverageLag();
+
+    /**
+    *    This method will return the number of cache coordination commands waiting to be sent, null without cache coordination
+    */
+    Integer getCacheCoordinationQueueDepth();
+
+    /**
+    *    This method is used to clear the cache coordination statistics
+    */
+    void resetCacheCoordinationMetrics();
+
 }
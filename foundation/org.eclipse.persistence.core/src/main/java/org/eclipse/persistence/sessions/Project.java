@@ -158,6 +158,18 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
     /** Flag that allows transform named stored procedure parameters into positional/index based */
     protected boolean namingIntoIndexed = false;
 
+    /** PERF: Flag that enables generated attribute accessors instead of reflection for non-weaved attributes. */
+    protected boolean shouldGenerateAttributeAccessors = false;
+
+    /** PERF: Flag that enables generated instantiation and cloning of direct attributes instead of reflection. */
+    protected boolean shouldGenerateObjectCloners = false;
+
+    /** PERF: Flag that enables the descriptors of independent inheritance hierarchies to be initialized on multiple threads. */
+    protected boolean shouldInitializeDescriptorsInParallel = false;
+
+    /** PERF: Flag that defers the initialization of each descriptor to its first use. */
+    protected boolean shouldInitializeDescriptorsLazily = false;
+
     /** Flag that allows extended logging of JPA L2 cache or not. */
     protected boolean allowExtendedCacheLogging = false;
 
@@ -854,6 +866,14 @@ public SQLResultSetMapping getSQLResultSetMapping(String sqlResultSetMapping){
         return this.sqlResultSetMappings.get(sqlResultSetMapping);
     }
 
+    /**
+     * INTERNAL:
+     * Return the SQLResultSetMappings of this project keyed by name, or null if there are none.
+     */
+    public Map<String, SQLResultSetMapping> getSQLResultSetMappings() {
+        return this.sqlResultSetMappings;
+    }
+
     /**
      * INTERNAL:
      * Returns structure converter class names that would be set on the databasePlatform instance
@@ -1421,6 +1441,84 @@ public void setNamingIntoIndexed(boolean namingIntoIndexed) {
         this.namingIntoIndexed = namingIntoIndexed;
     }
 
+    /**
+     * PUBLIC:
+     * Set whether attributes accessed through instance variables or get/set methods (not weaved)
+     * should be accessed through generated accessor classes instead of reflection.
+     * Attributes for which an accessor can't be generated keep using reflection.
+     * Default is false.
+     */
+    public void setShouldGenerateAttributeAccessors(boolean shouldGenerateAttributeAccessors) {
+        this.shouldGenerateAttributeAccessors = shouldGenerateAttributeAccessors;
+    }
+
+    /**
+     * PUBLIC:
+     * Return true if generated accessor classes are used instead of reflection for non-weaved attributes.
+     */
+    public boolean shouldGenerateAttributeAccessors() {
+        return this.shouldGenerateAttributeAccessors;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether a cloner class should be generated for each descriptor.
+     * The cloner builds new instances through the default constructor and copies the immutable direct attributes
+     * when building working copies and backup clones, instead of using reflection and the mappings.
+     * Descriptors for which a cloner can't be generated keep using reflection.
+     * Default is false.
+     */
+    public void setShouldGenerateObjectCloners(boolean shouldGenerateObjectCloners) {
+        this.shouldGenerateObjectCloners = shouldGenerateObjectCloners;
+    }
+
+    /**
+     * PUBLIC:
+     * Return true if generated cloner classes are used to instantiate and clone objects.
+     */
+    public boolean shouldGenerateObjectCloners() {
+        return this.shouldGenerateObjectCloners;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether the descriptors should be initialized on multiple threads when the session logs in.
+     * The descriptors are pre-initialized in order, then the initialize and post-initialize phases are each run
+     * in parallel for the independent inheritance hierarchies, the descriptors of a hierarchy are initialized by a single thread.
+     * Default is false.
+     */
+    public void setShouldInitializeDescriptorsInParallel(boolean shouldInitializeDescriptorsInParallel) {
+        this.shouldInitializeDescriptorsInParallel = shouldInitializeDescriptorsInParallel;
+    }
+
+    /**
+     * PUBLIC:
+     * Return true if the descriptors are initialized on multiple threads when the session logs in.
+     */
+    public boolean shouldInitializeDescriptorsInParallel() {
+        return this.shouldInitializeDescriptorsInParallel;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether the descriptors should be initialized on first use instead of when the session logs in.
+     * The descriptors are pre-initialized at login, a descriptor is then initialized with the descriptors it references
+     * the first time it is looked up by the session, such as by a query, a persist or the first execution of a named query.
+     * This reduces the login time and memory of large projects when the application only uses some of the classes.
+     * Default is false.
+     */
+    public void setShouldInitializeDescriptorsLazily(boolean shouldInitializeDescriptorsLazily) {
+        this.shouldInitializeDescriptorsLazily = shouldInitializeDescriptorsLazily;
+    }
+
+    /**
+     * PUBLIC:
+     * Return true if the descriptors are initialized on first use instead of when the session logs in.
+     */
+    public boolean shouldInitializeDescriptorsLazily() {
+        return this.shouldInitializeDescriptorsLazily;
+    }
+
     /**
      * INTERNAL:
      * Set whether extended logging of JPA L2 cache usage is allowed on this project.
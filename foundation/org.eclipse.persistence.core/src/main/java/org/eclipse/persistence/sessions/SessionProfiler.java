@@ -34,6 +34,10 @@ public interface SessionProfiler {
     String SessionName = "Info:SessionName";
     String LoginTime = "Info:LoginTime";
     String RcmStatus = "Info:CacheCoordinationStatus";
+    String RcmBytesSent = "Info:CacheCoordinationBytesSent";
+    String RcmBytesReceived = "Info:CacheCoordinationBytesReceived";
+    String RcmPropagationLag = "Info:CacheCoordinationLag";
+    String RcmQueueDepth = "Info:CacheCoordinationQueueDepth";
     String CacheSize = "Info:CacheSize";//TODO
 
     String ClientSessionCreated = "Counter:ClientSessionCreates";
@@ -46,6 +50,7 @@ public interface SessionProfiler {
     String RcmReceived = "Counter:MessagesReceived";
     String RcmSent = "Counter:MessagesSent";
     String RemoteChangeSet = "Counter:RemoteChangeSets";
+    String RcmConnectionFailed = "Counter:CacheCoordinationConnectionFailures";
     String Connects = "Counter:ConnectCalls";
     String Disconnects = "Counter:DisconnectCalls";
     String CacheHits = "Counter:CacheHits";
@@ -0,0 +1,461 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.coordination;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.PartitionedIdentityMap;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.coordination.CacheFetchCommand;
+import org.eclipse.persistence.internal.sessions.coordination.CacheFetchReplyCommand;
+import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Partition the shared cache of the descriptors using a {@link PartitionedIdentityMap}
+ * across the services of a RemoteCommandManager.
+ * </p><p>
+ * <b>Description</b>: Each object is owned by one service, chosen by consistent hashing of its class and primary key
+ * on a ring of the connected services, each service being placed several times on the ring to spread the objects evenly.
+ * The owner keeps the object in its cache, the other services only keep the most recently used in a near cache.
+ * When an object missing from the cache of a service is read by primary key by a query fetching from the cache
+ * partition, its row is first fetched from the cache of the owner, over the connection to the owner,
+ * and the database is only queried if the owner does not have it or does not answer within the fetch timeout.
+ * The ring only changes the owner of the objects of the services joining or leaving the cluster,
+ * the partitioned identity maps then move the objects between their owned objects and their near cache.
+ * </p><p>
+ * Fetching is enabled per query, as each fetch blocks the reading thread for a round trip to the owner,
+ * and for up to the fetch timeout before the database is queried if the owner is slow or unavailable.
+ * It is worth it for objects expensive to build from the database, or to spare a loaded database.
+ * </p><p>
+ * The ring is built from the connections of the transport, so it requires a point to point transport such as RMI.
+ * With a broadcast transport, such as JMS or JGroups, there is no connection per service, every object is owned
+ * by every service and the cache is fully replicated as without a cache partition manager.
+ * </p>
+ * @see RemoteCommandManager#setCachePartitionManager(CachePartitionManager)
+ * @see ClassDescriptor#usePartitionedIdentityMap()
+ */
+public class CachePartitionManager {
+
+    /** Default number of points of each service on the ring. */
+    public static final int DEFAULT_VIRTUAL_NODE_COUNT = 100;
+
+    /** Default milliseconds to wait for the owner of an object. */
+    public static final long DEFAULT_FETCH_TIMEOUT = 100;
+
+    protected RemoteCommandManager rcm;
+
+    protected int virtualNodeCount = DEFAULT_VIRTUAL_NODE_COUNT;
+
+    protected long fetchTimeout = DEFAULT_FETCH_TIMEOUT;
+
+    /** The ring, rebuilt when the services change. */
+    protected volatile Ring ring;
+
+    /** Incremented each time the ring is rebuilt, the owner of objects may have changed. */
+    protected volatile int membershipVersion;
+
+    /** Fetch requests waiting for the reply of the owner, by request id. */
+    protected final Map<Long, CompletableFuture<AbstractRecord>> pendingFetches = new ConcurrentHashMap<>();
+
+    protected final AtomicLong requestIdCounter = new AtomicLong();
+
+    protected final LongAdder fetchCount = new LongAdder();
+
+    protected final LongAdder fetchHitCount = new LongAdder();
+
+    /**
+     * Sorted points of the services on the ring, and the id of the service of each point.
+     */
+    protected static class Ring {
+        protected final Set<String> members;
+        protected final int[] points;
+        protected final String[] owners;
+
+        protected Ring(Set<String> members, int virtualNodeCount) {
+            this.members = members;
+            String[] sortedMembers = members.toArray(new String[members.size()]);
+            Arrays.sort(sortedMembers);
+            long[] entries = new long[sortedMembers.length * virtualNodeCount];
+            int index = 0;
+            for (int memberIndex = 0; memberIndex < sortedMembers.length; memberIndex++) {
+                for (int node = 0; node < virtualNodeCount; node++) {
+                    int point = mix((sortedMembers[memberIndex] + '#' + node).hashCode());
+                    // Sort the points with their member, collisions are ordered by member.
+                    entries[index++] = ((long)point << 32) | memberIndex;
+                }
+            }
+            Arrays.sort(entries);
+            this.points = new int[entries.length];
+            this.owners = new String[entries.length];
+            for (index = 0; index < entries.length; index++) {
+                this.points[index] = (int)(entries[index] >> 32);
+                this.owners[index] = sortedMembers[(int)entries[index]];
+            }
+        }
+
+        /**
+         * Return the member of the first point from the hash, clockwise.
+         */
+        protected String getOwner(int hash) {
+            int index = Arrays.binarySearch(this.points, hash);
+            if (index < 0) {
+                index = -index - 1;
+                if (index == this.points.length) {
+                    index = 0;
+                }
+            }
+            return this.owners[index];
+        }
+    }
+
+    public CachePartitionManager() {
+    }
+
+    public CachePartitionManager(RemoteCommandManager rcm) {
+        this();
+        rcm.setCachePartitionManager(this);
+    }
+
+    /**
+     * Spread the bits of the hash, String and primary key hashes are not well distributed.
+     */
+    protected static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the hash of the object on the ring, the same on each service.
+     * The primary key values are hashed in a canonical form, as the hash code of some values,
+     * such as arrays or enums, and of the CacheId of composite primary keys is not the same on each JVM.
+     */
+    public int hash(ClassDescriptor descriptor, Object primaryKey) {
+        ClassDescriptor rootDescriptor = descriptor.getRootDescriptor();
+        return mix(rootDescriptor.getJavaClass().getName().hashCode() * 31 + hashValue(primaryKey));
+    }
+
+    /**
+     * INTERNAL:
+     * Return a hash of the primary key value computed from its content, the same on each JVM.
+     * The numbers of integral types have the hash of their long value, other values
+     * without a content based hash code are hashed from their string form.
+     */
+    protected static int hashValue(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CacheId) {
+            return hashValue(((CacheId)value).getPrimaryKey());
+        }
+        if (value instanceof Object[]) {
+            int hash = 1;
+            for (Object element : (Object[])value) {
+                hash = 31 * hash + hashValue(element);
+            }
+            return hash;
+        }
+        if (value instanceof byte[]) {
+            return Arrays.hashCode((byte[])value);
+        }
+        if (value instanceof char[]) {
+            return Arrays.hashCode((char[])value);
+        }
+        if ((value instanceof Long) || (value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+            return Long.hashCode(((Number)value).longValue());
+        }
+        if ((value instanceof String) || (value instanceof Number) || (value instanceof Character) || (value instanceof Boolean)
+                || (value instanceof java.util.Date) || (value instanceof java.time.temporal.TemporalAccessor) || (value instanceof UUID)) {
+            return value.hashCode();
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>)value).name().hashCode();
+        }
+        return value.toString().hashCode();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the ring of the current services, rebuilt if services joined or left.
+     */
+    protected Ring getRing() {
+        Ring ring = this.ring;
+        String localId = this.rcm.getServiceId().getId();
+        Map<String, RemoteConnection> connections = null;
+        if (this.rcm.getTransportManager() != null) {
+            connections = this.rcm.getTransportManager().getConnectionsToExternalServices();
+        }
+        if (connections == null) {
+            if ((ring == null) || (ring.members.size() != 1) || !ring.members.contains(localId)) {
+                Set<String> members = new HashSet<>();
+                members.add(localId);
+                ring = new Ring(members, this.virtualNodeCount);
+                this.ring = ring;
+                this.membershipVersion++;
+            }
+            return ring;
+        }
+        // The connections are changed by the transport, so they are checked on each access.
+        synchronized (connections) {
+            if ((ring != null) && ring.members.contains(localId)
+                    && (ring.members.size() == connections.size() + (connections.containsKey(localId) ? 0 : 1))
+                    && ring.members.containsAll(connections.keySet())) {
+                return ring;
+            }
+            Set<String> members = new HashSet<>(connections.keySet());
+            members.add(localId);
+            ring = new Ring(members, this.virtualNodeCount);
+        }
+        this.ring = ring;
+        this.membershipVersion++;
+        return ring;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the version of the ring, incremented each time it is rebuilt as services joined or left.
+     * The partitioned identity maps re-evaluate the ownership of their objects when it changed.
+     */
+    public int getMembershipVersion() {
+        return this.membershipVersion;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the id of the service owning the object.
+     */
+    public String getOwner(ClassDescriptor descriptor, Object primaryKey) {
+        return getRing().getOwner(hash(descriptor, primaryKey));
+    }
+
+    /**
+     * PUBLIC:
+     * Return if this service owns the object.
+     */
+    public boolean isOwner(ClassDescriptor descriptor, Object primaryKey) {
+        return this.rcm.getServiceId().getId().equals(getOwner(descriptor, primaryKey));
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the descriptor's shared cache is partitioned.
+     */
+    public boolean isPartitioned(ClassDescriptor descriptor) {
+        Class<?> identityMapClass = descriptor.getIdentityMapClass();
+        return (identityMapClass != null) && ClassConstants.PartitionedIdentityMap_Class.isAssignableFrom(identityMapClass);
+    }
+
+    /**
+     * INTERNAL:
+     * Fetch the row of the object from the cache of its owner.
+     * Return null if the owner does not have the object, does not answer within the fetch timeout,
+     * or is this service, the object must then be read from the database.
+     */
+    public AbstractRecord fetchRow(ClassDescriptor descriptor, Object primaryKey, AbstractSession session) {
+        String owner = getOwner(descriptor, primaryKey);
+        if (owner.equals(this.rcm.getServiceId().getId())) {
+            return null;
+        }
+        RemoteConnection connection = this.rcm.getTransportManager().getConnectionsToExternalServices().get(owner);
+        if (connection == null) {
+            return null;
+        }
+        this.fetchCount.increment();
+        CacheFetchCommand command = new CacheFetchCommand();
+        command.setRequestId(this.requestIdCounter.incrementAndGet());
+        command.setClassName(descriptor.getJavaClass().getName());
+        command.setPrimaryKey(primaryKey);
+        CompletableFuture<AbstractRecord> reply = new CompletableFuture<>();
+        this.pendingFetches.put(command.getRequestId(), reply);
+        try {
+            send(command, connection, session);
+            AbstractRecord row = reply.get(this.fetchTimeout, TimeUnit.MILLISECONDS);
+            if (row != null) {
+                this.fetchHitCount.increment();
+            }
+            return row;
+        } catch (TimeoutException | ExecutionException exception) {
+            return null;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            this.pendingFetches.remove(command.getRequestId());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Send the command to the service of the connection only.
+     * Connection failures are handled as for any command, the fetch then times out.
+     */
+    protected void send(Command command, RemoteConnection connection, AbstractSession session) {
+        command.setServiceId(this.rcm.getServiceId());
+        command.setTimeStamp(System.currentTimeMillis());
+        Serializer serializer = this.rcm.getSerializer();
+        byte[] commandBytes = null;
+        if (serializer != null) {
+            commandBytes = (byte[])serializer.serialize(command, session);
+        }
+        new CommandPropagator(this.rcm, command, commandBytes).propagateCommand(connection);
+    }
+
+    /**
+     * INTERNAL:
+     * Answer the fetch request of another service with the row of the object in the cache of this service,
+     * or null if it is missing, invalid or partially fetched.
+     */
+    public void processFetch(CacheFetchCommand command) {
+        AbstractSession session = (AbstractSession)this.rcm.getCommandProcessor();
+        RemoteConnection connection = this.rcm.getTransportManager().getConnectionsToExternalServices().get(command.getServiceId().getId());
+        if (connection == null) {
+            return;
+        }
+        AbstractRecord row = null;
+        Class<?> javaClass = session.getDatasourcePlatform().getConversionManager().convertObject(command.getClassName(), ClassConstants.CLASS);
+        ClassDescriptor descriptor = session.getDescriptor(javaClass);
+        if (descriptor != null) {
+            CacheKey cacheKey = session.getIdentityMapAccessorInstance().getCacheKeyForObject(command.getPrimaryKey(), javaClass, descriptor, false);
+            if (cacheKey != null) {
+                Object object = cacheKey.getObject();
+                if ((object != null) && !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey)) {
+                    ClassDescriptor concreteDescriptor = descriptor;
+                    if (object.getClass() != javaClass) {
+                        concreteDescriptor = session.getDescriptor(object.getClass());
+                    }
+                    // Partially fetched objects are read from the database by the other service.
+                    if (!concreteDescriptor.hasFetchGroupManager() || !concreteDescriptor.getFetchGroupManager().isPartialObject(object)) {
+                        row = concreteDescriptor.getObjectBuilder().buildRow(object, session, WriteType.UNDEFINED);
+                        if (concreteDescriptor.usesVersionLocking()) {
+                            // The version may only be stored in the cache.
+                            DatabaseField versionField = ((VersionLockingPolicy)concreteDescriptor.getOptimisticLockingPolicy()).getWriteLockField();
+                            if (!row.containsKey(versionField)) {
+                                row.put(versionField, cacheKey.getWriteLockValue());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        CacheFetchReplyCommand reply = new CacheFetchReplyCommand();
+        reply.setRequestId(command.getRequestId());
+        reply.setRow(row);
+        send(reply, connection, session);
+    }
+
+    /**
+     * INTERNAL:
+     * Complete the fetch request the reply answers, ignored if it already timed out.
+     */
+    public void processReply(CacheFetchReplyCommand command) {
+        CompletableFuture<AbstractRecord> reply = this.pendingFetches.get(command.getRequestId());
+        if (reply != null) {
+            reply.complete(command.getRow());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Set the RemoteCommandManager the cache is partitioned across the services of.
+     */
+    public void setRemoteCommandManager(RemoteCommandManager rcm) {
+        this.rcm = rcm;
+        this.ring = null;
+        this.membershipVersion++;
+    }
+
+    public RemoteCommandManager getRemoteCommandManager() {
+        return rcm;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of points of each service on the ring, 100 by default.
+     */
+    public int getVirtualNodeCount() {
+        return virtualNodeCount;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of points of each service on the ring.
+     * More points spread the objects more evenly, it must be the same on every service.
+     */
+    public void setVirtualNodeCount(int virtualNodeCount) {
+        this.virtualNodeCount = virtualNodeCount;
+        this.ring = null;
+        this.membershipVersion++;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds to wait for the owner of an object before reading it from the database, 100 by default.
+     */
+    public long getFetchTimeout() {
+        return fetchTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds to wait for the owner of an object before reading it from the database.
+     * A read fetching from an owner that is slow or unavailable blocks for this time before the database is queried,
+     * it must stay well below the time of the database read.
+     */
+    public void setFetchTimeout(long fetchTimeout) {
+        this.fetchTimeout = fetchTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of rows fetched from the other services.
+     */
+    public long getFetchCount() {
+        return this.fetchCount.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of rows fetched from the other services that were in their cache.
+     */
+    public long getFetchHitCount() {
+        return this.fetchHitCount.sum();
+    }
+}
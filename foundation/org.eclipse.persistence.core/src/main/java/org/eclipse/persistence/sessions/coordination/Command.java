@@ -36,6 +36,9 @@ public abstract class Command implements java.io.Serializable {
     /** The unique calling card of the service that initiated the command */
     ServiceId serviceId;
 
+    /** The time the command was propagated by the service that initiated it, used to measure the propagation lag */
+    long timeStamp;
+
     /**
      * Default constructor.
      */
@@ -71,6 +74,23 @@ public void setServiceId(ServiceId newServiceId) {
         serviceId = newServiceId;
     }
 
+    /**
+     * INTERNAL:
+     * Return the time the command was propagated by the service where it originated,
+     * or 0 if it was not propagated by a RemoteCommandManager.
+     */
+    public long getTimeStamp() {
+        return timeStamp;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the time the command was propagated by the service where it originated.
+     */
+    public void setTimeStamp(long timeStamp) {
+        this.timeStamp = timeStamp;
+    }
+
     /**
      * INTERNAL:
      * Determine whether this command is public or internal to EclipseLink.
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.coordination;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Statistics of the cache coordination traffic of a RemoteCommandManager.
+ * </p><p>
+ * <b>Description</b>: Counts the messages sent and received, their serialized sizes, the time spent
+ * serializing them, the failed connections, and the propagation lag, the time from a command being
+ * propagated by the remote service to the end of its processing on this service.
+ * The rates are computed since the statistics were created or reset.
+ * The propagation lag compares the clocks of the two services, so it is only meaningful if the clocks are synchronized.
+ * </p>
+ * @see RemoteCommandManager#getMetrics()
+ */
+public class CommandMetrics implements CommandMetricsListener {
+
+    protected final LongAdder messagesSent = new LongAdder();
+    protected final LongAdder messagesReceived = new LongAdder();
+    protected final LongAdder commandsProcessed = new LongAdder();
+
+    /** Count and totals of the messages serialized by the RemoteCommandManager. */
+    protected final LongAdder serializedMessagesSent = new LongAdder();
+    protected final LongAdder bytesSent = new LongAdder();
+    protected final LongAdder serializationTime = new LongAdder();
+    protected final LongAdder serializedMessagesReceived = new LongAdder();
+    protected final LongAdder bytesReceived = new LongAdder();
+    protected final LongAdder deserializationTime = new LongAdder();
+
+    protected final LongAdder failedConnections = new LongAdder();
+
+    /** Propagation lag of the timestamped commands, in milliseconds. */
+    protected final LongAdder lagCount = new LongAdder();
+    protected final LongAdder totalLag = new LongAdder();
+    protected final AtomicLong maxLag = new AtomicLong();
+    protected volatile long lastLag;
+
+    /** Time the statistics were created or reset. */
+    protected volatile long startTime = System.currentTimeMillis();
+
+    public CommandMetrics() {
+    }
+
+    @Override
+    public void messageSent(Command command, int size, long serializationTime) {
+        this.messagesSent.increment();
+        if (size >= 0) {
+            this.serializedMessagesSent.increment();
+            this.bytesSent.add(size);
+            this.serializationTime.add(serializationTime);
+        }
+    }
+
+    @Override
+    public void messageReceived(Command command, int size, long deserializationTime) {
+        this.messagesReceived.increment();
+        if (size >= 0) {
+            this.serializedMessagesReceived.increment();
+            this.bytesReceived.add(size);
+            this.deserializationTime.add(deserializationTime);
+        }
+    }
+
+    @Override
+    public void commandProcessed(Command command, long propagationLag) {
+        this.commandsProcessed.increment();
+        if (propagationLag >= 0) {
+            this.lagCount.increment();
+            this.totalLag.add(propagationLag);
+            this.maxLag.accumulateAndGet(propagationLag, Math::max);
+            this.lastLag = propagationLag;
+        }
+    }
+
+    @Override
+    public void connectionFailed(ServiceId serviceId, Throwable exception) {
+        this.failedConnections.increment();
+    }
+
+    /**
+     * PUBLIC:
+     * Clear the statistics, the rates are then computed from now.
+     */
+    public void reset() {
+        this.messagesSent.reset();
+        this.messagesReceived.reset();
+        this.commandsProcessed.reset();
+        this.serializedMessagesSent.reset();
+        this.bytesSent.reset();
+        this.serializationTime.reset();
+        this.serializedMessagesReceived.reset();
+        this.bytesReceived.reset();
+        this.deserializationTime.reset();
+        this.failedConnections.reset();
+        this.lagCount.reset();
+        this.totalLag.reset();
+        this.maxLag.set(0);
+        this.lastLag = 0;
+        this.startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time the statistics were created or reset.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of messages sent, a batch of commands is one message.
+     */
+    public long getMessagesSent() {
+        return this.messagesSent.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of messages received, a batch of commands is one message.
+     */
+    public long getMessagesReceived() {
+        return this.messagesReceived.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of received commands processed.
+     */
+    public long getCommandsProcessed() {
+        return this.commandsProcessed.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the average number of messages sent per second.
+     */
+    public double getMessagesSentPerSecond() {
+        return perSecond(getMessagesSent());
+    }
+
+    /**
+     * PUBLIC:
+     * Return the average number of messages received per second.
+     */
+    public double getMessagesReceivedPerSecond() {
+        return perSecond(getMessagesReceived());
+    }
+
+    /**
+     * PUBLIC:
+     * Return the total bytes of the serialized messages sent.
+     */
+    public long getBytesSent() {
+        return this.bytesSent.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the total bytes of the serialized messages received.
+     */
+    public long getBytesReceived() {
+        return this.bytesReceived.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the average size in bytes of the serialized messages sent.
+     */
+    public long getAverageMessageSizeSent() {
+        return average(getBytesSent(), this.serializedMessagesSent.sum());
+    }
+
+    /**
+     * PUBLIC:
+     * Return the average size in bytes of the serialized messages received.
+     */
+    public long getAverageMessageSizeReceived() {
+        return average(getBytesReceived(), this.serializedMessagesReceived.sum());
+    }
+
+    /**
+     * PUBLIC:
+     * Return the average nanoseconds spent serializing a message sent.
+     */
+    public long getAverageSerializationTime() {
+        return average(this.serializationTime.sum(), this.serializedMessagesSent.sum());
+    }
+
+    /**
+     * PUBLIC:
+     * Return the average nanoseconds spent deserializing a message received.
+     */
+    public long getAverageDeserializationTime() {
+        return average(this.deserializationTime.sum(), this.serializedMessagesReceived.sum());
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of times a command could not be sent to a remote service.
+     */
+    public long getFailedConnections() {
+        return this.failedConnections.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the propagation lag in milliseconds of the last command processed.
+     */
+    public long getLastPropagationLag() {
+        return lastLag;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum propagation lag in milliseconds.
+     */
+    public long getMaxPropagationLag() {
+        return this.maxLag.get();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the average propagation lag in milliseconds.
+     */
+    public long getAveragePropagationLag() {
+        return average(this.totalLag.sum(), this.lagCount.sum());
+    }
+
+    protected double perSecond(long count) {
+        long elapsed = System.currentTimeMillis() - this.startTime;
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return count * 1000.0 / elapsed;
+    }
+
+    protected long average(long total, long count) {
+        if (count == 0) {
+            return 0;
+        }
+        return total / count;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(sent=" + getMessagesSent() + ", received=" + getMessagesReceived()
+                + ", bytesSent=" + getBytesSent() + ", bytesReceived=" + getBytesReceived()
+                + ", failedConnections=" + getFailedConnections() + ", lastLag=" + getLastPropagationLag()
+                + ", maxLag=" + getMaxPropagationLag() + ")";
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.coordination;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Allow the cache coordination traffic of a RemoteCommandManager
+ * to be reported to an external metrics system.
+ * </p><p>
+ * <b>Description</b>: The listener is notified on the sending and receiving threads,
+ * so implementations must be thread safe and should not block.
+ * The RemoteCommandManager always collects its own {@link CommandMetrics},
+ * a listener is only required to forward the metrics somewhere else.
+ * </p>
+ * @see RemoteCommandManager#setMetricsListener(CommandMetricsListener)
+ */
+public interface CommandMetricsListener {
+
+    /**
+     * A message was sent to the remote services, a batch of commands is one message.
+     * @param command the command sent.
+     * @param size the serialized size in bytes, or -1 if the command is not serialized by the RemoteCommandManager.
+     * @param serializationTime the nanoseconds spent serializing the command.
+     */
+    void messageSent(Command command, int size, long serializationTime);
+
+    /**
+     * A message was received from a remote service, a batch of commands is one message.
+     * @param command the command received.
+     * @param size the serialized size in bytes, or -1 if the command was not serialized by the RemoteCommandManager.
+     * @param deserializationTime the nanoseconds spent deserializing the command.
+     */
+    void messageReceived(Command command, int size, long deserializationTime);
+
+    /**
+     * A received command was processed, for a change set the changes were merged into the cache.
+     * @param command the command processed.
+     * @param propagationLag the milliseconds from the command being propagated by the remote service
+     * to the end of its processing, or -1 if the command was not timestamped.
+     */
+    void commandProcessed(Command command, long propagationLag);
+
+    /**
+     * A command could not be sent to a remote service.
+     * @param serviceId the remote service.
+     * @param exception the cause of the failure.
+     */
+    void connectionFailed(ServiceId serviceId, Throwable exception);
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.coordination;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.CachePolicy;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.MergeManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Provide a remote command implementation for the invalidation
+ * of objects using the {@link CachePolicy#INVALIDATE_STALE_OBJECTS} cache coordination type.
+ * </p><p>
+ * <b>Description</b>: Only the class name, primary key and new version of each changed object is sent.
+ * The receiving session invalidates its cached object if the cached version is older than the new version,
+ * objects already refreshed to the new version are kept.
+ * </p>
+ *
+ * @see MergeManager#mergeStaleObjectInvalidations(InvalidateStaleObjectsCommand)
+ */
+public class InvalidateStaleObjectsCommand extends Command {
+
+    private static final long serialVersionUID = 4377734117281367582L;
+
+    /** The distinct class names of the invalidated objects. */
+    protected transient List<String> classNames = new ArrayList<>();
+    protected transient Map<String, Integer> classIndexes;
+
+    /** The invalidated objects, the index of their class name, their primary key and new version. */
+    protected transient int size;
+    protected transient int[] classNameIndexes = new int[8];
+    protected transient Object[] primaryKeys = new Object[8];
+    protected transient Object[] writeLockValues = new Object[8];
+
+    /**
+     * INTERNAL:
+     * Add the object to invalidate, the version is null if the class does not use version locking.
+     */
+    public void addInvalidation(String className, Object primaryKey, Object writeLockValue) {
+        if (this.classIndexes == null) {
+            this.classIndexes = new HashMap<>();
+            for (int index = 0; index < this.classNames.size(); index++) {
+                this.classIndexes.put(this.classNames.get(index), index);
+            }
+        }
+        Integer classIndex = this.classIndexes.get(className);
+        if (classIndex == null) {
+            classIndex = this.classNames.size();
+            this.classNames.add(className);
+            this.classIndexes.put(className, classIndex);
+        }
+        if (this.size == this.primaryKeys.length) {
+            int capacity = this.size << 1;
+            this.classNameIndexes = Arrays.copyOf(this.classNameIndexes, capacity);
+            this.primaryKeys = Arrays.copyOf(this.primaryKeys, capacity);
+            this.writeLockValues = Arrays.copyOf(this.writeLockValues, capacity);
+        }
+        this.classNameIndexes[this.size] = classIndex;
+        this.primaryKeys[this.size] = primaryKey;
+        this.writeLockValues[this.size] = writeLockValue;
+        this.size++;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of objects to invalidate.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the distinct class names of the objects to invalidate.
+     */
+    public List<String> getClassNames() {
+        return this.classNames;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index in the class names of the class of the object to invalidate.
+     */
+    public int getClassNameIndex(int index) {
+        return this.classNameIndexes[index];
+    }
+
+    public String getClassName(int index) {
+        return this.classNames.get(this.classNameIndexes[index]);
+    }
+
+    public Object getPrimaryKey(int index) {
+        return this.primaryKeys[index];
+    }
+
+    public Object getWriteLockValue(int index) {
+        return this.writeLockValues[index];
+    }
+
+    /**
+     * INTERNAL:
+     * Invalidate the stale objects in the session's cache.
+     */
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        new MergeManager(session).mergeStaleObjectInvalidations(this);
+    }
+
+    /**
+     * Write the class names once and the invalidations as tuples.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(this.classNames.size());
+        for (String className : this.classNames) {
+            stream.writeUTF(className);
+        }
+        stream.writeInt(this.size);
+        for (int index = 0; index < this.size; index++) {
+            stream.writeInt(this.classNameIndexes[index]);
+            stream.writeObject(this.primaryKeys[index]);
+            stream.writeObject(this.writeLockValues[index]);
+        }
+    }
+
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int classCount = stream.readInt();
+        this.classNames = new ArrayList<>(classCount);
+        for (int index = 0; index < classCount; index++) {
+            this.classNames.add(stream.readUTF());
+        }
+        this.size = stream.readInt();
+        int capacity = Math.max(1, this.size);
+        this.classNameIndexes = new int[capacity];
+        this.primaryKeys = new Object[capacity];
+        this.writeLockValues = new Object[capacity];
+        for (int index = 0; index < this.size; index++) {
+            this.classNameIndexes[index] = stream.readInt();
+            this.primaryKeys[index] = stream.readObject();
+            this.writeLockValues[index] = stream.readObject();
+        }
+    }
+}
@@ -24,6 +24,8 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.BatchCommand;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatcher;
 import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
 import org.eclipse.persistence.internal.sessions.coordination.RCMCommand;
 import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
@@ -35,6 +37,7 @@
 import org.eclipse.persistence.sessions.serializers.Serializer;
 
 import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>
@@ -78,6 +81,7 @@
 public class RemoteCommandManager implements org.eclipse.persistence.sessions.coordination.CommandManager {
     public static final String DEFAULT_CHANNEL = "EclipseLinkCommandChannel";
     public static final boolean DEFAULT_ASYNCHRONOUS_MODE = true;
+    public static final int DEFAULT_MAX_COMMAND_BATCH_SIZE = 100;
 
     /** Uniquely identifies this service in the cluster */
     protected ServiceId serviceId;
@@ -106,6 +110,27 @@ public class RemoteCommandManager implements org.eclipse.persistence.sessions.co
     /** Set the Serializer to use for serialization of commands. */
     protected Serializer serializer;
 
+    /** Milliseconds commands are coalesced before being sent, 0 (default) sends each command on its own. */
+    protected long commandBatchingDelay;
+
+    /** Maximum number of commands coalesced into one message. */
+    protected int maxCommandBatchSize = DEFAULT_MAX_COMMAND_BATCH_SIZE;
+
+    /** Coalesces commands if a batching delay is set, created on initialize. */
+    protected CommandBatcher commandBatcher;
+
+    /** Statistics of the messages sent and received. */
+    protected CommandMetrics metrics = new CommandMetrics();
+
+    /** Optional listener the messages sent and received are also reported to. */
+    protected CommandMetricsListener metricsListener;
+
+    /** Number of commands being propagated asynchronously to a connection. */
+    protected final AtomicInteger pendingPropagationCount = new AtomicInteger();
+
+    /** Partitions the shared cache of the descriptors using a PartitionedIdentityMap across the services, optional. */
+    protected CachePartitionManager cachePartitionManager;
+
     //** Indicates whether RCM is active. In case there's discoveryManager it mirrors discoveryManager.isDiscoveryStopped()
     protected boolean isStopped = true;
 
@@ -166,6 +191,9 @@ public void initialize() {
         if (serializer != null) {
             serializer.initialize(UnitOfWorkChangeSet.class, null, (AbstractSession)getCommandProcessor());
         }
+        if (this.commandBatchingDelay > 0) {
+            this.commandBatcher = new CommandBatcher(this, this.commandBatchingDelay, this.maxCommandBatchSize);
+        }
     }
 
     /**
@@ -189,6 +217,12 @@ public void shutdown() {
         Object[] args = { this.getServiceId() };
         logDebug("stopping_rcm", args);
 
+        if (this.commandBatcher != null) {
+            // Send the pending commands while the connections are still available.
+            this.commandBatcher.flush();
+            this.commandBatcher = null;
+        }
+
         if(discoveryManager != null) {
             discoveryManager.stopDiscovery();
 
@@ -211,7 +245,6 @@ public void shutdown() {
     @Override
     public void propagateCommand(Object command) {
         Command newCommand;
-        CommandPropagator propagator;
 
         this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordination);
         try {
@@ -219,7 +252,6 @@ public void propagateCommand(Object command) {
                 // Use the converter if we have one
                 Object[] args = { command };
                 logDebug("converting_to_toplink_command", args);
-                this.commandProcessor.incrementProfile(SessionProfiler.RcmSent);
                 newCommand = this.commandConverter.convertToEclipseLinkCommand(command);
             } else if (command instanceof Command) {
                 // If converter is not set then maybe it just doesn't need converting
@@ -233,38 +265,72 @@ public void propagateCommand(Object command) {
 
             // Set our service id on the command to indicate that it came from us
             newCommand.setServiceId(getServiceId());
+            newCommand.setTimeStamp(System.currentTimeMillis());
+            this.commandProcessor.incrementProfile(SessionProfiler.RcmSent);
 
-            // PERF: Support plugable serialization.
-            Serializer serializer = getSerializer();
-            byte[] commandBytes = null;
-            if (serializer != null) {
-                this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
-                try {
-                    commandBytes = (byte[])serializer.serialize(command, (AbstractSession)getCommandProcessor());
-                } finally {
-                    this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
-                }
+            // PERF: Coalesce the commands propagated within the batching delay into one message.
+            CommandBatcher batcher = this.commandBatcher;
+            if ((batcher != null) && !newCommand.isInternalCommand() && !(newCommand instanceof RCMCommand)) {
+                batcher.add(newCommand);
+                return;
             }
+            propagate(newCommand, command);
+        } finally {
+            this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordination);
+        }
+    }
 
-            // Propagate the command (synchronously or asynchronously)
-            propagator = new CommandPropagator(this, newCommand, commandBytes);
-
-            if (shouldPropagateAsynchronously()) {
-                propagator.asynchronousPropagateCommand();
-            } else {
-                propagator.synchronousPropagateCommand();
-            }
+    /**
+     * INTERNAL:
+     * Serialize and send the command to the remote services,
+     * used to send the batches of commands coalesced by the command batcher.
+     */
+    public void sendCommand(Command command) {
+        this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordination);
+        try {
+            propagate(command, command);
         } finally {
             this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordination);
         }
     }
 
+    /**
+     * Serialize the command and propagate it (synchronously or asynchronously).
+     */
+    protected void propagate(Command newCommand, Object command) {
+        // PERF: Support plugable serialization.
+        Serializer serializer = getSerializer();
+        byte[] commandBytes = null;
+        long serializationTime = 0;
+        if (serializer != null) {
+            this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+            long start = System.nanoTime();
+            try {
+                commandBytes = (byte[])serializer.serialize(command, (AbstractSession)getCommandProcessor());
+            } finally {
+                this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+            }
+            serializationTime = System.nanoTime() - start;
+        }
+        messageSent(newCommand, (commandBytes == null) ? -1 : commandBytes.length, serializationTime);
+
+        // Propagate the command (synchronously or asynchronously)
+        CommandPropagator propagator = new CommandPropagator(this, newCommand, commandBytes);
+
+        if (shouldPropagateAsynchronously()) {
+            propagator.asynchronousPropagateCommand();
+        } else {
+            propagator.synchronousPropagateCommand();
+        }
+    }
+
     /**
      * INTERNAL:
      * Deserialize the command and execute it.
      */
     public void processCommandFromRemoteConnection(byte[] commandBytes) {
         this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordinationSerialize);
+        long start = System.nanoTime();
         Command command = null;
         try {
             Serializer serializer = getSerializer();
@@ -275,7 +341,8 @@ public void processCommandFromRemoteConnection(byte[] commandBytes) {
         } finally {
             this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordinationSerialize);
         }
-        processCommandFromRemoteConnection(command);
+        messageReceived(command, commandBytes.length, System.nanoTime() - start);
+        processReceivedCommand(command);
     }
 
     /**
@@ -283,6 +350,22 @@ public void processCommandFromRemoteConnection(byte[] commandBytes) {
      * Delegate to command processor
      */
     public void processCommandFromRemoteConnection(Command command) {
+        messageReceived(command, -1, 0);
+        processReceivedCommand(command);
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the received command, or each command of a batch.
+     */
+    protected void processReceivedCommand(Command command) {
+        if (command instanceof BatchCommand) {
+            // The batched commands are processed as if they were received one by one.
+            for (Command batchedCommand : ((BatchCommand)command).getCommands()) {
+                processReceivedCommand(batchedCommand);
+            }
+            return;
+        }
         Object[] args = { command.getClass().getName(), command.getServiceId() };
         logDebug("received_remote_command", args);
 
@@ -310,6 +393,134 @@ public void processCommandFromRemoteConnection(Command command) {
             this.commandProcessor.endOperationProfile(SessionProfiler.CacheCoordination);
         }
         this.commandProcessor.incrementProfile(SessionProfiler.RemoteChangeSet);
+        commandProcessed(command);
+    }
+
+    /**
+     * INTERNAL:
+     * Record a message sent to the remote services.
+     */
+    protected void messageSent(Command command, int size, long serializationTime) {
+        this.metrics.messageSent(command, size, serializationTime);
+        if (size >= 0) {
+            this.commandProcessor.updateProfile(SessionProfiler.RcmBytesSent, this.metrics.getBytesSent());
+        }
+        if (this.metricsListener != null) {
+            this.metricsListener.messageSent(command, size, serializationTime);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record a message received from a remote service.
+     */
+    protected void messageReceived(Command command, int size, long deserializationTime) {
+        this.metrics.messageReceived(command, size, deserializationTime);
+        if (size >= 0) {
+            this.commandProcessor.updateProfile(SessionProfiler.RcmBytesReceived, this.metrics.getBytesReceived());
+        }
+        if (this.metricsListener != null) {
+            this.metricsListener.messageReceived(command, size, deserializationTime);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record the propagation lag of a processed command,
+     * the time from its propagation by the remote service to the end of its processing.
+     */
+    protected void commandProcessed(Command command) {
+        long lag = -1;
+        if (command.getTimeStamp() > 0) {
+            // The clocks of the services may differ.
+            lag = Math.max(0, System.currentTimeMillis() - command.getTimeStamp());
+            this.commandProcessor.updateProfile(SessionProfiler.RcmPropagationLag, lag);
+        }
+        this.metrics.commandProcessed(command, lag);
+        if (this.metricsListener != null) {
+            this.metricsListener.commandProcessed(command, lag);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record a command that could not be sent to a remote service.
+     */
+    public void connectionFailed(ServiceId serviceId, Throwable exception) {
+        this.commandProcessor.incrementProfile(SessionProfiler.RcmConnectionFailed);
+        this.metrics.connectionFailed(serviceId, exception);
+        if (this.metricsListener != null) {
+            this.metricsListener.connectionFailed(serviceId, exception);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record the start or the end of an asynchronous propagation to a connection.
+     */
+    public void updatePendingPropagationCount(int delta) {
+        this.pendingPropagationCount.addAndGet(delta);
+        this.commandProcessor.updateProfile(SessionProfiler.RcmQueueDepth, getQueueDepth());
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of commands waiting to be sent: the commands waiting to be batched
+     * and the commands being propagated asynchronously, counted once for each connection.
+     */
+    public int getQueueDepth() {
+        int depth = this.pendingPropagationCount.get();
+        CommandBatcher batcher = this.commandBatcher;
+        if (batcher != null) {
+            depth = depth + batcher.getPendingCommandCount();
+        }
+        return depth;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the statistics of the messages sent and received by this command manager.
+     */
+    public CommandMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the listener the messages sent and received are reported to.
+     */
+    public CommandMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * PUBLIC:
+     * Set a listener to report the messages sent and received to an external metrics system,
+     * in addition to the statistics returned by {@link #getMetrics()}.
+     */
+    public void setMetricsListener(CommandMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the manager partitioning the shared cache across the services, or null if the cache is replicated.
+     */
+    public CachePartitionManager getCachePartitionManager() {
+        return cachePartitionManager;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the manager partitioning the shared cache of the descriptors using a PartitionedIdentityMap
+     * across the services, each service then only caches the objects it owns and the most recently used others.
+     * @see org.eclipse.persistence.descriptors.ClassDescriptor#usePartitionedIdentityMap()
+     */
+    public void setCachePartitionManager(CachePartitionManager cachePartitionManager) {
+        this.cachePartitionManager = cachePartitionManager;
+        if (cachePartitionManager != null) {
+            cachePartitionManager.setRemoteCommandManager(this);
+        }
     }
 
     @Override
@@ -606,4 +817,50 @@ public Serializer getSerializer() {
     public void setSerializer(Serializer serializer) {
         this.serializer = serializer;
     }
+
+    /**
+     * PUBLIC:
+     * Return the number of milliseconds commands are coalesced before being sent as one message.
+     * 0 (default) sends each command on its own.
+     */
+    public long getCommandBatchingDelay() {
+        return commandBatchingDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of milliseconds commands are coalesced before being sent as one message.
+     * This bounds the number of messages sent regardless of the commit rate, at the cost of the delay,
+     * invalidations of the same object within a batch are only sent once.
+     * Commands are then always sent from a separate thread.
+     * 0 (default) sends each command on its own. Must be set before the command manager is initialized.
+     */
+    public void setCommandBatchingDelay(long commandBatchingDelay) {
+        this.commandBatchingDelay = commandBatchingDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of commands coalesced into one message, 100 by default.
+     */
+    public int getMaxCommandBatchSize() {
+        return maxCommandBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of commands coalesced into one message,
+     * a batch is sent as soon as it is full. Only used if a batching delay is set.
+     */
+    public void setMaxCommandBatchSize(int maxCommandBatchSize) {
+        this.maxCommandBatchSize = maxCommandBatchSize;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the command batcher, null if commands are not batched or the command manager is not initialized.
+     */
+    public CommandBatcher getCommandBatcher() {
+        return commandBatcher;
+    }
 }
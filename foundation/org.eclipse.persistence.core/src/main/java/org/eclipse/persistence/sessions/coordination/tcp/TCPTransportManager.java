@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.coordination.tcp;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.internal.sessions.coordination.tcp.TCPDispatcher;
+import org.eclipse.persistence.sessions.coordination.DiscoveryManager;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.coordination.TransportManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Provide a point to point transport over plain TCP sockets that requires
+ * no naming service, messaging server or third party library.
+ * </p><p>
+ * <b>Description</b>: Each service listens on a port and opens one connection to each of its peers,
+ * all the sockets are non-blocking and served by a single selector thread.
+ * Commands are sent directly on the connection to every peer, the commands of a peer are received
+ * on the connection it opened, so a service connects back to the peers that connect to it.
+ * </p><p>
+ * The peers are listed as "host:port" addresses, separated by commas, in the peers setting
+ * and/or one per line in a peers file that is re-read on every peer refresh, so peers can be
+ * added at runtime. The own address of the service may be listed, it is ignored.
+ * Unreachable peers are retried on every refresh.
+ * </p>
+ */
+public class TCPTransportManager extends TransportManager {
+
+    /** The URL prefix of the service ids of TCP services. */
+    public static final String URL_PREFIX = "tcp://";
+
+    public static final int DEFAULT_PORT = 7900;
+    public static final long DEFAULT_PEER_REFRESH_INTERVAL = 5000;
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final long DEFAULT_MAX_PENDING_BYTES = 16 * 1024 * 1024;
+    public static final int DEFAULT_MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    /** The host or address to listen on, null for all interfaces. */
+    protected String host;
+    /** The port to listen on, 0 for any free port. */
+    protected int port;
+
+    protected String peers;
+    protected String peersFile;
+    protected long peerRefreshInterval;
+
+    protected int bufferSize;
+    protected long maxPendingBytes;
+    protected int maxFrameSize;
+
+    protected transient TCPDispatcher dispatcher;
+
+    /**
+     * PUBLIC:
+     * Constructor used when the transport manager is set on the remote command manager.
+     */
+    public TCPTransportManager() {
+        initialize();
+    }
+
+    /**
+     * PUBLIC:
+     * Create a TCP transport manager and set it on the remote command manager.
+     */
+    public TCPTransportManager(RemoteCommandManager rcm) {
+        this.rcm = rcm;
+        rcm.setTransportManager(this);
+        initialize();
+    }
+
+    /**
+     * INTERNAL:
+     * Initialize default properties.
+     */
+    @Override
+    public void initialize() {
+        super.initialize();
+        this.port = DEFAULT_PORT;
+        this.peerRefreshInterval = DEFAULT_PEER_REFRESH_INTERVAL;
+        this.bufferSize = DEFAULT_BUFFER_SIZE;
+        this.maxPendingBytes = DEFAULT_MAX_PENDING_BYTES;
+        this.maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+    }
+
+    /**
+     * ADVANCED:
+     * The peers are configured or read from the peers file, no DiscoveryManager is used.
+     */
+    @Override
+    public DiscoveryManager createDiscoveryManager() {
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Called on initialization of the remote command manager, start listening and connecting to the peers.
+     */
+    @Override
+    public void createConnections() {
+        createLocalConnection();
+    }
+
+    /**
+     * INTERNAL:
+     * Bind the server socket and start the dispatcher thread.
+     * The URL of the service is set to the bound address unless configured.
+     */
+    @Override
+    public void createLocalConnection() {
+        TCPDispatcher newDispatcher = new TCPDispatcher(this);
+        InetSocketAddress bindAddress = (this.host == null) ? new InetSocketAddress(this.port) : new InetSocketAddress(this.host, this.port);
+        try {
+            newDispatcher.bind(bindAddress);
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorBindingConnection(bindAddress.toString(), exception);
+        }
+        String localPort = String.valueOf(newDispatcher.getLocalPort());
+        String url = this.rcm.getUrl();
+        if ((url == null) || !url.startsWith(URL_PREFIX)) {
+            String localHost = this.host;
+            if ((localHost == null) || bindAddress.getAddress().isAnyLocalAddress()) {
+                try {
+                    localHost = InetAddress.getLocalHost().getHostAddress();
+                } catch (IOException exception) {
+                    localHost = InetAddress.getLoopbackAddress().getHostAddress();
+                }
+            }
+            this.rcm.setUrl(URL_PREFIX + localHost + ":" + localPort);
+        } else if (url.contains(ServiceId.PORT_TOKEN)) {
+            this.rcm.replaceTransportPortNumber(localPort);
+        }
+        this.dispatcher = newDispatcher;
+        newDispatcher.start();
+        Object[] args = { this.rcm.getUrl() };
+        this.rcm.logDebug("tcp_listening", args);
+    }
+
+    /**
+     * INTERNAL:
+     * Connections are opened by the dispatcher to the configured peers, returns null.
+     */
+    @Override
+    public RemoteConnection createConnection(ServiceId serviceId) {
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * The dispatcher connects back to the services connecting to this service.
+     */
+    @Override
+    public void connectBackToRemote(RemoteConnection connection) throws Exception {
+        // nothing to do
+    }
+
+    /**
+     * INTERNAL:
+     * Stop the dispatcher, it closes all the sockets.
+     */
+    @Override
+    public void removeLocalConnection() {
+        if (this.dispatcher != null) {
+            this.dispatcher.stop();
+            this.dispatcher = null;
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Connect to the peers without a connection now rather than on the next peer refresh.
+     */
+    public void refreshPeers() {
+        TCPDispatcher currentDispatcher = this.dispatcher;
+        if (currentDispatcher != null) {
+            currentDispatcher.refreshPeers();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the "host:port" addresses of the configured peers and the peers listed in the peers file.
+     */
+    public List<String> getPeerAddresses() {
+        Set<String> addresses = new LinkedHashSet<>();
+        if (this.peers != null) {
+            for (String peer : this.peers.split(",")) {
+                addPeerAddress(peer, addresses);
+            }
+        }
+        if (this.peersFile != null) {
+            Path path = Paths.get(this.peersFile);
+            try {
+                if (Files.exists(path)) {
+                    for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                        addPeerAddress(line, addresses);
+                    }
+                }
+            } catch (IOException exception) {
+                Object[] args = { this.peersFile, exception };
+                this.rcm.logWarning("tcp_unreadable_peers_file", args);
+            }
+        }
+        return new ArrayList<>(addresses);
+    }
+
+    protected void addPeerAddress(String peer, Set<String> addresses) {
+        String address = peer.trim();
+        if (address.startsWith(URL_PREFIX)) {
+            address = address.substring(URL_PREFIX.length());
+        }
+        if (!address.isEmpty() && !address.startsWith("#")) {
+            addresses.add(address);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the socket address of the "host:port" address, the default port is used if the port is omitted.
+     */
+    public static InetSocketAddress parseAddress(String address, int defaultPort) {
+        int index = address.lastIndexOf(':');
+        if ((index < 0) || (address.indexOf(']') > index)) {
+            return new InetSocketAddress(address, defaultPort);
+        }
+        String hostName = address.substring(0, index);
+        if (hostName.startsWith("[") && hostName.endsWith("]")) {
+            hostName = hostName.substring(1, hostName.length() - 1);
+        }
+        return new InetSocketAddress(hostName, Integer.parseInt(address.substring(index + 1)));
+    }
+
+    /**
+     * PUBLIC:
+     * Return the host or address to listen on, null for all interfaces.
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the host or address to listen on, by default all interfaces.
+     * It is also advertised to the other services unless the remote command manager URL is set.
+     */
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the port to listen on, 0 for any free port. The default is 7900.
+     */
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the address to listen on as "host:port" or ":port".
+     */
+    public void setAddress(String address) {
+        if (address.startsWith(":")) {
+            this.host = null;
+            this.port = Integer.parseInt(address.substring(1));
+        } else {
+            InetSocketAddress socketAddress = parseAddress(address, DEFAULT_PORT);
+            this.host = socketAddress.getHostString();
+            this.port = socketAddress.getPort();
+        }
+    }
+
+    public String getPeers() {
+        return peers;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the comma separated "host:port" addresses of the other services.
+     */
+    public void setPeers(String peers) {
+        this.peers = peers;
+    }
+
+    public String getPeersFile() {
+        return peersFile;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the path of a file listing the "host:port" addresses of the other services, one per line.
+     * The file is re-read on every peer refresh, lines starting with # are ignored.
+     */
+    public void setPeersFile(String peersFile) {
+        this.peersFile = peersFile;
+    }
+
+    public long getPeerRefreshInterval() {
+        return peerRefreshInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds between connection attempts to the peers without a connection.
+     * The default is 5 seconds.
+     */
+    public void setPeerRefreshInterval(long peerRefreshInterval) {
+        this.peerRefreshInterval = peerRefreshInterval;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the size of the pooled socket buffers, bigger messages use temporary buffers.
+     * The default is 64KB.
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public long getMaxPendingBytes() {
+        return maxPendingBytes;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum bytes queued for a peer that does not read fast enough, the connection is
+     * closed when exceeded. The default is 16MB.
+     */
+    public void setMaxPendingBytes(long maxPendingBytes) {
+        this.maxPendingBytes = maxPendingBytes;
+    }
+
+    public int getMaxFrameSize() {
+        return maxFrameSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum size of a received message, bigger messages close the connection.
+     * The default is 64MB.
+     */
+    public void setMaxFrameSize(int maxFrameSize) {
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * Generic API to allow config to be set, the config is the peers.
+     */
+    @Override
+    public void setConfig(String config) {
+        setPeers(config);
+    }
+}
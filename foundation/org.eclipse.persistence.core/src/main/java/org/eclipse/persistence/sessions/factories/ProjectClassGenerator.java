@@ -77,6 +77,8 @@
 import org.eclipse.persistence.mappings.TransformationMapping;
 import org.eclipse.persistence.mappings.VariableOneToOneMapping;
 import org.eclipse.persistence.mappings.converters.Converter;
+import org.eclipse.persistence.mappings.converters.ConverterClass;
+import org.eclipse.persistence.mappings.converters.EnumTypeConverter;
 import org.eclipse.persistence.mappings.converters.ObjectTypeConverter;
 import org.eclipse.persistence.mappings.converters.SerializedObjectConverter;
 import org.eclipse.persistence.mappings.converters.TypeConversionConverter;
@@ -379,6 +381,8 @@ protected void addDescriptorPropertyLines(NonreflectiveMethodDefinition method,
                 lineToAdd.append("ClassDescriptor.SEND_NEW_OBJECTS_WITH_CHANGES");
             } else if (descriptor.getCachePolicy().getCacheSynchronizationType() == CachePolicy.SEND_OBJECT_CHANGES) {
                 lineToAdd.append("ClassDescriptor.SEND_OBJECT_CHANGES");
+            } else if (descriptor.getCachePolicy().getCacheSynchronizationType() == CachePolicy.INVALIDATE_STALE_OBJECTS) {
+                lineToAdd.append("ClassDescriptor.INVALIDATE_STALE_OBJECTS");
             }
             lineToAdd.append(");");
             method.addLine(lineToAdd.toString());
@@ -1388,7 +1392,17 @@ protected void addTransformationMappingLines(NonreflectiveMethodDefinition metho
     }
 
     protected void addConverterLines(NonreflectiveMethodDefinition method, String converterName, Converter converter) {
-        if (converter instanceof ObjectTypeConverter) {
+        if (converter instanceof EnumTypeConverter enumConverter) {
+            // The mapping is set when the converter is initialized.
+            method.addLine("EnumTypeConverter " + converterName + " = new EnumTypeConverter(null, \"" + enumConverter.getEnumClassName() + "\", "
+                    + enumConverter.shouldUseOrdinalValues() + ");");
+            addObjectTypeConverterLines(method, converterName, enumConverter);
+        } else if (converter instanceof ConverterClass<?, ?, ?> converterClass) {
+            String fieldClassificationName = converterClass.getFieldClassificationName();
+            method.addLine("ConverterClass " + converterName + " = new ConverterClass(\"" + converterClass.getAttributeConverterClassName() + "\", "
+                    + converterClass.isForMapKey() + ", " + ((fieldClassificationName == null) ? "null" : "\"" + fieldClassificationName + "\"") + ", "
+                    + converterClass.isConversionDisabled() + ");");
+        } else if (converter instanceof ObjectTypeConverter) {
             method.addLine("ObjectTypeConverter " + converterName + " = new ObjectTypeConverter();");
             addObjectTypeConverterLines(method, converterName, (ObjectTypeConverter)converter);
         } else if (converter instanceof TypeConversionConverter) {
@@ -0,0 +1,761 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.serializers;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.helper.BinaryReader;
+import org.eclipse.persistence.internal.helper.BinaryWriter;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ChangeRecord;
+import org.eclipse.persistence.internal.sessions.CollectionChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.BatchCommand;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.InvalidateStaleObjectsCommand;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+
+/**
+ * Compact binary serialization of cache coordination change sets.
+ * <p>
+ * {@link MergeChangeSetCommand}s and {@link InvalidateStaleObjectsCommand}s, also when batched,
+ * are written in a binary format instead of through Java serialization:
+ * classes are written as descriptor ids, attributes as mapping indexes, and primary keys and versions
+ * as tagged values with variable length integers. Change sets holding change records other than
+ * direct, object reference and unordered collection changes, and any other command, are written
+ * through Java serialization inside the same envelope.
+ * <p>
+ * The descriptor ids and mapping indexes are derived from the session's project, so all nodes of the cluster
+ * must use the same project. A fingerprint of the project is sent with every change set and checked by the receiver.
+ * Payloads that were not written by this serializer are read through Java serialization.
+ * <p>
+ * Optionally payloads bigger than the {@link #getCompressionThreshold() threshold} are compressed,
+ * trading CPU for bandwidth on slow networks. Received payloads bigger than the
+ * {@link #getMaxDecompressedSize() maximum size} once decompressed are rejected.
+ *
+ * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(Serializer)
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#COORDINATION_SERIALIZER
+ */
+public class ChangeSetSerializer extends AbstractSerializer {
+
+    /** First byte of the envelope, can't be the first byte of a Java serialization stream. */
+    protected static final byte MAGIC = (byte)0xEC;
+    protected static final byte VERSION = 2;
+
+    protected static final int COMPRESSED = 1;
+
+    protected static final byte SERIALIZED_COMMAND = 0;
+    protected static final byte CHANGE_SET_COMMAND = 1;
+    protected static final byte BATCH_COMMAND = 2;
+    protected static final byte INVALIDATION_COMMAND = 3;
+
+    protected static final byte DIRECT_CHANGE = 0;
+    protected static final byte REFERENCE_CHANGE = 1;
+    protected static final byte COLLECTION_CHANGE = 2;
+
+    protected static final int IS_NEW = 1;
+    protected static final int SHOULD_BE_DELETED = 2;
+    protected static final int IS_INVALID = 4;
+    protected static final int HAS_VERSION_CHANGE = 8;
+    protected static final int HAS_MODIFY_VERSION_FIELD = 16;
+    protected static final int SHOULD_MODIFY_VERSION_FIELD = 32;
+
+    protected static final int IS_DEFERRED = 1;
+    protected static final int ORDER_HAS_BEEN_REPAIRED = 2;
+
+    protected boolean shouldCompress;
+    protected int compressionThreshold = 1024;
+    protected int maxDecompressedSize = 64 * 1024 * 1024;
+    protected volatile Metadata metadata;
+
+    public ChangeSetSerializer() {
+    }
+
+    public ChangeSetSerializer(boolean shouldCompress) {
+        this.shouldCompress = shouldCompress;
+    }
+
+    /**
+     * Return if payloads bigger than the threshold are compressed, false by default.
+     */
+    public boolean shouldCompress() {
+        return shouldCompress;
+    }
+
+    /**
+     * Set if payloads bigger than the threshold are compressed.
+     */
+    public void setShouldCompress(boolean shouldCompress) {
+        this.shouldCompress = shouldCompress;
+    }
+
+    /**
+     * Return the size in bytes from which payloads are compressed, 1024 by default.
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Set the size in bytes from which payloads are compressed.
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Return the maximum size in bytes of a decompressed payload, 64MB by default.
+     * Compressed payloads declaring a bigger size are rejected before any memory is allocated for them.
+     */
+    public int getMaxDecompressedSize() {
+        return maxDecompressedSize;
+    }
+
+    /**
+     * Set the maximum size in bytes of a decompressed payload.
+     */
+    public void setMaxDecompressedSize(int maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    @Override
+    public void initialize(Class<?> serializeClass, String serializePackage, Session session) {
+        if (session != null) {
+            getMetadata(session);
+        }
+    }
+
+    @Override
+    public Object serialize(Object object, Session session) {
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeByte(MAGIC);
+        writer.writeByte(VERSION);
+        writer.writeByte(0);
+        try {
+            if ((session == null) || !writeCommand(object, writer, session)) {
+                writer.truncate(3);
+                writer.writeByte(SERIALIZED_COMMAND);
+                byte[] bytes = (byte[])JavaSerializer.instance.serialize(object, session);
+                writer.writeBytes(bytes, 0, bytes.length);
+            }
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+        if (this.shouldCompress && (writer.getSize() > this.compressionThreshold)) {
+            byte[] compressed = compress(writer);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(Object bytes, Session session) {
+        byte[] data = (byte[])bytes;
+        if ((data.length < 3) || (data[0] != MAGIC)) {
+            return JavaSerializer.instance.deserialize(bytes, session);
+        }
+        try {
+            if (data[1] != VERSION) {
+                throw new StreamCorruptedException(String.valueOf(data[1]));
+            }
+            BinaryReader reader;
+            if ((data[2] & COMPRESSED) != 0) {
+                reader = new BinaryReader(decompress(data));
+            } else {
+                reader = new BinaryReader(data, 3, data.length - 3);
+            }
+            int kind = reader.readByte();
+            if (kind == SERIALIZED_COMMAND) {
+                return JavaSerializer.instance.deserialize(reader.readRemaining(), session);
+            }
+            Metadata ids = getMetadata(reader, session);
+            if (kind == BATCH_COMMAND) {
+                BatchCommand batch = new BatchCommand();
+                readHeader(batch, reader);
+                List<Command> commands = new ArrayList<>();
+                int size = reader.readVarInt();
+                for (int index = 0; index < size; index++) {
+                    commands.add(readCommand(reader.readByte(), reader, ids, session));
+                }
+                batch.setCommands(commands);
+                return batch;
+            }
+            return readCommand(kind, reader, ids, session);
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+    }
+
+    /**
+     * Return the ids of the session's project, computed once per project.
+     */
+    protected Metadata getMetadata(Session session) {
+        Project project = session.getProject();
+        Metadata current = this.metadata;
+        if ((current == null) || (current.project != project)) {
+            current = new Metadata(project);
+            this.metadata = current;
+        }
+        return current;
+    }
+
+    /**
+     * Write the command, return false if it requires Java serialization.
+     * The bytes written before returning false must be discarded.
+     */
+    protected boolean writeCommand(Object command, BinaryWriter writer, Session session) throws IOException {
+        int kind = getKind(command);
+        if (kind == SERIALIZED_COMMAND) {
+            return false;
+        }
+        Metadata ids = getMetadata(session);
+        writer.writeByte(kind);
+        writer.writeFixedInt(ids.fingerprint);
+        if (kind != BATCH_COMMAND) {
+            return writeCommand(kind, command, ids, writer, session);
+        }
+        List<Command> commands = ((BatchCommand)command).getCommands();
+        writeHeader((BatchCommand)command, writer);
+        writer.writeVarInt(commands.size());
+        for (Command batchedCommand : commands) {
+            int batchedKind = getKind(batchedCommand);
+            if ((batchedKind == SERIALIZED_COMMAND) || (batchedKind == BATCH_COMMAND)) {
+                return false;
+            }
+            writer.writeByte(batchedKind);
+            if (!writeCommand(batchedKind, batchedCommand, ids, writer, session)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the kind of the command, subclasses may hold more state and are serialized.
+     */
+    protected int getKind(Object command) {
+        Class<?> type = (command == null) ? null : command.getClass();
+        if (type == MergeChangeSetCommand.class) {
+            return CHANGE_SET_COMMAND;
+        } else if (type == InvalidateStaleObjectsCommand.class) {
+            return INVALIDATION_COMMAND;
+        } else if (type == BatchCommand.class) {
+            return BATCH_COMMAND;
+        }
+        return SERIALIZED_COMMAND;
+    }
+
+    protected boolean writeCommand(int kind, Object command, Metadata ids, BinaryWriter writer, Session session) throws IOException {
+        if (kind == CHANGE_SET_COMMAND) {
+            return writeChangeSetCommand((MergeChangeSetCommand)command, ids, writer, session);
+        }
+        return writeInvalidationCommand((InvalidateStaleObjectsCommand)command, ids, writer);
+    }
+
+    protected Command readCommand(int kind, BinaryReader reader, Metadata ids, Session session) throws IOException {
+        if (kind == CHANGE_SET_COMMAND) {
+            return readChangeSetCommand(reader, ids, session);
+        } else if (kind == INVALIDATION_COMMAND) {
+            return readInvalidationCommand(reader, ids, session);
+        }
+        throw new StreamCorruptedException(String.valueOf(kind));
+    }
+
+    /**
+     * Write the invalidations as (descriptor id, primary key, version) tuples,
+     * return false if a class has no descriptor in the project.
+     */
+    protected boolean writeInvalidationCommand(InvalidateStaleObjectsCommand command, Metadata ids, BinaryWriter writer) throws IOException {
+        List<String> classNames = command.getClassNames();
+        int[] descriptorIds = new int[classNames.size()];
+        for (int index = 0; index < descriptorIds.length; index++) {
+            descriptorIds[index] = ids.getDescriptorId(classNames.get(index));
+            if (descriptorIds[index] < 0) {
+                return false;
+            }
+        }
+        writeHeader(command, writer);
+        writer.writeVarInt(command.getSize());
+        for (int index = 0; index < command.getSize(); index++) {
+            writer.writeVarInt(descriptorIds[command.getClassNameIndex(index)]);
+            writer.writeValue(command.getPrimaryKey(index));
+            writer.writeValue(command.getWriteLockValue(index));
+        }
+        return true;
+    }
+
+    protected InvalidateStaleObjectsCommand readInvalidationCommand(BinaryReader reader, Metadata ids, Session session) throws IOException {
+        InvalidateStaleObjectsCommand command = new InvalidateStaleObjectsCommand();
+        readHeader(command, reader);
+        int size = reader.readVarInt();
+        for (int index = 0; index < size; index++) {
+            ClassDescriptor descriptor = ids.getDescriptor(reader.readVarInt());
+            Object primaryKey = reader.readValue(session);
+            command.addInvalidation(descriptor.getJavaClassName(), primaryKey, reader.readValue(session));
+        }
+        return command;
+    }
+
+    /**
+     * Write the service the command originated from and the time it was propagated.
+     */
+    protected void writeHeader(Command command, BinaryWriter writer) {
+        writeServiceId(command.getServiceId(), writer);
+        writer.writeVarLong(command.getTimeStamp());
+    }
+
+    protected void readHeader(Command command, BinaryReader reader) throws IOException {
+        command.setServiceId(readServiceId(reader));
+        command.setTimeStamp(reader.readVarLong());
+    }
+
+    protected void writeServiceId(ServiceId serviceId, BinaryWriter writer) {
+        writer.writeBoolean(serviceId != null);
+        if (serviceId != null) {
+            writer.writeString(serviceId.getChannel());
+            writer.writeString(serviceId.getId());
+            writer.writeString(serviceId.getURL());
+        }
+    }
+
+    protected ServiceId readServiceId(BinaryReader reader) throws IOException {
+        if (reader.readBoolean()) {
+            return new ServiceId(reader.readString(), reader.readString(), reader.readString());
+        }
+        return null;
+    }
+
+    /**
+     * Write the command's change set, return false if it holds changes that require Java serialization.
+     * Nothing is written in that case.
+     */
+    protected boolean writeChangeSetCommand(MergeChangeSetCommand command, Metadata ids, BinaryWriter writer, Session session) throws IOException {
+        if (command.getClass() != MergeChangeSetCommand.class) {
+            return false;
+        }
+        UnitOfWorkChangeSet changeSet = command.getChangeSet((AbstractSession)session);
+        if ((changeSet == null) || changeSet.hasForcedChanges() || !changeSet.getObjectChanges().isEmpty()
+                || !changeSet.getNewObjectChangeSets().isEmpty() || !changeSet.getAggregateChangeSets().isEmpty()
+                || !changeSet.getCloneToObjectChangeSet().isEmpty()) {
+            return false;
+        }
+        // Number all change sets, including the ones only referenced from change records.
+        List<ObjectChangeSet> objectChangeSets = new ArrayList<>();
+        Map<ObjectChangeSet, Integer> indexes = new IdentityHashMap<>();
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+            addIndex(objectChangeSet, objectChangeSets, indexes);
+        }
+        for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().keySet()) {
+            addIndex(objectChangeSet, objectChangeSets, indexes);
+        }
+        List<ClassDescriptor> descriptors = new ArrayList<>();
+        for (int index = 0; index < objectChangeSets.size(); index++) {
+            ObjectChangeSet objectChangeSet = objectChangeSets.get(index);
+            ClassDescriptor descriptor = objectChangeSet.getDescriptor();
+            if (descriptor == null) {
+                descriptor = ((AbstractSession)session).getDescriptor(objectChangeSet.getClassType(session));
+            }
+            if ((descriptor == null) || objectChangeSet.isAggregate() || (ids.getDescriptorId(descriptor) < 0)) {
+                return false;
+            }
+            descriptors.add(descriptor);
+            for (org.eclipse.persistence.sessions.changesets.ChangeRecord record : objectChangeSet.getChanges()) {
+                if (!addReferencedIndexes((ChangeRecord)record, descriptor, ids, objectChangeSets, indexes)) {
+                    return false;
+                }
+            }
+        }
+
+        writeHeader(command, writer);
+        writer.writeBoolean(changeSet.hasChanges());
+        writer.writeBoolean(changeSet.isChangeSetFromOutsideUOW());
+        writer.writeVarInt(objectChangeSets.size());
+        for (int index = 0; index < objectChangeSets.size(); index++) {
+            writeObjectChangeSet(objectChangeSets.get(index), descriptors.get(index), ids, indexes, writer);
+        }
+        writeIndexes(changeSet.getAllChangeSets(), indexes, writer);
+        writeIndexes(changeSet.getDeletedObjects(), indexes, writer);
+        return true;
+    }
+
+    protected void addIndex(ObjectChangeSet objectChangeSet, List<ObjectChangeSet> objectChangeSets, Map<ObjectChangeSet, Integer> indexes) {
+        if ((objectChangeSet != null) && !indexes.containsKey(objectChangeSet)) {
+            indexes.put(objectChangeSet, objectChangeSets.size());
+            objectChangeSets.add(objectChangeSet);
+        }
+    }
+
+    /**
+     * Number the change sets referenced by the record, return false if the record type is not supported.
+     */
+    protected boolean addReferencedIndexes(ChangeRecord record, ClassDescriptor descriptor, Metadata ids,
+            List<ObjectChangeSet> objectChangeSets, Map<ObjectChangeSet, Integer> indexes) {
+        if (ids.getMappingIndex(descriptor, mappingFor(record, descriptor)) < 0) {
+            return false;
+        }
+        Class<?> type = record.getClass();
+        if (type == DirectToFieldChangeRecord.class) {
+            return true;
+        } else if (type == ObjectReferenceChangeRecord.class) {
+            addIndex((ObjectChangeSet)((ObjectReferenceChangeRecord)record).getNewValue(), objectChangeSets, indexes);
+            return true;
+        } else if (type == CollectionChangeRecord.class) {
+            CollectionChangeRecord collectionRecord = (CollectionChangeRecord)record;
+            if (!collectionRecord.getOrderedAddObjects().isEmpty() || !collectionRecord.getOrderedAddObjectIndices().isEmpty()
+                    || !collectionRecord.getOrderedRemoveObjects().isEmpty() || !collectionRecord.getOrderedChangeObjectList().isEmpty()) {
+                return false;
+            }
+            for (ObjectChangeSet added : collectionRecord.getAddObjectList().keySet()) {
+                addIndex(added, objectChangeSets, indexes);
+            }
+            for (ObjectChangeSet removed : collectionRecord.getRemoveObjectList().keySet()) {
+                addIndex(removed, objectChangeSets, indexes);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    protected DatabaseMapping mappingFor(ChangeRecord record, ClassDescriptor descriptor) {
+        DatabaseMapping mapping = record.getMapping();
+        if (mapping == null) {
+            mapping = descriptor.getObjectBuilder().getMappingForAttributeName(record.getAttribute());
+        }
+        return mapping;
+    }
+
+    protected void writeObjectChangeSet(ObjectChangeSet objectChangeSet, ClassDescriptor descriptor, Metadata ids,
+            Map<ObjectChangeSet, Integer> indexes, BinaryWriter writer) throws IOException {
+        writer.writeVarInt(ids.getDescriptorId(descriptor));
+        int flags = 0;
+        if (objectChangeSet.isNew()) {
+            flags |= IS_NEW;
+        }
+        if (objectChangeSet.shouldBeDeleted()) {
+            flags |= SHOULD_BE_DELETED;
+        }
+        if (objectChangeSet.isInvalid()) {
+            flags |= IS_INVALID;
+        }
+        if (objectChangeSet.hasVersionChange()) {
+            flags |= HAS_VERSION_CHANGE;
+        }
+        Boolean shouldModifyVersionField = objectChangeSet.shouldModifyVersionField();
+        if (shouldModifyVersionField != null) {
+            flags |= HAS_MODIFY_VERSION_FIELD;
+            if (shouldModifyVersionField) {
+                flags |= SHOULD_MODIFY_VERSION_FIELD;
+            }
+        }
+        writer.writeByte(flags);
+        writer.writeVarLong(objectChangeSet.getCacheSynchronizationType());
+        writer.writeValue(objectChangeSet.getId());
+        writer.writeValue(objectChangeSet.getWriteLockValue());
+        writer.writeValue(objectChangeSet.getInitialWriteLockValue());
+        writer.writeValue(objectChangeSet.getOldKey());
+        writer.writeValue(objectChangeSet.getNewKey());
+        writer.writeValue(objectChangeSet.getProtectedForeignKeys());
+        List<org.eclipse.persistence.sessions.changesets.ChangeRecord> changes = objectChangeSet.getChanges();
+        writer.writeVarInt(changes.size());
+        for (org.eclipse.persistence.sessions.changesets.ChangeRecord change : changes) {
+            ChangeRecord record = (ChangeRecord)change;
+            writer.writeVarInt(ids.getMappingIndex(descriptor, mappingFor(record, descriptor)));
+            if (record.getClass() == DirectToFieldChangeRecord.class) {
+                writer.writeByte(DIRECT_CHANGE);
+                writer.writeValue(((DirectToFieldChangeRecord)record).getNewValue());
+            } else if (record.getClass() == ObjectReferenceChangeRecord.class) {
+                writer.writeByte(REFERENCE_CHANGE);
+                writeIndex((ObjectChangeSet)((ObjectReferenceChangeRecord)record).getNewValue(), indexes, writer);
+            } else {
+                CollectionChangeRecord collectionRecord = (CollectionChangeRecord)record;
+                writer.writeByte(COLLECTION_CHANGE);
+                writer.writeByte((collectionRecord.isDeferred() ? IS_DEFERRED : 0)
+                        | (collectionRecord.orderHasBeenRepaired() ? ORDER_HAS_BEEN_REPAIRED : 0));
+                writeIndexes(collectionRecord.getAddObjectList(), indexes, writer);
+                writeIndexes(collectionRecord.getRemoveObjectList(), indexes, writer);
+            }
+        }
+    }
+
+    /**
+     * Write the index of the change set plus one, zero for null.
+     */
+    protected void writeIndex(ObjectChangeSet objectChangeSet, Map<ObjectChangeSet, Integer> indexes, BinaryWriter writer) {
+        writer.writeVarInt((objectChangeSet == null) ? 0 : (indexes.get(objectChangeSet) + 1));
+    }
+
+    protected void writeIndexes(Map<ObjectChangeSet, ObjectChangeSet> objectChangeSets, Map<ObjectChangeSet, Integer> indexes, BinaryWriter writer) {
+        writer.writeVarInt(objectChangeSets.size());
+        for (ObjectChangeSet objectChangeSet : objectChangeSets.keySet()) {
+            writer.writeVarInt(indexes.get(objectChangeSet));
+        }
+    }
+
+    /**
+     * Return the ids of the session's project, after checking that the sender used the same project.
+     */
+    protected Metadata getMetadata(BinaryReader reader, Session session) throws IOException {
+        Metadata ids = getMetadata(session);
+        if (reader.readFixedInt() != ids.fingerprint) {
+            throw new StreamCorruptedException("The change set was written for a different project.");
+        }
+        return ids;
+    }
+
+    protected MergeChangeSetCommand readChangeSetCommand(BinaryReader reader, Metadata ids, Session session) throws IOException {
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        readHeader(command, reader);
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        changeSet.setHasChanges(reader.readBoolean());
+        changeSet.setIsChangeSetFromOutsideUOW(reader.readBoolean());
+        // Change records reference change sets by index, possibly ahead of their own position.
+        ObjectChangeSet[] objectChangeSets = new ObjectChangeSet[reader.readVarInt()];
+        for (int index = 0; index < objectChangeSets.length; index++) {
+            objectChangeSets[index] = new ObjectChangeSet();
+        }
+        for (ObjectChangeSet objectChangeSet : objectChangeSets) {
+            readObjectChangeSet(objectChangeSet, objectChangeSets, ids, reader, session);
+        }
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = readIndexes(objectChangeSets, reader);
+        if (!allChangeSets.isEmpty()) {
+            changeSet.setAllChangeSets(allChangeSets);
+        }
+        Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = readIndexes(objectChangeSets, reader);
+        if (!deletedObjects.isEmpty()) {
+            changeSet.setDeletedObjects(deletedObjects);
+        }
+        command.setChangeSet(changeSet);
+        return command;
+    }
+
+    protected void readObjectChangeSet(ObjectChangeSet objectChangeSet, ObjectChangeSet[] objectChangeSets, Metadata ids,
+            BinaryReader reader, Session session) throws IOException {
+        ClassDescriptor descriptor = ids.getDescriptor(reader.readVarInt());
+        objectChangeSet.setDescriptor(descriptor);
+        objectChangeSet.setClassType(descriptor.getJavaClass());
+        objectChangeSet.setClassName(descriptor.getJavaClassName());
+        int flags = reader.readByte();
+        objectChangeSet.setIsNew((flags & IS_NEW) != 0);
+        objectChangeSet.setShouldBeDeleted((flags & SHOULD_BE_DELETED) != 0);
+        objectChangeSet.setIsInvalid((flags & IS_INVALID) != 0);
+        objectChangeSet.setHasVersionChange((flags & HAS_VERSION_CHANGE) != 0);
+        if ((flags & HAS_MODIFY_VERSION_FIELD) != 0) {
+            objectChangeSet.setShouldModifyVersionField((flags & SHOULD_MODIFY_VERSION_FIELD) != 0);
+        }
+        objectChangeSet.setCacheSynchronizationType((int)reader.readVarLong());
+        objectChangeSet.setId(reader.readValue(session));
+        objectChangeSet.setWriteLockValue(reader.readValue(session));
+        objectChangeSet.setInitialWriteLockValue(reader.readValue(session));
+        objectChangeSet.setOldKey(reader.readValue(session));
+        objectChangeSet.setNewKey(reader.readValue(session));
+        objectChangeSet.setProtectedForeignKeys((AbstractRecord)reader.readValue(session));
+        int size = reader.readVarInt();
+        if (size == 0) {
+            return;
+        }
+        List<org.eclipse.persistence.sessions.changesets.ChangeRecord> changes = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            DatabaseMapping mapping = ids.getMapping(descriptor, reader.readVarInt());
+            ChangeRecord record;
+            int type = reader.readByte();
+            if (type == DIRECT_CHANGE) {
+                DirectToFieldChangeRecord directRecord = new DirectToFieldChangeRecord(objectChangeSet);
+                directRecord.setNewValue(reader.readValue(session));
+                record = directRecord;
+            } else if (type == REFERENCE_CHANGE) {
+                ObjectReferenceChangeRecord referenceRecord = new ObjectReferenceChangeRecord(objectChangeSet);
+                referenceRecord.setNewValue(readIndex(objectChangeSets, reader));
+                record = referenceRecord;
+            } else if (type == COLLECTION_CHANGE) {
+                CollectionChangeRecord collectionRecord = new CollectionChangeRecord(objectChangeSet);
+                int recordFlags = reader.readByte();
+                collectionRecord.setIsDeferred((recordFlags & IS_DEFERRED) != 0);
+                collectionRecord.setOrderHasBeenRepaired((recordFlags & ORDER_HAS_BEEN_REPAIRED) != 0);
+                collectionRecord.setAddObjectList(readIndexes(objectChangeSets, reader));
+                collectionRecord.setRemoveObjectList(readIndexes(objectChangeSets, reader));
+                record = collectionRecord;
+            } else {
+                throw new StreamCorruptedException(String.valueOf(type));
+            }
+            record.setAttribute(mapping.getAttributeName());
+            record.setMapping(mapping);
+            changes.add(record);
+        }
+        objectChangeSet.setChanges(changes);
+    }
+
+    protected ObjectChangeSet readIndex(ObjectChangeSet[] objectChangeSets, BinaryReader reader) throws IOException {
+        int index = reader.readVarInt();
+        if (index == 0) {
+            return null;
+        }
+        return objectChangeSet(objectChangeSets, index - 1);
+    }
+
+    protected Map<ObjectChangeSet, ObjectChangeSet> readIndexes(ObjectChangeSet[] objectChangeSets, BinaryReader reader) throws IOException {
+        int size = reader.readVarInt();
+        Map<ObjectChangeSet, ObjectChangeSet> result = new IdentityHashMap<>(size);
+        for (int index = 0; index < size; index++) {
+            ObjectChangeSet objectChangeSet = objectChangeSet(objectChangeSets, reader.readVarInt());
+            result.put(objectChangeSet, objectChangeSet);
+        }
+        return result;
+    }
+
+    protected ObjectChangeSet objectChangeSet(ObjectChangeSet[] objectChangeSets, int index) throws IOException {
+        if ((index < 0) || (index >= objectChangeSets.length)) {
+            throw new StreamCorruptedException(String.valueOf(index));
+        }
+        return objectChangeSets[index];
+    }
+
+    /**
+     * Return the compressed envelope, or null if compressing does not reduce the size.
+     */
+    protected byte[] compress(BinaryWriter writer) {
+        int size = writer.getSize() - 3;
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(writer.getBuffer(), 3, size);
+            deflater.finish();
+            BinaryWriter compressed = new BinaryWriter(size);
+            compressed.writeByte(MAGIC);
+            compressed.writeByte(VERSION);
+            compressed.writeByte(COMPRESSED);
+            compressed.writeVarInt(size);
+            byte[] chunk = new byte[Math.min(size, 8192)];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(chunk);
+                compressed.writeBytes(chunk, 0, length);
+                if (compressed.getSize() >= writer.getSize()) {
+                    return null;
+                }
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    protected byte[] decompress(byte[] data) throws IOException {
+        BinaryReader header = new BinaryReader(data, 3, data.length - 3);
+        int size = header.readVarInt();
+        if ((size < 0) || (size > this.maxDecompressedSize)) {
+            throw new StreamCorruptedException(String.valueOf(size));
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, header.getPosition(), data.length - header.getPosition());
+            byte[] result = new byte[size];
+            int length = inflater.inflate(result);
+            if ((length != size) || !inflater.finished()) {
+                throw new StreamCorruptedException();
+            }
+            return result;
+        } catch (DataFormatException exception) {
+            throw new IOException(exception);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Descriptor ids and mapping indexes of a project.
+     * Descriptors are numbered in the order of their class names, so ids do not depend on the order they were added.
+     */
+    protected static class Metadata {
+        protected final Project project;
+        protected final ClassDescriptor[] descriptors;
+        protected final Map<ClassDescriptor, Integer> descriptorIds = new IdentityHashMap<>();
+        protected final Map<String, Integer> descriptorIdsByClassName = new HashMap<>();
+        protected final Map<ClassDescriptor, Map<DatabaseMapping, Integer>> mappingIndexes = new IdentityHashMap<>();
+        protected final int fingerprint;
+
+        protected Metadata(Project project) {
+            this.project = project;
+            List<ClassDescriptor> sorted = new ArrayList<>(project.getOrderedDescriptors());
+            sorted.sort((first, second) -> first.getJavaClassName().compareTo(second.getJavaClassName()));
+            this.descriptors = sorted.toArray(new ClassDescriptor[sorted.size()]);
+            int hash = 1;
+            for (int id = 0; id < this.descriptors.length; id++) {
+                ClassDescriptor descriptor = this.descriptors[id];
+                this.descriptorIds.put(descriptor, id);
+                this.descriptorIdsByClassName.put(descriptor.getJavaClassName(), id);
+                hash = 31 * hash + descriptor.getJavaClassName().hashCode();
+                List<DatabaseMapping> mappings = descriptor.getMappings();
+                Map<DatabaseMapping, Integer> indexes = new IdentityHashMap<>(mappings.size());
+                this.mappingIndexes.put(descriptor, indexes);
+                for (int index = 0; index < mappings.size(); index++) {
+                    DatabaseMapping mapping = mappings.get(index);
+                    indexes.put(mapping, index);
+                    hash = 31 * hash + String.valueOf(mapping.getAttributeName()).hashCode();
+                }
+            }
+            this.fingerprint = hash;
+        }
+
+        protected int getDescriptorId(ClassDescriptor descriptor) {
+            Integer id = this.descriptorIds.get(descriptor);
+            return (id == null) ? -1 : id;
+        }
+
+        protected int getDescriptorId(String className) {
+            Integer id = this.descriptorIdsByClassName.get(className);
+            return (id == null) ? -1 : id;
+        }
+
+        protected int getMappingIndex(ClassDescriptor descriptor, DatabaseMapping mapping) {
+            Map<DatabaseMapping, Integer> indexes = this.mappingIndexes.get(descriptor);
+            Integer index = ((indexes == null) || (mapping == null)) ? null : indexes.get(mapping);
+            return (index == null) ? -1 : index;
+        }
+
+        protected ClassDescriptor getDescriptor(int id) throws IOException {
+            if ((id < 0) || (id >= this.descriptors.length)) {
+                throw new StreamCorruptedException(String.valueOf(id));
+            }
+            return this.descriptors[id];
+        }
+
+        protected DatabaseMapping getMapping(ClassDescriptor descriptor, int index) throws IOException {
+            List<DatabaseMapping> mappings = descriptor.getMappings();
+            if ((index < 0) || (index >= mappings.size())) {
+                throw new StreamCorruptedException(String.valueOf(index));
+            }
+            return mappings.get(index);
+        }
+    }
+}
@@ -131,6 +131,7 @@ public ClientSession(ServerSession parent, ConnectionPolicy connectionPolicy, Ma
         this.shouldOptimizeResultSetAccess = parent.shouldOptimizeResultSetAccess();
         this.properties = properties;
         this.multitenantContextProperties = parent.getMultitenantContextProperties();
+        this.lazyDescriptorInitializer = parent.getLazyDescriptorInitializer();
 
         if (this.eventManager != null) {
             this.eventManager.postAcquireClientSession();
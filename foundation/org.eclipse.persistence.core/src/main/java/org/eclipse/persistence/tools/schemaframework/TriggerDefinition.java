@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.schemaframework;
+
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Allow for row triggers to be created.
+ * The statement is executed after each row changed by the event, the values of the row before
+ * the change are referenced through the platform's old row name.
+ * </p>
+ * @see org.eclipse.persistence.internal.databaseaccess.DatabasePlatform#supportsTriggers()
+ * @see org.eclipse.persistence.internal.databaseaccess.DatabasePlatform#getTriggerOldRowName()
+ */
+public class TriggerDefinition extends DatabaseObjectDefinition {
+    public static final String UPDATE = "UPDATE";
+    public static final String DELETE = "DELETE";
+
+    protected String targetTable;
+    protected String event;
+    protected String statement;
+
+    public TriggerDefinition() {
+        this.event = UPDATE;
+    }
+
+    public String getTargetTable() {
+        return targetTable;
+    }
+
+    /**
+     * PUBLIC:
+     * set qualified table name.
+     */
+    public void setTargetTable(String targetTable) {
+        this.targetTable = targetTable;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the event firing the trigger, UPDATE or DELETE.
+     */
+    public void setEvent(String event) {
+        this.event = event;
+    }
+
+    public String getStatement() {
+        return statement;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the SQL statement executed for each changed row.
+     */
+    public void setStatement(String statement) {
+        this.statement = statement;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the create trigger statement.
+     */
+    @Override
+    public Writer buildCreationWriter(AbstractSession session, Writer writer) throws ValidationException {
+        try {
+            writer.write(session.getPlatform().buildCreateTrigger(getFullName(), getTargetTable(), getEvent(), getStatement()));
+        } catch (IOException ioException) {
+            throw ValidationException.fileError(ioException);
+        }
+        return writer;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the drop trigger statement.
+     */
+    @Override
+    public Writer buildDeletionWriter(AbstractSession session, Writer writer) throws ValidationException {
+        try {
+            writer.write(session.getPlatform().buildDropTrigger(getFullName(), getTargetTable()));
+        } catch (IOException ioException) {
+            throw ValidationException.fileError(ioException);
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.pgsql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.annotations.DatabaseChangeNotificationType;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.events.DatabaseEventListener;
+import org.eclipse.persistence.queries.ValueReadQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+/**
+ * PUBLIC:
+ * Listener for PostgreSQL LISTEN/NOTIFY change events.
+ * This allows the EclipseLink cache to be invalidated when other applications change the database.
+ * <p>
+ * On login a trigger is installed on the primary table of each descriptor using database change notification,
+ * it sends a notification with the table, the transaction id and the primary key of every updated or deleted row.
+ * A dedicated connection listens to the notifications and invalidates the cached objects,
+ * except the objects merged by the transaction that made the change.
+ * Inserts are not notified as new rows cannot be stale in the cache.
+ * <p>
+ * Notifications sent while the listening connection is lost are missed, so the classes of all the tracked
+ * tables are invalidated when the connection is restored.
+ * The triggers can be created by the DBA instead, see {@link #setShouldCreateTriggers(boolean)}.
+ *
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#DATABASE_EVENT_LISTENER
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#DATABASE_EVENT_LISTENER_POLL_TIMEOUT
+ */
+public class PostgreSQLChangeNotificationListener implements DatabaseEventListener {
+
+    public static final String DEFAULT_CHANNEL = "eclipselink_cache";
+    public static final String TRANSACTION_ID = "postgresql.notify.transaction-id";
+
+    /** The name of the notification channel. */
+    protected String channel;
+    /** Create the triggers on login, true by default. */
+    protected boolean shouldCreateTriggers;
+    /** Milliseconds to wait for notifications before checking whether the listener was removed. */
+    protected int pollTimeout;
+    /** Milliseconds to wait before reconnecting after the listening connection was lost. */
+    protected long reconnectDelay;
+
+    /** Map each table, as sent in the notifications, to the descriptor that needs to be invalidated. */
+    protected Map<String, ClassDescriptor> descriptorsByTable;
+
+    /** The dedicated listening connection, null once removed. */
+    protected volatile Connection connection;
+
+    /** Cache query for transaction id. */
+    protected ValueReadQuery transactionIdQuery;
+
+    public PostgreSQLChangeNotificationListener() {
+        this.channel = DEFAULT_CHANNEL;
+        this.shouldCreateTriggers = true;
+        this.pollTimeout = 1000;
+        this.reconnectDelay = 5000;
+        this.transactionIdQuery = new ValueReadQuery("SELECT TXID_CURRENT()");
+        this.transactionIdQuery.setName(TRANSACTION_ID);
+    }
+
+    /**
+     * INTERNAL:
+     * Create the triggers and start listening on a dedicated connection.
+     */
+    @Override
+    public void register(Session session) {
+        final AbstractSession databaseSession = (AbstractSession)session;
+        initializeDescriptorsByTable(session);
+        if (this.descriptorsByTable.isEmpty()) {
+            return;
+        }
+        Object pollTimeoutProperty = session.getProperty(PersistenceUnitProperties.DATABASE_EVENT_LISTENER_POLL_TIMEOUT);
+        if (pollTimeoutProperty != null) {
+            this.pollTimeout = Integer.parseInt(pollTimeoutProperty.toString().trim());
+        }
+        databaseSession.log(SessionLog.FINEST, SessionLog.CONNECTION, "dcn_registering");
+        final Connection listeningConnection = connect(databaseSession);
+        this.connection = listeningConnection;
+        if (this.shouldCreateTriggers) {
+            createTriggers(databaseSession);
+        }
+        databaseSession.getServerPlatform().launchContainerRunnable(() -> listen(databaseSession, listeningConnection));
+    }
+
+    /**
+     * INTERNAL:
+     * Determine which tables should be tracked for change events.
+     */
+    public void initializeDescriptorsByTable(Session session) {
+        this.descriptorsByTable = new HashMap<>();
+        for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+            if (!descriptor.getTables().isEmpty()
+                    && (descriptor.getCachePolicy().getDatabaseChangeNotificationType() != null)
+                    && (descriptor.getCachePolicy().getDatabaseChangeNotificationType() != DatabaseChangeNotificationType.NONE)) {
+                // Inheritance subclasses share the table of the root, the root class is invalidated.
+                ClassDescriptor root = descriptor.isChildDescriptor() ? descriptor.getInheritancePolicy().getRootParentDescriptor() : descriptor;
+                this.descriptorsByTable.put(root.getTables().get(0).getQualifiedName(), root);
+            }
+        }
+    }
+
+    /**
+     * Open the listening connection and subscribe to the channel.
+     */
+    protected Connection connect(AbstractSession session) {
+        Connection newConnection = (Connection)session.getDatasourceLogin().connectToDatasource(null, session);
+        try {
+            newConnection.setAutoCommit(true);
+            try (Statement statement = newConnection.createStatement()) {
+                statement.execute("LISTEN " + this.channel);
+            }
+            return newConnection;
+        } catch (SQLException exception) {
+            try {
+                newConnection.close();
+            } catch (SQLException ignore) {
+                // Report the original error.
+            }
+            throw DatabaseException.sqlException(exception, session, false);
+        }
+    }
+
+    /**
+     * Install on each table a trigger notifying the primary key of the updated and deleted rows.
+     * The payload is "table,transaction id,length:value,...", with the qualified table name of the descriptor,
+     * the TXID_CURRENT() of the change and the length in characters and text of each primary key value.
+     */
+    protected void createTriggers(AbstractSession session) {
+        for (Map.Entry<String, ClassDescriptor> entry : this.descriptorsByTable.entrySet()) {
+            ClassDescriptor descriptor = entry.getValue();
+            DatabaseTable table = descriptor.getTables().get(0);
+            String function = table.getTableQualifierDelimited(session.getPlatform());
+            function = ((function == null) || function.isEmpty() ? "" : function + ".") + "eclipselink_notify_" + table.getName().toLowerCase();
+            StringBuilder payload = new StringBuilder("'").append(entry.getKey().replace("'", "''")).append(",' || TXID_CURRENT()");
+            for (DatabaseField field : descriptor.getPrimaryKeyFields()) {
+                if (field.getTable().equals(table)) {
+                    String value = "OLD." + field.getNameDelimited(session.getPlatform()) + "::TEXT";
+                    payload.append(" || ',' || LENGTH(").append(value).append(") || ':' || ").append(value);
+                }
+            }
+            String tableName = table.getQualifiedNameDelimited(session.getPlatform());
+            try (Statement statement = this.connection.createStatement()) {
+                statement.execute("CREATE OR REPLACE FUNCTION " + function + "() RETURNS TRIGGER AS $$ BEGIN PERFORM PG_NOTIFY('"
+                        + this.channel + "', " + payload + "); RETURN NULL; END; $$ LANGUAGE PLPGSQL");
+                statement.execute("DROP TRIGGER IF EXISTS eclipselink_notify ON " + tableName);
+                statement.execute("CREATE TRIGGER eclipselink_notify AFTER UPDATE OR DELETE ON " + tableName
+                        + " FOR EACH ROW EXECUTE PROCEDURE " + function + "()");
+                session.log(SessionLog.FINEST, SessionLog.CONNECTION, "dcn_register_table", tableName);
+            } catch (SQLException failed) {
+                // This will fail if the table does not exist,
+                // just log the error to allow table creation to work.
+                session.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+            }
+        }
+    }
+
+    /**
+     * Receive the notifications until the listener is removed, reconnecting if the connection is lost.
+     * The thread stops when the connection it listens on is no longer the listening connection,
+     * as the listener was removed or registered again.
+     */
+    protected void listen(AbstractSession session, Connection listeningConnection) {
+        Connection current = listeningConnection;
+        while ((current != null) && (this.connection == current)) {
+            try {
+                PGConnection pgConnection = current.unwrap(PGConnection.class);
+                PGNotification[] notifications = pgConnection.getNotifications(this.pollTimeout);
+                if (notifications != null) {
+                    for (PGNotification notification : notifications) {
+                        if (this.channel.equals(notification.getName())) {
+                            processNotification(notification.getParameter(), session);
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException exception) {
+                if (this.connection != current) {
+                    return;
+                }
+                session.log(SessionLog.WARNING, SessionLog.CONNECTION, "database_event_listener_connection_lost", this.channel, exception);
+                current = reconnect(session, current);
+            }
+        }
+    }
+
+    /**
+     * Replace the lost connection, and invalidate the tracked classes as their notifications may have been missed.
+     * Return the new connection, or null if the listener was removed meanwhile.
+     */
+    protected Connection reconnect(AbstractSession session, Connection lostConnection) {
+        try {
+            lostConnection.close();
+        } catch (SQLException ignore) {
+            // The connection is discarded.
+        }
+        while (this.connection == lostConnection) {
+            try {
+                Thread.sleep(this.reconnectDelay);
+                Connection newConnection = connect(session);
+                synchronized (this) {
+                    if (this.connection != lostConnection) {
+                        newConnection.close();
+                        return null;
+                    }
+                    this.connection = newConnection;
+                }
+                for (ClassDescriptor descriptor : this.descriptorsByTable.values()) {
+                    session.getIdentityMapAccessor().invalidateClass(descriptor.getJavaClass(), true);
+                }
+                return newConnection;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (SQLException | RuntimeException exception) {
+                session.logThrowable(SessionLog.FINEST, SessionLog.CONNECTION, exception);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Invalidate the cached object of the notification payload,
+     * unless it was merged by the transaction that changed the row.
+     * Notifications of other tables are ignored, if the primary key of a tracked table cannot be read
+     * from the payload the whole class is invalidated, as the changed row is unknown.
+     */
+    public void processNotification(String payload, AbstractSession session) {
+        session.log(SessionLog.FINEST, SessionLog.CONNECTION, "dcn_change_event", payload);
+        int index = payload.indexOf(',');
+        int nextIndex = payload.indexOf(',', index + 1);
+        if ((index < 0) || (nextIndex < 0)) {
+            return;
+        }
+        ClassDescriptor descriptor = this.descriptorsByTable.get(payload.substring(0, index));
+        if (descriptor == null) {
+            return;
+        }
+        String transactionId = payload.substring(index + 1, nextIndex);
+        Object primaryKey = extractPrimaryKey(payload, nextIndex + 1, descriptor, session);
+        if (primaryKey == null) {
+            session.log(SessionLog.WARNING, SessionLog.CONNECTION, "dcn_invalid_payload", payload);
+            session.getIdentityMapAccessor().invalidateClass(descriptor.getJavaClass(), true);
+            return;
+        }
+        CacheKey key = session.getIdentityMapAccessorInstance().getIdentityMapManager().getCacheKeyForObject(
+                primaryKey, descriptor.getJavaClass(), descriptor, false);
+        if ((key != null) && ((key.getTransactionId() == null) || !transactionId.equals(String.valueOf(key.getTransactionId())))) {
+            session.log(SessionLog.FINEST, SessionLog.CONNECTION, "dcn_invalidate", key.getKey(), descriptor.getJavaClass().getName());
+            key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+        }
+    }
+
+    /**
+     * Return the primary key from the "length:value,..." values of the payload starting at the index,
+     * or null if the values do not match the primary key fields of the table.
+     */
+    protected Object extractPrimaryKey(String payload, int index, ClassDescriptor descriptor, AbstractSession session) {
+        DatabaseRecord row = new DatabaseRecord();
+        List<DatabaseField> primaryKeyFields = descriptor.getPrimaryKeyFields();
+        DatabaseTable table = descriptor.getTables().get(0);
+        for (DatabaseField field : primaryKeyFields) {
+            if (!field.getTable().equals(table)) {
+                continue;
+            }
+            if (index > payload.length()) {
+                return null;
+            }
+            int separator = payload.indexOf(':', index);
+            if (separator < 0) {
+                return null;
+            }
+            int length;
+            int end;
+            try {
+                length = Integer.parseInt(payload.substring(index, separator));
+                if (length < 0) {
+                    return null;
+                }
+                // The database length is in characters, not UTF-16 units.
+                end = payload.offsetByCodePoints(separator + 1, length);
+            } catch (NumberFormatException | IndexOutOfBoundsException exception) {
+                return null;
+            }
+            if ((end < payload.length()) && (payload.charAt(end) != ',')) {
+                return null;
+            }
+            row.put(field, payload.substring(separator + 1, end));
+            index = end + 1;
+        }
+        if (index <= payload.length()) {
+            // More values than primary key fields.
+            return null;
+        }
+        try {
+            return descriptor.getObjectBuilder().extractPrimaryKeyFromRow(row, session);
+        } catch (RuntimeException exception) {
+            // The values cannot be converted to the primary key types.
+            session.logThrowable(SessionLog.FINEST, SessionLog.CONNECTION, exception);
+            return null;
+        }
+    }
+
+    /**
+     * Initialize the descriptor to receive database change events.
+     * This is called when the descriptor is initialized.
+     * The transaction id of the changes is recorded in the cache, so a change does not invalidate
+     * the objects merged by the same transaction.
+     */
+    @Override
+    public void initialize(final ClassDescriptor descriptor, AbstractSession session) {
+        descriptor.getEventManager().addListener(new DescriptorEventAdapter() {
+            @Override
+            public void postMerge(DescriptorEvent event) {
+                Object transactionId = event.getSession().getProperty(TRANSACTION_ID);
+                if ((transactionId != null) && (event.getChangeSet() != null) && event.getChangeSet().hasChanges()) {
+                    CacheKey cacheKey = event.getChangeSet().getActiveCacheKey();
+                    if (cacheKey == null) {
+                        cacheKey = event.getSession().getParent().getIdentityMapAccessorInstance().getIdentityMapManager().getCacheKeyForObject(
+                                event.getChangeSet().getId(), descriptor.getJavaClass(), descriptor, false);
+                    }
+                    if (cacheKey != null) {
+                        cacheKey.setTransactionId(transactionId);
+                    }
+                }
+            }
+            @Override
+            public void postUpdate(DescriptorEvent event) {
+                if (event.getSession().getProperty(TRANSACTION_ID) == null) {
+                    event.getSession().setProperty(TRANSACTION_ID, event.getSession().executeQuery(transactionIdQuery));
+                }
+            }
+        });
+    }
+
+    /**
+     * INTERNAL:
+     * Stop listening and close the dedicated connection, the triggers are kept for the next login.
+     */
+    @Override
+    public void remove(Session session) {
+        Connection listeningConnection;
+        synchronized (this) {
+            listeningConnection = this.connection;
+            this.connection = null;
+        }
+        if (listeningConnection == null) {
+            return;
+        }
+        ((AbstractSession)session).log(SessionLog.FINEST, SessionLog.CONNECTION, "dcn_unregister");
+        try {
+            listeningConnection.close();
+        } catch (SQLException exception) {
+            throw DatabaseException.sqlException(exception, (AbstractSession)session, false);
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the name of the notification channel.
+     */
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the name of the notification channel, "eclipselink_cache" by default.
+     * Applications sharing a database with different caches can use different channels.
+     */
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the triggers are created on login.
+     */
+    public boolean shouldCreateTriggers() {
+        return shouldCreateTriggers;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the triggers are created on login, true by default.
+     * If the application user is not allowed to create triggers, they must be created by the DBA,
+     * see {@link #createTriggers(AbstractSession)} for the payload format.
+     */
+    public void setShouldCreateTriggers(boolean shouldCreateTriggers) {
+        this.shouldCreateTriggers = shouldCreateTriggers;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds to wait for notifications before checking whether the listener was removed.
+     */
+    public int getPollTimeout() {
+        return pollTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds to wait for notifications before checking whether the listener was removed, 1 second by default.
+     * This bounds the time the listening thread keeps running after logout.
+     * The value can also be set with the "eclipselink.cache.database-event-listener.poll-timeout" persistence property.
+     */
+    public void setPollTimeout(int pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the milliseconds to wait before reconnecting after the listening connection was lost.
+     */
+    public long getReconnectDelay() {
+        return reconnectDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the milliseconds to wait before reconnecting after the listening connection was lost, 5 seconds by default.
+     */
+    public void setReconnectDelay(long reconnectDelay) {
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the mapping of tables to descriptors.
+     */
+    public Map<String, ClassDescriptor> getDescriptorsByTable() {
+        return descriptorsByTable;
+    }
+}
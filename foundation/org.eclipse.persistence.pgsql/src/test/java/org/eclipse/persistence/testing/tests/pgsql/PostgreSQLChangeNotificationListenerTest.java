@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.pgsql;
+
+import org.eclipse.persistence.annotations.DatabaseChangeNotificationType;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.pgsql.PostgreSQLChangeNotificationListener;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PostgreSQLChangeNotificationListenerTest {
+
+    public static class Item {
+        private long id;
+        private String code;
+
+        public Item() {
+        }
+
+        public Item(long id, String code) {
+            this.id = id;
+            this.code = code;
+        }
+    }
+
+    private DatabaseSessionImpl session;
+    private PostgreSQLChangeNotificationListener listener;
+
+    @Before
+    public void setup() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("APP.ITEM");
+        descriptor.addPrimaryKeyFieldName("APP.ITEM.ID");
+        descriptor.addPrimaryKeyFieldName("APP.ITEM.CODE");
+        descriptor.addDirectMapping("id", "APP.ITEM.ID");
+        descriptor.addDirectMapping("code", "APP.ITEM.CODE");
+        descriptor.getCachePolicy().setDatabaseChangeNotificationType(DatabaseChangeNotificationType.INVALIDATE);
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        session = (DatabaseSessionImpl)project.createDatabaseSession();
+        session.dontLogMessages();
+        session.initializeDescriptors();
+        listener = new PostgreSQLChangeNotificationListener();
+        listener.initializeDescriptorsByTable(session);
+    }
+
+    private Item cache(Item item) {
+        session.getIdentityMapAccessor().putInIdentityMap(item);
+        return item;
+    }
+
+    private boolean isValid(Item item) {
+        return session.getIdentityMapAccessor().isValid(item);
+    }
+
+    private void notify(String payload) {
+        listener.processNotification(payload, (AbstractSession)session);
+    }
+
+    @Test
+    public void compositeKeyTest() {
+        Item changed = cache(new Item(1, "A"));
+        Item other = cache(new Item(1, "a"));
+        notify("APP.ITEM,100,1:1,1:A");
+        assertFalse(isValid(changed));
+        assertTrue(isValid(other));
+    }
+
+    @Test
+    public void separatorsInValueTest() {
+        Item changed = cache(new Item(12, "a,1:b"));
+        Item other = cache(new Item(12, "a"));
+        notify("APP.ITEM,100,2:12,5:a,1:b");
+        assertFalse(isValid(changed));
+        assertTrue(isValid(other));
+    }
+
+    @Test
+    public void lengthInCharactersTest() {
+        // The length of the supplementary character is one database character, but two UTF-16 units.
+        Item changed = cache(new Item(3, "\uD83D\uDE00x"));
+        notify("APP.ITEM,100,1:3,2:\uD83D\uDE00x");
+        assertFalse(isValid(changed));
+    }
+
+    @Test
+    public void sameTransactionTest() {
+        Item merged = cache(new Item(1, "A"));
+        session.getIdentityMapAccessorInstance().getCacheKeyForObject(merged).setTransactionId(100L);
+        notify("APP.ITEM,100,1:1,1:A");
+        assertTrue(isValid(merged));
+        notify("APP.ITEM,101,1:1,1:A");
+        assertFalse(isValid(merged));
+    }
+
+    @Test
+    public void otherTableTest() {
+        Item cached = cache(new Item(1, "A"));
+        notify("APP.OTHER,100,1:1,1:A");
+        notify("ITEM,100,1:1,1:A");
+        notify("APP.ITEM");
+        notify("APP.ITEM,100");
+        assertTrue(isValid(cached));
+    }
+
+    @Test
+    public void notCachedTest() {
+        Item cached = cache(new Item(1, "A"));
+        notify("APP.ITEM,100,1:2,1:A");
+        assertTrue(isValid(cached));
+    }
+
+    @Test
+    public void malformedPayloadTest() {
+        String[] payloads = new String[] {
+            "APP.ITEM,100,",
+            "APP.ITEM,100,1:1",
+            "APP.ITEM,100,1:1,",
+            "APP.ITEM,100,11",
+            "APP.ITEM,100,x:1,1:A",
+            "APP.ITEM,100,-1:1,1:A",
+            "APP.ITEM,100,5:1,1:A",
+            "APP.ITEM,100,1:1,2:A",
+            "APP.ITEM,100,2:1,1:A",
+            "APP.ITEM,100,1:1,1:A,1:B",
+            "APP.ITEM,100,1:x,1:A" };
+        for (String payload : payloads) {
+            Item cached = cache(new Item(1, "A"));
+            // The changed row is unknown, so the whole class is invalidated.
+            notify(payload);
+            assertFalse(payload, isValid(cached));
+            session.getIdentityMapAccessor().initializeAllIdentityMaps();
+        }
+    }
+
+    @Test
+    public void pollTimeoutTest() {
+        assertEquals(1000, listener.getPollTimeout());
+        listener.setPollTimeout(200);
+        assertEquals(200, listener.getPollTimeout());
+    }
+}
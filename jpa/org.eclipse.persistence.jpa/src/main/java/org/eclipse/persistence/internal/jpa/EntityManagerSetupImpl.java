@@ -253,6 +253,7 @@
 import org.eclipse.persistence.internal.sessions.PropertiesHandler;
 import org.eclipse.persistence.internal.sessions.remote.RemoteConnection;
 import org.eclipse.persistence.jpa.metadata.FileBasedProjectCache;
+import org.eclipse.persistence.jpa.metadata.GeneratedProjectCache;
 import org.eclipse.persistence.jpa.metadata.MetadataSource;
 import org.eclipse.persistence.jpa.metadata.ProjectCache;
 import org.eclipse.persistence.jpa.metadata.XMLMetadataSource;
@@ -283,6 +284,7 @@
 import org.eclipse.persistence.sessions.coordination.TransportManager;
 import org.eclipse.persistence.sessions.coordination.jms.JMSPublishingTransportManager;
 import org.eclipse.persistence.sessions.coordination.jms.JMSTopicTransportManager;
+import org.eclipse.persistence.sessions.coordination.tcp.TCPTransportManager;
 import org.eclipse.persistence.sessions.factories.SessionManager;
 import org.eclipse.persistence.sessions.factories.XMLSessionConfigLoader;
 import org.eclipse.persistence.sessions.remote.RemoteSession;
@@ -677,7 +679,7 @@ public AbstractSession deploy(ClassLoader realClassLoader, Map additionalPropert
 
                             if (this.projectCacheAccessor != null) {
                                 //cache the project:
-                                this.projectCacheAccessor.storeProject(this.session.getProject(), deployProperties, this.session.getSessionLog());
+                                this.projectCacheAccessor.storeProject(this.session.getProject(), deployProperties, this.processor.getMappingFileNames(), classLoaderToUse, this.session.getSessionLog());
                             }
 
                             // The project is initially created using class names rather than classes.  This call will make the conversion.
@@ -822,10 +824,13 @@ public Object handleException(RuntimeException exception) {
                     isLockAcquired = false;
                 }
                 // 266912: Initialize the Metamodel, a login should have already occurred.
-                try {
-                    this.getMetamodel(classLoaderToUse);
-                } catch (Exception e) {
-                    this.session.log(SessionLog.FINEST, SessionLog.METAMODEL, "metamodel_init_failed", new Object[]{e.getMessage()});
+                // The metamodel initializes all the descriptors, so it is initialized on first use if they are initialized lazily.
+                if (!this.session.getProject().shouldInitializeDescriptorsLazily()) {
+                    try {
+                        this.getMetamodel(classLoaderToUse);
+                    } catch (Exception e) {
+                        this.session.log(SessionLog.FINEST, SessionLog.METAMODEL, "metamodel_init_failed", new Object[]{e.getMessage()});
+                    }
                 }
             }
             // Clear the weaver's reference to meta-data information, as it is held by the class loader and will never gc.
@@ -1210,6 +1215,10 @@ protected void updateDatabaseEventListener(Map m, ClassLoader loader) {
         if (listenerClassName != null) {
             if (listenerClassName.equalsIgnoreCase("DCN") || listenerClassName.equalsIgnoreCase("QCN")) {
                 listenerClassName = "org.eclipse.persistence.platform.database.oracle.dcn.OracleChangeNotificationListener";
+            } else if (listenerClassName.equalsIgnoreCase("NOTIFY")) {
+                listenerClassName = "org.eclipse.persistence.pgsql.PostgreSQLChangeNotificationListener";
+            } else if (listenerClassName.equalsIgnoreCase("CHANGE-LOG")) {
+                listenerClassName = "org.eclipse.persistence.platform.database.events.ChangeLogTableListener";
             }
             DatabaseEventListener listener = null;
             try {
@@ -2262,6 +2271,22 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                         transport.setShouldReuseJMSTopicPublisher(reuse_publisher.equalsIgnoreCase("true"));
                     }
 
+                } else if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.TCP)) {
+                    TCPTransportManager transport = new TCPTransportManager(rcm);
+                    String address = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_TCP_ADDRESS, m, this.session);
+                    property = PersistenceUnitProperties.COORDINATION_TCP_ADDRESS;
+                    value = address;
+                    if (address != null) {
+                        transport.setAddress(address);
+                    }
+                    String peers = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_TCP_PEERS, m, this.session);
+                    if (peers != null) {
+                        transport.setPeers(peers);
+                    }
+                    String peersFile = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_TCP_PEERS_FILE, m, this.session);
+                    if (peersFile != null) {
+                        transport.setPeersFile(peersFile);
+                    }
                 } else if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMI) || protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMIIIOP)) {
                     if (protocol.equalsIgnoreCase(CacheCoordinationProtocol.RMIIIOP)) {
                         rcm.setTransportManager(TransportManager.newTransportManager("org.eclipse.persistence.sessions.remote.rmi.iiop.RMIIIOPTransportManager", rcm));
@@ -2341,6 +2366,18 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                 if (threadPoolSize != null) {
                     this.session.getServerPlatform().setThreadPoolSize(Integer.parseInt(threadPoolSize));
                 }
+                String batchDelay = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_DELAY, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_BATCH_DELAY;
+                value = batchDelay;
+                if (batchDelay != null) {
+                    rcm.setCommandBatchingDelay(Long.parseLong(batchDelay));
+                }
+                String batchSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_SIZE, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_BATCH_SIZE;
+                value = batchSize;
+                if (batchSize != null) {
+                    rcm.setMaxCommandBatchSize(Integer.parseInt(batchSize));
+                }
                 String channel = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_CHANNEL, m, this.session);
                 if (channel != null) {
                     rcm.setChannel(channel);
@@ -2904,6 +2941,10 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateLockingTimestampDefault(m);
             updateSQLCallDeferralDefault(m);
             updateNamingIntoIndexed(m);
+            updateGenerateAttributeAccessors(m);
+            updateGenerateObjectCloners(m);
+            updateInitializeDescriptorsInParallel(m);
+            updateInitializeDescriptorsLazily(m);
             if (!session.hasBroker()) {
                 updateCacheCoordination(m, loader);
             }
@@ -3416,6 +3457,8 @@ protected void updateProjectCache(Map m, ClassLoader loader){
                 String accessorType = (String)accessor;
                 if (accessorType.equalsIgnoreCase("java-serialization")) {
                     projectCacheAccessor = new FileBasedProjectCache();
+                } else if (accessorType.equalsIgnoreCase("class")) {
+                    projectCacheAccessor = new GeneratedProjectCache();
                 } else {
                     try {
                         Class<? extends ProjectCache> transportClass = findClassForProperty(accessorType, PersistenceUnitProperties.PROJECT_CACHE, loader);
@@ -3760,6 +3803,58 @@ private void updateNamingIntoIndexed(Map persistenceProperties) {
         }
     }
 
+    private void updateGenerateAttributeAccessors(Map persistenceProperties) {
+        String generateAccessors = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.GENERATE_ATTRIBUTE_ACCESSORS, persistenceProperties, this.session);
+        if (generateAccessors != null) {
+            if (generateAccessors.equalsIgnoreCase("true")) {
+                this.session.getProject().setShouldGenerateAttributeAccessors(true);
+            } else if (generateAccessors.equalsIgnoreCase("false")) {
+                this.session.getProject().setShouldGenerateAttributeAccessors(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(generateAccessors, PersistenceUnitProperties.GENERATE_ATTRIBUTE_ACCESSORS));
+            }
+        }
+    }
+
+    private void updateGenerateObjectCloners(Map persistenceProperties) {
+        String generateCloners = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.GENERATE_OBJECT_CLONERS, persistenceProperties, this.session);
+        if (generateCloners != null) {
+            if (generateCloners.equalsIgnoreCase("true")) {
+                this.session.getProject().setShouldGenerateObjectCloners(true);
+            } else if (generateCloners.equalsIgnoreCase("false")) {
+                this.session.getProject().setShouldGenerateObjectCloners(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(generateCloners, PersistenceUnitProperties.GENERATE_OBJECT_CLONERS));
+            }
+        }
+    }
+
+    private void updateInitializeDescriptorsInParallel(Map persistenceProperties) {
+        String initializeInParallel = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.INITIALIZE_DESCRIPTORS_IN_PARALLEL, persistenceProperties, this.session);
+        if (initializeInParallel != null) {
+            if (initializeInParallel.equalsIgnoreCase("true")) {
+                this.session.getProject().setShouldInitializeDescriptorsInParallel(true);
+            } else if (initializeInParallel.equalsIgnoreCase("false")) {
+                this.session.getProject().setShouldInitializeDescriptorsInParallel(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(initializeInParallel, PersistenceUnitProperties.INITIALIZE_DESCRIPTORS_IN_PARALLEL));
+            }
+        }
+    }
+
+    private void updateInitializeDescriptorsLazily(Map persistenceProperties) {
+        String initializeLazily = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.INITIALIZE_DESCRIPTORS_LAZILY, persistenceProperties, this.session);
+        if (initializeLazily != null) {
+            if (initializeLazily.equalsIgnoreCase("true")) {
+                this.session.getProject().setShouldInitializeDescriptorsLazily(true);
+            } else if (initializeLazily.equalsIgnoreCase("false")) {
+                this.session.getProject().setShouldInitializeDescriptorsLazily(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(initializeLazily, PersistenceUnitProperties.INITIALIZE_DESCRIPTORS_LAZILY));
+            }
+        }
+    }
+
     private void updateConcurrencyManagerWaitTime(Map persistenceProperties) {
         String acquireWaitTime = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_ACQUIRE_WAIT_TIME, persistenceProperties, session);
         try {
@@ -4079,6 +4174,10 @@ private static ValidationMode getValidationMode(PersistenceUnitInfo persitenceUn
     public Metamodel getMetamodel(ClassLoader classLoader) {
         preInitializeMetamodel();
         if (!((MetamodelImpl)metaModel).isInitialized()){
+            // The metamodel is built from the initialized descriptors.
+            if ((this.session != null) && (this.session.getLazyDescriptorInitializer() != null)) {
+                this.session.getLazyDescriptorInitializer().initializeAllDescriptors();
+            }
             ((MetamodelImpl)metaModel).initialize(classLoader);
             // If the canonical metamodel classes exist, initialize them
             initializeCanonicalMetamodel(metaModel);
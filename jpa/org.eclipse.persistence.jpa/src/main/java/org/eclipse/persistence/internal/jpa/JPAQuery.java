@@ -145,6 +145,13 @@ public Map<String, Object> getHints(){
         return hints;
     }
 
+    /**
+     * Return the JPA lock mode name of the JPQL query.
+     */
+    public String getLockMode(){
+        return lockMode;
+    }
+
     /**
      * Return the JPQL string.
      */
@@ -317,6 +317,9 @@ protected static abstract class Hint {
             addHint(new BatchWriteHint());
             addHint(new ResultSetAccess());
             addHint(new SerializedObject());
+            addHint(new ParallelObjectBuildingHint());
+            addHint(new PipelinedFetchHint());
+            addHint(new CachePartitionFetchHint());
             addHint(new ReturnNameValuePairsHint());
             addHint(new PrintInnerJoinInWhereClauseHint());
             addHint(new QueryResultsCacheValidation());
@@ -2207,6 +2210,66 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    protected static class ParallelObjectBuildingHint extends Hint {
+        ParallelObjectBuildingHint() {
+            super(QueryHints.PARALLEL_OBJECT_BUILDING, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.TRUE, Boolean.TRUE},
+                {HintValues.FALSE, Boolean.FALSE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadAllQuery()) {
+                ((ReadAllQuery)query).setShouldBuildObjectsInParallel((Boolean)valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
+    protected static class PipelinedFetchHint extends Hint {
+        PipelinedFetchHint() {
+            super(QueryHints.PIPELINED_FETCH, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.TRUE, Boolean.TRUE},
+                {HintValues.FALSE, Boolean.FALSE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadAllQuery()) {
+                ((ReadAllQuery)query).setShouldPipelineFetch((Boolean)valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
+    protected static class CachePartitionFetchHint extends Hint {
+        CachePartitionFetchHint() {
+            super(QueryHints.CACHE_PARTITION_FETCH, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.TRUE, Boolean.TRUE},
+                {HintValues.FALSE, Boolean.FALSE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadObjectQuery()) {
+                ((ReadObjectQuery)query).setShouldFetchFromCachePartition((Boolean)valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     protected static class PrintInnerJoinInWhereClauseHint extends Hint {
         PrintInnerJoinInWhereClauseHint() {
             super(QueryHints.INNER_JOIN_IN_WHERE_CLAUSE, HintValues.TRUE);
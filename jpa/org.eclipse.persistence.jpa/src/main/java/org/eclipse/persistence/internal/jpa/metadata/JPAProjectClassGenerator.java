@@ -0,0 +1,518 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.metadata;
+
+import java.io.Writer;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.Version;
+import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.descriptors.CMPPolicy;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.DescriptorEventManager;
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.codegen.AccessLevel;
+import org.eclipse.persistence.internal.codegen.ClassDefinition;
+import org.eclipse.persistence.internal.codegen.NonreflectiveAttributeDefinition;
+import org.eclipse.persistence.internal.codegen.NonreflectiveMethodDefinition;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.jpa.CMP3Policy;
+import org.eclipse.persistence.internal.jpa.JPAQuery;
+import org.eclipse.persistence.mappings.AggregateObjectMapping;
+import org.eclipse.persistence.mappings.CollectionMapping;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectCollectionMapping;
+import org.eclipse.persistence.mappings.DirectMapMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.mappings.UnidirectionalOneToManyMapping;
+import org.eclipse.persistence.mappings.converters.Converter;
+import org.eclipse.persistence.mappings.converters.ConverterClass;
+import org.eclipse.persistence.mappings.converters.EnumTypeConverter;
+import org.eclipse.persistence.mappings.converters.ObjectTypeConverter;
+import org.eclipse.persistence.mappings.converters.SerializedObjectConverter;
+import org.eclipse.persistence.mappings.converters.TypeConversionConverter;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.factories.ProjectClassGenerator;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Generate the project class of a persistence unit, used as project cache.
+ * <p><b>Description</b>: In addition to the descriptors, the generated class holds the JPQL named queries,
+ * the mapped superclass descriptors used by the metamodel and the JPA specific mapping settings.
+ * It also defines the EclipseLink version, the checksum of the metadata it was generated for
+ * and the names of the mapping files included in the checksum,
+ * in the {@link #VERSION_FIELD}, {@link #CHECKSUM_FIELD} and {@link #MAPPING_FILES_FIELD} constants,
+ * so a class generated for other classes or mapping files is not used.
+ * <p>
+ * The project is validated before the class is generated,
+ * metadata the generated class cannot reproduce, such as entity listeners, native or stored procedure queries,
+ * multitenancy or partitioning, fails the generation with a {@link ValidationException}.
+ */
+public class JPAProjectClassGenerator extends ProjectClassGenerator {
+
+    /** The name of the generated constant holding the EclipseLink version the class was generated by. */
+    public static final String VERSION_FIELD = "ECLIPSELINK_VERSION";
+
+    /** The name of the generated constant holding the checksum of the metadata the class was generated for. */
+    public static final String CHECKSUM_FIELD = "METADATA_CHECKSUM";
+
+    /** The name of the generated constant holding the names of the mapping files included in the checksum. */
+    public static final String MAPPING_FILES_FIELD = "MAPPING_FILES";
+
+    protected long metadataChecksum;
+    protected List<String> mappingFileNames;
+
+    public JPAProjectClassGenerator(Project project, String projectClassName, String fileName, long metadataChecksum, List<String> mappingFileNames) {
+        super(project, projectClassName, fileName);
+        this.metadataChecksum = metadataChecksum;
+        this.mappingFileNames = mappingFileNames;
+    }
+
+    public JPAProjectClassGenerator(Project project, String projectClassName, Writer outputWriter, long metadataChecksum, List<String> mappingFileNames) {
+        super(project, projectClassName, outputWriter);
+        this.metadataChecksum = metadataChecksum;
+        this.mappingFileNames = mappingFileNames;
+    }
+
+    /**
+     * Validate the project and generate the project class, nothing is written if the project is not supported.
+     */
+    @Override
+    public void generate(boolean useUnicode) throws ValidationException {
+        validate();
+        super.generate(useUnicode);
+    }
+
+    /**
+     * Throw a ValidationException if the project has metadata the generated class cannot reproduce.
+     */
+    public void validate() throws ValidationException {
+        Project project = getProject();
+        if (!project.getJPATablePerTenantQueries().isEmpty()) {
+            throw ValidationException.projectClassUnsupportedMetadata("table per tenant queries", getClassName());
+        }
+        if ((project.getQueries() != null) && !project.getQueries().isEmpty()) {
+            throw ValidationException.projectClassUnsupportedMetadata("queries", getClassName());
+        }
+        if ((project.getSQLResultSetMappings() != null) && !project.getSQLResultSetMappings().isEmpty()) {
+            throw ValidationException.projectClassUnsupportedMetadata("SQL result set mappings", getClassName());
+        }
+        if ((project.getAttributeGroups() != null) && !project.getAttributeGroups().isEmpty()) {
+            throw ValidationException.projectClassUnsupportedMetadata("entity graphs", getClassName());
+        }
+        if (!project.getPartitioningPolicies().isEmpty()) {
+            throw ValidationException.projectClassUnsupportedMetadata("partitioning policies", getClassName());
+        }
+        for (DatabaseQuery query : project.getJPAQueries()) {
+            validateQuery(query);
+        }
+        for (ClassDescriptor descriptor : project.getOrderedDescriptors()) {
+            validateDescriptor(descriptor);
+        }
+        for (ClassDescriptor descriptor : project.getMappedSuperclassDescriptors().values()) {
+            validateDescriptor(descriptor);
+        }
+    }
+
+    protected void validateQuery(DatabaseQuery query) {
+        if (!(query instanceof JPAQuery) || !((JPAQuery)query).isJPQLQuery()) {
+            throw ValidationException.projectClassUnsupportedMetadata("native or stored procedure query", query.getName());
+        }
+        Map<String, Object> hints = ((JPAQuery)query).getHints();
+        if (hints != null) {
+            for (Map.Entry<String, Object> hint : hints.entrySet()) {
+                Object value = hint.getValue();
+                boolean isSupported = (value == null) || (value instanceof String);
+                if (value instanceof Object[]) {
+                    isSupported = true;
+                    for (Object element : (Object[])value) {
+                        isSupported = isSupported && (element instanceof String);
+                    }
+                }
+                if (!isSupported) {
+                    throw ValidationException.projectClassUnsupportedMetadata("query hint " + hint.getKey(), query.getName());
+                }
+            }
+        }
+    }
+
+    protected void validateDescriptor(ClassDescriptor descriptor) {
+        String owner = descriptor.getJavaClassName();
+        if (descriptor.hasMultitenantPolicy()) {
+            throw ValidationException.projectClassUnsupportedMetadata("multitenant policy", owner);
+        }
+        if (descriptor.hasTablePerClassPolicy()) {
+            throw ValidationException.projectClassUnsupportedMetadata("table per class inheritance", owner);
+        }
+        if (descriptor.hasSerializedObjectPolicy()) {
+            throw ValidationException.projectClassUnsupportedMetadata("serialized object policy", owner);
+        }
+        if ((descriptor.getPartitioningPolicy() != null) || (descriptor.getPartitioningPolicyName() != null)) {
+            throw ValidationException.projectClassUnsupportedMetadata("partitioning policy", owner);
+        }
+        if (descriptor.getCacheInterceptorClassName() != null) {
+            throw ValidationException.projectClassUnsupportedMetadata("cache interceptor", owner);
+        }
+        if (!descriptor.getCachePolicy().getCacheIndexes().isEmpty()) {
+            throw ValidationException.projectClassUnsupportedMetadata("cache indexes", owner);
+        }
+        if (descriptor.getCachePolicy().getCacheIsolation() == CacheIsolationType.PROTECTED) {
+            throw ValidationException.projectClassUnsupportedMetadata("protected cache isolation", owner);
+        }
+        if (descriptor.getQueryManager().hasAdditionalCriteria()) {
+            throw ValidationException.projectClassUnsupportedMetadata("additional criteria", owner);
+        }
+        if ((descriptor.getAttributeGroups() != null) && !descriptor.getAttributeGroups().isEmpty()) {
+            throw ValidationException.projectClassUnsupportedMetadata("entity graphs", owner);
+        }
+        if ((descriptor.getCMPPolicy() != null) && (descriptor.getCMPPolicy().getClass() != CMPPolicy.class)
+                && (descriptor.getCMPPolicy().getClass() != CMP3Policy.class)) {
+            throw ValidationException.projectClassUnsupportedMetadata(descriptor.getCMPPolicy().getClass().getName(), owner);
+        }
+        if (descriptor.hasEventManager()) {
+            DescriptorEventManager eventManager = descriptor.getEventManager();
+            if (eventManager.hasEntityEventListener() || eventManager.hasEntityListenerEventListeners()
+                    || eventManager.hasDefaultEventListeners() || !eventManager.getEventListeners().isEmpty()
+                    || !eventManager.getDescriptorEventHolders().isEmpty()) {
+                throw ValidationException.projectClassUnsupportedMetadata("entity listeners", owner);
+            }
+        }
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            validateMapping(mapping, owner + "." + mapping.getAttributeName());
+        }
+    }
+
+    protected void validateMapping(DatabaseMapping mapping, String owner) {
+        String mappingClassName = mapping.getClass().getName();
+        if (!mappingClassName.substring(0, mappingClassName.lastIndexOf('.')).equals("org.eclipse.persistence.mappings")
+                || (mapping instanceof UnidirectionalOneToManyMapping)) {
+            throw ValidationException.projectClassUnsupportedMetadata(mappingClassName, owner);
+        }
+        if (mapping.derivesId() || (mapping.getMapsIdValue() != null)) {
+            throw ValidationException.projectClassUnsupportedMetadata("derived id", owner);
+        }
+        if ((mapping.getProperties() != null) && !mapping.getProperties().isEmpty()) {
+            throw ValidationException.projectClassUnsupportedMetadata("mapping properties", owner);
+        }
+        if (mapping.isCollectionMapping()) {
+            CollectionMapping collectionMapping = (CollectionMapping)mapping;
+            if (collectionMapping.getContainerPolicy().isMappedKeyMapPolicy()) {
+                throw ValidationException.projectClassUnsupportedMetadata("map key", owner);
+            }
+            if (collectionMapping.getListOrderField() != null) {
+                throw ValidationException.projectClassUnsupportedMetadata("order column", owner);
+            }
+        }
+        if (mapping.isAggregateObjectMapping()) {
+            AggregateObjectMapping aggregateMapping = (AggregateObjectMapping)mapping;
+            if ((aggregateMapping.getNestedFieldTranslations() != null) && !aggregateMapping.getNestedFieldTranslations().isEmpty()) {
+                throw ValidationException.projectClassUnsupportedMetadata("nested attribute overrides", owner);
+            }
+        } else if (mapping.isAggregateCollectionMapping()) {
+            // The collection table and the overrides of the embeddable are not generated.
+            throw ValidationException.projectClassUnsupportedMetadata("element collection of embeddables", owner);
+        }
+        if (mapping.isAbstractDirectMapping()) {
+            validateConverter(((AbstractDirectMapping)mapping).getConverter(), owner);
+        } else if (mapping.isDirectCollectionMapping()) {
+            validateConverter(((DirectCollectionMapping)mapping).getValueConverter(), owner);
+            if (mapping.isDirectMapMapping()) {
+                validateConverter(((DirectMapMapping)mapping).getKeyConverter(), owner);
+            }
+        }
+    }
+
+    /**
+     * Only the converters the generator writes the settings of, or the converters without settings built by a
+     * public default constructor, are supported.
+     */
+    protected void validateConverter(Converter converter, String owner) {
+        if (converter == null) {
+            return;
+        }
+        Class<?> converterClass = converter.getClass();
+        if ((converterClass == EnumTypeConverter.class) || (converterClass == ConverterClass.class)
+                || (converterClass == ObjectTypeConverter.class) || (converterClass == TypeConversionConverter.class)) {
+            return;
+        }
+        if (converterClass == SerializedObjectConverter.class) {
+            if (((SerializedObjectConverter)converter).getSerializerClassName() != null) {
+                throw ValidationException.projectClassUnsupportedMetadata("serializer", owner);
+            }
+            return;
+        }
+        boolean hasDefaultConstructor = false;
+        try {
+            hasDefaultConstructor = Modifier.isPublic(converterClass.getModifiers())
+                    && Modifier.isPublic(converterClass.getConstructor().getModifiers());
+        } catch (NoSuchMethodException notFound) {
+            // Not supported.
+        }
+        if (!hasDefaultConstructor || (converter instanceof ObjectTypeConverter) || (converter instanceof TypeConversionConverter)) {
+            throw ValidationException.projectClassUnsupportedMetadata(converterClass.getName(), owner);
+        }
+    }
+
+    @Override
+    protected void computeDescriptorMethodNames() {
+        super.computeDescriptorMethodNames();
+        for (ClassDescriptor descriptor : getProject().getMappedSuperclassDescriptors().values()) {
+            getDescriptorMethodNames().put(descriptor, "MappedSuperclass" + removeDots(descriptor.getJavaClassName()));
+        }
+    }
+
+    @Override
+    protected ClassDefinition generateProjectClass() {
+        ClassDefinition classDefinition = super.generateProjectClass();
+
+        NonreflectiveAttributeDefinition version = new NonreflectiveAttributeDefinition();
+        version.setAccessLevel(buildConstantAccessLevel());
+        version.setType("String");
+        version.setName(VERSION_FIELD);
+        version.setInitialValue(printLiteral(Version.getVersionString()));
+        classDefinition.addAttribute(version);
+
+        NonreflectiveAttributeDefinition checksum = new NonreflectiveAttributeDefinition();
+        checksum.setAccessLevel(buildConstantAccessLevel());
+        checksum.setType("long");
+        checksum.setName(CHECKSUM_FIELD);
+        checksum.setInitialValue(this.metadataChecksum + "L");
+        classDefinition.addAttribute(checksum);
+
+        NonreflectiveAttributeDefinition mappingFiles = new NonreflectiveAttributeDefinition();
+        mappingFiles.setAccessLevel(buildConstantAccessLevel());
+        mappingFiles.setType("String[]");
+        mappingFiles.setName(MAPPING_FILES_FIELD);
+        StringBuilder names = new StringBuilder("{");
+        for (String mappingFileName : this.mappingFileNames) {
+            if (names.length() > 1) {
+                names.append(", ");
+            }
+            names.append(printLiteral(mappingFileName));
+        }
+        mappingFiles.setInitialValue(names.append('}').toString());
+        classDefinition.addAttribute(mappingFiles);
+
+        for (ClassDescriptor descriptor : buildSortedMappedSuperclassDescriptors()) {
+            classDefinition.addMethod(buildDescriptorMethod(descriptor));
+        }
+        if (!getProject().getJPAQueries().isEmpty()) {
+            classDefinition.addMethod(buildJPAQueriesMethod());
+        }
+        return classDefinition;
+    }
+
+    @Override
+    protected NonreflectiveMethodDefinition buildConstructor() {
+        NonreflectiveMethodDefinition method = super.buildConstructor();
+        List<ClassDescriptor> mappedSuperclasses = buildSortedMappedSuperclassDescriptors();
+        if (!mappedSuperclasses.isEmpty()) {
+            method.addLine("");
+            method.addLine("// Mapped superclasses.");
+            for (ClassDescriptor descriptor : mappedSuperclasses) {
+                method.addLine("addMappedSuperclass(\"" + descriptor.getJavaClassName() + "\", build" + getDescriptorMethodNames().get(descriptor) + "ClassDescriptor(), false);");
+            }
+        }
+        if (!getProject().getJPAQueries().isEmpty()) {
+            method.addLine("");
+            method.addLine("applyJPAQueries();");
+        }
+        return method;
+    }
+
+    protected NonreflectiveMethodDefinition buildJPAQueriesMethod() {
+        NonreflectiveMethodDefinition method = new NonreflectiveMethodDefinition();
+        method.setName("applyJPAQueries");
+        method.setAccessLevel(new AccessLevel(AccessLevel.PROTECTED));
+        method.setReturnType("void");
+        method.addLine("java.util.Map<String, Object> hints = null;");
+        for (DatabaseQuery databaseQuery : getProject().getJPAQueries()) {
+            JPAQuery query = (JPAQuery)databaseQuery;
+            method.addLine("");
+            method.addLine("hints = new java.util.HashMap<>();");
+            if (query.getHints() != null) {
+                for (Map.Entry<String, Object> hint : query.getHints().entrySet()) {
+                    method.addLine("hints.put(" + printLiteral(hint.getKey()) + ", " + printHintValue(hint.getValue()) + ");");
+                }
+            }
+            method.addLine("addJPAQuery(new " + JPAQuery.class.getName() + "(" + printLiteral(query.getName()) + ", "
+                    + printLiteral(query.getJPQLString()) + ", " + printLiteral(query.getLockMode()) + ", hints));");
+        }
+        return method;
+    }
+
+    /**
+     * The customizer is run when the project is deployed, as for the other project caches.
+     */
+    @Override
+    protected void addDescriptorPropertyLines(NonreflectiveMethodDefinition method, ClassDescriptor descriptor) {
+        super.addDescriptorPropertyLines(method, descriptor);
+        if (descriptor.getDescriptorCustomizerClassName() != null) {
+            method.addLine("descriptor.setDescriptorCustomizerClassName(" + printLiteral(descriptor.getDescriptorCustomizerClassName()) + ");");
+        }
+    }
+
+    @Override
+    protected void addCMPPolicyLines(NonreflectiveMethodDefinition method, CMPPolicy sourceCMPPolicy) {
+        if (!(sourceCMPPolicy instanceof CMP3Policy)) {
+            super.addCMPPolicyLines(method, sourceCMPPolicy);
+            return;
+        }
+        method.addLine("");
+        method.addLine("// CMP Policy");
+        method.addLine(CMP3Policy.class.getName() + " cmpPolicy = new " + CMP3Policy.class.getName() + "();");
+        if (((CMP3Policy)sourceCMPPolicy).getPKClassName() != null) {
+            method.addLine("cmpPolicy.setPrimaryKeyClassName(" + printLiteral(((CMP3Policy)sourceCMPPolicy).getPKClassName()) + ");");
+        }
+        method.addLine("descriptor.setCMPPolicy(cmpPolicy);");
+    }
+
+    /**
+     * Add the JPA settings of the mapping, the id and cascade settings.
+     */
+    @Override
+    protected void addMappingLines(NonreflectiveMethodDefinition method, DatabaseMapping mapping) {
+        super.addMappingLines(method, mapping);
+        String mappingName = mapping.getAttributeName() + "Mapping";
+        if (mapping.isJPAId()) {
+            method.addLine(mappingName + ".setIsJPAId();");
+        }
+        if (mapping.isAbstractDirectMapping()) {
+            if (mapping.isLazy()) {
+                method.addLine(mappingName + ".setIsLazy(true);");
+            }
+            addFieldLines(method, mappingName + ".getField()", ((AbstractDirectMapping)mapping).getField());
+        } else if (mapping.isDirectCollectionMapping()) {
+            addFieldLines(method, mappingName + ".getDirectField()", ((DirectCollectionMapping)mapping).getDirectField());
+        }
+        if (mapping.isForeignReferenceMapping()) {
+            ForeignReferenceMapping referenceMapping = (ForeignReferenceMapping)mapping;
+            if (referenceMapping.isCascadePersist()) {
+                method.addLine(mappingName + ".setCascadePersist(true);");
+            }
+            if (referenceMapping.isCascadeMerge()) {
+                method.addLine(mappingName + ".setCascadeMerge(true);");
+            }
+            if (referenceMapping.isCascadeRefresh()) {
+                method.addLine(mappingName + ".setCascadeRefresh(true);");
+            }
+            if (referenceMapping.isCascadeRemove()) {
+                method.addLine(mappingName + ".setCascadeRemove(true);");
+            }
+            if (referenceMapping.isCascadeDetach()) {
+                method.addLine(mappingName + ".setCascadeDetach(true);");
+            }
+        }
+    }
+
+    /**
+     * Add the lines setting the column settings of the field the metadata defines,
+     * its type and whether it is insertable or updatable change how it is read and written.
+     */
+    protected void addFieldLines(NonreflectiveMethodDefinition method, String fieldName, DatabaseField field) {
+        if (field == null) {
+            return;
+        }
+        if (field.getTypeName() != null) {
+            method.addLine(fieldName + ".setTypeName(" + printLiteral(field.getTypeName()) + ");");
+        }
+        if ((field.getColumnDefinition() != null) && !field.getColumnDefinition().isEmpty()) {
+            method.addLine(fieldName + ".setColumnDefinition(" + printLiteral(field.getColumnDefinition()) + ");");
+        }
+        if (field.getLength() != 0) {
+            method.addLine(fieldName + ".setLength(" + field.getLength() + ");");
+        }
+        if (field.getPrecision() != 0) {
+            method.addLine(fieldName + ".setPrecision(" + field.getPrecision() + ");");
+        }
+        if (field.getScale() != 0) {
+            method.addLine(fieldName + ".setScale(" + field.getScale() + ");");
+        }
+        if (field.isUnique()) {
+            method.addLine(fieldName + ".setUnique(true);");
+        }
+        if (!field.isNullable()) {
+            method.addLine(fieldName + ".setNullable(false);");
+        }
+        if (!field.isInsertable()) {
+            method.addLine(fieldName + ".setInsertable(false);");
+        }
+        if (!field.isUpdatable()) {
+            method.addLine(fieldName + ".setUpdatable(false);");
+        }
+    }
+
+    protected List<ClassDescriptor> buildSortedMappedSuperclassDescriptors() {
+        List<ClassDescriptor> descriptors = new ArrayList<>(getProject().getMappedSuperclassDescriptors().values());
+        descriptors.sort((first, second) -> first.getJavaClassName().compareTo(second.getJavaClassName()));
+        return descriptors;
+    }
+
+    protected AccessLevel buildConstantAccessLevel() {
+        AccessLevel accessLevel = new AccessLevel(AccessLevel.PUBLIC);
+        accessLevel.setIsStatic(true);
+        accessLevel.setIsFinal(true);
+        return accessLevel;
+    }
+
+    protected String printHintValue(Object value) {
+        if (value instanceof Object[] values) {
+            StringBuilder printed = new StringBuilder("new Object[] {");
+            for (int index = 0; index < values.length; index++) {
+                if (index > 0) {
+                    printed.append(", ");
+                }
+                printed.append(printLiteral((String)values[index]));
+            }
+            return printed.append("}").toString();
+        }
+        return printLiteral((String)value);
+    }
+
+    /**
+     * Return the Java string literal of the value, with its special characters escaped.
+     */
+    protected String printLiteral(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder literal = new StringBuilder(value.length() + 2);
+        literal.append('"');
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+            switch (character) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> literal.append(character);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * Generate the project class source to the file, the project is validated first.
+     */
+    public static void write(Project project, String projectClassName, String fileName, long metadataChecksum, List<String> mappingFileNames) {
+        new JPAProjectClassGenerator(project, projectClassName, fileName, metadataChecksum, mappingFileNames).generate();
+    }
+}
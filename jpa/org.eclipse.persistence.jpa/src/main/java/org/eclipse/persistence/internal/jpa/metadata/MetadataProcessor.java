@@ -51,6 +51,7 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -61,6 +62,7 @@
 import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.eclipse.persistence.exceptions.PersistenceUnitLoadingException;
 import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.jpa.EntityManagerFactoryProvider;
 import org.eclipse.persistence.internal.jpa.EntityManagerSetupImpl;
 import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitProcessor;
 import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitProcessor.Mode;
@@ -78,6 +80,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.jpa.Archive;
 import org.eclipse.persistence.jpa.metadata.MetadataSource;
+import org.eclipse.persistence.jpa.metadata.XMLMetadataSource;
 import org.eclipse.persistence.logging.AbstractSessionLog;
 import org.eclipse.persistence.logging.SessionLog;
 
@@ -180,6 +183,33 @@ public MetadataFactory getMetadataFactory() {
         return m_factory;
     }
 
+    /**
+     * INTERNAL:
+     * Return the names of the mapping files the project is built from: the persistence.xml,
+     * the standard and the listed mapping files of the persistence unit, and the file or URL
+     * of its XML metadata source.
+     */
+    public List<String> getMappingFileNames() {
+        PersistenceUnitInfo puInfo = m_project.getPersistenceUnitInfo();
+        List<String> mappingFileNames = new ArrayList<>();
+        mappingFileNames.add(EntityManagerFactoryProvider.getConfigPropertyAsString(PersistenceUnitProperties.ECLIPSELINK_PERSISTENCE_XML, m_predeployProperties, PersistenceUnitProperties.ECLIPSELINK_PERSISTENCE_XML_DEFAULT));
+        mappingFileNames.add(MetadataHelper.JPA_ORM_FILE);
+        mappingFileNames.addAll(puInfo.getMappingFileNames());
+        if (! Boolean.valueOf((String) puInfo.getProperties().get(PersistenceUnitProperties.EXCLUDE_ECLIPSELINK_ORM_FILE))) {
+            mappingFileNames.add(MetadataHelper.ECLIPSELINK_ORM_FILE);
+        }
+        if (m_metadataSource instanceof XMLMetadataSource) {
+            String metadataSource = EntityManagerFactoryProvider.getConfigPropertyAsString(PersistenceUnitProperties.METADATA_SOURCE_XML_URL, m_predeployProperties);
+            if (metadataSource == null || metadataSource.length() == 0) {
+                metadataSource = EntityManagerFactoryProvider.getConfigPropertyAsString(PersistenceUnitProperties.METADATA_SOURCE_XML_FILE, m_predeployProperties);
+            }
+            if (metadataSource != null && metadataSource.length() > 0) {
+                mappingFileNames.add(metadataSource);
+            }
+        }
+        return mappingFileNames;
+    }
+
     /**
      * INTERNAL:
      */
@@ -333,15 +363,47 @@ protected void initPersistenceUnitClasses() {
         // Add all the <class> specifications.
         classNames.addAll(persistenceUnitInfo.getManagedClassNames());
 
-        // Add all the classes from the <jar> specifications.
-        for (URL url : persistenceUnitInfo.getJarFileUrls()) {
-            classNames.addAll(PersistenceUnitProcessor.getClassNamesFromURL(url, m_loader, null));
+        Set<String> unlistedClasses = Collections.emptySet();
+        boolean shouldScanInParallel = shouldScanInParallel();
+        if (shouldScanInParallel) {
+            // PERF: Scan the <jar> specifications and the persistence unit root url in parallel.
+            URL rootURL = persistenceUnitInfo.excludeUnlistedClasses() ? null : persistenceUnitInfo.getPersistenceUnitRootUrl();
+            List<URL> urls = new ArrayList<URL>(persistenceUnitInfo.getJarFileUrls());
+            if (rootURL != null) {
+                urls.add(rootURL);
+            }
+            List<Set<String>> scannedClassNames = ParallelMetadataReader.read(urls,
+                    url -> PersistenceUnitProcessor.getClassNamesFromURL(url, m_loader, (url == rootURL) ? m_predeployProperties : null));
+            for (int index = 0; index < persistenceUnitInfo.getJarFileUrls().size(); index++) {
+                classNames.addAll(scannedClassNames.get(index));
+            }
+            if (rootURL != null) {
+                unlistedClasses = scannedClassNames.get(scannedClassNames.size() - 1);
+            }
+        } else {
+            // Add all the classes from the <jar> specifications.
+            for (URL url : persistenceUnitInfo.getJarFileUrls()) {
+                classNames.addAll(PersistenceUnitProcessor.getClassNamesFromURL(url, m_loader, null));
+            }
+
+            // Add all the classes off the classpath at the persistence unit root url.
+            if (! persistenceUnitInfo.excludeUnlistedClasses()) {
+                unlistedClasses = PersistenceUnitProcessor.getClassNamesFromURL(persistenceUnitInfo.getPersistenceUnitRootUrl(), m_loader, m_predeployProperties);
+            }
         }
 
-        // Add all the classes off the classpath at the persistence unit root url.
-        Set<String> unlistedClasses = Collections.emptySet();
-        if (! persistenceUnitInfo.excludeUnlistedClasses()) {
-            unlistedClasses = PersistenceUnitProcessor.getClassNamesFromURL(persistenceUnitInfo.getPersistenceUnitRootUrl(), m_loader, m_predeployProperties);
+        if (shouldScanInParallel) {
+            // PERF: Read the class files in parallel into the metadata factory
+            // class cache, the listed classes fully and the unlisted ones lazily.
+            Set<String> listedClasses = new LinkedHashSet<String>(classNames);
+            List<String> lazyClasses = new ArrayList<String>();
+            for (String className : unlistedClasses) {
+                if (! listedClasses.contains(className)) {
+                    lazyClasses.add(className);
+                }
+            }
+            ParallelMetadataReader.read(new ArrayList<String>(listedClasses), className -> m_factory.getMetadataClass(className, false));
+            ParallelMetadataReader.read(lazyClasses, className -> m_factory.getMetadataClass(className, true));
         }
 
         // 5 - Go through all the class names we found and add those classes
@@ -384,6 +446,15 @@ protected void initPersistenceUnitClasses() {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return true if the archives and the class files of the persistence unit are read on multiple threads.
+     */
+    protected boolean shouldScanInParallel() {
+        String scanInParallel = EntityManagerFactoryProvider.getConfigPropertyAsString(PersistenceUnitProperties.METADATA_PARALLEL_SCANNING, m_predeployProperties, "false");
+        return scanInParallel.equalsIgnoreCase("true");
+    }
+
     /**
      * INTERNAL:
      * This method is responsible for figuring out list of mapping files to
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.metadata;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.persistence.internal.helper.ParallelExecutor;
+
+/**
+ * INTERNAL:
+ * PERF: Reads the metadata sources of a persistence unit, such as archives or class files, on multiple threads.
+ * <p>
+ * The sources are claimed one at a time by the calling thread and by the threads of the {@link ParallelExecutor} pool
+ * shared by all the sessions. The results are returned in the order of the sources.
+ * The reader must only share thread safe state between the sources, such as the metadata factory class cache.
+ *
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#METADATA_PARALLEL_SCANNING
+ */
+public class ParallelMetadataReader {
+
+    private ParallelMetadataReader() {
+    }
+
+    /**
+     * INTERNAL:
+     * Read the sources in parallel and return the results in the order of the sources.
+     * The first exception thrown by the reader is rethrown once all the claimed sources are read.
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> List<T> read(List<S> sources, Function<S, T> reader) {
+        Object[] results = new Object[sources.size()];
+        ParallelExecutor.run(results.length, Runtime.getRuntime().availableProcessors(), index -> results[index] = reader.apply(sources.get(index)));
+        return (List<T>)Arrays.asList(results);
+    }
+}
@@ -14,9 +14,9 @@
 //     James Sutherland - initial impl
 package org.eclipse.persistence.internal.jpa.metadata.accessors.objects;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.persistence.internal.jpa.metadata.MetadataDescriptor;
 import org.eclipse.persistence.internal.jpa.metadata.MetadataLogger;
@@ -36,7 +36,7 @@ public abstract class MetadataFactory {
     /** Backdoor to allow mapping of JDK classes. */
     public static boolean ALLOW_JDK = false;
 
-    /** Stores all metadata for classes. */
+    /** Stores all metadata for classes, the classes may be read by multiple threads. */
     protected Map<String, MetadataClass> m_metadataClasses;
 
     protected MetadataLogger m_logger;
@@ -49,10 +49,9 @@ public MetadataFactory(MetadataLogger logger, ClassLoader loader) {
         m_logger = logger;
         m_loader = loader;
 
-        m_metadataClasses = new HashMap<>();
+        m_metadataClasses = new ConcurrentHashMap<>();
         m_metadataClasses.put("void", new MetadataClass(this, void.class));
         m_metadataClasses.put("", new MetadataClass(this, void.class));
-        m_metadataClasses.put(null, new MetadataClass(this, void.class));
         m_metadataClasses.put("int", new MetadataClass(this, int.class));
         m_metadataClasses.put("long", new MetadataClass(this, long.class));
         m_metadataClasses.put("short", new MetadataClass(this, short.class));
@@ -75,7 +74,10 @@ public void addMetadataClass(MetadataClass metadataClass) {
      * INTERNAL:
      */
     public void addMetadataClass(String name, MetadataClass metadataClass) {
-        m_metadataClasses.put(name, metadataClass);
+        // A null name is the void class, it is never looked up.
+        if (name != null) {
+            m_metadataClasses.put(name, metadataClass);
+        }
     }
 
     /**
@@ -103,7 +105,7 @@ protected Map<String, MetadataClass> getMetadataClasses() {
      * INTERNAL:
      */
     protected boolean metadataClassExists(String className) {
-        return m_metadataClasses.containsKey(className);
+        return (className == null) || m_metadataClasses.containsKey(className);
     }
 
     /**
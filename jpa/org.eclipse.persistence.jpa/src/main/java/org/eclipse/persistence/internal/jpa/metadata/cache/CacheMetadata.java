@@ -310,6 +310,8 @@ public void process(MetadataDescriptor descriptor, MetadataClass javaClass) {
             classDescriptor.getCachePolicy().setCacheSynchronizationType(ClassDescriptor.SEND_NEW_OBJECTS_WITH_CHANGES);
         } else if (m_coordinationType.equals(CacheCoordinationType.NONE.name())) {
             classDescriptor.getCachePolicy().setCacheSynchronizationType(ClassDescriptor.DO_NOT_SEND_CHANGES);
+        } else if (m_coordinationType.equals(CacheCoordinationType.INVALIDATE_STALE_OBJECTS.name())) {
+            classDescriptor.getCachePolicy().setCacheSynchronizationType(ClassDescriptor.INVALIDATE_STALE_OBJECTS);
         }
 
         // Process database change notification type.
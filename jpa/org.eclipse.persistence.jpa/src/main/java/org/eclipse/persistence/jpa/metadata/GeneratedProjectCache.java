@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.metadata;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.Version;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.jpa.metadata.JPAProjectClassGenerator;
+import org.eclipse.persistence.internal.sessions.factories.ProjectChecksum;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatasourceLogin;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * <p><b>Purpose</b>: Support building the project representing application metadata
+ * from a project class generated at build time, instead of processing the annotations and mapping files.
+ * <p>
+ * The project class source is generated by storing the project when a source directory is configured,
+ * the class is then compiled with the application.
+ * The generated class builds the descriptors directly and references the entity classes,
+ * so the metadata classes are not scanned or read at runtime, as required for a native image.
+ * As the entity classes are loaded by the project class, they must be statically woven,
+ * and the class should be generated from the woven classes.
+ * <p>
+ * The generation fails if the project has metadata the {@link JPAProjectClassGenerator} cannot reproduce.
+ * The generated class is not used if it was generated by another EclipseLink version,
+ * or, when the class files can be read from the class loader, for other classes or mapping files,
+ * the project is then built from the metadata.
+ *
+ * @see PersistenceUnitProperties#PROJECT_CACHE_CLASS_NAME
+ * @see PersistenceUnitProperties#PROJECT_CACHE_CLASS_SOURCE_DIRECTORY
+ * @see org.eclipse.persistence.tools.weaving.jpa.StaticProjectClassGenerator
+ */
+public class GeneratedProjectCache implements ProjectCache {
+
+    /**
+     * Default constructor.
+     */
+    public GeneratedProjectCache() {
+    }
+
+    @Override
+    public Project retrieveProject(Map<String, ?> properties, ClassLoader loader, SessionLog log) {
+        String className = (String)getConfigPropertyLogDebug(PersistenceUnitProperties.PROJECT_CACHE_CLASS_NAME, properties, log);
+        if (className == null || className.length() == 0) {
+            return null;
+        }
+        // The project class is being generated, it must be built from the metadata.
+        String sourceDirectory = (String)getConfigPropertyLogDebug(PersistenceUnitProperties.PROJECT_CACHE_CLASS_SOURCE_DIRECTORY, properties, log);
+        if (sourceDirectory != null && sourceDirectory.length() > 0) {
+            return null;
+        }
+        try {
+            Class<?> projectClass = Class.forName(className, true, loader);
+            Project project = (Project)projectClass.getConstructor().newInstance();
+            if (isStale(projectClass, project, loader)) {
+                log.log(SessionLog.FINE, SessionLog.JPA, "project_class_stale", className);
+                return null;
+            }
+            return project;
+        } catch (ClassNotFoundException notGenerated) {
+            // The project is built from the metadata.
+            return null;
+        } catch (Exception | LinkageError e) {
+            // The project is built from the metadata.
+            log.logThrowable(SessionLog.WARNING, SessionLog.JPA, e);
+            return null;
+        }
+    }
+
+    /**
+     * Return true if the project class was generated by another version, or for other classes or mapping files.
+     * The checksum is only verified if the class files can be read from the class loader, which is not the case
+     * in a native image.
+     */
+    protected boolean isStale(Class<?> projectClass, Project project, ClassLoader loader) throws IOException, IllegalAccessException {
+        Field version;
+        Field checksum;
+        Field mappingFiles;
+        try {
+            version = projectClass.getField(JPAProjectClassGenerator.VERSION_FIELD);
+            checksum = projectClass.getField(JPAProjectClassGenerator.CHECKSUM_FIELD);
+            mappingFiles = projectClass.getField(JPAProjectClassGenerator.MAPPING_FILES_FIELD);
+        } catch (NoSuchFieldException notGenerated) {
+            return true;
+        }
+        if (!Version.getVersionString().equals(version.get(null))) {
+            return true;
+        }
+        List<String> classNames = ProjectChecksum.getClassNames(project);
+        if (classNames.isEmpty() || (loader.getResource(classNames.get(0).replace('.', '/') + ".class") == null)) {
+            return false;
+        }
+        return checksum.getLong(null) != ProjectChecksum.computeChecksum(classNames, Arrays.asList((String[])mappingFiles.get(null)), loader);
+    }
+
+    /**
+     * The project class is not generated, the mapping files it was built from are not known.
+     */
+    @Override
+    public void storeProject(Project project, Map<String, ?> properties, SessionLog log) {
+    }
+
+    /**
+     * Generate the project class source, if a source directory is configured.
+     * The generation fails with a ValidationException if the project cannot be reproduced by the project class.
+     */
+    @Override
+    public void storeProject(Project project, Map<String, ?> properties, List<String> mappingFileNames, ClassLoader loader, SessionLog log) {
+        String className = (String)getConfigPropertyLogDebug(PersistenceUnitProperties.PROJECT_CACHE_CLASS_NAME, properties, log);
+        String sourceDirectory = (String)getConfigPropertyLogDebug(PersistenceUnitProperties.PROJECT_CACHE_CLASS_SOURCE_DIRECTORY, properties, log);
+        if (className == null || className.length() == 0 || sourceDirectory == null || sourceDirectory.length() == 0) {
+            return;
+        }
+        long checksum;
+        try {
+            checksum = ProjectChecksum.computeChecksum(ProjectChecksum.getClassNames(project), mappingFileNames, loader);
+        } catch (IOException exception) {
+            throw ValidationException.fileError(exception);
+        }
+        File file = new File(sourceDirectory, className.replace('.', File.separatorChar) + ".java");
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        JPAProjectClassGenerator.write(buildGeneratedProject(project), className, file.getPath(), checksum, mappingFileNames);
+    }
+
+    /**
+     * Return a copy of the project without the user name and password,
+     * the login of the persistence unit is configured from the properties at deployment.
+     */
+    protected Project buildGeneratedProject(Project project) {
+        Project generatedProject = project.clone();
+        if (project.getDatasourceLogin() != null) {
+            DatasourceLogin login = (DatasourceLogin)project.getDatasourceLogin().clone();
+            login.setUserName(null);
+            login.setPassword(null);
+            generatedProject.setDatasourceLogin(login);
+        }
+        return generatedProject;
+    }
+
+    /**
+     * Check the provided map for an object with the given name.  If that object is not available, check the
+     * System properties.  Log the value returned if logging is enabled at the FINEST level
+     * @param propertyName property name
+     * @param properties properties
+     * @param log logger
+     * @return object for the given name, null if not found
+     */
+    public Object getConfigPropertyLogDebug(final String propertyName, Map<String, ?> properties, SessionLog log) {
+        return PropertyHelper.getConfigPropertyLogDebug(propertyName, properties, log);
+    }
+}
@@ -14,6 +14,7 @@
 //     08/01/2012-2.5 Chris Delahunt - Bug 371950 - Metadata caching
 package org.eclipse.persistence.jpa.metadata;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.persistence.config.PersistenceUnitProperties;
@@ -50,5 +51,17 @@ public interface ProjectCache {
      */
     void storeProject(Project project, Map<String, ?> properties, SessionLog log);
 
+    /**
+     * PUBLIC: This method is responsible for caching a project instance representing the
+     * application metadata.
+     *
+     * The mapping file names are the resource names, or URLs, of the persistence unit's persistence.xml,
+     * mapping files and metadata source XML the project was built from.
+     * The classloader provided is the application loader, the one the project's classes are loaded from.
+     * By default the mapping file names and the classloader are ignored.
+     */
+    default void storeProject(Project project, Map<String, ?> properties, List<String> mappingFileNames, ClassLoader loader, SessionLog log) {
+        storeProject(project, properties, log);
+    }
 
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.weaving.jpa;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.localization.ToStringLocalization;
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.jpa.PersistenceProvider;
+import org.eclipse.persistence.jpa.metadata.GeneratedProjectCache;
+
+/**
+ * <p>
+ * <b>Description</b>: Generates at build time the source of a project class building the descriptors
+ * of a persistence unit, so the annotations and mapping files are not processed at runtime.
+ * <p>
+ * The persistence unit is deployed without connecting to the database, the project built from its metadata
+ * is then stored by the {@link GeneratedProjectCache}.
+ * The generation fails if the persistence unit has metadata the generated class cannot reproduce.
+ * The generated class must be compiled with the application, and the persistence unit configured with the
+ * "<code>eclipselink.project-cache</code>" property set to "<code>class</code>" and the
+ * "<code>eclipselink.project-cache.class.name</code>" property set to the class name.
+ * Like static weaving, it can be run by the build, for example by the exec maven plugin.
+ * <p>
+ * <b>Usage</b>:<br>
+ * &nbsp;&nbsp;StaticProjectClassGenerator [options] persistence-unit-name project-class-name source-directory<br>
+ * <b>Options</b>:<br>
+ * &nbsp;&nbsp;-classpath<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;Set the class path of the persistence unit classes.<br>
+ * &nbsp;&nbsp;-persistencexml<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;Set the resource name of the persistence.xml file, META-INF/persistence.xml is the default.<br>
+ * &nbsp;&nbsp;-property<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;Set a persistence unit property as name=value, such as eclipselink.target-database.<br>
+ * <b>Example</b>:<br>
+ * &nbsp;&nbsp;StaticProjectClassGenerator -classpath target/classes -property eclipselink.target-database=PostgreSQL
+ * employee com.acme.EmployeeProject target/generated-sources/eclipselink
+ *
+ * @see PersistenceUnitProperties#PROJECT_CACHE_CLASS_NAME
+ */
+public class StaticProjectClassGenerator {
+
+    protected String persistenceUnitName;
+    protected String projectClassName;
+    protected String sourceDirectory;
+    protected ClassLoader classLoader;
+    protected Map<String, Object> properties = new HashMap<>();
+
+    public static void main(String[] argv) throws Exception {
+        StaticProjectClassGenerator generator = new StaticProjectClassGenerator();
+        if (!generator.processCommandLine(argv)) {
+            printUsage(System.out);
+            System.exit(1);
+        }
+        generator.generate();
+    }
+
+    public StaticProjectClassGenerator() {
+    }
+
+    public StaticProjectClassGenerator(String persistenceUnitName, String projectClassName, String sourceDirectory) {
+        this.persistenceUnitName = persistenceUnitName;
+        this.projectClassName = projectClassName;
+        this.sourceDirectory = sourceDirectory;
+    }
+
+    /**
+     * Deploy the persistence unit without connecting and generate the source of its project class.
+     */
+    public void generate() {
+        Map<String, Object> properties = new HashMap<>(this.properties);
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE, "class");
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_CLASS_NAME, this.projectClassName);
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_CLASS_SOURCE_DIRECTORY, this.sourceDirectory);
+        properties.put(PersistenceUnitProperties.VALIDATION_ONLY_PROPERTY, "true");
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        if (this.classLoader != null) {
+            properties.put(PersistenceUnitProperties.CLASSLOADER, this.classLoader);
+            thread.setContextClassLoader(this.classLoader);
+        }
+        try {
+            EntityManagerFactory factory = new PersistenceProvider().createEntityManagerFactory(this.persistenceUnitName, properties);
+            if (factory == null) {
+                throw new IllegalArgumentException("No persistence unit named " + this.persistenceUnitName);
+            }
+            try {
+                // Deploys the persistence unit, the project is stored while deploying.
+                JpaHelper.getEntityManagerFactory(factory).getDatabaseSession();
+            } finally {
+                factory.close();
+            }
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+        }
+    }
+
+    /**
+     * Verify the command line options, return false if they are invalid.
+     */
+    protected boolean processCommandLine(String[] argv) throws MalformedURLException {
+        int index = 0;
+        while ((index < argv.length) && argv[index].startsWith("-")) {
+            if ((index + 1) >= argv.length) {
+                return false;
+            }
+            String option = argv[index];
+            String value = argv[index + 1];
+            if (option.equalsIgnoreCase("-classpath")) {
+                String[] classpath = value.split(File.pathSeparator);
+                URL[] urls = new URL[classpath.length];
+                for (int entry = 0; entry < classpath.length; entry++) {
+                    urls[entry] = new File(classpath[entry]).toURI().toURL();
+                }
+                setClassLoader(new URLClassLoader(urls, Thread.currentThread().getContextClassLoader()));
+            } else if (option.equalsIgnoreCase("-persistencexml")) {
+                setProperty(PersistenceUnitProperties.ECLIPSELINK_PERSISTENCE_XML, value);
+            } else if (option.equalsIgnoreCase("-property")) {
+                int separator = value.indexOf('=');
+                if (separator <= 0) {
+                    return false;
+                }
+                setProperty(value.substring(0, separator), value.substring(separator + 1));
+            } else {
+                return false;
+            }
+            index = index + 2;
+        }
+        if ((argv.length - index) != 3) {
+            return false;
+        }
+        this.persistenceUnitName = argv[index];
+        this.projectClassName = argv[index + 1];
+        this.sourceDirectory = argv[index + 2];
+        return true;
+    }
+
+    protected static void printUsage(PrintStream out) {
+        StringBuilder message = new StringBuilder();
+        for (int line = 1; line <= 9; line++) {
+            message.append(ToStringLocalization.buildMessage("staticprojectclassgenerator_commandline_help_message_" + line + "of9"));
+            message.append(System.lineSeparator());
+        }
+        out.println(message);
+    }
+
+    /**
+     * Set the class loader of the persistence unit classes, the context class loader is used by default.
+     */
+    public void setClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Set a property of the persistence unit.
+     */
+    public void setProperty(String name, Object value) {
+        this.properties.put(name, value);
+    }
+
+    public String getPersistenceUnitName() {
+        return persistenceUnitName;
+    }
+
+    public String getProjectClassName() {
+        return projectClassName;
+    }
+
+    public String getSourceDirectory() {
+        return sourceDirectory;
+    }
+}
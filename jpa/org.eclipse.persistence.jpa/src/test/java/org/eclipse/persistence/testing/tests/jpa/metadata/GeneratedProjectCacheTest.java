@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.jpa.metadata;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.spi.ToolProvider;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Type;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.jpa.metadata.JPAProjectClassGenerator;
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.jpa.PersistenceProvider;
+import org.eclipse.persistence.jpa.metadata.GeneratedProjectCache;
+import org.eclipse.persistence.logging.DefaultSessionLog;
+import org.eclipse.persistence.mappings.AggregateObjectMapping;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectCollectionMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.mappings.converters.Converter;
+import org.eclipse.persistence.mappings.converters.ConverterClass;
+import org.eclipse.persistence.mappings.converters.EnumTypeConverter;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.jpa.metadata.model.Employee;
+import org.eclipse.persistence.testing.tests.jpa.metadata.model.Person;
+import org.eclipse.persistence.tools.weaving.jpa.StaticProjectClassGenerator;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GeneratedProjectCacheTest {
+
+    private static final String PERSISTENCE_XML = "META-INF/projectclass-persistence.xml";
+    private static final String UNIT_NAME = "projectclass";
+    private static final String CLASS_NAME = "org.eclipse.persistence.testing.tests.jpa.metadata.generated.EmployeeProject";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<EntityManagerFactory> factories = new ArrayList<>();
+
+    @After
+    public void closeFactories() {
+        for (EntityManagerFactory factory : factories) {
+            factory.close();
+        }
+    }
+
+    private Map<String, Object> buildProperties(String sessionName) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.ECLIPSELINK_PERSISTENCE_XML, PERSISTENCE_XML);
+        properties.put(PersistenceUnitProperties.TARGET_DATABASE, "Derby");
+        properties.put(PersistenceUnitProperties.WEAVING, "false");
+        properties.put(PersistenceUnitProperties.VALIDATION_ONLY_PROPERTY, "true");
+        properties.put(PersistenceUnitProperties.LOGGING_LEVEL, "WARNING");
+        properties.put(PersistenceUnitProperties.SESSION_NAME, sessionName);
+        return properties;
+    }
+
+    /** Generate the project class of the unit, return its source file. */
+    private File generate(String unitName, File sourceDirectory) {
+        StaticProjectClassGenerator generator = new StaticProjectClassGenerator(unitName, CLASS_NAME, sourceDirectory.getPath());
+        for (Map.Entry<String, Object> property : buildProperties(unitName + "-generator").entrySet()) {
+            generator.setProperty(property.getKey(), property.getValue());
+        }
+        generator.generate();
+        return new File(sourceDirectory, CLASS_NAME.replace('.', File.separatorChar) + ".java");
+    }
+
+    /** Compile the project class source, return the class loader of the compiled class. */
+    private ClassLoader compile(File source) throws IOException {
+        File classes = folder.newFolder();
+        ToolProvider compiler = ToolProvider.findFirst("javac").orElseThrow();
+        int result = compiler.run(System.out, System.err, "-proc:none", "-nowarn", "-classpath", System.getProperty("java.class.path"),
+                "-d", classes.getPath(), source.getPath());
+        assertEquals("The generated project class does not compile", 0, result);
+        return new URLClassLoader(new URL[] {classes.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    /** Compile the project class source changed by the replacement. */
+    private ClassLoader compileChanged(File source, String regex, String replacement) throws IOException {
+        String changedSource = Files.readString(source.toPath(), StandardCharsets.UTF_8).replaceAll(regex, replacement);
+        File changed = new File(folder.newFolder(), CLASS_NAME.replace('.', File.separatorChar) + ".java");
+        changed.getParentFile().mkdirs();
+        Files.writeString(changed.toPath(), changedSource, StandardCharsets.UTF_8);
+        return compile(changed);
+    }
+
+    private EntityManagerFactory deploy(Map<String, Object> properties) {
+        EntityManagerFactory factory = new PersistenceProvider().createEntityManagerFactory(UNIT_NAME, properties);
+        factories.add(factory);
+        JpaHelper.getEntityManagerFactory(factory).getDatabaseSession();
+        return factory;
+    }
+
+    private Project retrieve(ClassLoader loader) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_CLASS_NAME, CLASS_NAME);
+        return new GeneratedProjectCache().retrieveProject(properties, loader, new DefaultSessionLog());
+    }
+
+    @Test
+    public void testGeneratedProjectMatchesMetadata() throws Exception {
+        ClassLoader loader = compile(generate(UNIT_NAME, folder.newFolder()));
+
+        EntityManagerFactory metadataFactory = deploy(buildProperties("metadata"));
+        Map<String, Object> properties = buildProperties("generated");
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE, "class");
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_CLASS_NAME, CLASS_NAME);
+        properties.put(PersistenceUnitProperties.CLASSLOADER, loader);
+        EntityManagerFactory generatedFactory = deploy(properties);
+
+        DatabaseSession metadataSession = JpaHelper.getEntityManagerFactory(metadataFactory).getDatabaseSession();
+        DatabaseSession generatedSession = JpaHelper.getEntityManagerFactory(generatedFactory).getDatabaseSession();
+        assertEquals("The project was not built by the generated class", CLASS_NAME, generatedSession.getProject().getClass().getName());
+
+        Project expected = metadataSession.getProject();
+        Project actual = generatedSession.getProject();
+        assertEquals(expected.getDescriptors().size(), actual.getDescriptors().size());
+        for (ClassDescriptor descriptor : expected.getDescriptors().values()) {
+            ClassDescriptor generated = actual.getClassDescriptor(descriptor.getJavaClass());
+            assertNotNull(descriptor.getJavaClassName(), generated);
+            assertSameDescriptor(descriptor, generated);
+        }
+        assertEquals(expected.getMappedSuperclassDescriptors().keySet(), actual.getMappedSuperclassDescriptors().keySet());
+        for (String className : expected.getMappedSuperclassDescriptors().keySet()) {
+            assertEquals(className, attributeNames(expected.getMappedSuperclass(className)), attributeNames(actual.getMappedSuperclass(className)));
+        }
+        assertEquals(Type.PersistenceType.MAPPED_SUPERCLASS, generatedFactory.getMetamodel().managedType(Person.class).getPersistenceType());
+
+        DatasourcePlatform expectedPlatform = (DatasourcePlatform)metadataSession.getDatasourcePlatform();
+        DatasourcePlatform actualPlatform = (DatasourcePlatform)generatedSession.getDatasourcePlatform();
+        assertEquals(expectedPlatform.getClass(), actualPlatform.getClass());
+        assertEquals(expectedPlatform.getSequences().keySet(), actualPlatform.getSequences().keySet());
+
+        DatabaseQuery expectedQuery = metadataSession.getQuery("Employee.findByName");
+        DatabaseQuery query = generatedSession.getQuery("Employee.findByName");
+        assertNotNull("The named query was not generated", query);
+        assertEquals(expectedQuery.getClass(), query.getClass());
+        assertEquals(expectedQuery.getJPQLString(), query.getJPQLString());
+        assertTrue("The query hint was not generated", ((ObjectLevelReadQuery)query).isReadOnly());
+
+        ClassDescriptor employee = actual.getClassDescriptor(Employee.class);
+        Converter active = ((AbstractDirectMapping)employee.getMappingForAttributeName("active")).getConverter();
+        assertEquals("Y", active.convertObjectValueToDataValue(Boolean.TRUE, generatedSession));
+        Converter status = ((AbstractDirectMapping)employee.getMappingForAttributeName("status")).getConverter();
+        assertEquals(Employee.Status.RETIRED, status.convertDataValueToObjectValue("RETIRED", generatedSession));
+    }
+
+    private void assertSameDescriptor(ClassDescriptor expected, ClassDescriptor actual) {
+        String name = expected.getJavaClassName();
+        assertEquals(name, expected.getClass(), actual.getClass());
+        assertEquals(name, expected.getAlias(), actual.getAlias());
+        assertEquals(name, expected.isAggregateDescriptor(), actual.isAggregateDescriptor());
+        assertEquals(name, expected.getTableNames(), actual.getTableNames());
+        assertEquals(name, expected.getPrimaryKeyFieldNames(), actual.getPrimaryKeyFieldNames());
+        assertEquals(name, expected.getSequenceNumberName(), actual.getSequenceNumberName());
+        assertEquals(name, expected.usesOptimisticLocking(), actual.usesOptimisticLocking());
+        if (expected.usesOptimisticLocking()) {
+            assertEquals(name, expected.getOptimisticLockingPolicy().getClass(), actual.getOptimisticLockingPolicy().getClass());
+            assertEquals(name, expected.getOptimisticLockingPolicy().getWriteLockField(), actual.getOptimisticLockingPolicy().getWriteLockField());
+        }
+        assertEquals(name, (expected.getCMPPolicy() == null) ? null : expected.getCMPPolicy().getClass(),
+                (actual.getCMPPolicy() == null) ? null : actual.getCMPPolicy().getClass());
+        assertEquals(name, expected.getDescriptorCustomizerClassName(), actual.getDescriptorCustomizerClassName());
+        assertEquals(name, attributeNames(expected), attributeNames(actual));
+        for (DatabaseMapping mapping : expected.getMappings()) {
+            assertSameMapping(name + "." + mapping.getAttributeName(), mapping, actual.getMappingForAttributeName(mapping.getAttributeName()));
+        }
+    }
+
+    private void assertSameMapping(String name, DatabaseMapping expected, DatabaseMapping actual) {
+        assertEquals(name, expected.getClass(), actual.getClass());
+        assertEquals(name, expected.isJPAId(), actual.isJPAId());
+        assertEquals(name, expected.isPrimaryKeyMapping(), actual.isPrimaryKeyMapping());
+        assertEquals(name, expected.isReadOnly(), actual.isReadOnly());
+        assertEquals(name, expected.isLazy(), actual.isLazy());
+        assertEquals(name, fieldNames(expected), fieldNames(actual));
+        if (expected.isAbstractDirectMapping()) {
+            assertSameConverter(name, ((AbstractDirectMapping)expected).getConverter(), ((AbstractDirectMapping)actual).getConverter());
+        }
+        if (expected.isAggregateObjectMapping()) {
+            assertEquals(name, ((AggregateObjectMapping)expected).getReferenceClassName(), ((AggregateObjectMapping)actual).getReferenceClassName());
+        }
+        if (expected.isDirectCollectionMapping()) {
+            assertEquals(name, ((DirectCollectionMapping)expected).getReferenceTableName(), ((DirectCollectionMapping)actual).getReferenceTableName());
+        }
+        if (expected.isForeignReferenceMapping()) {
+            ForeignReferenceMapping expectedReference = (ForeignReferenceMapping)expected;
+            ForeignReferenceMapping actualReference = (ForeignReferenceMapping)actual;
+            assertEquals(name, expectedReference.getReferenceClassName(), actualReference.getReferenceClassName());
+            assertEquals(name, expectedReference.getIndirectionPolicy().getClass(), actualReference.getIndirectionPolicy().getClass());
+            if (expected.isCollectionMapping()) {
+                assertEquals(name, expectedReference.getContainerPolicy().getClass(), actualReference.getContainerPolicy().getClass());
+            }
+            assertEquals(name, expectedReference.isPrivateOwned(), actualReference.isPrivateOwned());
+            assertEquals(name, expectedReference.isCascadePersist(), actualReference.isCascadePersist());
+            assertEquals(name, expectedReference.isCascadeMerge(), actualReference.isCascadeMerge());
+            assertEquals(name, expectedReference.isCascadeRefresh(), actualReference.isCascadeRefresh());
+            assertEquals(name, expectedReference.isCascadeRemove(), actualReference.isCascadeRemove());
+            assertEquals(name, expectedReference.isCascadeDetach(), actualReference.isCascadeDetach());
+            assertEquals(name, expectedReference.getRelationshipPartnerAttributeName(), actualReference.getRelationshipPartnerAttributeName());
+        }
+    }
+
+    private void assertSameConverter(String name, Converter expected, Converter actual) {
+        assertEquals(name, (expected == null) ? null : expected.getClass(), (actual == null) ? null : actual.getClass());
+        if (expected instanceof ConverterClass<?, ?, ?> expectedConverter) {
+            ConverterClass<?, ?, ?> actualConverter = (ConverterClass<?, ?, ?>)actual;
+            assertEquals(name, expectedConverter.getAttributeConverterClassName(), actualConverter.getAttributeConverterClassName());
+            assertEquals(name, expectedConverter.getFieldClassificationName(), actualConverter.getFieldClassificationName());
+        } else if (expected instanceof EnumTypeConverter expectedConverter) {
+            EnumTypeConverter actualConverter = (EnumTypeConverter)actual;
+            assertEquals(name, expectedConverter.getEnumClassName(), actualConverter.getEnumClassName());
+            assertEquals(name, expectedConverter.shouldUseOrdinalValues(), actualConverter.shouldUseOrdinalValues());
+            assertEquals(name, expectedConverter.getFieldToAttributeValues(), actualConverter.getFieldToAttributeValues());
+        }
+    }
+
+    private List<String> attributeNames(ClassDescriptor descriptor) {
+        List<String> names = new ArrayList<>();
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            names.add(mapping.getAttributeName());
+        }
+        names.sort(null);
+        return names;
+    }
+
+    private Map<String, String> fieldNames(DatabaseMapping mapping) {
+        Map<String, String> names = new TreeMap<>();
+        if (mapping.getFields() == null) {
+            return names;
+        }
+        for (DatabaseField field : mapping.getFields()) {
+            names.put(field.getQualifiedName(), field.getTypeName());
+        }
+        return names;
+    }
+
+    @Test
+    public void testUnsupportedMetadataFailsGeneration() throws Exception {
+        File sourceDirectory = folder.newFolder();
+        try {
+            generate("projectclass-listener", sourceDirectory);
+            fail("The entity listener cannot be generated");
+        } catch (RuntimeException exception) {
+            Throwable cause = exception;
+            while ((cause != null) && !(cause instanceof ValidationException)) {
+                cause = cause.getCause();
+            }
+            assertNotNull("No ValidationException in " + exception, cause);
+            assertEquals(ValidationException.PROJECT_CLASS_UNSUPPORTED_METADATA, ((ValidationException)cause).getErrorCode());
+        }
+        assertFalse("A partial project class was written",
+                new File(sourceDirectory, CLASS_NAME.replace('.', File.separatorChar) + ".java").exists());
+    }
+
+    @Test
+    public void testStaleProjectClassIsNotUsed() throws Exception {
+        File source = generate(UNIT_NAME, folder.newFolder());
+
+        Project project = retrieve(compile(source));
+        assertNotNull("The generated project class was not used", project);
+        assertEquals(CLASS_NAME, project.getClass().getName());
+        assertTrue("The persistence.xml is not in the checksum", Files.readString(source.toPath(), StandardCharsets.UTF_8).contains("\"" + PERSISTENCE_XML + "\""));
+
+        assertNull("A project class generated for other classes was used", retrieve(
+                compileChanged(source, JPAProjectClassGenerator.CHECKSUM_FIELD + " = -?\\d+L", JPAProjectClassGenerator.CHECKSUM_FIELD + " = 0L")));
+        assertNull("A project class generated for other mapping files was used", retrieve(
+                compileChanged(source, JPAProjectClassGenerator.MAPPING_FILES_FIELD + " = \\{", JPAProjectClassGenerator.MAPPING_FILES_FIELD + " = {\"META-INF/other-orm.xml\", ")));
+        assertNull("A project class generated by another version was used", retrieve(
+                compileChanged(source, JPAProjectClassGenerator.VERSION_FIELD + " = \"[^\"]*\"", JPAProjectClassGenerator.VERSION_FIELD + " = \"1.0\"")));
+        assertNull("A project class without version was used", retrieve(
+                compileChanged(source, "public static final String " + JPAProjectClassGenerator.VERSION_FIELD, "public static final String OTHER_FIELD")));
+    }
+}
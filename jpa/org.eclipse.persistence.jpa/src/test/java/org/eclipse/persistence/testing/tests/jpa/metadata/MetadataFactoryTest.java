@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.jpa.metadata;
+
+import java.util.List;
+
+import org.eclipse.persistence.internal.jpa.metadata.MetadataDescriptor;
+import org.eclipse.persistence.internal.jpa.metadata.MetadataLogger;
+import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataAsmFactory;
+import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataClass;
+import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataFactory;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MetadataFactoryTest {
+
+    private static MetadataLogger buildLogger() {
+        return new MetadataLogger((AbstractSession)new Project(new DatabaseLogin()).createDatabaseSession());
+    }
+
+    /** Exposes the class cache of the factory. */
+    private static class CacheFactory extends MetadataFactory {
+        CacheFactory() {
+            super(buildLogger(), MetadataFactoryTest.class.getClassLoader());
+        }
+
+        boolean exists(String className) {
+            return metadataClassExists(className);
+        }
+
+        int size() {
+            return getMetadataClasses().size();
+        }
+
+        @Override
+        public MetadataClass getMetadataClass(String className) {
+            return getMetadataClasses().get(className);
+        }
+
+        @Override
+        public MetadataClass getMetadataClass(String className, boolean isLazy) {
+            return getMetadataClass(className);
+        }
+
+        @Override
+        public void resolveGenericTypes(MetadataClass child, List<String> genericTypes, MetadataClass parent, MetadataDescriptor descriptor) {
+        }
+    }
+
+    @Test
+    public void testNullClassName() {
+        CacheFactory factory = new CacheFactory();
+        // The null name is the void class, it always exists.
+        assertTrue(factory.exists(null));
+        int size = factory.size();
+        factory.addMetadataClass(null, new MetadataClass(factory, void.class));
+        assertEquals(size, factory.size());
+        assertTrue(factory.exists(null));
+    }
+
+    @Test
+    public void testAddMetadataClass() {
+        CacheFactory factory = new CacheFactory();
+        assertFalse(factory.exists(String.class.getName()));
+        MetadataClass metadataClass = new MetadataClass(factory, String.class);
+        factory.addMetadataClass(metadataClass);
+        assertTrue(factory.exists(String.class.getName()));
+        assertSame(metadataClass, factory.getMetadataClass(String.class.getName()));
+    }
+
+    @Test
+    public void testAsmFactoryNullClassName() {
+        MetadataAsmFactory factory = new MetadataAsmFactory(buildLogger(), getClass().getClassLoader());
+        assertNull(factory.getMetadataClass(null, false));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.jpa.metadata;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.jpa.metadata.MetadataProcessor;
+import org.eclipse.persistence.internal.jpa.metadata.ParallelMetadataReader;
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.jpa.PersistenceProvider;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.testing.tests.jpa.metadata.model.Audited;
+import org.eclipse.persistence.testing.tests.jpa.metadata.model.Employee;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelMetadataReaderTest {
+
+    private static final String PERSISTENCE_XML = "META-INF/projectclass-persistence.xml";
+    private static final String UNIT_NAME = "parallelscanning";
+
+    /** Exposes the scanning setting of the processor. */
+    private static class ScanningProcessor extends MetadataProcessor {
+        ScanningProcessor(Map<String, Object> properties) {
+            m_predeployProperties = properties;
+        }
+
+        boolean scansInParallel() {
+            return shouldScanInParallel();
+        }
+    }
+
+    private final List<EntityManagerFactory> factories = new ArrayList<>();
+
+    @After
+    public void closeFactories() {
+        for (EntityManagerFactory factory : factories) {
+            factory.close();
+        }
+    }
+
+    private Map<String, ClassDescriptor> deploy(String sessionName, String parallelScanning) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.ECLIPSELINK_PERSISTENCE_XML, PERSISTENCE_XML);
+        properties.put(PersistenceUnitProperties.TARGET_DATABASE, "Derby");
+        properties.put(PersistenceUnitProperties.WEAVING, "false");
+        properties.put(PersistenceUnitProperties.VALIDATION_ONLY_PROPERTY, "true");
+        properties.put(PersistenceUnitProperties.LOGGING_LEVEL, "WARNING");
+        properties.put(PersistenceUnitProperties.SESSION_NAME, sessionName);
+        properties.put(PersistenceUnitProperties.METADATA_PARALLEL_SCANNING, parallelScanning);
+        EntityManagerFactory factory = new PersistenceProvider().createEntityManagerFactory(UNIT_NAME, properties);
+        factories.add(factory);
+        Map<String, ClassDescriptor> descriptors = new TreeMap<>();
+        for (ClassDescriptor descriptor : JpaHelper.getEntityManagerFactory(factory).getDatabaseSession().getDescriptors().values()) {
+            descriptors.put(descriptor.getJavaClassName(), descriptor);
+        }
+        return descriptors;
+    }
+
+    private List<String> attributeNames(ClassDescriptor descriptor) {
+        List<String> names = new ArrayList<>();
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            names.add(mapping.getAttributeName());
+        }
+        names.sort(null);
+        return names;
+    }
+
+    @Test
+    public void testOrderIsPreserved() {
+        List<Integer> sources = new ArrayList<>();
+        for (int index = 0; index < 10000; index++) {
+            sources.add(index);
+        }
+        Map<Integer, Thread> threads = new ConcurrentHashMap<>();
+        List<String> results = ParallelMetadataReader.read(sources, source -> {
+            threads.put(source, Thread.currentThread());
+            return "source" + source;
+        });
+        assertEquals(sources.size(), results.size());
+        for (int index = 0; index < sources.size(); index++) {
+            assertEquals("source" + index, results.get(index));
+        }
+        assertEquals(sources.size(), threads.size());
+    }
+
+    @Test
+    public void testFailureIsRethrown() {
+        RuntimeException exception = new RuntimeException("unreadable");
+        try {
+            ParallelMetadataReader.read(List.of("a", "b", "c"), source -> {
+                if (source.equals("b")) {
+                    throw exception;
+                }
+                return source;
+            });
+            fail("Exception expected");
+        } catch (RuntimeException thrown) {
+            assertSame(exception, thrown);
+        }
+    }
+
+    @Test
+    public void testParallelScanningProperty() {
+        assertFalse(new ScanningProcessor(new HashMap<>()).scansInParallel());
+        assertFalse(new ScanningProcessor(Map.of(PersistenceUnitProperties.METADATA_PARALLEL_SCANNING, "false")).scansInParallel());
+        assertTrue(new ScanningProcessor(Map.of(PersistenceUnitProperties.METADATA_PARALLEL_SCANNING, "true")).scansInParallel());
+        assertTrue(new ScanningProcessor(Map.of(PersistenceUnitProperties.METADATA_PARALLEL_SCANNING, "TRUE")).scansInParallel());
+    }
+
+    @Test
+    public void testParallelScanningFindsTheSameMetadata() {
+        Map<String, ClassDescriptor> expected = deploy("sequential-scanning", "false");
+        Map<String, ClassDescriptor> actual = deploy("parallel-scanning", "true");
+        // The unlisted classes of the persistence unit root are found.
+        assertTrue(expected.containsKey(Employee.class.getName()));
+        assertTrue(expected.containsKey(Audited.class.getName()));
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<String, ClassDescriptor> entry : expected.entrySet()) {
+            ClassDescriptor descriptor = actual.get(entry.getKey());
+            assertEquals(entry.getKey(), entry.getValue().getTableNames(), descriptor.getTableNames());
+            assertEquals(entry.getKey(), attributeNames(entry.getValue()), attributeNames(descriptor));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.jpa.metadata.model;
+
+import java.util.List;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Convert;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.Table;
+
+import org.eclipse.persistence.config.QueryHints;
+
+@Entity
+@Table(name = "PC_EMPLOYEE")
+@NamedQuery(name = "Employee.findByName", query = "SELECT e FROM Employee e WHERE e.name = :name AND e.name <> 'say \"hi\"'",
+        hints = @QueryHint(name = QueryHints.READ_ONLY, value = "true"))
+public class Employee extends Person {
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Convert(converter = YesNoConverter.class)
+    private Boolean active;
+
+    @Embedded
+    private Address address;
+
+    @ManyToOne(cascade = CascadeType.PERSIST)
+    private Department department;
+
+    @ElementCollection
+    @CollectionTable(name = "PC_PHONE")
+    private List<String> phones;
+
+    public enum Status { ACTIVE, RETIRED }
+}